@@ -52,6 +52,7 @@ pbbs_id      number(10),
 bgroup       number(10)      NOT null,
 step         number(3)      NOT null,
 bindent      number(3)      NOT null,
+sort_path    varchar2(200)  NOT null,      -- 글 순서 경로 (bgroup 안에서 정렬 키)
 CREATE_DATE  timestamp    default systimestamp,
 UPDATE_DATE  timestamp    default systimestamp
 );
@@ -85,6 +86,9 @@ REFERENCES bbs(BBS_ID) ON DELETE CASCADE;
 
 --시퀸스 생성
 CREATE SEQUENCE bbs_bbs_id_seq;
+
+-- 목록 정렬용 (bgroup, sort_path 순)
+CREATE INDEX ix_bbs_group_path ON bbs(bgroup, sort_path);
 --------------------------------------------------------
 
 
@@ -150,6 +154,7 @@ CREATE TABLE rbbs (
   bgroup       NUMBER(10),                              -- 부모 댓글 ID (self reference)
   step         NUMBER(3)      NOT NULL,               -- 출력 순서
   bindent      NUMBER(3)      NOT NULL,               -- 들여쓰기 깊이
+  sort_path    VARCHAR2(1000) NOT NULL,               -- 댓글 순서 경로 (bgroup 안에서 정렬 키)
   create_date  TIMESTAMP      DEFAULT SYSTIMESTAMP,   -- 생성 일시
   update_date  TIMESTAMP      DEFAULT SYSTIMESTAMP    -- 수정 일시
 );
@@ -180,6 +185,9 @@ ALTER TABLE rbbs
 
 -- 시퀀스 생성
 CREATE SEQUENCE rbbs_rbbs_id_seq;
+
+-- 게시글별 댓글 목록 정렬용
+CREATE INDEX ix_rbbs_bbs_group_path ON rbbs(bbs_id, bgroup, sort_path);
 --------------------------------------------------------
 
 --------------------------------------------------------
@@ -256,5 +264,52 @@ ALTER TABLE bbs_upload
 CREATE SEQUENCE bbs_upload_upload_id_seq;
 CREATE SEQUENCE bbs_upload_upload_group_seq;
 
+--------------------------------------------------------
+-- 답글 순서 경로 (sort_path)
+-- - 경로 = 부모 경로 + 10자리 구간. 원글/원댓글은 자기 ID, 답글은 새 글 ID 를 구간으로 붙인다.
+-- - 같은 bgroup 안에서 sort_path 오름차순 = 기존 step 순서 (답글 등록 시 다른 행은 건드리지 않음)
+-- - step 은 원글/원댓글 0, 답글은 깊이 값으로만 남긴다. (화면에서 step = 0 으로 원댓글 구분)
+--------------------------------------------------------
+-- 기존 DB 반영용 (컬럼 추가 → 아래 MERGE 로 채우기 → NOT NULL)
+-- ALTER TABLE bbs  ADD (sort_path VARCHAR2(200));
+-- ALTER TABLE rbbs ADD (sort_path VARCHAR2(1000));
+-- (MERGE 실행 후)
+-- ALTER TABLE bbs  MODIFY (sort_path NOT NULL);
+-- ALTER TABLE rbbs MODIFY (sort_path NOT NULL);
+-- CREATE INDEX ix_bbs_group_path ON bbs(bgroup, sort_path);
+-- CREATE INDEX ix_rbbs_bbs_group_path ON rbbs(bbs_id, bgroup, sort_path);
+
+-- 기존 답글은 형제 사이의 step 순위를 구간으로 사용해 지금 순서를 그대로 유지한다.
+-- (순위 <= 기존 행 수 <= 기존 최대 ID < 새 글 ID 이므로 이후 붙는 답글은 항상 뒤에 온다)
+MERGE INTO bbs b
+USING (
+  SELECT bbs_id,
+         REPLACE(SYS_CONNECT_BY_PATH(seg, '/'), '/') AS sort_path
+    FROM (SELECT bbs_id, pbbs_id,
+                 LPAD(CASE WHEN pbbs_id IS NULL THEN bbs_id
+                           ELSE ROW_NUMBER() OVER (PARTITION BY pbbs_id ORDER BY step, bbs_id) END,
+                      10, '0') AS seg
+            FROM bbs)
+   START WITH pbbs_id IS NULL
+ CONNECT BY PRIOR bbs_id = pbbs_id
+) s
+ON (b.bbs_id = s.bbs_id)
+WHEN MATCHED THEN UPDATE SET b.sort_path = s.sort_path;
+
+MERGE INTO rbbs r
+USING (
+  SELECT rbbs_id,
+         REPLACE(SYS_CONNECT_BY_PATH(seg, '/'), '/') AS sort_path
+    FROM (SELECT rbbs_id, prbbs_id,
+                 LPAD(CASE WHEN prbbs_id IS NULL THEN rbbs_id
+                           ELSE ROW_NUMBER() OVER (PARTITION BY prbbs_id ORDER BY step, rbbs_id) END,
+                      10, '0') AS seg
+            FROM rbbs)
+   START WITH prbbs_id IS NULL
+ CONNECT BY PRIOR rbbs_id = prbbs_id
+) s
+ON (r.rbbs_id = s.rbbs_id)
+WHEN MATCHED THEN UPDATE SET r.sort_path = s.sort_path;
+
 COMMIT;
 
@@ -52,309 +52,309 @@ INSERT INTO code(code_id,decode,pcode_id)
 VALUES ('R0203','임시저장','R02');
 
 -- bbs_id = 60 최상위 댓글 60개 생성 (랜덤 member_id, 다양한 status)
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글1',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0202', '댓글2',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글3',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글4',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글5',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0201', '댓글6',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글7',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0202', '댓글8',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글9',  null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글10', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0201', '댓글11', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0202', '댓글12', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글13', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글14', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글15', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글16', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0202', '댓글17', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글18', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글19', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글20', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글21', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글22', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0202', '댓글23', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0201', '댓글24', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글25', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0202', '댓글26', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글27', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글28', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글29', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글30', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글31', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0202', '댓글32', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글33', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글34', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글35', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0201', '댓글36', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글37', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0202', '댓글38', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글39', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글40', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글41', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0202', '댓글42', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글43', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글44', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글45', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글46', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0201', '댓글47', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0202', '댓글48', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글49', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글50', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글51', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글52', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글53', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0202', '댓글54', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글55', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글56', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0202', '댓글57', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0201', '댓글58', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글59', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글60', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글1', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0202', '댓글2', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글3', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글4', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글5', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0201', '댓글6', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글7', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0202', '댓글8', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글9', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글10', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0201', '댓글11', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0202', '댓글12', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글13', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글14', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글15', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글16', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0202', '댓글17', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글18', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글19', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글20', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글21', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글22', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0202', '댓글23', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0201', '댓글24', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글25', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0202', '댓글26', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글27', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글28', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글29', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글30', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글31', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0202', '댓글32', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글33', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글34', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글35', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0201', '댓글36', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글37', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0202', '댓글38', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글39', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글40', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글41', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0202', '댓글42', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글43', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0201', '댓글44', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글45', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글46', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0201', '댓글47', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0202', '댓글48', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글49', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글50', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  1, 'R0201', '댓글51', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  4, 'R0201', '댓글52', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  7, 'R0201', '댓글53', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  9, 'R0202', '댓글54', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  2, 'R0201', '댓글55', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  6, 'R0201', '댓글56', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  3, 'R0202', '댓글57', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  8, 'R0201', '댓글58', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글59', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60,  5, 'R0201', '댓글60', null, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글1 (rbbs_id=1, member_id=7, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글1의 답글1',1, 1, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0202', '댓글1의 대답글1',61, 1, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글1의 답글2',1, 1, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글1의 답글1', 1, 1, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 1) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0202', '댓글1의 대답글1', 61, 1, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 61) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글1의 답글2', 1, 1, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 1) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글2 (rbbs_id=2, member_id=3, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글2의 답글1',2, 2, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글2의 대답글1',64, 2, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글2의 답글1', 2, 2, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 2) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글2의 대답글1', 64, 2, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 64) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글3 (rbbs_id=3, member_id=9, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글3의 답글1',3, 3, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글3의 답글2',3, 3, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글3의 답글1', 3, 3, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 3) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글3의 답글2', 3, 3, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 3) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글4 (rbbs_id=4, member_id=2, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0202', '댓글4의 답글1',4, 4, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글4의 대답글1',68, 4, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글4의 답글2',4, 4, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0202', '댓글4의 답글1', 4, 4, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 4) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글4의 대답글1', 68, 4, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 68) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글4의 답글2', 4, 4, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 4) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 
 -- 댓글6 (rbbs_id=6, member_id=8, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글6의 답글1',6, 6, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글6의 대답글1',71, 6, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글6의 답글1', 6, 6, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 6) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글6의 대답글1', 71, 6, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 71) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글7 (rbbs_id=7, member_id=1, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글7의 답글1',7, 7, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글7의 답글2',7, 7, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글7의 답글1', 7, 7, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 7) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글7의 답글2', 7, 7, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 7) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글8 (rbbs_id=8, member_id=4, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글8의 답글1',8, 8, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글8의 대답글1',75, 8, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글8의 답글1', 8, 8, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 8) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글8의 대답글1', 75, 8, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 75) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글9 (rbbs_id=9, member_id=10, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글9의 답글1',9, 9, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글9의 대답글1',77, 9, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글9의 답글2',9, 9, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글9의 답글1', 9, 9, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 9) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글9의 대답글1', 77, 9, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 77) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글9의 답글2', 9, 9, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 9) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글10 (rbbs_id=10, member_id=6, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0202', '댓글10의 답글1',10, 10, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글10의 답글2',10, 10, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0202', '댓글10의 답글1', 10, 10, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 10) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글10의 답글2', 10, 10, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 10) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글11 (rbbs_id=11, member_id=3, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글11의 답글1',11, 11, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글11의 대답글1',82, 11, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글11의 답글1', 11, 11, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 11) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글11의 대답글1', 82, 11, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 82) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글12 (rbbs_id=12, member_id=7, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글12의 답글1',12, 12, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글12의 대답글1',84, 12, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글12의 답글2',12, 12, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글12의 답글1', 12, 12, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 12) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글12의 대답글1', 84, 12, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 84) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글12의 답글2', 12, 12, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 12) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 
 -- 댓글14 (rbbs_id=14, member_id=9, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글14의 답글1',14, 14, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0202', '댓글14의 대답글1',87, 14, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글14의 답글1', 14, 14, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 14) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0202', '댓글14의 대답글1', 87, 14, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 87) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글15 (rbbs_id=15, member_id=5, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글15의 답글1',15, 15, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글15의 답글2',15, 15, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글15의 답글1', 15, 15, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 15) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글15의 답글2', 15, 15, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 15) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글16 (rbbs_id=16, member_id=2, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글16의 답글1',16, 16, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글16의 대답글1',91, 16, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글16의 답글2',16, 16, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글16의 답글1', 16, 16, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 16) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글16의 대답글1', 91, 16, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 91) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글16의 답글2', 16, 16, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 16) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글17 (rbbs_id=17, member_id=8, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글17의 답글1',17, 17, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글17의 대답글1',94, 17, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글17의 답글1', 17, 17, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 17) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글17의 대답글1', 94, 17, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 94) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글18 (rbbs_id=18, member_id=4, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글18의 답글1',18, 18, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글18의 답글2',18, 18, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글18의 답글1', 18, 18, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 18) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글18의 답글2', 18, 18, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 18) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글19 (rbbs_id=19, member_id=10, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0202', '댓글19의 답글1',19, 19, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글19의 대답글1',98, 19, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글19의 답글2',19, 19, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0202', '댓글19의 답글1', 19, 19, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 19) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글19의 대답글1', 98, 19, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 98) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글19의 답글2', 19, 19, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 19) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글21 (rbbs_id=21, member_id=4, status=R0201) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글21의 답글1',21, 21, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글21의 대답글1',101, 21, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글21의 답글1', 21, 21, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 21) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글21의 대답글1', 101, 21, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 101) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글23 (rbbs_id=23, member_id=8, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글23의 답글1',23, 23, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글23의 답글2',23, 23, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0201', '댓글23의 답글1', 23, 23, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 23) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글23의 답글2', 23, 23, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 23) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글26 (rbbs_id=26, member_id=9, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글26의 답글1',26, 26, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글26의 대답글1',105, 26, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글26의 답글1', 26, 26, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 26) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글26의 대답글1', 105, 26, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 105) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 
 -- 댓글32 (rbbs_id=32, member_id=3, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글32의 답글1',32, 32, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글32의 대답글1',107, 32, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글32의 답글2',32, 32, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글32의 답글1', 32, 32, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 32) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글32의 대답글1', 107, 32, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 107) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글32의 답글2', 32, 32, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 32) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 
 -- 댓글38 (rbbs_id=38, member_id=6, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글38의 답글1',38, 38, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글38의 답글2',38, 38, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글38의 답글1', 38, 38, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 38) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 8, 'R0201', '댓글38의 답글2', 38, 38, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 38) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글42 (rbbs_id=42, member_id=7, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글42의 답글1',42, 42, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0202', '댓글42의 대답글1',112, 42, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 1, 'R0201', '댓글42의 답글1', 42, 42, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 42) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 5, 'R0202', '댓글42의 대답글1', 112, 42, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 112) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 
 -- 댓글48 (rbbs_id=48, member_id=8, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글48의 답글1',48, 48, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글48의 대답글1',114, 48, 2, 2);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글48의 답글2',48, 48, 3, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 2, 'R0201', '댓글48의 답글1', 48, 48, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 48) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 6, 'R0201', '댓글48의 대답글1', 114, 48, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 114) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 9, 'R0201', '댓글48의 답글2', 48, 48, 3, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 48) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 
 -- 댓글54 (rbbs_id=54, member_id=9, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글54의 답글1',54, 54, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글54의 답글2',54, 54, 2, 1);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 3, 'R0201', '댓글54의 답글1', 54, 54, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 54) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 7, 'R0201', '댓글54의 답글2', 54, 54, 2, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 54) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 -- 댓글57 (rbbs_id=57, member_id=3, status=R0202) - 답글 생성
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글57의 답글1',57, 57, 1, 1);
-INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent)
-VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글57의 대답글1',119, 57, 2, 2);
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 4, 'R0201', '댓글57의 답글1', 57, 57, 1, 1, (SELECT sort_path FROM rbbs WHERE rbbs_id = 57) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
+INSERT INTO rbbs (rbbs_id, bbs_id, member_id, status, bcontent, prbbs_id, bgroup, step, bindent, sort_path)
+VALUES (rbbs_rbbs_id_seq.NEXTVAL, 60, 10, 'R0201', '댓글57의 대답글1', 119, 57, 2, 2, (SELECT sort_path FROM rbbs WHERE rbbs_id = 119) || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'));
 
 COMMIT;
 
@@ -3,6 +3,7 @@ DROP TABLE CART_ITEMS CASCADE CONSTRAINTS;
 DROP TABLE ORDER_ITEMS CASCADE CONSTRAINTS;
 DROP TABLE CART CASCADE CONSTRAINTS;
 DROP TABLE ORDERS CASCADE CONSTRAINTS;
+DROP TABLE ORDER_CODE_COUNTER CASCADE CONSTRAINTS;
 
 -- 기존 시퀀스 삭제
 DROP SEQUENCE CART_ITEMS_SEQ;
@@ -88,6 +89,9 @@ REFERENCES MEMBER(MEMBER_ID) ON DELETE CASCADE;
 
 ALTER TABLE ORDERS ADD CONSTRAINT CHK_ORDERS_STATUS
 CHECK (STATUS IN ('결제대기', '결제완료', '취소'));
+
+-- 주문번호 중복 방지
+ALTER TABLE ORDERS ADD CONSTRAINT UK_ORDERS_ORDER_CODE UNIQUE (ORDER_CODE);
 SELECT * FROM ORDERS;
 -- 주문서 시퀀스
 CREATE SEQUENCE ORDERS_SEQ
@@ -96,6 +100,13 @@ CREATE SEQUENCE ORDERS_SEQ
     NOCACHE
     NOCYCLE;
 
+-- 주문번호 카운터 테이블 (접두어 MOSI-yyyyMMdd- 별 마지막 예약 번호)
+CREATE TABLE ORDER_CODE_COUNTER (
+    CODE_PREFIX     VARCHAR2(30)    PRIMARY KEY,                                    -- 주문번호 접두어
+    LAST_SEQ        NUMBER(10)      NOT NULL,                                       -- 마지막 예약 번호
+    UPDATED_AT      TIMESTAMP       DEFAULT SYSTIMESTAMP NOT NULL
+);
+
 -- 주문 상세 테이블
 CREATE TABLE ORDER_ITEMS (
     ORDER_ITEM_ID   NUMBER(10)      PRIMARY KEY,                                   -- PK
@@ -15,13 +15,17 @@ CREATE TABLE CHAT_MESSAGE (
   SENDER_ID     NUMBER(10)       NOT NULL,       -- MEMBER.MEMBER_ID
   CONTENT       VARCHAR2(2000)   NOT NULL,
   CREATED_AT    TIMESTAMP        DEFAULT SYSTIMESTAMP NOT NULL,
-  READ_YN       CHAR(1)          DEFAULT 'N' CHECK (READ_YN IN ('Y','N')),
+  READ_YN       CHAR(1)          DEFAULT 'N' CHECK (READ_YN IN ('Y','N')),  -- (미사용) 읽음은 CHAT_ROOM.*_LAST_READ_MSG_ID
   CLIENT_MSG_ID VARCHAR2(64)     NULL
 );
 
 CREATE UNIQUE INDEX UK_CHATMSG_CLIENT ON CHAT_MESSAGE(CLIENT_MSG_ID);
 
-CREATE SEQUENCE CHAT_MESSAGE_SEQ START WITH 1 INCREMENT BY 1 NOCACHE NOCYCLE;
+-- 채팅 이력 keyset 페이징 (WHERE ROOM_ID = ? AND MSG_ID < ? ORDER BY MSG_ID DESC)
+CREATE INDEX IX_CHAT_MESSAGE_ROOM_MSG ON CHAT_MESSAGE(ROOM_ID, MSG_ID);
+
+-- 메시지마다 NEXTVAL 을 쓰므로 CACHE 로 딕셔너리 갱신을 줄인다 (번호는 건너뛸 수 있음)
+CREATE SEQUENCE CHAT_MESSAGE_SEQ START WITH 1 INCREMENT BY 1 CACHE 100 NOCYCLE;
 
 -- (선택) FK: 방/보낸사람이 실제로 존재하는지까지 엄격히 보려면 아래 주석 해제
 ALTER TABLE CHAT_MESSAGE ADD CONSTRAINT FK_CHATMSG_ROOM   FOREIGN KEY (ROOM_ID)   REFERENCES CHAT_ROOM(ROOM_ID) ON DELETE CASCADE;
@@ -14,6 +14,12 @@ CREATE TABLE CHAT_ROOM (
     PRODUCT_ID    NUMBER(10),                                             -- PRODUCT.PRODUCT_ID (nullable)
     STATUS        VARCHAR2(16 CHAR) DEFAULT 'ACTIVE' NOT NULL,           -- ACTIVE, CLOSED
     LAST_MSG_ID   NUMBER(20),                                             -- 마지막 메시지 ID (추후 FK)
+    LAST_MESSAGE  VARCHAR2(200 CHAR),                                     -- 마지막 메시지 미리보기
+    LAST_AT       TIMESTAMP            DEFAULT SYSTIMESTAMP NOT NULL,     -- 마지막 활동 시각 (생성 시 = CREATED_AT)
+    SELLER_UNREAD NUMBER(10)           DEFAULT 0 NOT NULL,                -- 판매자가 안 읽은 메시지 수
+    BUYER_UNREAD  NUMBER(10)           DEFAULT 0 NOT NULL,                -- 구매자가 안 읽은 메시지 수
+    SELLER_LAST_READ_MSG_ID NUMBER(20),                                   -- 판매자가 마지막으로 읽은 메시지 ID
+    BUYER_LAST_READ_MSG_ID  NUMBER(20),                                   -- 구매자가 마지막으로 읽은 메시지 ID
     CREATED_AT    TIMESTAMP            DEFAULT SYSTIMESTAMP NOT NULL,     -- 생성 시각
     CLOSED_AT     TIMESTAMP                                               -- 종료 시각
 );
@@ -58,9 +64,61 @@ END;
 
 -- 조회/필터 성능용 인덱스
 CREATE INDEX IX_CHAT_ROOM_STATUS_CREATED ON CHAT_ROOM (STATUS, CREATED_AT);
-CREATE INDEX IX_CHAT_ROOM_BUYER       ON CHAT_ROOM (BUYER_ID);
-CREATE INDEX IX_CHAT_ROOM_SELLER      ON CHAT_ROOM (SELLER_ID);
+-- 채팅 목록: 참여자 + 상태로 범위 조회 후 최근 활동순 (정렬 없이 인덱스 역순 스캔)
+CREATE INDEX IX_CHAT_ROOM_BUYER_LAST  ON CHAT_ROOM (BUYER_ID, STATUS, LAST_AT);
+CREATE INDEX IX_CHAT_ROOM_SELLER_LAST ON CHAT_ROOM (SELLER_ID, STATUS, LAST_AT);
 CREATE INDEX IX_CHAT_ROOM_PRODUCT     ON CHAT_ROOM (PRODUCT_ID);
 
 
-COMMIT;
\ No newline at end of file
+-- 기존 DB 반영용 (요약 컬럼 추가 + 메시지 이력으로 채우기)
+-- ALTER TABLE CHAT_ROOM ADD (
+--   LAST_MESSAGE  VARCHAR2(200 CHAR),
+--   LAST_AT       TIMESTAMP  DEFAULT SYSTIMESTAMP NOT NULL,
+--   SELLER_UNREAD NUMBER(10) DEFAULT 0 NOT NULL,
+--   BUYER_UNREAD  NUMBER(10) DEFAULT 0 NOT NULL
+-- );
+-- ALTER TABLE CHAT_ROOM ADD (
+--   SELLER_LAST_READ_MSG_ID NUMBER(20),
+--   BUYER_LAST_READ_MSG_ID  NUMBER(20)
+-- );
+-- DROP INDEX IX_CHAT_ROOM_BUYER;
+-- DROP INDEX IX_CHAT_ROOM_SELLER;
+-- CREATE INDEX IX_CHAT_ROOM_BUYER_LAST  ON CHAT_ROOM (BUYER_ID, STATUS, LAST_AT);
+-- CREATE INDEX IX_CHAT_ROOM_SELLER_LAST ON CHAT_ROOM (SELLER_ID, STATUS, LAST_AT);
+MERGE INTO CHAT_ROOM r
+USING (
+  SELECT m.ROOM_ID,
+         MAX(m.MSG_ID) AS LAST_MSG_ID,
+         MAX(m.CONTENT) KEEP (DENSE_RANK LAST ORDER BY m.MSG_ID) AS LAST_MESSAGE,
+         MAX(m.CREATED_AT) AS LAST_AT,
+         SUM(CASE WHEN m.READ_YN = 'N' AND m.SENDER_ID <> cr.SELLER_ID THEN 1 ELSE 0 END) AS SELLER_UNREAD,
+         SUM(CASE WHEN m.READ_YN = 'N' AND m.SENDER_ID <> cr.BUYER_ID  THEN 1 ELSE 0 END) AS BUYER_UNREAD
+    FROM CHAT_MESSAGE m
+    JOIN CHAT_ROOM cr ON cr.ROOM_ID = m.ROOM_ID
+   GROUP BY m.ROOM_ID
+) s
+ON (r.ROOM_ID = s.ROOM_ID)
+WHEN MATCHED THEN UPDATE SET
+  r.LAST_MSG_ID   = s.LAST_MSG_ID,
+  r.LAST_MESSAGE  = SUBSTR(s.LAST_MESSAGE, 1, 200),
+  r.LAST_AT       = s.LAST_AT,
+  r.SELLER_UNREAD = s.SELLER_UNREAD,
+  r.BUYER_UNREAD  = s.BUYER_UNREAD;
+
+-- 읽음 위치: 상대방이 보낸 메시지 중 READ_YN = 'Y' 인 마지막 MSG_ID (이후로 READ_YN 은 갱신하지 않는다)
+MERGE INTO CHAT_ROOM r
+USING (
+  SELECT m.ROOM_ID,
+         MAX(CASE WHEN m.READ_YN = 'Y' AND m.SENDER_ID <> cr.SELLER_ID THEN m.MSG_ID END) AS SELLER_LAST_READ_MSG_ID,
+         MAX(CASE WHEN m.READ_YN = 'Y' AND m.SENDER_ID <> cr.BUYER_ID  THEN m.MSG_ID END) AS BUYER_LAST_READ_MSG_ID
+    FROM CHAT_MESSAGE m
+    JOIN CHAT_ROOM cr ON cr.ROOM_ID = m.ROOM_ID
+   GROUP BY m.ROOM_ID
+) s
+ON (r.ROOM_ID = s.ROOM_ID)
+WHEN MATCHED THEN UPDATE SET
+  r.SELLER_LAST_READ_MSG_ID = s.SELLER_LAST_READ_MSG_ID,
+  r.BUYER_LAST_READ_MSG_ID  = s.BUYER_LAST_READ_MSG_ID;
+
+
+COMMIT;
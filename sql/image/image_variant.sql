@@ -0,0 +1,22 @@
+-- 리사이즈 이미지 (thumb / card / full)
+-- OWNER_TYPE: PRODUCT(PRODUCT_IMAGE.IMAGE_ID), SELLER(SELLER_PAGE.PAGE_ID), BUYER(BUYER_PAGE.MEMBER_ID)
+-- 원본 삭제 시 애플리케이션에서 함께 삭제한다. (원본 테이블이 여러 개라 FK 없음)
+DROP TABLE image_variant CASCADE CONSTRAINT;
+
+CREATE TABLE image_variant(
+        owner_type  	varchar2(20)  	NOT NULL,
+        owner_id  		NUMBER(10)  		NOT NULL,
+        variant  			varchar2(10)  	NOT NULL,
+        mime_type  		varchar2(50)  	NOT NULL,
+        width  				NUMBER(5),
+        height  			NUMBER(5),
+        image_data  	BLOB  					NOT NULL,
+        source_hash  	varchar2(64)  	NOT NULL,
+        create_date  	timestamp
+);
+
+-- 제약 조건 추가
+ALTER TABLE image_variant ADD CONSTRAINT PK_IMAGE_VARIANT PRIMARY KEY(owner_type, owner_id, variant);
+ALTER TABLE image_variant MODIFY (create_date DEFAULT systimestamp);
+
+COMMIT;
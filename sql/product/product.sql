@@ -113,4 +113,44 @@ SELECT * FROM product;
 INSERT INTO PRODUCT (PRODUCT_ID,MEMBER_ID,CATEGORY,TITLE,GUIDE_YN,NORMAL_PRICE,GUIDE_PRICE,SALES_PRICE,SALES_GUIDE_PRICE,TOTAL_DAY,TOTAL_TIME,REQ_MONEY,SLEEP_INFO,TRANSPORT_INFO,FOOD_INFO,REQ_PEOPLE,TARGET,STUCKS,DESCRIPTION,DETAIL,FILE_NAME,FILE_TYPE,FILE_SIZE,FILE_DATA,PRICE_DETAIL,GPRICE_DETAIL,STATUS,CREATE_DATE,UPDATE_DATE) VALUES
 	 (product_product_id_seq.nextval,6,'culture_history','asdf','N',10,10,10,10,0,10,10,'N','버스 및 지하철 이용','N','10','10','물','10','10','file_01.txt','text/plain',36,HEXTORAW('ED8C8CEC9DBC20EC9785EBA19CEB939C20ED858CEC8AA4ED8AB8EC9AA920ED8C8CEC9DBC'),'10','10','판매중',TIMESTAMP'2025-07-25 16:21:42',NULL);
 
-COMMIT;
\ No newline at end of file
+COMMIT;
+-- 검색 인덱스 변경 기록 (상품 등록/수정/상태변경/삭제 시 기록, 인덱서가 읽고 정리)
+DROP TABLE product_index_outbox CASCADE CONSTRAINT;
+DROP TABLE search_index_checkpoint CASCADE CONSTRAINT;  -- 이전 버전의 반영 위치 테이블 (더 이상 사용하지 않음)
+DROP SEQUENCE PRODUCT_INDEX_OUTBOX_SEQ;
+
+CREATE TABLE product_index_outbox(
+        outbox_id  		NUMBER(19),
+        product_id  	NUMBER(10)  		NOT NULL,
+        created_at  	timestamp
+);
+ALTER TABLE product_index_outbox ADD CONSTRAINT PK_PRODUCT_INDEX_OUTBOX PRIMARY KEY(outbox_id);
+ALTER TABLE product_index_outbox MODIFY (created_at DEFAULT systimestamp);
+CREATE SEQUENCE PRODUCT_INDEX_OUTBOX_SEQ;
+
+COMMIT;
+
+-- 상품 대표 이미지 (PRODUCT_IMAGE 변경 시 ProductImageDAO 가 갱신, 목록 화면은 BLOB 대신 이 매핑만 조인)
+DROP TABLE product_cover CASCADE CONSTRAINT;
+
+CREATE TABLE product_cover(
+        product_id  	NUMBER(10),
+        image_id  		NUMBER(10)  		NOT NULL,
+        mime_type  		varchar2(50),
+        version  			NUMBER(10)  		NOT NULL,
+        updated_at  	timestamp
+);
+ALTER TABLE product_cover ADD CONSTRAINT PK_PRODUCT_COVER PRIMARY KEY(product_id);
+ALTER TABLE product_cover ADD FOREIGN KEY(product_id) REFERENCES product(product_id) ON DELETE CASCADE;
+ALTER TABLE product_cover MODIFY (version DEFAULT 1);
+ALTER TABLE product_cover MODIFY (updated_at DEFAULT systimestamp);
+
+-- 기존 데이터 반영
+INSERT INTO product_cover (product_id, image_id, mime_type, version)
+SELECT product_id, image_id, mime_type, 1
+  FROM (SELECT product_id, image_id, mime_type,
+               ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY image_order, image_id) AS rn
+          FROM product_image)
+ WHERE rn = 1;
+
+COMMIT;
@@ -0,0 +1,17 @@
+-- 주소 → 좌표 캐시 (카카오 지오코딩 결과)
+-- ADDRESS   : 정규화한 주소 (GeocodeService.normalize)
+-- LAT / LON : 좌표, 카카오에서 찾지 못한 주소는 NULL (음성 결과, CHECKED_AT 기준 TTL 후 다시 조회)
+DROP TABLE geocode_cache CASCADE CONSTRAINT;
+
+CREATE TABLE geocode_cache(
+        address     	varchar2(1000 char)	NOT NULL,
+        lat         	NUMBER(10,7),
+        lon         	NUMBER(10,7),
+        checked_at  	timestamp       		NOT NULL
+);
+
+-- 제약 조건 추가
+ALTER TABLE geocode_cache ADD CONSTRAINT PK_GEOCODE_CACHE PRIMARY KEY(address);
+ALTER TABLE geocode_cache MODIFY (checked_at DEFAULT systimestamp);
+
+COMMIT;
@@ -0,0 +1,77 @@
+package com.KDT.mosi.domain.product.svc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회 비교
+ * - trie : AutocompleteIndex (메모리 인덱스)
+ * - scan : 기존 경로(findTop5ByKeywordStartingWithOrderBySearchCountDesc)가 ES 에서 하는 일을
+ *          메모리에서 흉내낸 것 (전체 키워드 prefix 필터 → searchCount 정렬 → 상위 5개).
+ *          실제 기존 경로는 여기에 ES 왕복(수 ms)이 더해진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutocompleteBenchmark {
+
+  private static final String[] PLACES = {
+      "제주", "부산", "강릉", "경주", "전주", "여수", "속초", "서울", "인천", "통영",
+      "camping", "seoul", "busan", "jeju"
+  };
+  private static final String[] THEMES = {
+      "캠핑", "맛집", "투어", "여행", "숙소", "카페", "야경", "바다", "트레킹", "축제", "시장", "한옥"
+  };
+
+  @Param({"1000", "10000"})
+  private int keywords;
+
+  @Param({"제", "제주 캠", "ㅂ"})
+  private String prefix;
+
+  private AutocompleteIndex index;
+  private List<Map.Entry<String, Long>> entries;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    Map<String, Long> counts = new HashMap<>();
+    while (counts.size() < keywords) {
+      String keyword = PLACES[random.nextInt(PLACES.length)] + " "
+          + THEMES[random.nextInt(THEMES.length)] + " " + random.nextInt(keywords);
+      counts.put(keyword, (long) random.nextInt(10_000));
+    }
+    index = AutocompleteIndex.build(counts, 10, false);
+    entries = new ArrayList<>(counts.entrySet());
+  }
+
+  @Benchmark
+  public List<String> trie() {
+    return index.suggest(prefix, 5);
+  }
+
+  @Benchmark
+  public List<String> scan() {
+    String lower = prefix.toLowerCase();
+    return entries.stream()
+        .filter(e -> e.getKey().startsWith(lower))
+        .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+        .limit(5)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+}
@@ -0,0 +1,75 @@
+package com.KDT.mosi.domain.publicdatamanage.facility.svc;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시설 contents 추출 비교 (본문 corpus 전체 1회 처리 시간)
+ * - legacy    : 기존 방식 (Jsoup.parse + 호출마다 Pattern.compile / replaceAll)
+ * - extractor : FacilityContentExtractor (미리 컴파일한 정규식 + 라벨 1회 스캔 + 단순 본문은 Jsoup 생략)
+ * - corpus 는 테스트 리소스 publicdata/facility/contents-corpus.json (결과가 같은지는 FacilityContentExtractorTest 에서 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacilityContentExtractorBenchmark {
+
+  private final LegacyFacilityContentParser legacy = new LegacyFacilityContentParser();
+  private final FacilityContentExtractor extractor = new FacilityContentExtractor();
+
+  private String[] contents;
+
+  @Setup
+  public void setup() throws IOException {
+    try (InputStream in = getClass().getResourceAsStream("/publicdata/facility/contents-corpus.json")) {
+      if (in == null) {
+        throw new IllegalStateException("contents-corpus.json 이 클래스패스에 없습니다.");
+      }
+      List<Map<String, String>> corpus = new ObjectMapper().readValue(in, new TypeReference<>() {});
+      contents = corpus.stream().map(item -> item.get("contents")).toArray(String[]::new);
+    }
+  }
+
+  @Benchmark
+  public void legacy(Blackhole bh) {
+    for (String html : contents) {
+      String text = legacy.removeHtmlTags(html);
+      String addr = legacy.extractAddr(text);
+      bh.consume(addr);
+      bh.consume(legacy.extractTel(text));
+      bh.consume(legacy.extractLocation(text));
+      bh.consume(legacy.extractLastUpdated(text));
+      bh.consume(legacy.extractTableCount(text));
+      bh.consume(legacy.extractGugun(addr));
+      try {
+        bh.consume(legacy.splitAndCleanMainMenu(legacy.extractMainMenu(text)));
+      } catch (ArrayIndexOutOfBoundsException e) {
+        bh.consume(e);
+      }
+    }
+  }
+
+  @Benchmark
+  public void extractor(Blackhole bh) {
+    for (String html : contents) {
+      FacilityContentExtractor.Extracted extracted = extractor.extract(html);
+      bh.consume(extracted);
+      bh.consume(extractor.extractGugun(extracted.addr()));
+      bh.consume(extractor.splitMainMenu(extracted.mainMenu()));
+    }
+  }
+}
@@ -36,15 +36,9 @@ public class BbsDAOImpl implements BbsDAO {
       Bbs parent = this.findById(bbs.getPbbsId())
           .orElseThrow(() -> new IllegalArgumentException("부모 게시글이 없습니다. id=" + bbs.getPbbsId()));
 
-      // 2) step 계산 및 기존 답글 shift
-      // 게시 상태라면 기존 답글 shift
-      if ("B0201".equals(statusBbs)) {
-        int newStep = this.updateStep(parent.getBgroup(), parent);
-        bbs.setStep((long)newStep);
-      } else {
-        // 임시저장일 땐 shift 없이, 부모 기준으로만 +1
-        bbs.setStep(parent.getStep() + 1);
-      }
+      // 2) 순서 경로 : 부모 경로 뒤에 새 글 ID 구간을 붙인다. (INSERT 에서 계산, 다른 행은 건드리지 않음)
+      bbs.setSortPath(parent.getSortPath());
+      bbs.setStep(parent.getBindent() + 1);
       // 3) 계층 정보 세팅
       bbs.setBcategory(parent.getBcategory());
       bbs.setBgroup(parent.getBgroup());
@@ -56,20 +50,20 @@ public class BbsDAOImpl implements BbsDAO {
     StringBuffer sql = new StringBuffer();
     if ("B0201".equals(statusBbs)) {
       if (!parentsBbs) {
-        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent) ")
-            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0201', :title, :memberId, :bcontent, NULL, bbs_bbs_id_seq.CURRVAL, 0, 0)");
+        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent, sort_path) ")
+            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0201', :title, :memberId, :bcontent, NULL, bbs_bbs_id_seq.CURRVAL, 0, 0, LPAD(bbs_bbs_id_seq.CURRVAL, 10, '0'))");
       } else {
-        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent) ")
-            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0201', :title, :memberId, :bcontent, :pbbsId, :bgroup, :step, :bindent)");
+        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent, sort_path) ")
+            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0201', :title, :memberId, :bcontent, :pbbsId, :bgroup, :step, :bindent, :sortPath || LPAD(bbs_bbs_id_seq.CURRVAL, 10, '0'))");
       }
     }
     else if ("B0203".equals(statusBbs)) {
       if (!parentsBbs) {
-        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent) ")
-            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0203', :title, :memberId, :bcontent, NULL, bbs_bbs_id_seq.CURRVAL, 0, 0)");
+        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent, sort_path) ")
+            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0203', :title, :memberId, :bcontent, NULL, bbs_bbs_id_seq.CURRVAL, 0, 0, LPAD(bbs_bbs_id_seq.CURRVAL, 10, '0'))");
       } else {
-        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent) ")
-            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0203', :title, :memberId, :bcontent, :pbbsId, :bgroup, :step, :bindent)");
+        sql.append("INSERT INTO bbs (bbs_id, bcategory, status, title, member_id, bcontent, pbbs_id, bgroup, step, bindent, sort_path) ")
+            .append("VALUES (bbs_bbs_id_seq.nextval, :bcategory, 'B0203', :title, :memberId, :bcontent, :pbbsId, :bgroup, :step, :bindent, :sortPath || LPAD(bbs_bbs_id_seq.CURRVAL, 10, '0'))");
       }
     }
 
@@ -107,7 +101,7 @@ public class BbsDAOImpl implements BbsDAO {
     sql.append("LEFT JOIN member m ");
     sql.append("ON b.member_id = m.member_id ");
     sql.append("where b.status <> 'B0203' ");
-    sql.append("ORDER BY b.bgroup DESC, b.step ASC, b.bbs_id ASC ");
+    sql.append("ORDER BY b.bgroup DESC, b.sort_path ASC ");
 
     Map<String, Object> params = Collections.emptyMap();
 
@@ -145,7 +139,7 @@ public class BbsDAOImpl implements BbsDAO {
     sql.append("LEFT JOIN member m ");
     sql.append("ON b.member_id = m.member_id ");
     sql.append("where b.status <> 'B0203' ");
-    sql.append("ORDER BY b.bgroup DESC, b.step ASC, b.bbs_id ASC ");
+    sql.append("ORDER BY b.bgroup DESC, b.sort_path ASC ");
     sql.append("  OFFSET (:pageNo -1) * :numOfRows ROWS ");
     sql.append("FETCH NEXT :numOfRows ROWS ONLY ");
 
@@ -218,7 +212,7 @@ public class BbsDAOImpl implements BbsDAO {
     sql.append("ON b.member_id = m.member_id ");
     sql.append("  WHERE b.bcategory = :bcategory ");
     sql.append("  AND b.status <> 'B0203' ");
-    sql.append("ORDER BY b.bgroup DESC, b.step ASC, b.bbs_id ASC ");
+    sql.append("ORDER BY b.bgroup DESC, b.sort_path ASC ");
 
     SqlParameterSource param = new MapSqlParameterSource().addValue("bcategory", bcategory);
     //db요청
@@ -256,7 +250,7 @@ public class BbsDAOImpl implements BbsDAO {
     sql.append("ON b.member_id = m.member_id ");
     sql.append("WHERE b.bcategory = :bcategory ");
     sql.append("  AND b.status <> 'B0203' ");
-    sql.append("ORDER BY b.bgroup DESC, b.step ASC, b.bbs_id ASC ");
+    sql.append("ORDER BY b.bgroup DESC, b.sort_path ASC ");
     sql.append("  OFFSET (:pageNo -1) * :numOfRows ROWS ");
     sql.append("FETCH NEXT :numOfRows ROWS only ");
 
@@ -310,6 +304,7 @@ public class BbsDAOImpl implements BbsDAO {
     sql.append("b.bgroup AS bgroup, ");
     sql.append("b.step AS step, ");
     sql.append("b.bindent AS bindent, ");
+    sql.append("b.sort_path AS sort_path, ");
     sql.append("b.create_date AS create_date, ");
     sql.append("b.update_date as update_date ");
     sql.append("FROM bbs b ");
@@ -393,53 +388,6 @@ public class BbsDAOImpl implements BbsDAO {
     return rows;
   }
 
-  /**
-   * 답글,대답글 추가시 목록 순서 변경
-   * @param bgroup
-   * @param parentBbs
-   * @return
-   */
-  @Override
-  public int updateStep(Long bgroup, Bbs parentBbs) {
-    long pIndent  = parentBbs.getBindent();
-
-    StringBuffer sql = new StringBuffer();
-    sql.append("SELECT NVL(MAX(step), :parentStep) ");
-    sql.append("FROM bbs ");
-    sql.append("WHERE bgroup       = :bgroup ");
-
-
-    // — bindent 레벨별 분기 —
-    if (pIndent == 0) {              // 댓글 → 대댓글들
-
-    } else if (pIndent == 1) {       // 대댓글 → 대대댓글들
-      sql.append("  AND pbbs_id = :parentId ");
-    } else {                         // 대대댓글 → 더 깊이 없음
-      // MAX(step)이 parentStep 그대로이므로 아래서 +1만 하면 됨
-    }
-
-    MapSqlParameterSource param = new MapSqlParameterSource()
-        .addValue("bgroup",       bgroup)
-        .addValue("parentId",     parentBbs.getBbsId())
-        .addValue("parentStep",   parentBbs.getStep());
-
-    Long lastStep = template.queryForObject(sql.toString(), param, Long.class);
-    int newStep = lastStep.intValue() + 1;
-
-    // 2) 계산된 위치(newStep) 이상인 모든 글의 step +1
-    StringBuffer shiftSql = new StringBuffer();
-    shiftSql.append("UPDATE bbs ");
-    shiftSql.append("   SET step = step + 1 ");
-    shiftSql.append(" WHERE bgroup = :bgroup ");
-    shiftSql.append("   AND step   >= :newStep");
-
-    // 같은 param에 newStep 값만 추가
-    param.addValue("newStep", newStep);
-    template.update(shiftSql.toString(), param);
-
-    // 3) 새 답글의 step 리턴
-    return newStep;
-  }
   /**
    * 게시글 조회수 증가
    * @param id 게시글 번호
@@ -39,9 +39,6 @@ public interface BbsSVC {
   //게시글수정
   int updateById(Long bbsId, Bbs bbs);
 
-  //답글 순서 조정
-  int updateStep(Long bgroup, Bbs parentBbs);
-
   //조회수 증가
   public int increaseHit(Long id);
 
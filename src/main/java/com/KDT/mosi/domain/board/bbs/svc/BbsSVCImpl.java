@@ -106,11 +106,6 @@ public class BbsSVCImpl implements BbsSVC{
     return bbsDAO.updateById(bbsId,bbs);
   }
 
-  @Override
-  public int updateStep(Long bgroup, Bbs parentBbs) {
-    return bbsDAO.updateStep(bgroup,parentBbs);
-  }
-
   @Override
   public int increaseHit(Long id) {
     return bbsDAO.increaseHit(id);
@@ -33,23 +33,21 @@ public class RbbsDAOImpl implements RbbsDAO {
       Rbbs parent = this.findById(rbbs.getPrbbsId())
           .orElseThrow(() -> new IllegalArgumentException("부모 댓글이 없습니다. id=" + rbbs.getPrbbsId()));
 
-      // 새 답글 위치 계산 & shift
-      int newStep = this.updateStep(parent.getBgroup(), parent);
-
-      // 계층 정보 세팅
+      // 계층 정보 세팅 (순서 경로는 부모 경로 뒤에 새 댓글 ID 구간을 붙여 INSERT 에서 계산)
       rbbs.setBgroup(parent.getBgroup());
-      rbbs.setStep((long)newStep);
+      rbbs.setStep(parent.getBindent() + 1);
       rbbs.setBindent(parent.getBindent() + 1);
+      rbbs.setSortPath(parent.getSortPath());
     }
 
     // SQL 조립
     StringBuffer sql = new StringBuffer();
     if (!parentsRbbs) {
-      sql.append("INSERT INTO rbbs (rbbs_id, bbs_id, status, prbbs_id, bcontent, member_id, bgroup, step, bindent) ")
-          .append("VALUES (rbbs_rbbs_id_seq.nextval, :bbsId, 'R0201', NULL, :bcontent, :memberId, rbbs_rbbs_id_seq.CURRVAL, 0, 0)");
+      sql.append("INSERT INTO rbbs (rbbs_id, bbs_id, status, prbbs_id, bcontent, member_id, bgroup, step, bindent, sort_path) ")
+          .append("VALUES (rbbs_rbbs_id_seq.nextval, :bbsId, 'R0201', NULL, :bcontent, :memberId, rbbs_rbbs_id_seq.CURRVAL, 0, 0, LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'))");
     } else {
-      sql.append("INSERT INTO rbbs (rbbs_id, bbs_id, status, prbbs_id, bcontent, member_id, bgroup, step, bindent) ")
-          .append("VALUES (rbbs_rbbs_id_seq.nextval, :bbsId, 'R0201', :prbbsId, :bcontent, :memberId, :bgroup, :step, :bindent)");
+      sql.append("INSERT INTO rbbs (rbbs_id, bbs_id, status, prbbs_id, bcontent, member_id, bgroup, step, bindent, sort_path) ")
+          .append("VALUES (rbbs_rbbs_id_seq.nextval, :bbsId, 'R0201', :prbbsId, :bcontent, :memberId, :bgroup, :step, :bindent, :sortPath || LPAD(rbbs_rbbs_id_seq.CURRVAL, 10, '0'))");
     }
 
     SqlParameterSource param = new BeanPropertySqlParameterSource(rbbs);
@@ -74,7 +72,7 @@ public class RbbsDAOImpl implements RbbsDAO {
         .append("LEFT JOIN member m ON r.member_id = m.member_id ")
         .append("WHERE r.bbs_id = :bbsId ")
         .append("  AND r.status <> 'R0203' ")
-        .append("ORDER BY r.bgroup DESC, r.step ASC, r.rbbs_id ASC");
+        .append("ORDER BY r.bgroup DESC, r.sort_path ASC");
 
     Map<String, Long> params = Map.of("bbsId", bbsId);
     return template.query(sql.toString(), params, BeanPropertyRowMapper.newInstance(Rbbs.class));
@@ -95,7 +93,7 @@ public class RbbsDAOImpl implements RbbsDAO {
         .append("LEFT JOIN member m ON r.member_id = m.member_id ")
         .append("WHERE r.bbs_id = :bbsId ")
         .append("  AND r.status <> 'R0203' ")
-        .append("ORDER BY r.bgroup ASC, r.step ASC, r.rbbs_id ASC ")
+        .append("ORDER BY r.bgroup ASC, r.sort_path ASC ")
         .append("OFFSET (:pageNo - 1) * :numOfRows ROWS ")
         .append("FETCH NEXT :numOfRows ROWS ONLY");
 
@@ -123,7 +121,7 @@ public class RbbsDAOImpl implements RbbsDAO {
         .append("WHEN r.status = 'R0202' THEN to_clob('삭제된 게시글입니다.') ")
         .append("ELSE r.bcontent ")
         .append("END AS bcontent, ")
-        .append("r.bgroup as bgroup, r.step as step,  r.create_date as create_date, r.update_date as update_date ")
+        .append("r.bgroup as bgroup, r.step as step, r.sort_path as sort_path, r.create_date as create_date, r.update_date as update_date ")
         .append("FROM rbbs r ")
         .append("LEFT JOIN member m ON r.member_id = m.member_id ")
         .append("WHERE r.rbbs_id = :id");
@@ -152,43 +150,4 @@ public class RbbsDAOImpl implements RbbsDAO {
         .addValue("rbbsId", rbbsId);
     return template.update(sql, param);
   }
-
-  @Override
-  public int updateStep(Long bgroup, Rbbs parentRbbs) {
-
-    long pStep    = parentRbbs.getStep();
-    long pIndent  = parentRbbs.getBindent();
-    long parentId = parentRbbs.getRbbsId();
-
-    StringBuffer sql = new StringBuffer();
-    sql.append("SELECT NVL(MAX(step), :pStep) ")
-        .append("FROM rbbs ")
-        .append("WHERE bgroup = :bgroup ");
-
-    // — bindent 레벨별 분기 —
-    if (pIndent == 0) {              // 댓글 → 대댓글들
-
-    } else if (pIndent == 1) {       // 대댓글 → 대대댓글들
-      sql.append("  AND prbbs_id = :parentId ");
-    } else {                         // 대대댓글 → 더 깊이 없음
-      // MAX(step)이 parentStep 그대로이므로 아래서 +1만 하면 됨
-    }
-
-    MapSqlParameterSource params = new MapSqlParameterSource()
-        .addValue("bgroup", bgroup)
-        .addValue("pStep",  pStep)
-        .addValue("parentId", parentId);
-
-    int lastStep = template.queryForObject(sql.toString(), params, Integer.class);
-    int newStep  = lastStep + 1;          // 바로 뒤에 삽입
-
-    // 뒤에 있는 행들 step 밀기
-    String shiftSql =
-        "UPDATE rbbs SET step = step + 1 WHERE bgroup = :bgroup AND step >= :newStep";
-    params.addValue("newStep", newStep);
-    template.update(shiftSql, params);
-
-    return newStep;
-  }
 }
-
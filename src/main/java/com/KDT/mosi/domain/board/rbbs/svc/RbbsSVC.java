@@ -25,6 +25,4 @@ public interface RbbsSVC {
   //댓글수정
   int updateById(Long bbsCommentId, Rbbs rbbs);
 
-  //답글 순서 조정
-  int updateStep(Long bgroup, Rbbs pbbsComment);
 }
@@ -49,9 +49,4 @@ public class RbbsSVCImpl implements RbbsSVC {
   public int updateById(Long bbsCommentId, Rbbs rbbs) {
     return rbbsDAO.updateById(bbsCommentId,rbbs);
   }
-
-  @Override
-  public int updateStep(Long bgroup, Rbbs pbbsComment) {
-    return rbbsDAO.updateStep(bgroup,pbbsComment);
-  }
 }
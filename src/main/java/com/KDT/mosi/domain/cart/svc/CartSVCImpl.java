@@ -8,10 +8,11 @@ import com.KDT.mosi.domain.entity.Product;
 import com.KDT.mosi.domain.entity.SellerPage;
 import com.KDT.mosi.domain.entity.cart.Cart;
 import com.KDT.mosi.domain.entity.cart.CartItem;
+import com.KDT.mosi.domain.image.ImageVariantSize;
 import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import com.KDT.mosi.domain.product.svc.ProductSVC;
 import com.KDT.mosi.domain.product.svc.ProductImageSVC;
-import com.KDT.mosi.domain.entity.ProductImage;
 import com.KDT.mosi.web.api.ApiResponse;
 import com.KDT.mosi.web.api.ApiResponseCode;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -207,6 +210,11 @@ public class CartSVCImpl implements CartSVC {
   private List<CartItemResponse> convertToCartItemResponses(List<CartItem> items) {
     List<CartItemResponse> result = new ArrayList<>();
 
+    // 대표 이미지 URL 일괄 조회 (PRODUCT_COVER, 이미지 BLOB 미조회)
+    Map<Long, ProductCover> covers = productImageSVC.findCoversByProductIds(
+            items.stream().map(CartItem::getProductId).distinct().toList()).stream()
+        .collect(Collectors.toMap(ProductCover::productId, cover -> cover));
+
     for (CartItem item : items) {
       Optional<Product> productOpt = productSVC.getProduct(item.getProductId());
 
@@ -215,14 +223,9 @@ public class CartSVCImpl implements CartSVC {
         String sellerNickname = getSellerNickname(item.getSellerId());
         boolean isAvailable = "판매중".equals(product.getStatus());
 
-        // 첫 번째 상품 이미지 (ProductImageSVC 사용)
-        String imageData = null;
-        List<ProductImage> images = productImageSVC.findByProductId(product.getProductId());
-        log.info("🖼상품 이미지 조회: productId={}, 이미지 개수={}", product.getProductId(), images != null ? images.size() : 0);
-        if (images != null && !images.isEmpty()) {
-          imageData = images.get(0).getBase64ImageData();
-          log.info("이미지 데이터 설정 완료: {}", imageData != null ? "성공" : "실패");
-        }
+        // 대표 이미지 URL
+        ProductCover cover = covers.get(product.getProductId());
+        String imageData = cover != null ? cover.url(ImageVariantSize.THUMB) : null;
 
         CartItemResponse dto = isAvailable ?
             CartItemResponse.createAvailable(
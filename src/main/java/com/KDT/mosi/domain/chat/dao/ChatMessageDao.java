@@ -6,9 +6,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -48,7 +52,7 @@ public class ChatMessageDao {
    */
 
 
-  /** member JOIN 결과 → ChatMessageResponse 매핑 */
+  /** member JOIN 결과 → ChatMessageResponse 매핑 (READ_YN 은 읽음 위치로 계산한 값) */
   private static final RowMapper<ChatMessageResponse> RESPONSE_MAPPER = (rs, rowNum) ->
       new ChatMessageResponse(
           rs.getLong("MSG_ID"),
@@ -59,60 +63,111 @@ public class ChatMessageDao {
           "Y".equals(rs.getString("READ_YN")),
           rs.getString("SELLER_NICKNAME"),
           rs.getString("BUYER_NICKNAME"),
-          rs.getBytes("SELLER_IMAGE"),   // DB 컬럼명 PIC
-          rs.getBytes("BUYER_IMAGE")   // DB 컬럼명 PIC
+          rs.getString("CLIENT_MSG_ID")
+      );
+
+  /** CHAT_MESSAGE 단독 조회 → ChatMessageResponse 매핑 (닉네임은 서비스에서 채운다, READ_YN 은 읽음 위치로 계산한 값) */
+  private static final RowMapper<ChatMessageResponse> HISTORY_MAPPER = (rs, rowNum) ->
+      new ChatMessageResponse(
+          rs.getLong("MSG_ID"),
+          rs.getLong("ROOM_ID"),
+          rs.getLong("SENDER_ID"),
+          rs.getString("CONTENT"),
+          rs.getTimestamp("CREATED_AT").toLocalDateTime(),
+          "Y".equals(rs.getString("READ_YN")),
+          null,
+          null,
+          rs.getString("CLIENT_MSG_ID")
       );
 
   //================ CRUD ====================
 
-  /** 메시지 저장 */
-  public long insert(long roomId, long senderId, String content, String clientMsgId){
-    Long msgId = jdbc.getJdbcTemplate()
-        .queryForObject("SELECT CHAT_MESSAGE_SEQ.NEXTVAL FROM DUAL", Long.class);
+  /**
+   * 메시지 번호 블록 예약 (CHAT_MESSAGE_SEQ 에서 count 개)
+   */
+  public List<Long> nextIds(int count) {
+    String sql = "SELECT CHAT_MESSAGE_SEQ.NEXTVAL FROM DUAL CONNECT BY LEVEL <= :cnt";
+    var p = new MapSqlParameterSource().addValue("cnt", count);
+    List<Long> ids = jdbc.queryForList(sql, p, Long.class);
+    ids.sort(null);
+    return ids;
+  }
 
+  /**
+   * 메시지 일괄 저장 (JDBC batch, MSG_ID 는 미리 발급된 값)
+   * - 같은 CLIENT_MSG_ID 가 이미 있으면 UK_CHATMSG_CLIENT 기준으로 그 행만 건너뛴다. (재전송/재연결 중복)
+   *
+   * @return 메시지별 저장 건수 (0 이면 중복으로 건너뜀)
+   */
+  public int[] insertBatch(List<ChatMessageResponse> messages) {
     String sql = """
-          INSERT INTO CHAT_MESSAGE (MSG_ID, ROOM_ID, SENDER_ID, CONTENT, CREATED_AT, READ_YN, CLIENT_MSG_ID)
-          VALUES (:msgId, :roomId, :senderId, :content, SYSTIMESTAMP, 'N', :clientMsgId)
+          INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(CHAT_MESSAGE, UK_CHATMSG_CLIENT) */
+            INTO CHAT_MESSAGE (MSG_ID, ROOM_ID, SENDER_ID, CONTENT, CREATED_AT, READ_YN, CLIENT_MSG_ID)
+          VALUES (:msgId, :roomId, :senderId, :content, :createdAt, 'N', :clientMsgId)
         """;
-    var p = new MapSqlParameterSource()
-        .addValue("msgId", msgId)
-        .addValue("roomId", roomId)
-        .addValue("senderId", senderId)
-        .addValue("content", content)
-        .addValue("clientMsgId", clientMsgId);
+    SqlParameterSource[] batch = messages.stream()
+        .map(m -> new MapSqlParameterSource()
+            .addValue("msgId", m.msgId())
+            .addValue("roomId", m.roomId())
+            .addValue("senderId", m.senderId())
+            .addValue("content", m.content())
+            .addValue("createdAt", Timestamp.valueOf(m.createdAt()))
+            .addValue("clientMsgId", m.clientMsgId()))
+        .toArray(SqlParameterSource[]::new);
+    return jdbc.batchUpdate(sql, batch);
+  }
 
-    jdbc.update(sql, p);
-    return msgId;
+  /**
+   * CLIENT_MSG_ID 로 저장된 MSG_ID 조회 (UK_CHATMSG_CLIENT 로 건너뛴 중복 메시지의 실제 번호 확인용)
+   *
+   * @return CLIENT_MSG_ID → MSG_ID (저장된 것만)
+   */
+  public Map<String, Long> findIdsByClientMsgIds(List<String> clientMsgIds) {
+    if (clientMsgIds.isEmpty()) {
+      return Map.of();
+    }
+    String sql = "SELECT CLIENT_MSG_ID, MSG_ID FROM CHAT_MESSAGE WHERE CLIENT_MSG_ID IN (:clientMsgIds)";
+    var p = new MapSqlParameterSource().addValue("clientMsgIds", clientMsgIds);
+    Map<String, Long> ids = new HashMap<>();
+    jdbc.query(sql, p, rs -> {
+      ids.put(rs.getString("CLIENT_MSG_ID"), rs.getLong("MSG_ID"));
+    });
+    return ids;
   }
 
-  /** 특정 방 전체 메시지 (닉네임+프로필 포함) */
-  public List<ChatMessageResponse> findAllByRoomWithMember(Long roomId) {
-    String sql = """
-            SELECT m.MSG_ID,
-                   m.ROOM_ID,
-                   m.SENDER_ID,
-                   m.CONTENT,
-                   m.CREATED_AT,
-                   m.READ_YN,
-                   sp.NICKNAME AS seller_nickname,
-                   sp.IMAGE    AS seller_image,
-                   bp.NICKNAME AS buyer_nickname,
-                   bp.image    AS buyer_image
-            FROM CHAT_MESSAGE m
-            JOIN CHAT_ROOM r   ON m.ROOM_ID = r.ROOM_ID
-            JOIN SELLER_PAGE sp ON r.SELLER_ID = sp.MEMBER_ID
-            JOIN BUYER_PAGE bp      ON r.BUYER_ID = bp.MEMBER_ID   -- BUYER_PAGE가 따로 없다면 MEMBER 사용
-            WHERE m.ROOM_ID = :roomId
-            ORDER BY m.CREATED_AT ASC
-        """;
+  /**
+   * 채팅 이력 keyset 페이징 (IX_CHAT_MESSAGE_ROOM_MSG 인덱스 사용)
+   * - before 가 있으면 그보다 오래된 메시지만, MSG_ID 내림차순으로 limit 건 조회
+   * - 읽음 여부는 상대방의 읽음 위치(CHAT_ROOM.*_LAST_READ_MSG_ID)와 비교해 계산한다. (방 PK 조인 1회)
+   */
+  public List<ChatMessageResponse> findPage(long roomId, Long before, int limit) {
+    StringBuffer sql = new StringBuffer();
+    sql.append("SELECT m.MSG_ID, m.ROOM_ID, m.SENDER_ID, m.CONTENT, m.CREATED_AT, m.CLIENT_MSG_ID, ");
+    sql.append("       CASE WHEN m.MSG_ID <= NVL(CASE WHEN m.SENDER_ID = r.SELLER_ID ");
+    sql.append("                                      THEN r.BUYER_LAST_READ_MSG_ID ");
+    sql.append("                                      ELSE r.SELLER_LAST_READ_MSG_ID END, 0) ");
+    sql.append("            THEN 'Y' ELSE 'N' END AS READ_YN ");
+    sql.append("  FROM CHAT_MESSAGE m ");
+    sql.append("  JOIN CHAT_ROOM r ON r.ROOM_ID = m.ROOM_ID ");
+    sql.append(" WHERE m.ROOM_ID = :roomId ");
+    if (before != null) {
+      sql.append("   AND m.MSG_ID < :before ");
+    }
+    sql.append(" ORDER BY m.MSG_ID DESC ");
+    sql.append(" FETCH FIRST :limit ROWS ONLY ");
 
     var p = new MapSqlParameterSource()
-        .addValue("roomId", roomId);
+        .addValue("roomId", roomId)
+        .addValue("before", before)
+        .addValue("limit", limit);
 
-    return jdbc.query(sql, p, RESPONSE_MAPPER);
+    return jdbc.query(sql.toString(), p, HISTORY_MAPPER);
   }
 
-  /** 메시지 들고오기 */
+  /**
+   * 메시지 들고오기
+   * - 읽음 여부는 findPage 와 같이 상대방의 읽음 위치(CHAT_ROOM.*_LAST_READ_MSG_ID)로 계산한다.
+   */
   public ChatMessageResponse findByIdWithMember(Long msgId) {
     String sql = """
           SELECT m.MSG_ID,
@@ -120,11 +175,13 @@ public class ChatMessageDao {
                  m.SENDER_ID,
                  m.CONTENT,
                  m.CREATED_AT,
-                 m.READ_YN,
+                 CASE WHEN m.MSG_ID <= NVL(CASE WHEN m.SENDER_ID = r.SELLER_ID
+                                                THEN r.BUYER_LAST_READ_MSG_ID
+                                                ELSE r.SELLER_LAST_READ_MSG_ID END, 0)
+                      THEN 'Y' ELSE 'N' END AS READ_YN,
+                 m.CLIENT_MSG_ID,
                  mem.NICKNAME  AS buyer_nickname,
-                 mem.pic       AS buyer_image,
-                 sp.NICKNAME   AS seller_nickname,
-                 sp.IMAGE      AS seller_image
+                 sp.NICKNAME   AS seller_nickname
           FROM CHAT_MESSAGE m
           JOIN MEMBER mem       ON m.SENDER_ID = mem.MEMBER_ID
           JOIN CHAT_ROOM r      ON m.ROOM_ID = r.ROOM_ID
@@ -170,32 +227,6 @@ public class ChatMessageDao {
 //    return jdbc.query(sql, p, RESPONSE_MAPPER);
 //  }
 
-
-  /**
-   //   * 읽음 처리
-   //   * @param roomId
-   //   * @param memberId
-   //   */
-  public int markAsRead(Long roomId, Long readerId, Long lastReadMessageId) {
-    String sql = """
-        UPDATE chat_message
-           SET read_yn = 'Y'
-         WHERE room_id = :roomId
-           AND sender_id <> :readerId
-           AND msg_id <= :lastReadMessageId
-           AND read_yn = 'N'
-    """;
-
-    MapSqlParameterSource params = new MapSqlParameterSource()
-        .addValue("roomId", roomId)
-        .addValue("readerId", readerId)
-        .addValue("lastReadMessageId", lastReadMessageId);
-
-    return jdbc.update(sql, params);
-  }
-
-
-
 }
 
 //
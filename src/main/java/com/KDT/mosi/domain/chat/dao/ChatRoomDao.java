@@ -1,12 +1,22 @@
 package com.KDT.mosi.domain.chat.dao;
 
+import com.KDT.mosi.domain.dto.chat.ChatMessageResponse;
 import com.KDT.mosi.domain.dto.chat.ChatPopupDto;
+import com.KDT.mosi.domain.dto.chat.ChatRoomMeta;
+import com.KDT.mosi.domain.dto.chat.ChatRoomSummary;
+import com.KDT.mosi.domain.dto.chat.ReadEvent;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class ChatRoomDao {
@@ -98,21 +108,13 @@ public class ChatRoomDao {
              s.nickname   AS seller_nickname,
              p.title      AS product_title,
              p.sales_price      AS product_price,
-             pi2.image_data AS product_image
+             pc.image_id  AS cover_image_id,
+             pc.version   AS cover_version
       FROM chat_room r
       JOIN BUYER_PAGE b ON r.buyer_id = b.member_id
       JOIN SELLER_PAGE s ON r.seller_id = s.member_id
       JOIN product p ON r.product_id = p.product_id
-      JOIN (
-          SELECT product_id, image_data
-          FROM (
-              SELECT product_id,
-                     image_data,
-                     ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY image_id) AS rn
-              FROM product_image
-          )
-          WHERE rn = 1
-      ) pi2 ON r.product_id = pi2.product_id
+      LEFT JOIN product_cover pc ON r.product_id = pc.product_id
       WHERE r.room_id = :roomId
     """;
 
@@ -127,12 +129,58 @@ public class ChatRoomDao {
           dto.setSellerId(rs.getLong("seller_id"));
           dto.setBuyerNickname(rs.getString("buyer_nickname"));
           dto.setSellerNickname(rs.getString("seller_nickname"));
-          dto.setProductImage(rs.getBytes("product_image")); // BLOB → Byte[]
+          long coverImageId = rs.getLong("cover_image_id");
+          dto.setProductImageUrl(rs.wasNull() ? null
+              : ProductCover.urlOf(coverImageId, rs.getLong("cover_version"), ImageVariantSize.THUMB));
           return dto;
         }
     );
   }
 
+  // 채팅방 메타데이터 조회 (참여자 / 상태 / 닉네임·프로필 URL), 없으면 null
+  // - 프로필 BLOB 은 읽지 않고 존재 여부만 확인해 URL 로 만든다.
+  public ChatRoomMeta findMeta(long roomId) {
+    String sql = """
+      SELECT r.room_id,
+             r.seller_id,
+             r.buyer_id,
+             r.status,
+             sp.page_id AS seller_page_id,
+             sp.nickname AS seller_page_nickname,
+             CASE WHEN DBMS_LOB.GETLENGTH(sp.image) > 0 THEN 1 ELSE 0 END AS seller_has_image,
+             sm.nickname AS seller_nickname,
+             NVL(bp.nickname, bm.nickname) AS buyer_nickname,
+             CASE WHEN DBMS_LOB.GETLENGTH(bp.image) > 0 THEN 1 ELSE 0 END AS buyer_has_image
+        FROM chat_room r
+        JOIN member sm ON r.seller_id = sm.member_id
+        JOIN member bm ON r.buyer_id = bm.member_id
+        LEFT JOIN seller_page sp ON r.seller_id = sp.member_id
+        LEFT JOIN buyer_page bp ON r.buyer_id = bp.member_id
+       WHERE r.room_id = :rid
+    """;
+    var p = new MapSqlParameterSource().addValue("rid", roomId);
+    var list = jdbc.query(sql, p, (rs, rowNum) -> {
+      long buyerId = rs.getLong("buyer_id");
+      long sellerPageId = rs.getLong("seller_page_id");
+      String sellerImageUrl = !rs.wasNull() && rs.getInt("seller_has_image") == 1
+          ? "/mypage/seller/images/profile/" + sellerPageId + "?size=thumb" : null;
+      String buyerImageUrl = rs.getInt("buyer_has_image") == 1
+          ? "/mypage/buyer/" + buyerId + "/image?size=thumb" : null;
+      return new ChatRoomMeta(
+          rs.getLong("room_id"),
+          rs.getLong("seller_id"),
+          buyerId,
+          rs.getString("status"),
+          rs.getString("seller_page_nickname"),
+          sellerImageUrl,
+          rs.getString("seller_nickname"),
+          rs.getString("buyer_nickname"),
+          buyerImageUrl
+      );
+    });
+    return list.isEmpty() ? null : list.get(0);
+  }
+
   // ✅ 특정 roomId가 CLOSED 상태인지 확인
   public boolean isClosed(long roomId) {
     String sql = "SELECT CASE WHEN status = 'CLOSED' THEN 1 ELSE 0 END FROM chat_room WHERE room_id = :rid";
@@ -141,6 +189,14 @@ public class ChatRoomDao {
     return result != null && result == 1;
   }
 
+  // 채팅방 상태 (없는 방이면 null)
+  public String findStatus(long roomId) {
+    String sql = "SELECT status FROM chat_room WHERE room_id = :rid";
+    var p = new MapSqlParameterSource().addValue("rid", roomId);
+    List<String> list = jdbc.queryForList(sql, p, String.class);
+    return list.isEmpty() ? null : list.get(0);
+  }
+
   // 채팅방 상태 변경 (ACTIVE ↔ CLOSED)
   public int updateStatus(long roomId, String status) {
     String sql = """
@@ -154,6 +210,93 @@ public class ChatRoomDao {
     return jdbc.update(sql, p);
   }
 
+  /**
+   * 메시지 저장 시 방 요약 일괄 갱신 (JDBC batch, 마지막 메시지 / 활동 시각 / 상대방 안 읽음 수 +1)
+   * - 늦게 저장된 이전 메시지가 마지막 메시지를 덮어쓰지 않도록 MSG_ID 를 비교한다.
+   * - 저장 전에 브로드캐스트로 이미 읽은 메시지(읽음 위치 이하)는 안 읽음 수에 더하지 않는다.
+   */
+  public int[] applyMessages(List<ChatMessageResponse> messages) {
+    String sql = """
+      UPDATE CHAT_ROOM
+         SET LAST_MESSAGE  = CASE WHEN LAST_MSG_ID IS NULL OR LAST_MSG_ID < :msgId THEN SUBSTR(:content, 1, 200) ELSE LAST_MESSAGE END,
+             LAST_AT       = CASE WHEN LAST_MSG_ID IS NULL OR LAST_MSG_ID < :msgId THEN :createdAt ELSE LAST_AT END,
+             LAST_MSG_ID   = CASE WHEN LAST_MSG_ID IS NULL OR LAST_MSG_ID < :msgId THEN :msgId ELSE LAST_MSG_ID END,
+             SELLER_UNREAD = SELLER_UNREAD + CASE WHEN SELLER_ID = :senderId
+                                                    OR :msgId <= NVL(SELLER_LAST_READ_MSG_ID, 0) THEN 0 ELSE 1 END,
+             BUYER_UNREAD  = BUYER_UNREAD  + CASE WHEN BUYER_ID = :senderId
+                                                    OR :msgId <= NVL(BUYER_LAST_READ_MSG_ID, 0) THEN 0 ELSE 1 END
+       WHERE ROOM_ID = :rid
+    """;
+    SqlParameterSource[] batch = messages.stream()
+        .map(m -> new MapSqlParameterSource()
+            .addValue("rid", m.roomId())
+            .addValue("msgId", m.msgId())
+            .addValue("senderId", m.senderId())
+            .addValue("content", m.content())
+            .addValue("createdAt", Timestamp.valueOf(m.createdAt())))
+        .toArray(SqlParameterSource[]::new);
+    return jdbc.batchUpdate(sql, batch);
+  }
+
+  /**
+   * 읽음 위치(참여자별 마지막으로 읽은 MSG_ID) 일괄 반영 (JDBC batch)
+   * - 읽음 위치가 앞으로 나아가는 경우에만 갱신하고, 그때 읽은 사람의 안 읽음 수를 다시 센다.
+   *   (IX_CHAT_MESSAGE_ROOM_MSG 로 읽음 위치 이후 메시지만 범위 조회)
+   * - 메시지별 READ_YN 은 더 이상 갱신하지 않는다.
+   *
+   * @return 이벤트별 갱신 건수 (0 이면 이미 같은/더 뒤의 위치까지 읽은 상태)
+   */
+  public int[] advanceReadMarks(List<ReadEvent> events) {
+    String sql = """
+      UPDATE CHAT_ROOM r
+         SET SELLER_LAST_READ_MSG_ID = CASE WHEN r.SELLER_ID = :readerId THEN :lastRead ELSE r.SELLER_LAST_READ_MSG_ID END,
+             BUYER_LAST_READ_MSG_ID  = CASE WHEN r.BUYER_ID  = :readerId THEN :lastRead ELSE r.BUYER_LAST_READ_MSG_ID END,
+             SELLER_UNREAD = CASE WHEN r.SELLER_ID = :readerId
+                                  THEN (SELECT COUNT(*) FROM CHAT_MESSAGE m
+                                         WHERE m.ROOM_ID = r.ROOM_ID AND m.MSG_ID > :lastRead AND m.SENDER_ID <> r.SELLER_ID)
+                                  ELSE r.SELLER_UNREAD END,
+             BUYER_UNREAD  = CASE WHEN r.BUYER_ID = :readerId
+                                  THEN (SELECT COUNT(*) FROM CHAT_MESSAGE m
+                                         WHERE m.ROOM_ID = r.ROOM_ID AND m.MSG_ID > :lastRead AND m.SENDER_ID <> r.BUYER_ID)
+                                  ELSE r.BUYER_UNREAD END
+       WHERE r.ROOM_ID = :rid
+         AND (   (r.SELLER_ID = :readerId AND NVL(r.SELLER_LAST_READ_MSG_ID, 0) < :lastRead)
+              OR (r.BUYER_ID  = :readerId AND NVL(r.BUYER_LAST_READ_MSG_ID, 0)  < :lastRead))
+    """;
+    SqlParameterSource[] batch = events.stream()
+        .map(e -> new MapSqlParameterSource()
+            .addValue("rid", e.getRoomId())
+            .addValue("readerId", e.getReaderId())
+            .addValue("lastRead", e.getLastReadMessageId()))
+        .toArray(SqlParameterSource[]::new);
+    return jdbc.batchUpdate(sql, batch);
+  }
+
+  // 방 요약 조회 (PK 조회), 없으면 null
+  public ChatRoomSummary findSummary(long roomId) {
+    String sql = """
+      SELECT ROOM_ID, SELLER_ID, BUYER_ID, LAST_MSG_ID, LAST_MESSAGE, LAST_AT, SELLER_UNREAD, BUYER_UNREAD
+        FROM CHAT_ROOM
+       WHERE ROOM_ID = :rid
+    """;
+    var p = new MapSqlParameterSource().addValue("rid", roomId);
+    var list = jdbc.query(sql, p, (rs, rowNum) -> {
+      long lastMsgId = rs.getLong("LAST_MSG_ID");
+      boolean noMessage = rs.wasNull();
+      return new ChatRoomSummary(
+          rs.getLong("ROOM_ID"),
+          rs.getLong("SELLER_ID"),
+          rs.getLong("BUYER_ID"),
+          noMessage ? null : lastMsgId,
+          rs.getString("LAST_MESSAGE"),
+          rs.getTimestamp("LAST_AT").toLocalDateTime(),
+          rs.getInt("SELLER_UNREAD"),
+          rs.getInt("BUYER_UNREAD")
+      );
+    });
+    return list.isEmpty() ? null : list.get(0);
+  }
+
   // 특정 roomId의 판매자 ID 조회
   public Long findSellerIdByRoomId(long roomId) {
     String sql = "SELECT seller_id FROM chat_room WHERE room_id = :rid";
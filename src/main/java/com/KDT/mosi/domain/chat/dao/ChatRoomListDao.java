@@ -1,6 +1,8 @@
 package com.KDT.mosi.domain.chat.dao;
 
 import com.KDT.mosi.domain.dto.chat.ChatRoomListDto;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -13,6 +15,8 @@ public class ChatRoomListDao {
 
   private final JdbcTemplate jdbcTemplate;
 
+  // 목록은 CHAT_ROOM 의 요약 컬럼(LAST_MESSAGE / LAST_AT / *_UNREAD)만 읽는다. (CHAT_MESSAGE 스캔 없음)
+
   // ---- 판매자 공통 SQL ----
   private static final String BASE_SQL_SELLER = """
       SELECT r.room_id,
@@ -21,96 +25,52 @@ public class ChatRoomListDao {
              r.product_id,
              r.status,
              r.created_at,
+             r.last_msg_id,
+             r.last_message,
+             r.last_at,
+             r.seller_unread AS unread_count,
              b.nickname   AS buyer_nickname,
              p.title      AS product_title,
-             pi2.image_data  AS product_image,
-             m.content    AS last_message,
-             CASE WHEN EXISTS (
-                 SELECT 1
-                   FROM chat_message cm2
-                  WHERE cm2.room_id = r.room_id
-                    AND cm2.sender_id <> ?
-                    AND cm2.read_yn = 'N'
-             ) THEN 1 ELSE 0 END AS has_new
+             pc.image_id  AS cover_image_id,
+             pc.version   AS cover_version
       FROM chat_room r
       JOIN buyer_page b ON r.buyer_id = b.member_id
-      JOIN member s ON r.seller_id = s.member_id
       JOIN product p ON r.product_id = p.product_id
-      JOIN (
-          SELECT product_id, image_data
-          FROM (
-              SELECT product_id,
-                     image_data,
-                     ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY image_id) AS rn
-              FROM product_image
-          )
-          WHERE rn = 1
-      ) pi2 ON r.product_id = pi2.product_id
-      LEFT JOIN (
-          SELECT cm.room_id, cm.content
-          FROM chat_message cm
-          WHERE cm.created_at = (
-              SELECT MAX(created_at)
-              FROM chat_message
-              WHERE room_id = cm.room_id
-          )
-      ) m ON r.room_id = m.room_id
+      LEFT JOIN product_cover pc ON r.product_id = pc.product_id
       WHERE r.seller_id = ?
   """;
 
   // ---- 구매자 공통 SQL ----
   private static final String BASE_SQL_BUYER = """
       SELECT r.room_id,
-                       r.buyer_id,
-                       r.seller_id,
-                       r.product_id,
-                       r.status,
-                       r.created_at,
-                       s.nickname   AS seller_nickname,
-                       p.title      AS product_title,
-                       pi2.image_data  AS product_image,
-                       m.content    AS last_message,
-                       CASE WHEN EXISTS (
-                           SELECT 1
-                             FROM chat_message cm2
-                            WHERE cm2.room_id = r.room_id
-                              AND cm2.sender_id <> ?
-                              AND cm2.read_yn = 'N'
-                       ) THEN 1 ELSE 0 END AS has_new
-                FROM chat_room r
-                JOIN member b ON r.buyer_id = b.member_id
-                JOIN seller_page s ON r.seller_id = s.member_id
-                JOIN product p ON r.product_id = p.product_id
-                JOIN (
-                    SELECT product_id, image_data
-                    FROM (
-                        SELECT product_id,
-                               image_data,
-                               ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY image_id) AS rn
-                        FROM product_image
-                    )
-                    WHERE rn = 1
-                ) pi2 ON r.product_id = pi2.product_id
-                LEFT JOIN (
-                    SELECT cm.room_id, cm.content
-                    FROM chat_message cm
-                    WHERE cm.created_at = (
-                        SELECT MAX(created_at)
-                        FROM chat_message
-                        WHERE room_id = cm.room_id
-                    )
-                ) m ON r.room_id = m.room_id
-                WHERE r.buyer_id = ?
+             r.buyer_id,
+             r.seller_id,
+             r.product_id,
+             r.status,
+             r.created_at,
+             r.last_msg_id,
+             r.last_message,
+             r.last_at,
+             r.buyer_unread AS unread_count,
+             s.nickname   AS seller_nickname,
+             p.title      AS product_title,
+             pc.image_id  AS cover_image_id,
+             pc.version   AS cover_version
+      FROM chat_room r
+      JOIN seller_page s ON r.seller_id = s.member_id
+      JOIN product p ON r.product_id = p.product_id
+      LEFT JOIN product_cover pc ON r.product_id = pc.product_id
+      WHERE r.buyer_id = ?
   """;
 
   // ---- Seller 전용 ----
   public List<ChatRoomListDto> findBySellerId(Long sellerId) {
-    String sql = BASE_SQL_SELLER + " ORDER BY r.created_at DESC";
+    String sql = BASE_SQL_SELLER + " ORDER BY r.last_at DESC";
     return queryList(sql, sellerId);
   }
 
   public List<ChatRoomListDto> findActiveBySellerId(Long sellerId) {
-    String sql = BASE_SQL_SELLER + " AND r.status = 'ACTIVE' ORDER BY r.created_at DESC";
+    String sql = BASE_SQL_SELLER + " AND r.status = 'ACTIVE' ORDER BY r.last_at DESC";
     return queryList(sql, sellerId);
   }
 
@@ -121,12 +81,12 @@ public class ChatRoomListDao {
 
   // ---- Buyer 전용 ----
   public List<ChatRoomListDto> findByBuyerId(Long buyerId) {
-    String sql = BASE_SQL_BUYER + " ORDER BY r.created_at DESC";
+    String sql = BASE_SQL_BUYER + " ORDER BY r.last_at DESC";
     return queryList(sql, buyerId);
   }
 
   public List<ChatRoomListDto> findActiveByBuyerId(Long buyerId) {
-    String sql = BASE_SQL_BUYER + " AND r.status = 'ACTIVE' ORDER BY r.created_at DESC";
+    String sql = BASE_SQL_BUYER + " AND r.status = 'ACTIVE' ORDER BY r.last_at DESC";
     return queryList(sql, buyerId);
   }
 
@@ -149,11 +109,17 @@ public class ChatRoomListDao {
       try { dto.setBuyerNickname(rs.getString("buyer_nickname")); } catch (Exception ignored) {}
       try { dto.setSellerNickname(rs.getString("seller_nickname")); } catch (Exception ignored) {}
       dto.setProductTitle(rs.getString("product_title"));
-      dto.setProductImage(rs.getBytes("product_image"));
+      long coverImageId = rs.getLong("cover_image_id");
+      dto.setProductImageUrl(rs.wasNull() ? null
+          : ProductCover.urlOf(coverImageId, rs.getLong("cover_version"), ImageVariantSize.THUMB));
       dto.setLastMessage(rs.getString("last_message"));
-      dto.setHasNew(rs.getInt("has_new") == 1);
+      long lastMsgId = rs.getLong("last_msg_id");
+      dto.setLastMsgId(rs.wasNull() ? null : lastMsgId);
+      dto.setLastAt(rs.getTimestamp("last_at").toLocalDateTime());
+      dto.setUnreadCount(rs.getInt("unread_count"));
+      dto.setHasNew(dto.getUnreadCount() > 0);
       return dto;
-    }, memberId, memberId);
+    }, memberId);
   }
 }
 
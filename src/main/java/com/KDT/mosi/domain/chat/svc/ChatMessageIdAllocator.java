@@ -0,0 +1,54 @@
+package com.KDT.mosi.domain.chat.svc;
+
+import com.KDT.mosi.domain.chat.dao.ChatMessageDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 채팅 메시지 번호 발급기 (CHAT_MESSAGE_SEQ)
+ * - 시퀀스에서 번호를 블록 단위로 받아 두고 메모리에서 발급한다. (INSERT 전에 번호 확정)
+ * - 한 인스턴스 안에서는 단조 증가하고, 인스턴스끼리도 중복되지 않는다.
+ * - 여러 인스턴스(chat.broker.mode=relay)에서는 블록을 나눠 가지면 나중 메시지가 더 작은 번호를 받을 수 있으므로
+ *   (이력 순서 / 읽음 위치 비교가 MSG_ID 기준) 블록 크기를 1 로 고정해 시퀀스 순서대로 발급한다.
+ *   이때는 나눠 쓸 블록이 없으므로 락 없이 바로 시퀀스를 읽는다. (DB 왕복 동안 다른 전송이 줄 서지 않도록)
+ * - 재시작 시 남은 번호는 버려지므로 번호 사이에 빈 값이 생길 수 있다.
+ */
+@Component
+public class ChatMessageIdAllocator {
+
+  private final ChatMessageDao messageDao;
+  private final int blockSize;
+
+  private final Deque<Long> ids = new ArrayDeque<>();
+
+  public ChatMessageIdAllocator(ChatMessageDao messageDao,
+                                @Value("${chat.write.id-block-size:100}") int blockSize,
+                                @Value("${chat.broker.mode:simple}") String brokerMode) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("chat.write.id-block-size must be positive");
+    }
+    this.messageDao = messageDao;
+    this.blockSize = "relay".equalsIgnoreCase(brokerMode) ? 1 : blockSize;
+  }
+
+  int getBlockSize() {
+    return blockSize;
+  }
+
+  public long next() {
+    if (blockSize == 1) {
+      return messageDao.nextIds(1).get(0);
+    }
+    return nextFromBlock();
+  }
+
+  private synchronized long nextFromBlock() {
+    if (ids.isEmpty()) {
+      ids.addAll(messageDao.nextIds(blockSize));
+    }
+    return ids.removeFirst();
+  }
+}
@@ -0,0 +1,401 @@
+package com.KDT.mosi.domain.chat.svc;
+
+import com.KDT.mosi.domain.chat.dao.ChatMessageDao;
+import com.KDT.mosi.domain.chat.dao.ChatRoomDao;
+import com.KDT.mosi.domain.dto.chat.ChatMessageDto;
+import com.KDT.mosi.domain.dto.chat.ChatMessageResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 write-behind 저장기
+ * - submit : 서버 번호(MSG_ID)를 붙이고 제한된 큐에 넣는다. 호출 측은 바로 브로드캐스트한다.
+ * - 전용 스레드 하나가 큐를 비우며 INSERT 와 방 요약 UPDATE 를 JDBC batch 로 묶어 한 트랜잭션에 반영한다.
+ * - 최근 CLIENT_MSG_ID 는 메모리에서, 그 이전 것은 UK_CHATMSG_CLIENT 로 중복을 걸러낸다.
+ *   (UK 로 걸러진 메시지는 새 번호로 이미 브로드캐스트되었으므로 저장된 실제 번호를 DUPLICATE 이벤트로 알린다)
+ * - DB 장애는 배치 전체를 재시도하고, 데이터 오류는 한 건씩 다시 저장해 잘못된 메시지만 버린다.
+ * - 큐가 가득 차면 offerTimeoutMs 만큼 기다린 뒤 호출 스레드에서 직접 저장한다. (유실 대신 역압)
+ * - 종료 시 큐에 남은 메시지를 모두 저장한 뒤 내려간다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+  private final ChatMessageDao messageDao;
+  private final ChatRoomDao roomDao;
+  private final ChatMessageIdAllocator idAllocator;
+  private final ChatRoomSummaryPublisher summaryPublisher;
+  private final SimpMessagingTemplate messaging;
+  private final TransactionTemplate transactionTemplate;
+
+  private final BlockingQueue<ChatMessageResponse> queue;
+  private final int batchSize;
+  private final long offerTimeoutMs;
+
+  // 최근 CLIENT_MSG_ID → 발급한 메시지 (LRU, 번호 발급 중이면 msgId 가 비어 있는 draft)
+  private final LinkedHashMap<String, ChatMessageResponse> recent;
+
+  // 지표
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private final AtomicLong duplicates = new AtomicLong();
+  private final AtomicLong directWrites = new AtomicLong();
+  private final AtomicLong failedBatches = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile long lastBatchMillis;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public ChatMessageWriter(ChatMessageDao messageDao,
+                           ChatRoomDao roomDao,
+                           ChatMessageIdAllocator idAllocator,
+                           ChatRoomSummaryPublisher summaryPublisher,
+                           SimpMessagingTemplate messaging,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${chat.write.queue-capacity:10000}") int queueCapacity,
+                           @Value("${chat.write.batch-size:200}") int batchSize,
+                           @Value("${chat.write.offer-timeout-ms:50}") long offerTimeoutMs,
+                           @Value("${chat.write.dedupe-entries:10000}") int dedupeEntries) {
+    this.messageDao = messageDao;
+    this.roomDao = roomDao;
+    this.idAllocator = idAllocator;
+    this.summaryPublisher = summaryPublisher;
+    this.messaging = messaging;
+    this.transactionTemplate = transactionTemplate;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.offerTimeoutMs = offerTimeoutMs;
+    this.recent = new LinkedHashMap<>(256, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ChatMessageResponse> eldest) {
+        return size() > dedupeEntries;
+      }
+    };
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    worker = new Thread(this::drainLoop, "chat-writer");
+    worker.start();
+  }
+
+  /**
+   * 메시지 접수
+   * - 중복 확인 목록의 락은 CLIENT_MSG_ID 자리를 잡는 동안만 잡고, 번호 발급(relay 에서는 DB 왕복)은 락 밖에서 한다.
+   *
+   * @param draft msgId 가 비어 있는 메시지
+   * @return 번호가 붙은 메시지 (같은 CLIENT_MSG_ID 가 최근에 접수됐으면 그때 발급한 메시지)
+   */
+  public ChatMessageResponse submit(ChatMessageResponse draft) {
+    ChatMessageResponse existing = claim(draft);
+    if (existing != null) {
+      duplicates.incrementAndGet();
+      return existing;
+    }
+
+    ChatMessageResponse message;
+    try {
+      message = draft.withMsgId(idAllocator.next());
+    } catch (RuntimeException e) {
+      release(draft, null);
+      throw e;
+    }
+    release(draft, message);
+    submitted.incrementAndGet();
+
+    boolean queued;
+    try {
+      queued = running && queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      queued = false;
+    }
+    if (!queued) {
+      // 큐가 가득 찼거나 종료 중 → 호출 스레드에서 직접 저장
+      directWrites.incrementAndGet();
+      try {
+        List<ChatMessageResponse> corrected = write(List.of(message));
+        if (!corrected.isEmpty()) {
+          // 이미 저장된 메시지의 재전송 → 아직 브로드캐스트 전이므로 실제 번호로 돌려준다
+          return corrected.get(0);
+        }
+      } catch (RuntimeException e) {
+        // 저장되지 않았으므로 같은 CLIENT_MSG_ID 재전송이 다시 저장되도록 한다
+        forget(message);
+        throw e;
+      }
+    }
+    return message;
+  }
+
+  /**
+   * CLIENT_MSG_ID 자리 잡기
+   * - 같은 CLIENT_MSG_ID 를 다른 스레드가 번호 발급 중이면 끝날 때까지 기다린다.
+   *
+   * @return 이미 번호가 붙은 메시지 (없으면 null, 이때 draft 가 자리를 잡은 상태)
+   */
+  private ChatMessageResponse claim(ChatMessageResponse draft) {
+    synchronized (recent) {
+      while (true) {
+        ChatMessageResponse existing = recent.get(draft.clientMsgId());
+        if (existing == null) {
+          recent.put(draft.clientMsgId(), draft);
+          return null;
+        }
+        if (existing.msgId() != null) {
+          return existing;
+        }
+        try {
+          recent.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("채팅 메시지 접수 대기 중 인터럽트", e);
+        }
+      }
+    }
+  }
+
+  // 잡아 둔 자리를 번호가 붙은 메시지로 바꾸거나(message), 발급 실패 시 비운다(null)
+  private void release(ChatMessageResponse draft, ChatMessageResponse message) {
+    synchronized (recent) {
+      if (message != null) {
+        recent.put(draft.clientMsgId(), message);
+      } else {
+        recent.remove(draft.clientMsgId(), draft);
+      }
+      recent.notifyAll();
+    }
+  }
+
+  private void drainLoop() {
+    List<ChatMessageResponse> batch = new ArrayList<>(batchSize);
+    // 종료 요청 후에도 큐가 빌 때까지 계속 저장
+    while (running || !queue.isEmpty()) {
+      try {
+        ChatMessageResponse first = queue.poll(200, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.clear();
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        writeWithRetry(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  // DB 장애 시 같은 배치를 간격을 늘려 가며 재시도 (유실하지 않음)
+  // - 데이터 오류(길이 초과, NULL, FK 등)는 재시도해도 같으므로 한 건씩 다시 저장해 잘못된 행만 버린다.
+  private void writeWithRetry(List<ChatMessageResponse> batch) throws InterruptedException {
+    List<ChatMessageResponse> pending = batch;
+    long backoff = 200;
+    while (true) {
+      try {
+        announceDuplicates(write(pending));
+        return;
+      } catch (RuntimeException e) {
+        failedBatches.incrementAndGet();
+        if (!isTransient(e)) {
+          pending = writeEach(pending);
+          if (pending.isEmpty()) {
+            return;
+          }
+        }
+        log.warn("채팅 메시지 저장 실패, {}ms 후 재시도합니다. ({}건, 대기 {}건)", backoff, pending.size(), queue.size(), e);
+        Thread.sleep(backoff);
+        backoff = Math.min(backoff * 2, 5000);
+      }
+    }
+  }
+
+  // 한 건씩 저장, 데이터 오류인 행은 로그를 남기고 버린다. @return 일시적 오류로 다시 시도할 행
+  private List<ChatMessageResponse> writeEach(List<ChatMessageResponse> batch) {
+    List<ChatMessageResponse> retry = new ArrayList<>();
+    for (ChatMessageResponse message : batch) {
+      try {
+        announceDuplicates(write(List.of(message)));
+      } catch (RuntimeException e) {
+        if (isTransient(e)) {
+          retry.add(message);
+          continue;
+        }
+        dropped.incrementAndGet();
+        forget(message);
+        log.error("저장할 수 없는 채팅 메시지를 버립니다. msgId={}, roomId={}, senderId={}, clientMsgId={}",
+            message.msgId(), message.roomId(), message.senderId(), message.clientMsgId(), e);
+      }
+    }
+    return retry;
+  }
+
+  // 연결 / 잠금 / 타임아웃처럼 다시 시도하면 성공할 수 있는 오류
+  static boolean isTransient(Throwable e) {
+    return e instanceof TransientDataAccessException
+        || e instanceof RecoverableDataAccessException
+        || e instanceof DataAccessResourceFailureException
+        || e instanceof CannotCreateTransactionException;
+  }
+
+  // 저장하지 못한 메시지는 같은 CLIENT_MSG_ID 재전송을 다시 받을 수 있도록 중복 확인 목록에서 뺀다
+  private void forget(ChatMessageResponse message) {
+    synchronized (recent) {
+      recent.remove(message.clientMsgId(), message);
+    }
+  }
+
+  // INSERT + 방 요약 UPDATE (한 트랜잭션), 반영 후 목록 갱신 push
+  // @return UK_CHATMSG_CLIENT 로 건너뛴 메시지 중 다른 번호로 이미 저장돼 있던 것 (실제 번호로 바꾼 메시지)
+  private List<ChatMessageResponse> write(List<ChatMessageResponse> batch) {
+    long started = System.currentTimeMillis();
+    List<ChatMessageResponse> skipped = new ArrayList<>();
+    List<ChatMessageResponse> inserted = transactionTemplate.execute(status -> {
+      int[] counts = messageDao.insertBatch(batch);
+      List<ChatMessageResponse> saved = new ArrayList<>(batch.size());
+      skipped.clear();
+      for (int i = 0; i < batch.size(); i++) {
+        if (counts[i] != 0) {
+          saved.add(batch.get(i));
+        } else {
+          skipped.add(batch.get(i));
+        }
+      }
+      if (!saved.isEmpty()) {
+        roomDao.applyMessages(saved);
+      }
+      return saved;
+    });
+    lastBatchMillis = System.currentTimeMillis() - started;
+    written.addAndGet(inserted.size());
+    duplicates.addAndGet(batch.size() - inserted.size());
+
+    Set<Long> rooms = new LinkedHashSet<>();
+    inserted.forEach(m -> rooms.add(m.roomId()));
+    rooms.forEach(summaryPublisher::publish);
+    return resolveDuplicates(skipped);
+  }
+
+  // 건너뛴 메시지의 저장된 번호를 찾아 중복 확인 목록을 실제 번호로 바꾼다
+  // - 최근 목록에서 밀려난 뒤의 재전송, 다른 인스턴스로 간 재전송은 여기서만 걸러진다.
+  private List<ChatMessageResponse> resolveDuplicates(List<ChatMessageResponse> skipped) {
+    if (skipped.isEmpty()) {
+      return List.of();
+    }
+    Map<String, Long> stored;
+    try {
+      stored = messageDao.findIdsByClientMsgIds(skipped.stream().map(ChatMessageResponse::clientMsgId).toList());
+    } catch (RuntimeException e) {
+      // 저장은 끝났으므로 재시도하지 않는다 (클라이언트는 다음 이력 조회에서 실제 번호를 받는다)
+      log.warn("중복 메시지의 저장 번호 조회 실패 ({}건)", skipped.size(), e);
+      return List.of();
+    }
+
+    List<ChatMessageResponse> corrected = new ArrayList<>();
+    for (ChatMessageResponse message : skipped) {
+      Long storedId = stored.get(message.clientMsgId());
+      if (storedId == null || storedId.equals(message.msgId())) {
+        continue;
+      }
+      ChatMessageResponse real = message.withMsgId(storedId);
+      synchronized (recent) {
+        recent.replace(message.clientMsgId(), message, real);
+      }
+      corrected.add(real);
+    }
+    return corrected;
+  }
+
+  // 새 번호로 브로드캐스트된 중복 메시지 → 방에 실제 번호를 알려 말풍선을 하나로 합치게 한다
+  private void announceDuplicates(List<ChatMessageResponse> corrected) {
+    for (ChatMessageResponse real : corrected) {
+      messaging.convertAndSend("/topic/chat/rooms/" + real.roomId(), ChatMessageDto.builder()
+          .msgId(real.msgId())
+          .roomId(real.roomId())
+          .senderId(real.senderId())
+          .type("DUPLICATE")
+          .clientMsgId(real.clientMsgId())
+          .build());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    if (worker != null) {
+      worker.join(10_000);
+    }
+    // 스레드가 제때 끝나지 못했으면 남은 메시지를 직접 저장
+    List<ChatMessageResponse> rest = new ArrayList<>();
+    queue.drainTo(rest);
+    if (!rest.isEmpty()) {
+      log.info("종료 전 남은 채팅 메시지 저장: {}건", rest.size());
+      announceDuplicates(write(rest));
+    }
+  }
+
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  public int getQueueRemainingCapacity() {
+    return queue.remainingCapacity();
+  }
+
+  public long getSubmitted() {
+    return submitted.get();
+  }
+
+  public long getWritten() {
+    return written.get();
+  }
+
+  public long getDuplicates() {
+    return duplicates.get();
+  }
+
+  public long getDirectWrites() {
+    return directWrites.get();
+  }
+
+  public long getFailedBatches() {
+    return failedBatches.get();
+  }
+
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  @Scheduled(fixedDelayString = "${chat.write.report-ms:300000}")
+  public void report() {
+    if (submitted.get() > 0) {
+      log.info("채팅 저장 현황: queue={}/{}, submitted={}, written={}, duplicates={}, directWrites={}, failedBatches={}, dropped={}, lastBatchMs={}",
+          getQueueSize(), getQueueSize() + getQueueRemainingCapacity(), getSubmitted(), getWritten(),
+          getDuplicates(), getDirectWrites(), getFailedBatches(), getDropped(), lastBatchMillis);
+    }
+  }
+}
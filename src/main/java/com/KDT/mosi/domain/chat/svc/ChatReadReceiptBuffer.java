@@ -0,0 +1,52 @@
+package com.KDT.mosi.domain.chat.svc;
+
+import com.KDT.mosi.domain.dto.chat.ReadEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 이벤트 합치기 버퍼 ((방, 읽은 사람) → 마지막으로 읽은 MSG_ID 최댓값)
+ * - offer 는 메모리 값만 올린다. (WebSocket 수신 경로, DB 작업 없음)
+ * - drain 은 쌓인 값을 꺼내 간다. (주기적 flush 경로, JDBC batch 1회)
+ * - 같은 방/사람의 이벤트가 한 주기에 여러 번 와도 최댓값 하나로 합쳐진다.
+ */
+@Component
+public class ChatReadReceiptBuffer {
+
+  public record ReadKey(long roomId, long readerId) {}
+
+  private final ConcurrentHashMap<ReadKey, Long> pending = new ConcurrentHashMap<>();
+
+  public void offer(long roomId, long readerId, long lastReadMessageId) {
+    pending.merge(new ReadKey(roomId, readerId), lastReadMessageId, Math::max);
+  }
+
+  /**
+   * 쌓인 읽음 위치를 꺼내고 비운다
+   * - 키 단위로 remove 하므로 drain 도중 들어온 이벤트는 다음 drain 에 포함된다.
+   */
+  public List<ReadEvent> drain() {
+    List<ReadEvent> drained = new ArrayList<>();
+    for (ReadKey key : pending.keySet()) {
+      Long lastRead = pending.remove(key);
+      if (lastRead != null) {
+        drained.add(new ReadEvent(key.roomId(), key.readerId(), lastRead));
+      }
+    }
+    return drained;
+  }
+
+  /**
+   * 반영 실패한 읽음 위치를 되돌려 다음 flush 에 다시 포함 (더 큰 값이 들어와 있으면 그 값 유지)
+   */
+  public void restore(ReadEvent event) {
+    offer(event.getRoomId(), event.getReaderId(), event.getLastReadMessageId());
+  }
+
+  public int size() {
+    return pending.size();
+  }
+}
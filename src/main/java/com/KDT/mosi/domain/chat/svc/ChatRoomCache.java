@@ -0,0 +1,96 @@
+package com.KDT.mosi.domain.chat.svc;
+
+import com.KDT.mosi.domain.chat.dao.ChatRoomDao;
+import com.KDT.mosi.domain.dto.chat.ChatRoomMeta;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 활성 채팅방 메타데이터 캐시 (LRU + TTL)
+ * - 메시지 전송마다 방 상태 / 참여자 / 닉네임을 다시 조회하지 않기 위함
+ * - 상태 변경은 ChatRoomService 가 DB 반영 후 updateStatus 로 알려준다.
+ * - 여러 인스턴스(chat.broker.mode=relay)에서는 다른 인스턴스의 상태 변경을 알 수 없으므로
+ *   상태만은 캐시하지 않고 매번 DB 에서 읽는다. (닫힌 방에 다른 인스턴스로 메시지가 들어오지 않도록)
+ * - 닉네임·프로필 변경은 ttl 이 지나 다시 읽을 때 반영된다.
+ */
+@Component
+public class ChatRoomCache {
+
+  private final ChatRoomDao chatRoomDao;
+  private final int maxEntries;
+  private final long ttlMillis;
+  private final boolean readStatusEachTime;
+
+  private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+  public ChatRoomCache(ChatRoomDao chatRoomDao,
+                       @Value("${chat.room.cache.max-entries:256}") int maxEntries,
+                       @Value("${chat.room.cache.ttl-ms:600000}") long ttlMillis,
+                       @Value("${chat.broker.mode:simple}") String brokerMode) {
+    this.chatRoomDao = chatRoomDao;
+    this.maxEntries = maxEntries;
+    this.ttlMillis = ttlMillis;
+    this.readStatusEachTime = "relay".equalsIgnoreCase(brokerMode);
+  }
+
+  /**
+   * 방 메타데이터 (없거나 만료되었으면 DB 에서 읽어 채움)
+   *
+   * @return 존재하지 않는 방이면 null
+   */
+  public ChatRoomMeta get(long roomId) {
+    long now = System.currentTimeMillis();
+    ChatRoomMeta cached = null;
+    synchronized (this) {
+      Entry entry = entries.get(roomId);
+      if (entry != null && now - entry.loadedAt < ttlMillis) {
+        cached = entry.meta;
+      }
+    }
+    if (cached != null) {
+      return readStatusEachTime ? withCurrentStatus(cached) : cached;
+    }
+
+    // DB 조회는 락 밖에서 (동시에 읽어도 결과가 같으므로 마지막 것을 남긴다)
+    ChatRoomMeta meta = chatRoomDao.findMeta(roomId);
+    if (meta != null) {
+      put(meta, now);
+    }
+    return meta;
+  }
+
+  // 상태만 DB 에서 다시 읽어 붙임 (방이 지워졌으면 캐시에서도 제거)
+  private ChatRoomMeta withCurrentStatus(ChatRoomMeta cached) {
+    String status = chatRoomDao.findStatus(cached.roomId());
+    if (status == null) {
+      evict(cached.roomId());
+      return null;
+    }
+    return status.equals(cached.status()) ? cached : cached.withStatus(status);
+  }
+
+  // 캐시된 방의 상태만 교체
+  public synchronized void updateStatus(long roomId, String status) {
+    Entry entry = entries.get(roomId);
+    if (entry != null) {
+      entries.put(roomId, new Entry(entry.meta.withStatus(status), entry.loadedAt));
+    }
+  }
+
+  public synchronized void evict(long roomId) {
+    entries.remove(roomId);
+  }
+
+  private synchronized void put(ChatRoomMeta meta, long loadedAt) {
+    entries.put(meta.roomId(), new Entry(meta, loadedAt));
+    if (entries.size() > maxEntries) {
+      Long eldest = entries.keySet().iterator().next();
+      entries.remove(eldest);
+    }
+  }
+
+  private record Entry(ChatRoomMeta meta, long loadedAt) {}
+}
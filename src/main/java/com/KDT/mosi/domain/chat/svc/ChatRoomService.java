@@ -10,6 +10,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -20,8 +21,11 @@ public class ChatRoomService {
   private final ChatRoomDao chatRoomDao;
   private final ChatRoomListDao listDao;
   private final ChatMessageDao messageDao;
+  private final ChatRoomCache chatRoomCache;
   private final SimpMessagingTemplate messagingTemplate; // 🚀 WebSocket push용
 
+  private static final int MAX_HISTORY_LIMIT = 100;
+
 
   // ============================ 판매자 ============================
   /**
@@ -40,6 +44,7 @@ public class ChatRoomService {
       Long closed = chatRoomDao.findClosedRoomId(productId, buyerId, sellerId);
       if (closed != null) {
         chatRoomDao.updateStatus(closed, "ACTIVE");
+        chatRoomCache.updateStatus(closed, "ACTIVE");
         roomId = closed;
         log.info("✅ ensure(): CLOSED 방 재활성화 roomId={}", roomId);
       } else {
@@ -63,11 +68,29 @@ public class ChatRoomService {
   }
 
   /**
-   * 특정 방의 최근 메시지 목록 조회
+   * 채팅 이력 한 페이지 조회 (keyset 페이징)
+   * - before 가 없으면 최신 페이지 + 참여자 정보, 있으면 그보다 오래된 메시지만
+   * - limit + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+   * - 닉네임은 메시지마다 JOIN 하지 않고 캐시된 방 메타데이터로 채운다.
    */
   @Transactional(readOnly = true)
-  public List<ChatMessageResponse> findRecent(Long roomId) {
-    return messageDao.findAllByRoomWithMember(roomId);
+  public ChatHistoryPage findHistory(long roomId, Long before, int limit) {
+    int size = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+    ChatRoomMeta room = chatRoomCache.get(roomId);
+    if (room == null) {
+      return new ChatHistoryPage(List.of(), false, null);
+    }
+
+    List<ChatMessageResponse> rows = messageDao.findPage(roomId, before, size + 1);
+    boolean hasMore = rows.size() > size;
+    List<ChatMessageResponse> messages = new ArrayList<>(Math.min(rows.size(), size));
+    for (int i = Math.min(rows.size(), size) - 1; i >= 0; i--) {
+      ChatMessageResponse m = rows.get(i);
+      String senderNickname = room.isSeller(m.senderId()) ? room.sellerNickname() : room.buyerNickname();
+      messages.add(new ChatMessageResponse(m.msgId(), m.roomId(), m.senderId(), m.content(),
+          m.createdAt(), m.read(), room.sellerPageNickname(), senderNickname, m.clientMsgId()));
+    }
+    return new ChatHistoryPage(messages, hasMore, before == null ? room.participants() : null);
   }
 
   /**
@@ -102,6 +125,14 @@ public class ChatRoomService {
     return chatRoomDao.findPopupInfo(roomId);
   }
 
+  /**
+   * 방 메타데이터 (참여자 / 상태 / 닉네임, 캐시)
+   * @return 존재하지 않는 방이면 null
+   */
+  public ChatRoomMeta getRoomMeta(Long roomId) {
+    return chatRoomCache.get(roomId);
+  }
+
   /**
    * ✅ 특정 방이 CLOSED 상태인지 확인
    */
@@ -116,6 +147,7 @@ public class ChatRoomService {
   @Transactional
   public void reopenRoom(Long roomId) {
     int updated = chatRoomDao.updateStatus(roomId, "ACTIVE");
+    chatRoomCache.updateStatus(roomId, "ACTIVE");
     log.info("♻️ roomId={} CLOSED→ACTIVE 재활성화 ({}건 갱신)", roomId, updated);
   }
 
@@ -126,14 +158,15 @@ public class ChatRoomService {
   @Transactional
   public void closeRoom(long roomId) {
     chatRoomDao.updateStatus(roomId, "CLOSED");
+    chatRoomCache.updateStatus(roomId, "CLOSED");
   }
 
   /**
    * 주어진 senderId가 해당 roomId의 판매자인지 여부 확인
    */
   public boolean isSeller(Long roomId, Long senderId) {
-    Long sellerId = chatRoomDao.findSellerIdByRoomId(roomId);
-    return sellerId != null && sellerId.equals(senderId);
+    ChatRoomMeta room = chatRoomCache.get(roomId);
+    return room != null && room.isSeller(senderId);
   }
 
   // ============================ 구매자 ============================
@@ -0,0 +1,29 @@
+package com.KDT.mosi.domain.chat.svc;
+
+import com.KDT.mosi.domain.chat.dao.ChatRoomDao;
+import com.KDT.mosi.domain.dto.chat.ChatRoomSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 목록 갱신 push
+ * - 방 요약을 판매자/구매자 목록 채널로 보낸다. (받는 사람 기준 안 읽음 수)
+ * - 메시지/읽음 위치가 DB 에 반영된 뒤에 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryPublisher {
+
+  private final ChatRoomDao roomDao;
+  private final SimpMessagingTemplate messaging;
+
+  public void publish(Long roomId) {
+    ChatRoomSummary summary = roomDao.findSummary(roomId);
+    if (summary == null) {
+      return;
+    }
+    messaging.convertAndSend("/topic/chat/rooms/" + summary.sellerId(), summary.forSeller());
+    messaging.convertAndSend("/topic/chat/rooms/buyer/" + summary.buyerId(), summary.forBuyer());
+  }
+}
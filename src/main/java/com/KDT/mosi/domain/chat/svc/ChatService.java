@@ -2,37 +2,90 @@ package com.KDT.mosi.domain.chat.svc;
 
 
 import com.KDT.mosi.domain.chat.dao.ChatMessageDao;
+import com.KDT.mosi.domain.chat.dao.ChatRoomDao;
 import com.KDT.mosi.domain.dto.chat.ChatMessageResponse;
+import com.KDT.mosi.domain.dto.chat.ChatRoomMeta;
+import com.KDT.mosi.domain.dto.chat.ReadEvent;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
+  // CHAT_MESSAGE.CLIENT_MSG_ID 길이
+  private static final int CLIENT_MSG_ID_LENGTH = 64;
+  // CHAT_MESSAGE.CONTENT 길이 (VARCHAR2(2000), 바이트 기준)
+  private static final int CONTENT_MAX_BYTES = 2000;
+
   private final ChatMessageDao messageDao;
-  // (선택) private final ChatRoomDao roomDao;  // last_msg_id 업데이트 등에 사용
-
-  /** 메시지 저장 → (선택) 채팅방 최근 메시지 업데이트 */
-  @Transactional
-  public long saveMessage(long roomId, long senderId, String content, String clientMsgId){
-    long msgId = messageDao.insert(roomId, senderId, content, clientMsgId);
-    // roomDao.updateLastMsgId(roomId, msgId); // 필요 시 활성화
-    return msgId;
-  }
+  private final ChatRoomDao roomDao;  // 읽음 위치 / 안 읽음 수 갱신
+  private final ChatMessageWriter messageWriter;
+  private final ChatReadReceiptBuffer readReceiptBuffer;
+  private final ChatRoomSummaryPublisher summaryPublisher;
+  private final SimpMessagingTemplate messaging;
 
+  /**
+   * 메시지 접수 → 서버 번호를 붙여 바로 돌려주고, 저장은 ChatMessageWriter 가 뒤에서 일괄 처리
+   * - 응답 필드는 findByIdWithMember 와 동일하다.
+   *   (seller_nickname : 방 판매자의 SELLER_PAGE, buyer_nickname : 보낸 사람)
+   * - 프로필 이미지는 싣지 않는다. (이력 첫 페이지의 participants 로 한 번만 전달)
+   * - 같은 clientMsgId 로 다시 보내면 처음 발급한 메시지를 그대로 돌려준다.
+   *
+   * - 저장할 수 없는 메시지(빈 내용, 길이 초과, 방 참여자가 아닌 보낸 사람)는 브로드캐스트 전에 거부한다.
+   *
+   * @param clientMsgId 클라이언트가 만든 메시지 ID (없으면 서버에서 만든다)
+   * @throws IllegalArgumentException 저장할 수 없는 메시지
+   */
+  public ChatMessageResponse send(ChatRoomMeta room, Long senderId, String content, String clientMsgId) {
+    validate(room, senderId, content);
+    if (clientMsgId == null || clientMsgId.isBlank() || clientMsgId.length() > CLIENT_MSG_ID_LENGTH) {
+      clientMsgId = "srv-" + UUID.randomUUID();
+    }
 
-  /** 특정 채팅방의 전체 메시지 (닉네임, 프로필 포함) */
-  @Transactional(readOnly = true)
-  public List<ChatMessageResponse> getMessagesWithMember(Long roomId) {
-    return messageDao.findAllByRoomWithMember(roomId);
+    boolean fromSeller = room.isSeller(senderId);
+    ChatMessageResponse draft = new ChatMessageResponse(
+        null,
+        room.roomId(),
+        senderId,
+        content,
+        LocalDateTime.now(),
+        false,
+        room.sellerPageNickname(),
+        fromSeller ? room.sellerNickname() : room.buyerNickname(),
+        clientMsgId
+    );
+    return messageWriter.submit(draft);
   }
 
+  // CHAT_MESSAGE 제약 (CONTENT NOT NULL / 길이, FK_CHATMSG_SENDER) 을 미리 확인
+  private void validate(ChatRoomMeta room, Long senderId, String content) {
+    if (senderId == null || !(senderId.equals(room.sellerId()) || senderId.equals(room.buyerId()))) {
+      throw new IllegalArgumentException("채팅방 참여자가 아닙니다. roomId=" + room.roomId() + ", senderId=" + senderId);
+    }
+    // Oracle 은 빈 문자열을 NULL 로 저장한다.
+    if (content == null || content.isBlank()) {
+      throw new IllegalArgumentException("메시지 내용이 비어 있습니다.");
+    }
+    if (content.getBytes(StandardCharsets.UTF_8).length > CONTENT_MAX_BYTES) {
+      throw new IllegalArgumentException("메시지가 너무 깁니다. (최대 " + CONTENT_MAX_BYTES + " bytes)");
+    }
+  }
+
+
   /** 특정 채팅방의 메시지 1개) */
   @Transactional(readOnly = true)
   public ChatMessageResponse findMessageWithMember(Long msgId){
@@ -40,12 +93,79 @@ public class ChatService {
   }
 
 
-  /** 읽음 처리 */
-  @Transactional
-  public int markAsRead(Long roomId, Long readerId, Long lastReadMessageId) {
-    return messageDao.markAsRead(roomId, readerId, lastReadMessageId);
+  /**
+   * 읽음 이벤트 접수 (메모리에 합쳐 두고 flushReadReceipts 에서 일괄 반영)
+   * - 스크롤/포커스마다 오는 이벤트가 UPDATE 로 바로 이어지지 않는다.
+   */
+  public void markAsRead(Long roomId, Long readerId, Long lastReadMessageId) {
+    if (roomId == null || readerId == null || lastReadMessageId == null) {
+      return;
+    }
+    readReceiptBuffer.offer(roomId, readerId, lastReadMessageId);
   }
 
+  /**
+   * 합쳐 둔 읽음 위치를 JDBC batch 로 반영하고, 실제로 앞으로 나아간 것만 방에 알린다.
+   * - 같은 (방, 읽은 사람) 은 주기당 최대 1회 브로드캐스트
+   * - 안 읽음 수가 바뀐 방은 목록 채널로 요약도 전송
+   */
+  @Scheduled(fixedDelayString = "${chat.read.flush-ms:1000}")
+  public void flushReadReceipts() {
+    List<ReadEvent> drained = readReceiptBuffer.drain();
+    if (drained.isEmpty()) {
+      return;
+    }
 
+    int[] updated;
+    try {
+      updated = roomDao.advanceReadMarks(drained);
+    } catch (RuntimeException e) {
+      if (ChatMessageWriter.isTransient(e)) {
+        drained.forEach(readReceiptBuffer::restore);
+        log.warn("읽음 위치 반영 실패, 다음 주기에 재시도합니다. ({}건)", drained.size(), e);
+        return;
+      }
+      log.warn("읽음 위치 일괄 반영 실패, 한 건씩 반영합니다. ({}건)", drained.size(), e);
+      updated = advanceEach(drained);
+    }
+
+    Set<Long> changedRooms = new LinkedHashSet<>();
+    for (int i = 0; i < drained.size(); i++) {
+      // 0 : 이미 같은/더 뒤의 위치까지 읽음 → 알릴 필요 없음 (음수는 드라이버가 건수를 주지 않은 경우)
+      if (updated[i] == 0) {
+        continue;
+      }
+      ReadEvent event = drained.get(i);
+      messaging.convertAndSend("/topic/chat/rooms/" + event.getRoomId() + "/read", event);
+      changedRooms.add(event.getRoomId());
+    }
+    changedRooms.forEach(summaryPublisher::publish);
+    log.debug("읽음 위치 반영: 수신 {}건, 변경 {}방", drained.size(), changedRooms.size());
+  }
+
+  // 한 건씩 반영, 일시적 오류는 다음 주기로 되돌리고 데이터 오류인 이벤트는 로그를 남기고 버린다. @return 이벤트별 갱신 건수
+  private int[] advanceEach(List<ReadEvent> events) {
+    int[] updated = new int[events.size()];
+    for (int i = 0; i < events.size(); i++) {
+      ReadEvent event = events.get(i);
+      try {
+        updated[i] = roomDao.advanceReadMarks(List.of(event))[0];
+      } catch (RuntimeException e) {
+        if (ChatMessageWriter.isTransient(e)) {
+          readReceiptBuffer.restore(event);
+        } else {
+          log.error("반영할 수 없는 읽음 이벤트를 버립니다. roomId={}, readerId={}, lastReadMsgId={}",
+              event.getRoomId(), event.getReaderId(), event.getLastReadMessageId(), e);
+        }
+      }
+    }
+    return updated;
+  }
+
+  // 종료 시 남은 읽음 위치 반영
+  @PreDestroy
+  public void shutdown() {
+    flushReadReceipts();
+  }
 
 }
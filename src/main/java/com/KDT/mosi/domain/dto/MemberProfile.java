@@ -0,0 +1,31 @@
+package com.KDT.mosi.domain.dto;
+
+/**
+ * 화면 공통(사이드바/헤더)에 쓰는 회원 프로필 요약
+ * - 이미지 바이트 대신 이미지 URL 만 가진다.
+ *
+ * @param memberId     회원 ID
+ * @param sellerPageId 판매자 페이지 ID (판매자 페이지가 없으면 null)
+ * @param nickname     판매자 닉네임 (판매자 페이지가 없으면 null)
+ * @param hasImage     판매자 프로필 이미지 존재 여부
+ */
+public record MemberProfile(Long memberId, Long sellerPageId, String nickname, boolean hasImage) {
+
+  public static MemberProfile empty(Long memberId) {
+    return new MemberProfile(memberId, null, null, false);
+  }
+
+  public boolean hasSellerPage() {
+    return sellerPageId != null;
+  }
+
+  // 판매자 프로필 썸네일 URL, 이미지가 없으면 null
+  public String getImageUrl() {
+    return hasImage ? "/mypage/seller/images/profile/" + sellerPageId + "?size=thumb" : null;
+  }
+
+  // 템플릿 호환 (${sellerPage.nickname})
+  public String getNickname() {
+    return nickname;
+  }
+}
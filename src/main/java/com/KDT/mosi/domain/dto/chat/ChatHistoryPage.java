@@ -0,0 +1,18 @@
+package com.KDT.mosi.domain.dto.chat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 채팅 이력 한 페이지 (keyset 페이징)
+ * - messages 는 오래된 순(MSG_ID 오름차순)
+ * - 다음 요청은 before = messages 의 첫 msgId 로 보낸다.
+ * - participants 는 첫 페이지(before 없음)에만 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatHistoryPage(
+    List<ChatMessageResponse> messages,
+    boolean hasMore,
+    ChatParticipants participants
+) {}
@@ -22,7 +22,10 @@ public class ChatMessageDto {
   private boolean read;
 
   // 새로 추가
-  private String type; // TEXT, IMAGE, END_REQUEST, END_CONFIRM, END_CANCEL
+  private String type; // TEXT, IMAGE, END_REQUEST, END_CONFIRM, END_CANCEL, REJECTED(서버 → 보낸 사람), DUPLICATE(서버 → 방, 이미 저장된 메시지의 실제 msgId)
+
+  // 클라이언트가 만든 메시지 ID (재연결/재전송 시 같은 값으로 보내면 한 번만 저장)
+  private String clientMsgId;
 }
 
 
@@ -1,12 +1,14 @@
-//채팅방 팝업 시 상대방 닉네임, 프로필 사진 가져오는 용도
-
 package com.KDT.mosi.domain.dto.chat;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
 
+/**
+ * 채팅 메시지 응답
+ * - 프로필 이미지는 메시지마다 싣지 않는다. (방 단위 ChatParticipants 로 전달)
+ * - msgId 는 저장 전에 서버가 발급하므로 브로드캐스트 시점에 이미 확정되어 있다.
+ */
 public record ChatMessageResponse(
     Long msgId,
     Long roomId,
@@ -15,10 +17,14 @@ public record ChatMessageResponse(
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     LocalDateTime createdAt,
     boolean read,
-    String seller_nickname,     // member 테이블 조인
-    String buyer_nickname,     // member 테이블 조인
-    @JsonProperty("seller_profileImage")
-    byte[] seller_profileImage,  // member 테이블 조인
-    @JsonProperty("buyer_profileImage")
-    byte[] buyer_profileImage  // member 테이블 조인
-) {}
+    String seller_nickname,     // SELLER_PAGE.NICKNAME
+    String buyer_nickname,      // 보낸 사람 닉네임
+    String clientMsgId          // 클라이언트가 만든 메시지 ID (재전송 중복 제거용)
+) {
+
+  // 서버 번호를 붙인 사본
+  public ChatMessageResponse withMsgId(Long msgId) {
+    return new ChatMessageResponse(msgId, roomId, senderId, content, createdAt, read,
+        seller_nickname, buyer_nickname, clientMsgId);
+  }
+}
@@ -0,0 +1,14 @@
+package com.KDT.mosi.domain.dto.chat;
+
+/**
+ * 채팅방 참여자 (닉네임 + 프로필 썸네일 URL)
+ * - 메시지마다 프로필을 싣지 않고 방 단위로 한 번만 내려준다.
+ */
+public record ChatParticipants(
+    Long sellerId,
+    String sellerNickname,
+    String sellerImageUrl,
+    Long buyerId,
+    String buyerNickname,
+    String buyerImageUrl
+) {}
@@ -14,7 +14,7 @@ public class ChatPopupDto {
   private Long sellerId;          // 판매자 ID
   private String buyerNickname;   // 구매자 닉네임
   private String sellerNickname;  // 판매자 닉네임
-  private byte[] productImage;    // 상품 썸네일
+  private String productImageUrl; // 상품 썸네일 URL (없으면 null)
   private String productTitle;    // 상품명
   private Long productPrice;      // 상품 가격
 }
\ No newline at end of file
@@ -21,10 +21,13 @@ public class ChatRoomListDto {
   private String buyerNickname;   // 판매자 화면에서 상대방(구매자) 닉네임
   private String sellerNickname;  // 구매자 화면에서 상대방(판매자) 닉네임
   private String productTitle;
-  private byte[] productImage;
+  private String productImageUrl;  // 대표 이미지 URL (없으면 null)
   private String lastMessage;
+  private Long lastMsgId;
+  private LocalDateTime lastAt;    // 마지막 활동 시각 (목록 정렬 기준)
 
-  // 🔔 새 메시지 여부
+  // 🔔 내가 안 읽은 메시지 수 / 새 메시지 여부
+  private int unreadCount;
   private boolean hasNew;
 }
 
@@ -0,0 +1,37 @@
+package com.KDT.mosi.domain.dto.chat;
+
+/**
+ * 채팅방 메타데이터 (메시지 전송 시 매번 조회하지 않도록 메모리에 보관)
+ * - 참여자 / 상태 / 닉네임 / 프로필 이미지 URL (이미지 바이트는 들고 있지 않는다)
+ */
+public record ChatRoomMeta(
+    Long roomId,
+    Long sellerId,
+    Long buyerId,
+    String status,                 // ACTIVE, CLOSED
+    String sellerPageNickname,     // SELLER_PAGE.NICKNAME
+    String sellerImageUrl,         // SELLER_PAGE 프로필 썸네일 URL (없으면 null)
+    String sellerNickname,         // 판매자 MEMBER.NICKNAME
+    String buyerNickname,          // BUYER_PAGE.NICKNAME, 없으면 구매자 MEMBER.NICKNAME
+    String buyerImageUrl           // BUYER_PAGE 프로필 썸네일 URL (없으면 null)
+) {
+
+  public boolean isClosed() {
+    return "CLOSED".equals(status);
+  }
+
+  public boolean isSeller(Long memberId) {
+    return sellerId != null && sellerId.equals(memberId);
+  }
+
+  public ChatRoomMeta withStatus(String status) {
+    return new ChatRoomMeta(roomId, sellerId, buyerId, status, sellerPageNickname, sellerImageUrl,
+        sellerNickname, buyerNickname, buyerImageUrl);
+  }
+
+  // 방 참여자 정보 (이력 첫 페이지에 한 번만 내려준다)
+  public ChatParticipants participants() {
+    return new ChatParticipants(sellerId, sellerPageNickname, sellerImageUrl,
+        buyerId, buyerNickname, buyerImageUrl);
+  }
+}
@@ -0,0 +1,29 @@
+package com.KDT.mosi.domain.dto.chat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 요약 (CHAT_ROOM 의 비정규화 컬럼)
+ * - 메시지 저장 / 읽음 처리 때 함께 갱신되므로 목록 화면은 CHAT_MESSAGE 를 읽지 않는다.
+ */
+public record ChatRoomSummary(
+    Long roomId,
+    Long sellerId,
+    Long buyerId,
+    Long lastMsgId,
+    String lastMessage,
+    LocalDateTime lastAt,
+    int sellerUnread,
+    int buyerUnread
+) {
+
+  // 판매자 목록 채널로 보낼 이벤트
+  public ChatRoomSummaryEvent forSeller() {
+    return new ChatRoomSummaryEvent(ChatRoomSummaryEvent.TYPE, roomId, lastMsgId, lastMessage, lastAt, sellerUnread);
+  }
+
+  // 구매자 목록 채널로 보낼 이벤트
+  public ChatRoomSummaryEvent forBuyer() {
+    return new ChatRoomSummaryEvent(ChatRoomSummaryEvent.TYPE, roomId, lastMsgId, lastMessage, lastAt, buyerUnread);
+  }
+}
@@ -0,0 +1,22 @@
+package com.KDT.mosi.domain.dto.chat;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 목록 갱신 이벤트 (/topic/chat/rooms/{sellerId}, /topic/chat/rooms/buyer/{buyerId})
+ * - 받는 사람 기준 안 읽은 메시지 수를 담는다.
+ * - 목록 화면은 이 이벤트로 해당 행만 갱신하고, 모르는 방이면 목록을 다시 불러온다.
+ */
+public record ChatRoomSummaryEvent(
+    String type,                 // ROOM_SUMMARY
+    Long roomId,
+    Long lastMsgId,
+    String lastMessage,
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime lastAt,
+    int unreadCount
+) {
+  public static final String TYPE = "ROOM_SUMMARY";
+}
@@ -0,0 +1,18 @@
+package com.KDT.mosi.domain.entity;
+
+import lombok.Data;
+
+import java.sql.Timestamp;
+
+@Data
+public class ImageVariant {
+  private String ownerType;     // PRODUCT / SELLER / BUYER
+  private Long ownerId;         // 원본 행 ID
+  private String variant;       // THUMB / CARD / FULL
+  private String mimeType;
+  private Integer width;
+  private Integer height;
+  private byte[] imageData;     // 리사이즈된 이미지 (BLOB)
+  private String sourceHash;    // 원본 바이트 해시 (변경 감지용)
+  private Timestamp createDate;
+}
@@ -0,0 +1,12 @@
+package com.KDT.mosi.domain.entity;
+
+import lombok.Data;
+
+import java.sql.Timestamp;
+
+@Data
+public class ProductIndexOutbox {
+  private Long outboxId;        // 변경 순번 (시퀀스)
+  private Long productId;       // 변경된 상품
+  private Timestamp createdAt;
+}
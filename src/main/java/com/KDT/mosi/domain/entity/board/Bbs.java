@@ -19,6 +19,7 @@ public class Bbs {
   private Long bgroup;
   private Long step;
   private Long bindent;
+  private String sortPath;   // 정렬 경로 (bgroup 안 순서)
   private LocalDateTime createDate;
   private LocalDateTime updateDate;
   private int commentCnt;
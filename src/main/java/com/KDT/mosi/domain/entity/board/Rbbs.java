@@ -16,6 +16,7 @@ public class Rbbs {
   private Long bgroup;
   private Long step;
   private Long bindent;
+  private String sortPath;   // 정렬 경로 (bgroup 안 순서)
   private byte[] pic;
   private String picData;
   private boolean liked;    // 내가 좋아요 눌렀는지
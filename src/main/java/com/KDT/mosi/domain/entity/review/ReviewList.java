@@ -1,5 +1,7 @@
 package com.KDT.mosi.domain.entity.review;
 
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,6 +28,12 @@ public class ReviewList {
   private String tagLabels;
   private Long productImageId;
   private String productImageMime;
+  private Long productImageVersion;
   private String nickname;
 
+  // 대표 이미지 URL, 없으면 null
+  public String getProductImageUrl() {
+    return productImageId == null ? null
+        : ProductCover.urlOf(productImageId, productImageVersion != null ? productImageVersion : 0, ImageVariantSize.THUMB);
+  }
 }
@@ -1,5 +1,7 @@
 package com.KDT.mosi.domain.entity.review;
 
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,7 +18,13 @@ public class ReviewProduct {
   private String category;
   private String title;
   private LocalDateTime createDate;
-  private String mimeType;
-  private byte[] imageData;
+  private Long imageId;        // 대표 이미지 (PRODUCT_COVER)
+  private Long imageVersion;
   private String optionType;
+
+  // 대표 이미지 URL, 없으면 null
+  public String getImageUrl() {
+    return imageId == null ? null
+        : ProductCover.urlOf(imageId, imageVersion != null ? imageVersion : 0, ImageVariantSize.CARD);
+  }
 }
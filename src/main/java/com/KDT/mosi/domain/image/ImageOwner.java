@@ -0,0 +1,13 @@
+package com.KDT.mosi.domain.image;
+
+/**
+ * 리사이즈 이미지 원본 구분
+ * - PRODUCT : PRODUCT_IMAGE.IMAGE_DATA (OWNER_ID = IMAGE_ID)
+ * - SELLER  : SELLER_PAGE.IMAGE        (OWNER_ID = PAGE_ID)
+ * - BUYER   : BUYER_PAGE.IMAGE         (OWNER_ID = MEMBER_ID)
+ */
+public enum ImageOwner {
+  PRODUCT,
+  SELLER,
+  BUYER;
+}
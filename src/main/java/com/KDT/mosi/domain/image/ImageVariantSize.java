@@ -0,0 +1,35 @@
+package com.KDT.mosi.domain.image;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 리사이즈 규격 (가로·세로 중 긴 변 기준, 원본보다 키우지 않음)
+ */
+public enum ImageVariantSize {
+  THUMB(160),   // 아바타, 채팅/리뷰 목록
+  CARD(480),    // 상품 카드
+  FULL(1280);   // 상세 화면
+
+  private final int maxEdge;
+
+  ImageVariantSize(int maxEdge) {
+    this.maxEdge = maxEdge;
+  }
+
+  public int getMaxEdge() {
+    return maxEdge;
+  }
+
+  // 요청 파라미터(thumb/card/full) → 규격, 알 수 없는 값이면 empty (원본 전송)
+  public static Optional<ImageVariantSize> from(String value) {
+    if (value == null || value.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
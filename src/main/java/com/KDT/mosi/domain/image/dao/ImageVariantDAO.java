@@ -0,0 +1,58 @@
+package com.KDT.mosi.domain.image.dao;
+
+import com.KDT.mosi.domain.entity.ImageVariant;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ImageVariantDAO {
+
+  /**
+   * 원본의 리사이즈 이미지 전체 교체
+   *
+   * @param owner    원본 구분
+   * @param ownerId  원본 행 ID
+   * @param variants 규격별 이미지
+   */
+  void replace(ImageOwner owner, Long ownerId, List<ImageVariant> variants);
+
+  /**
+   * 규격별 리사이즈 이미지 조회
+   *
+   * @return Optional<ImageVariant> (IMAGE_DATA 포함)
+   */
+  Optional<ImageVariant> find(ImageOwner owner, Long ownerId, ImageVariantSize size);
+
+  /**
+   * 저장된 원본 해시 조회 (원본이 바뀌지 않았으면 재생성 생략)
+   */
+  Optional<String> findSourceHash(ImageOwner owner, Long ownerId);
+
+  /**
+   * 원본의 리사이즈 이미지 삭제
+   *
+   * @return 삭제된 행 수
+   */
+  int delete(ImageOwner owner, Long ownerId);
+
+  /**
+   * 상품의 모든 이미지에 대한 리사이즈 이미지 삭제
+   * - PRODUCT_IMAGE 삭제 전에 호출해야 한다.
+   *
+   * @return 삭제된 행 수
+   */
+  int deleteByProductId(Long productId);
+
+  /**
+   * 리사이즈 이미지가 없는 원본 조회 (백필용)
+   *
+   * @param owner   원본 구분
+   * @param afterId 이 ID 보다 큰 원본부터 (keyset)
+   * @param limit   최대 건수
+   * @return ownerId → 원본 바이트 (ownerId 오름차순)
+   */
+  Map<Long, byte[]> findMissingSources(ImageOwner owner, long afterId, int limit);
+}
@@ -0,0 +1,144 @@
+package com.KDT.mosi.domain.image.dao;
+
+import com.KDT.mosi.domain.entity.ImageVariant;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 리사이즈 이미지 DAO 구현체 (IMAGE_VARIANT)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageVariantDAOImpl implements ImageVariantDAO {
+
+  private final NamedParameterJdbcTemplate template;
+
+  private final RowMapper<ImageVariant> rowMapper = (rs, rowNum) -> {
+    ImageVariant v = new ImageVariant();
+    v.setOwnerType(rs.getString("OWNER_TYPE"));
+    v.setOwnerId(rs.getLong("OWNER_ID"));
+    v.setVariant(rs.getString("VARIANT"));
+    v.setMimeType(rs.getString("MIME_TYPE"));
+    v.setWidth(rs.getInt("WIDTH"));
+    v.setHeight(rs.getInt("HEIGHT"));
+    v.setImageData(rs.getBytes("IMAGE_DATA"));
+    v.setSourceHash(rs.getString("SOURCE_HASH"));
+    v.setCreateDate(rs.getTimestamp("CREATE_DATE"));
+    return v;
+  };
+
+  // 변환 실패가 원본 저장 트랜잭션을 롤백시키지 않도록 별도 트랜잭션으로 교체
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void replace(ImageOwner owner, Long ownerId, List<ImageVariant> variants) {
+    delete(owner, ownerId);
+
+    String sql =
+        "INSERT INTO IMAGE_VARIANT (" +
+            "  OWNER_TYPE, OWNER_ID, VARIANT, MIME_TYPE, WIDTH, HEIGHT, IMAGE_DATA, SOURCE_HASH, CREATE_DATE" +
+            ") VALUES (" +
+            "  :ownerType, :ownerId, :variant, :mimeType, :width, :height, :imageData, :sourceHash, SYSTIMESTAMP" +
+            ")";
+
+    SqlParameterSource[] batch = variants.stream()
+        .map(v -> new MapSqlParameterSource()
+            .addValue("ownerType", owner.name())
+            .addValue("ownerId", ownerId)
+            .addValue("variant", v.getVariant())
+            .addValue("mimeType", v.getMimeType())
+            .addValue("width", v.getWidth())
+            .addValue("height", v.getHeight())
+            .addValue("imageData", v.getImageData())
+            .addValue("sourceHash", v.getSourceHash()))
+        .toArray(SqlParameterSource[]::new);
+
+    template.batchUpdate(sql, batch);
+  }
+
+  @Override
+  public Optional<ImageVariant> find(ImageOwner owner, Long ownerId, ImageVariantSize size) {
+    String sql = "SELECT * FROM IMAGE_VARIANT " +
+        "WHERE OWNER_TYPE = :ownerType AND OWNER_ID = :ownerId AND VARIANT = :variant";
+    MapSqlParameterSource param = new MapSqlParameterSource()
+        .addValue("ownerType", owner.name())
+        .addValue("ownerId", ownerId)
+        .addValue("variant", size.name());
+
+    List<ImageVariant> list = template.query(sql, param, rowMapper);
+    return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
+  }
+
+  @Override
+  public Optional<String> findSourceHash(ImageOwner owner, Long ownerId) {
+    String sql = "SELECT MAX(SOURCE_HASH) FROM IMAGE_VARIANT " +
+        "WHERE OWNER_TYPE = :ownerType AND OWNER_ID = :ownerId";
+    MapSqlParameterSource param = new MapSqlParameterSource()
+        .addValue("ownerType", owner.name())
+        .addValue("ownerId", ownerId);
+
+    return Optional.ofNullable(template.queryForObject(sql, param, String.class));
+  }
+
+  @Override
+  public int delete(ImageOwner owner, Long ownerId) {
+    String sql = "DELETE FROM IMAGE_VARIANT WHERE OWNER_TYPE = :ownerType AND OWNER_ID = :ownerId";
+    MapSqlParameterSource param = new MapSqlParameterSource()
+        .addValue("ownerType", owner.name())
+        .addValue("ownerId", ownerId);
+    return template.update(sql, param);
+  }
+
+  @Override
+  public int deleteByProductId(Long productId) {
+    String sql = "DELETE FROM IMAGE_VARIANT WHERE OWNER_TYPE = 'PRODUCT' " +
+        "AND OWNER_ID IN (SELECT IMAGE_ID FROM PRODUCT_IMAGE WHERE PRODUCT_ID = :productId)";
+    return template.update(sql, new MapSqlParameterSource("productId", productId));
+  }
+
+  @Override
+  public Map<Long, byte[]> findMissingSources(ImageOwner owner, long afterId, int limit) {
+    String source = switch (owner) {
+      case PRODUCT -> "SELECT IMAGE_ID AS OWNER_ID, IMAGE_DATA AS SOURCE FROM PRODUCT_IMAGE s ";
+      case SELLER -> "SELECT PAGE_ID AS OWNER_ID, IMAGE AS SOURCE FROM SELLER_PAGE s ";
+      case BUYER -> "SELECT MEMBER_ID AS OWNER_ID, IMAGE AS SOURCE FROM BUYER_PAGE s ";
+    };
+    String idColumn = switch (owner) {
+      case PRODUCT -> "s.IMAGE_ID";
+      case SELLER -> "s.PAGE_ID";
+      case BUYER -> "s.MEMBER_ID";
+    };
+    String dataColumn = switch (owner) {
+      case PRODUCT -> "s.IMAGE_DATA";
+      case SELLER, BUYER -> "s.IMAGE";
+    };
+
+    String sql = source +
+        "WHERE " + dataColumn + " IS NOT NULL AND " + idColumn + " > :afterId " +
+        "AND NOT EXISTS (SELECT 1 FROM IMAGE_VARIANT v " +
+        "                WHERE v.OWNER_TYPE = :ownerType AND v.OWNER_ID = " + idColumn + ") " +
+        "ORDER BY " + idColumn + " " +
+        "FETCH FIRST :limit ROWS ONLY";
+
+    MapSqlParameterSource param = new MapSqlParameterSource()
+        .addValue("ownerType", owner.name())
+        .addValue("afterId", afterId)
+        .addValue("limit", limit);
+
+    Map<Long, byte[]> sources = new LinkedHashMap<>();
+    template.query(sql, param, rs -> { sources.put(rs.getLong("OWNER_ID"), rs.getBytes("SOURCE")); });
+    return sources;
+  }
+}
@@ -0,0 +1,113 @@
+package com.KDT.mosi.domain.image.svc;
+
+import com.KDT.mosi.domain.entity.ImageVariant;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원본 이미지 → 규격별 JPEG 변환
+ * - JDK ImageIO 로 읽을 수 있는 형식(JPEG/PNG/GIF/BMP)만 처리한다.
+ * - 투명 배경은 흰색으로 채운다.
+ */
+@Component
+public class ImageResizer {
+
+  private static final String MIME_TYPE = "image/jpeg";
+  private static final float JPEG_QUALITY = 0.82f;
+
+  /**
+   * 모든 규격 생성
+   *
+   * @param source 원본 바이트
+   * @return 규격별 결과 (ownerType/ownerId/sourceHash 는 비어 있음)
+   * @throws IOException 이미지로 읽을 수 없는 경우
+   */
+  public List<ImageVariant> resizeAll(byte[] source) throws IOException {
+    BufferedImage original = source == null ? null : ImageIO.read(new ByteArrayInputStream(source));
+    if (original == null) {
+      throw new IOException("지원하지 않는 이미지 형식입니다");
+    }
+
+    List<ImageVariant> variants = new ArrayList<>();
+    for (ImageVariantSize size : ImageVariantSize.values()) {
+      BufferedImage scaled = scale(original, size.getMaxEdge());
+
+      ImageVariant variant = new ImageVariant();
+      variant.setVariant(size.name());
+      variant.setMimeType(MIME_TYPE);
+      variant.setWidth(scaled.getWidth());
+      variant.setHeight(scaled.getHeight());
+      variant.setImageData(encodeJpeg(scaled));
+      variants.add(variant);
+    }
+    return variants;
+  }
+
+  // 긴 변이 maxEdge 를 넘지 않도록 축소 (큰 비율은 절반씩 단계적으로 줄여 품질 유지)
+  BufferedImage scale(BufferedImage source, int maxEdge) {
+    int width = source.getWidth();
+    int height = source.getHeight();
+    double ratio = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+    int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+    int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+    BufferedImage current = toRgb(source);
+    while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+      current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+    }
+    if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+      current = draw(current, targetWidth, targetHeight);
+    }
+    return current;
+  }
+
+  private BufferedImage toRgb(BufferedImage source) {
+    if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+      return source;
+    }
+    return draw(source, source.getWidth(), source.getHeight());
+  }
+
+  private BufferedImage draw(BufferedImage source, int width, int height) {
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = target.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      g.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+    return target;
+  }
+
+  private byte[] encodeJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+      writer.setOutput(ios);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(JPEG_QUALITY);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return out.toByteArray();
+  }
+}
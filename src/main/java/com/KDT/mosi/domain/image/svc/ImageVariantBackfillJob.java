@@ -0,0 +1,58 @@
+package com.KDT.mosi.domain.image.svc;
+
+import com.KDT.mosi.domain.image.ImageOwner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 기존 원본 이미지의 리사이즈 이미지 백필
+ * - 원본 구분별로 ID 커서를 이어가며 batchSize 씩 처리한다.
+ * - 모든 구분을 끝까지 처리하면 더 이상 조회하지 않는다. (신규 이미지는 저장 시점에 생성)
+ */
+@Slf4j
+@Component
+public class ImageVariantBackfillJob {
+
+  private final ImageVariantSVC imageVariantSVC;
+  private final boolean enabled;
+  private final int batchSize;
+
+  private final Map<ImageOwner, Long> cursors = new EnumMap<>(ImageOwner.class);
+
+  public ImageVariantBackfillJob(ImageVariantSVC imageVariantSVC,
+                                 @Value("${image.variant.backfill.enabled:true}") boolean enabled,
+                                 @Value("${image.variant.backfill.batch-size:50}") int batchSize) {
+    this.imageVariantSVC = imageVariantSVC;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    for (ImageOwner owner : ImageOwner.values()) {
+      cursors.put(owner, 0L);
+    }
+  }
+
+  @Scheduled(initialDelayString = "${image.variant.backfill.initial-delay-ms:60000}",
+      fixedDelayString = "${image.variant.backfill.delay-ms:10000}")
+  public synchronized void run() {
+    if (!enabled || cursors.isEmpty()) {
+      return;
+    }
+
+    ImageOwner owner = cursors.keySet().iterator().next();
+    try {
+      Long lastId = imageVariantSVC.backfill(owner, cursors.get(owner), batchSize);
+      if (lastId == null) {
+        cursors.remove(owner);
+        log.info("리사이즈 이미지 백필 완료: owner={}", owner);
+      } else {
+        cursors.put(owner, lastId);
+      }
+    } catch (Exception e) {
+      log.warn("리사이즈 이미지 백필 실패: owner={}, afterId={}", owner, cursors.get(owner), e);
+    }
+  }
+}
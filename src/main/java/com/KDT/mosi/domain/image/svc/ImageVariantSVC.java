@@ -0,0 +1,35 @@
+package com.KDT.mosi.domain.image.svc;
+
+import com.KDT.mosi.domain.entity.ImageVariant;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+
+import java.util.Optional;
+
+public interface ImageVariantSVC {
+
+  /**
+   * 원본 이미지로 규격별 이미지 생성/교체
+   * - 원본이 비어 있으면 기존 리사이즈 이미지를 삭제한다.
+   * - 원본 해시가 같으면 다시 만들지 않는다.
+   * - 변환 실패는 로그만 남기고 원본 저장에는 영향을 주지 않는다.
+   */
+  void generate(ImageOwner owner, Long ownerId, byte[] source);
+
+  // 규격별 이미지 조회
+  Optional<ImageVariant> find(ImageOwner owner, Long ownerId, ImageVariantSize size);
+
+  void delete(ImageOwner owner, Long ownerId);
+
+  // 상품 이미지 전체 삭제 전에 호출
+  void deleteByProductId(Long productId);
+
+  /**
+   * 리사이즈 이미지가 없는 원본을 한 묶음 생성
+   *
+   * @param afterId 이 ID 보다 큰 원본부터
+   * @param limit   최대 건수
+   * @return 마지막으로 처리한 ownerId, 처리할 원본이 없으면 null
+   */
+  Long backfill(ImageOwner owner, long afterId, int limit);
+}
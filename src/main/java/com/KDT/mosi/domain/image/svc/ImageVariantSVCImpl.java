@@ -0,0 +1,79 @@
+package com.KDT.mosi.domain.image.svc;
+
+import com.KDT.mosi.domain.entity.ImageVariant;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.image.dao.ImageVariantDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantSVCImpl implements ImageVariantSVC {
+
+  private final ImageVariantDAO imageVariantDAO;
+  private final ImageResizer imageResizer;
+
+  @Override
+  public void generate(ImageOwner owner, Long ownerId, byte[] source) {
+    if (ownerId == null) {
+      return;
+    }
+    try {
+      if (source == null || source.length == 0) {
+        imageVariantDAO.delete(owner, ownerId);
+        return;
+      }
+
+      String hash = sha256(source);
+      if (imageVariantDAO.findSourceHash(owner, ownerId).filter(hash::equals).isPresent()) {
+        return;
+      }
+
+      List<ImageVariant> variants = imageResizer.resizeAll(source);
+      variants.forEach(v -> v.setSourceHash(hash));
+      imageVariantDAO.replace(owner, ownerId, variants);
+    } catch (Exception e) {
+      log.warn("리사이즈 이미지 생성 실패: owner={}, ownerId={}", owner, ownerId, e);
+    }
+  }
+
+  @Override
+  public Optional<ImageVariant> find(ImageOwner owner, Long ownerId, ImageVariantSize size) {
+    return imageVariantDAO.find(owner, ownerId, size);
+  }
+
+  @Override
+  public void delete(ImageOwner owner, Long ownerId) {
+    imageVariantDAO.delete(owner, ownerId);
+  }
+
+  @Override
+  public void deleteByProductId(Long productId) {
+    imageVariantDAO.deleteByProductId(productId);
+  }
+
+  @Override
+  public Long backfill(ImageOwner owner, long afterId, int limit) {
+    Map<Long, byte[]> sources = imageVariantDAO.findMissingSources(owner, afterId, limit);
+    Long lastId = null;
+    for (Map.Entry<Long, byte[]> entry : sources.entrySet()) {
+      generate(owner, entry.getKey(), entry.getValue());
+      lastId = entry.getKey();
+    }
+    return lastId;
+  }
+
+  private String sha256(byte[] data) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+  }
+}
@@ -3,6 +3,7 @@ package com.KDT.mosi.domain.member.dao;
 import com.KDT.mosi.domain.entity.Member;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MemberDAO {
@@ -126,4 +127,13 @@ public interface MemberDAO {
 
   // 닉네임 수정
   int updateNickname(Long memberId, String nickname);
+
+  /**
+   * 회원 ID 목록으로 이름 일괄 조회
+   * - PIC 등 BLOB 컬럼은 읽지 않는다.
+   *
+   * @param memberIds 회원 ID 목록
+   * @return memberId → name
+   */
+  Map<Long, String> findNamesByIds(List<Long> memberIds);
 }
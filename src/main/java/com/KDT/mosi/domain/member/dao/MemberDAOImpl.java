@@ -13,6 +13,7 @@ import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -228,4 +229,17 @@ public class MemberDAOImpl implements MemberDAO {
     return template.update(sql, param);
   }
 
+  /** 회원 ID 목록으로 이름 일괄 조회 */
+  @Override
+  public Map<Long, String> findNamesByIds(List<Long> memberIds) {
+    Map<Long, String> names = new HashMap<>();
+    if (memberIds == null || memberIds.isEmpty()) {
+      return names;
+    }
+
+    String sql = "SELECT member_id, name FROM member WHERE member_id IN (:memberIds)";
+    template.query(sql, new MapSqlParameterSource("memberIds", memberIds),
+        rs -> { names.put(rs.getLong("member_id"), rs.getString("name")); });
+    return names;
+  }
 }
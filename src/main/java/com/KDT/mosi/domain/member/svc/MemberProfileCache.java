@@ -0,0 +1,57 @@
+package com.KDT.mosi.domain.member.svc;
+
+import com.KDT.mosi.domain.dto.MemberProfile;
+import com.KDT.mosi.domain.mypage.seller.dao.SellerPageDAO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+
+/**
+ * 회원별 프로필 요약 캐시 (LRU)
+ * - 모든 화면 요청마다 SELLER_PAGE 를 다시 읽지 않기 위함
+ * - 판매자 페이지가 없는 회원도 빈 프로필로 캐시한다.
+ * - SellerPageSVC / MemberSVC 가 프로필을 바꾸면 evict 로 무효화한다.
+ */
+@Component
+public class MemberProfileCache {
+
+  private final SellerPageDAO sellerPageDAO;
+  private final int maxEntries;
+
+  private final LinkedHashMap<Long, MemberProfile> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+  public MemberProfileCache(SellerPageDAO sellerPageDAO,
+                            @Value("${member.profile.cache.max-entries:10000}") int maxEntries) {
+    this.sellerPageDAO = sellerPageDAO;
+    this.maxEntries = maxEntries;
+  }
+
+  public MemberProfile get(Long memberId) {
+    synchronized (this) {
+      MemberProfile cached = entries.get(memberId);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    MemberProfile profile = sellerPageDAO.findProfileByMemberId(memberId)
+        .orElseGet(() -> MemberProfile.empty(memberId));
+    synchronized (this) {
+      entries.put(memberId, profile);
+      if (entries.size() > maxEntries) {
+        entries.remove(entries.keySet().iterator().next());
+      }
+    }
+    return profile;
+  }
+
+  public synchronized void evict(Long memberId) {
+    entries.remove(memberId);
+  }
+
+  // 페이지 ID 로만 알 수 있는 수정(updateById) 용
+  public synchronized void evictBySellerPageId(Long pageId) {
+    entries.values().removeIf(profile -> pageId.equals(profile.sellerPageId()));
+  }
+}
@@ -26,6 +26,7 @@ public class MemberSVCImpl implements MemberSVC {
   private final TermsDAO termsDAO;
   private final BuyerPageDAO buyerPageDAO;
   private final MemberRoleDAO memberRoleDAO;
+  private final MemberProfileCache memberProfileCache;
 
   /**
    * 회원 등록 (기본형)
@@ -137,6 +138,7 @@ public class MemberSVCImpl implements MemberSVC {
 
     log.info("✅ SVC 단계 Member.nickname = {}", member.getNickname());
     memberDAO.update(member);
+    memberProfileCache.evict(id);
   }
 
   /**
@@ -210,6 +212,7 @@ public class MemberSVCImpl implements MemberSVC {
   @Override
   public int deleteById(Long memberId) {
     buyerPageDAO.deleteByMemberId(memberId);
+    memberProfileCache.evict(memberId);
     return memberDAO.deleteById(memberId);
   }
 
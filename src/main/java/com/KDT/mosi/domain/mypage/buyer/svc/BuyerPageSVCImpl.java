@@ -1,6 +1,8 @@
 package com.KDT.mosi.domain.mypage.buyer.svc;
 
 import com.KDT.mosi.domain.entity.BuyerPage;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.svc.ImageVariantSVC;
 import com.KDT.mosi.domain.member.dao.MemberDAO;
 import com.KDT.mosi.domain.mypage.buyer.dao.BuyerPageDAO;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ public class BuyerPageSVCImpl implements BuyerPageSVC {
 
   private final BuyerPageDAO buyerPageDAO;
   private final MemberDAO memberDAO;
+  private final ImageVariantSVC imageVariantSVC;
 
   /**
    * 마이페이지 등록
@@ -27,7 +30,9 @@ public class BuyerPageSVCImpl implements BuyerPageSVC {
    */
   @Override
   public Long create(BuyerPage buyerPage) {
-    return buyerPageDAO.save(buyerPage);
+    Long pageId = buyerPageDAO.save(buyerPage);
+    imageVariantSVC.generate(ImageOwner.BUYER, buyerPage.getMemberId(), buyerPage.getImage());
+    return pageId;
   }
 
   /**
@@ -50,7 +55,11 @@ public class BuyerPageSVCImpl implements BuyerPageSVC {
    */
   @Override
   public int update(Long pageId, BuyerPage buyerPage) {
-    return buyerPageDAO.updateById(pageId, buyerPage);
+    int updated = buyerPageDAO.updateById(pageId, buyerPage);
+    if (updated > 0) {
+      imageVariantSVC.generate(ImageOwner.BUYER, buyerPage.getMemberId(), buyerPage.getImage());
+    }
+    return updated;
   }
 
   /**
@@ -62,6 +71,7 @@ public class BuyerPageSVCImpl implements BuyerPageSVC {
    */
   @Override
   public int deleteByMemberId(Long memberId) {
+    imageVariantSVC.delete(ImageOwner.BUYER, memberId);
     return buyerPageDAO.deleteByMemberId(memberId);
   }
 
@@ -97,6 +107,7 @@ public class BuyerPageSVCImpl implements BuyerPageSVC {
 
       // 1) BuyerPage 갱신
       buyerPageDAO.updateById(existing.getPageId(), buyerPage);
+      imageVariantSVC.generate(ImageOwner.BUYER, buyerPage.getMemberId(), buyerPage.getImage());
 
       // 2) Member.nickname 갱신
       memberDAO.updateNickname(buyerPage.getMemberId(), buyerPage.getNickname());
@@ -109,6 +120,7 @@ public class BuyerPageSVCImpl implements BuyerPageSVC {
     }
 
     Long pageId = buyerPageDAO.save(buyerPage);
+    imageVariantSVC.generate(ImageOwner.BUYER, buyerPage.getMemberId(), buyerPage.getImage());
 
     // Member.nickname 동기화
     memberDAO.updateNickname(buyerPage.getMemberId(), buyerPage.getNickname());
@@ -1,7 +1,10 @@
 package com.KDT.mosi.domain.mypage.seller.dao;
 
+import com.KDT.mosi.domain.dto.MemberProfile;
 import com.KDT.mosi.domain.entity.SellerPage;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface SellerPageDAO {
@@ -66,4 +69,22 @@ public interface SellerPageDAO {
 
   // memberId를 기반으로 닉네임을 조회하는 메서드
   Optional<String> findNicknameByMemberId(Long memberId);
+
+  /**
+   * 회원 ID 목록으로 닉네임 일괄 조회
+   * - IMAGE 등 BLOB 컬럼은 읽지 않는다.
+   *
+   * @param memberIds 회원 ID 목록
+   * @return memberId → nickname (판매자 페이지가 없는 회원은 포함되지 않음)
+   */
+  Map<Long, String> findNicknamesByMemberIds(List<Long> memberIds);
+
+  /**
+   * 회원 ID로 프로필 요약 조회
+   * - IMAGE 는 읽지 않고 존재 여부만 확인한다.
+   *
+   * @param memberId 회원 ID
+   * @return 판매자 페이지가 없으면 Optional.empty()
+   */
+  Optional<MemberProfile> findProfileByMemberId(Long memberId);
 }
@@ -1,5 +1,6 @@
 package com.KDT.mosi.domain.mypage.seller.dao;
 
+import com.KDT.mosi.domain.dto.MemberProfile;
 import com.KDT.mosi.domain.entity.SellerPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +11,9 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -159,6 +163,23 @@ public class SellerPageDAOImpl implements SellerPageDAO {
       return Optional.empty();
     }
   }
+
+  /**
+   * 회원 ID 목록으로 닉네임 일괄 조회
+   */
+  @Override
+  public Map<Long, String> findNicknamesByMemberIds(List<Long> memberIds) {
+    Map<Long, String> nicknames = new HashMap<>();
+    if (memberIds == null || memberIds.isEmpty()) {
+      return nicknames;
+    }
+
+    String sql = "SELECT member_id, nickname FROM seller_page WHERE member_id IN (:memberIds)";
+    template.query(sql, new MapSqlParameterSource("memberIds", memberIds),
+        rs -> { nicknames.put(rs.getLong("member_id"), rs.getString("nickname")); });
+    return nicknames;
+  }
+
   /**
    * 마이페이지 정보 수정
    */
@@ -200,4 +221,25 @@ public class SellerPageDAOImpl implements SellerPageDAO {
     String sql = "DELETE FROM SELLER_PAGE WHERE MEMBER_ID = :memberId";
     return template.update(sql, new MapSqlParameterSource("memberId", memberId));
   }
+
+  /**
+   * 회원 ID로 프로필 요약 조회 (IMAGE 제외)
+   */
+  @Override
+  public Optional<MemberProfile> findProfileByMemberId(Long memberId) {
+    String sql = """
+        SELECT page_id, member_id, nickname,
+               CASE WHEN image IS NOT NULL AND DBMS_LOB.GETLENGTH(image) > 0 THEN 1 ELSE 0 END AS has_image
+          FROM seller_page
+         WHERE member_id = :memberId
+        """;
+    List<MemberProfile> list = template.query(sql, new MapSqlParameterSource("memberId", memberId),
+        (rs, rowNum) -> new MemberProfile(
+            rs.getLong("member_id"),
+            rs.getLong("page_id"),
+            rs.getString("nickname"),
+            rs.getInt("has_image") == 1
+        ));
+    return list.stream().findFirst();
+  }
 }
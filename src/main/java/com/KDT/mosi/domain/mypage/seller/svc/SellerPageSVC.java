@@ -2,6 +2,8 @@ package com.KDT.mosi.domain.mypage.seller.svc;
 
 import com.KDT.mosi.domain.entity.SellerPage;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -38,4 +40,7 @@ public interface SellerPageSVC {
 
   // memberId로 별명 찾기
   Optional<String> getNicknameByMemberId(Long memberId);
+
+  // memberId 목록으로 별명 일괄 조회
+  Map<Long, String> getNicknamesByMemberIds(List<Long> memberIds);
 }
@@ -1,12 +1,17 @@
 package com.KDT.mosi.domain.mypage.seller.svc;
 
 import com.KDT.mosi.domain.entity.SellerPage;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.svc.ImageVariantSVC;
+import com.KDT.mosi.domain.member.svc.MemberProfileCache;
 import com.KDT.mosi.domain.mypage.seller.dao.SellerPageDAO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +25,8 @@ import java.util.Optional;
 public class SellerPageSVCImpl implements SellerPageSVC {
 
   private final SellerPageDAO sellerPageDAO;
+  private final ImageVariantSVC imageVariantSVC;
+  private final MemberProfileCache memberProfileCache;
 
   /**
    * 회원 ID로 마이페이지 존재 여부 확인
@@ -38,7 +45,10 @@ public class SellerPageSVCImpl implements SellerPageSVC {
     if (sellerpage.getMemberId() == null) {
       throw new IllegalArgumentException("memberId must not be null");
     }
-    return sellerPageDAO.save(sellerpage);
+    Long pageId = sellerPageDAO.save(sellerpage);
+    imageVariantSVC.generate(ImageOwner.SELLER, pageId, sellerpage.getImage());
+    memberProfileCache.evict(sellerpage.getMemberId());
+    return pageId;
   }
 
   /**
@@ -63,7 +73,12 @@ public class SellerPageSVCImpl implements SellerPageSVC {
   @Override
   @Transactional(/* rollbackFor = Exception.class */) // 쓰기 트랜잭션
   public int updateById(Long pageId, SellerPage sellerpage) {
-    return sellerPageDAO.updateById(pageId, sellerpage);
+    int updated = sellerPageDAO.updateById(pageId, sellerpage);
+    if (updated > 0) {
+      imageVariantSVC.generate(ImageOwner.SELLER, pageId, sellerpage.getImage());
+      memberProfileCache.evictBySellerPageId(pageId);
+    }
+    return updated;
   }
 
   /**
@@ -72,6 +87,9 @@ public class SellerPageSVCImpl implements SellerPageSVC {
   @Override
   @Transactional(/* rollbackFor = Exception.class */) // 쓰기 트랜잭션
   public int deleteByMemberId(Long memberId) {
+    sellerPageDAO.findByMemberId(memberId)
+        .ifPresent(page -> imageVariantSVC.delete(ImageOwner.SELLER, page.getPageId()));
+    memberProfileCache.evict(memberId);
     return sellerPageDAO.deleteByMemberId(memberId);
   }
 
@@ -88,4 +106,9 @@ public class SellerPageSVCImpl implements SellerPageSVC {
     // SellerPageDAO에 findNicknameByMemberId 메서드를 호출
     return sellerPageDAO.findNicknameByMemberId(memberId);
   }
+
+  @Override
+  public Map<Long, String> getNicknamesByMemberIds(List<Long> memberIds) {
+    return sellerPageDAO.findNicknamesByMemberIds(memberIds);
+  }
 }
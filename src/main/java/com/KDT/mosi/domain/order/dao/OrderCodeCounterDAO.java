@@ -0,0 +1,15 @@
+package com.KDT.mosi.domain.order.dao;
+
+public interface OrderCodeCounterDAO {
+
+  /**
+   * 주문번호 일련번호 블록 예약
+   * - 접두어(MOSI-yyyyMMdd-)별 카운터를 blockSize 만큼 증가시킨다.
+   * - 호출한 트랜잭션과 별도로 즉시 커밋되므로 행 잠금이 주문 트랜잭션까지 이어지지 않는다.
+   *
+   * @param codePrefix 주문번호 접두어
+   * @param blockSize  예약할 번호 개수
+   * @return 예약된 블록의 마지막 번호 (블록 범위: 반환값 - blockSize + 1 ~ 반환값)
+   */
+  long reserve(String codePrefix, int blockSize);
+}
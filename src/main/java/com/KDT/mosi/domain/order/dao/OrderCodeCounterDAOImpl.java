@@ -0,0 +1,54 @@
+package com.KDT.mosi.domain.order.dao;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderCodeCounterDAOImpl implements OrderCodeCounterDAO {
+
+  private final NamedParameterJdbcTemplate template;
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public long reserve(String codePrefix, int blockSize) {
+    MapSqlParameterSource param = new MapSqlParameterSource()
+        .addValue("codePrefix", codePrefix)
+        .addValue("blockSize", blockSize);
+
+    String updateSql =
+        "UPDATE ORDER_CODE_COUNTER SET LAST_SEQ = LAST_SEQ + :blockSize, UPDATED_AT = SYSTIMESTAMP " +
+            "WHERE CODE_PREFIX = :codePrefix";
+
+    if (template.update(updateSql, param) == 0) {
+      // 그날의 첫 예약: 이미 발급된 주문번호(카운터 도입 이전 데이터) 다음 번호부터 시작
+      String insertSql =
+          "INSERT INTO ORDER_CODE_COUNTER (CODE_PREFIX, LAST_SEQ, UPDATED_AT) " +
+              "SELECT :codePrefix, " +
+              "       NVL(MAX(TO_NUMBER(SUBSTR(ORDER_CODE, LENGTH(:codePrefix) + 1))), 0) + :blockSize, " +
+              "       SYSTIMESTAMP " +
+              "FROM ORDERS WHERE ORDER_CODE LIKE :codePrefix || '%'";
+      try {
+        template.update(insertSql, param);
+      } catch (DuplicateKeyException e) {
+        // 다른 노드가 먼저 행을 만든 경우
+        log.debug("주문번호 카운터 동시 생성: codePrefix={}", codePrefix);
+        template.update(updateSql, param);
+      }
+    }
+
+    Long lastSeq = template.queryForObject(
+        "SELECT LAST_SEQ FROM ORDER_CODE_COUNTER WHERE CODE_PREFIX = :codePrefix",
+        param,
+        Long.class
+    );
+    return lastSeq;
+  }
+}
@@ -16,6 +16,11 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
    */
   List<OrderItem> findByOrderId(Long orderId);
 
+  /**
+   *  여러 주문의 상품 일괄 조회 (주문 목록 화면)
+   */
+  List<OrderItem> findByOrderIdIn(List<Long> orderIds);
+
   /**
    * 판매자별 주문 아이템 조회 (페이징)
    */
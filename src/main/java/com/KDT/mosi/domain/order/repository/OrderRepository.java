@@ -28,11 +28,6 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
    */
   Optional<Order> findByOrderCode(String orderCode);
 
-  /**
-   * 주문번호 생성용
-   */
-  int countByOrderCodeStartingWith(String prefix);
-
   Page<Order> findByBuyerId(Long buyerId, Pageable pageable);
 
   /**
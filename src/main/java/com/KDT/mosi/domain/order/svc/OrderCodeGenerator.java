@@ -0,0 +1,74 @@
+package com.KDT.mosi.domain.order.svc;
+
+import com.KDT.mosi.domain.order.dao.OrderCodeCounterDAO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문번호 발급기 (MOSI-yyyyMMdd-NNN)
+ * - DB 카운터에서 일자별 번호 블록을 예약하고, 블록 안에서는 메모리에서 발급한다.
+ * - 같은 번호가 두 번 발급되지 않으며, 한 인스턴스 안에서는 단조 증가한다.
+ * - 재시작 시 남은 블록 번호는 버려지므로 번호 사이에 빈 값이 생길 수 있다.
+ */
+@Component
+public class OrderCodeGenerator {
+
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  private final OrderCodeCounterDAO orderCodeCounterDAO;
+  private final int blockSize;
+
+  private volatile Block block = new Block(LocalDate.MIN, 1, 0);
+
+  public OrderCodeGenerator(OrderCodeCounterDAO orderCodeCounterDAO,
+                            @Value("${order.code.block-size:20}") int blockSize) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("order.code.block-size must be positive");
+    }
+    this.orderCodeCounterDAO = orderCodeCounterDAO;
+    this.blockSize = blockSize;
+  }
+
+  public String next() {
+    while (true) {
+      LocalDate today = LocalDate.now();
+      Block current = block;
+      if (current.date.equals(today)) {
+        long seq = current.next.getAndIncrement();
+        if (seq <= current.last) {
+          return String.format("MOSI-%s-%03d", today.format(DATE_FORMAT), seq);
+        }
+      }
+      refill(current, today);
+    }
+  }
+
+  // 블록 소진 또는 날짜 변경 시에만 잠금
+  private synchronized void refill(Block exhausted, LocalDate today) {
+    if (block != exhausted || exhausted.date.isAfter(today)) {
+      return; // 다른 스레드가 이미 새 블록을 받음
+    }
+    long last = orderCodeCounterDAO.reserve(prefix(today), blockSize);
+    block = new Block(today, last - blockSize + 1, last);
+  }
+
+  private static String prefix(LocalDate date) {
+    return "MOSI-" + date.format(DATE_FORMAT) + "-";
+  }
+
+  private static final class Block {
+    private final LocalDate date;
+    private final AtomicLong next;
+    private final long last;
+
+    private Block(LocalDate date, long first, long last) {
+      this.date = date;
+      this.next = new AtomicLong(first);
+      this.last = last;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.KDT.mosi.domain.order.svc;
+
+import com.KDT.mosi.domain.entity.Product;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
+import com.KDT.mosi.domain.product.dto.ProductCover;
+import com.KDT.mosi.domain.product.svc.ProductImageSVC;
+import com.KDT.mosi.domain.product.svc.ProductSVC;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 주문 상품 부가정보 일괄 조회
+ * - 상품 / 대표 이미지 / 판매자 닉네임을 엔티티 종류별로 한 번씩만 조회한다.
+ * - 조회 결과(Lines)는 하나의 요청 안에서 재사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderItemHydrator {
+
+  // Oracle IN 절 최대 항목 수
+  private static final int IN_CLAUSE_LIMIT = 1000;
+
+  private final ProductSVC productSVC;
+  private final ProductImageSVC productImageSVC;
+  private final SellerPageSVC sellerPageSVC;
+
+  /**
+   * 상품 ID / 판매자 ID 목록으로 부가정보 조회
+   *
+   * @param productIds 상품 ID 목록 (중복 허용)
+   * @param sellerIds  판매자 회원 ID 목록 (중복 허용)
+   * @return 조회 결과
+   */
+  public Lines hydrate(Collection<Long> productIds, Collection<Long> sellerIds) {
+    List<Long> distinctProductIds = distinct(productIds);
+    List<Long> distinctSellerIds = distinct(sellerIds);
+
+    Map<Long, Product> products = new HashMap<>();
+    for (List<Long> chunk : partition(distinctProductIds)) {
+      productSVC.getProductsByIds(chunk)
+          .forEach(product -> products.put(product.getProductId(), product));
+    }
+
+    Map<Long, String> images = new HashMap<>();
+    for (List<Long> chunk : partition(distinctProductIds)) {
+      for (ProductCover cover : productImageSVC.findCoversByProductIds(chunk)) {
+        images.put(cover.productId(), cover.url(ImageVariantSize.THUMB));
+      }
+    }
+
+    Map<Long, String> nicknames = new HashMap<>();
+    for (List<Long> chunk : partition(distinctSellerIds)) {
+      try {
+        nicknames.putAll(sellerPageSVC.getNicknamesByMemberIds(chunk));
+      } catch (Exception e) {
+        log.warn("판매자 닉네임 일괄 조회 실패: sellerIds={}", chunk, e);
+      }
+    }
+
+    return new Lines(products, images, nicknames);
+  }
+
+  /**
+   * 주문 라인 목록에서 상품 ID / 판매자 ID 를 추출해 조회
+   */
+  public <T> Lines hydrate(List<T> lines, Function<T, Long> productId, Function<T, Long> sellerId) {
+    return hydrate(
+        lines.stream().map(productId).toList(),
+        lines.stream().map(sellerId).toList()
+    );
+  }
+
+  private List<Long> distinct(Collection<Long> ids) {
+    if (ids == null) {
+      return List.of();
+    }
+    return ids.stream().filter(Objects::nonNull).distinct().toList();
+  }
+
+  private List<List<Long>> partition(List<Long> ids) {
+    List<List<Long>> chunks = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i += IN_CLAUSE_LIMIT) {
+      chunks.add(ids.subList(i, Math.min(i + IN_CLAUSE_LIMIT, ids.size())));
+    }
+    return chunks;
+  }
+
+  /**
+   * 일괄 조회 결과
+   */
+  public static final class Lines {
+    private final Map<Long, Product> products;
+    private final Map<Long, String> images;
+    private final Map<Long, String> nicknames;
+
+    Lines(Map<Long, Product> products, Map<Long, String> images, Map<Long, String> nicknames) {
+      this.products = products;
+      this.images = images;
+      this.nicknames = nicknames;
+    }
+
+    public Optional<Product> product(Long productId) {
+      return Optional.ofNullable(products.get(productId));
+    }
+
+    // 대표 이미지 URL, 이미지가 없으면 null
+    public String image(Long productId) {
+      return images.get(productId);
+    }
+
+    public String sellerNickname(Long sellerId) {
+      return nicknames.getOrDefault(sellerId, "판매자");
+    }
+  }
+}
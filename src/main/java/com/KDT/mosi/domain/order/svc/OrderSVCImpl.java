@@ -3,20 +3,15 @@ package com.KDT.mosi.domain.order.svc;
 import com.KDT.mosi.domain.cart.repository.CartItemRepository;
 import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.entity.Product;
-import com.KDT.mosi.domain.entity.ProductImage;
-import com.KDT.mosi.domain.entity.SellerPage;
 import com.KDT.mosi.domain.entity.cart.CartItem;
 import com.KDT.mosi.domain.entity.order.Order;
 import com.KDT.mosi.domain.entity.order.OrderItem;
 import com.KDT.mosi.domain.member.dao.MemberDAO;
-import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
 import com.KDT.mosi.domain.order.dto.OrderItemResponse;
 import com.KDT.mosi.domain.order.dto.OrderResponse;
 import com.KDT.mosi.domain.order.repository.OrderItemRepository;
 import com.KDT.mosi.domain.order.repository.OrderRepository;
 import com.KDT.mosi.domain.order.request.OrderFormRequest;
-import com.KDT.mosi.domain.product.svc.ProductImageSVC;
-import com.KDT.mosi.domain.product.svc.ProductSVC;
 import com.KDT.mosi.web.api.ApiResponse;
 import com.KDT.mosi.web.api.ApiResponseCode;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +25,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,19 +38,8 @@ public class OrderSVCImpl implements OrderSVC {
   private final OrderItemRepository orderItemRepository;
   private final CartItemRepository cartItemRepository;
   private final MemberDAO memberDAO;
-  private final ProductSVC productSVC;
-  private final ProductImageSVC productImageSVC;
-  private final SellerPageSVC sellerPageSVC;
-
-  // 주문번호 생성
-  private String generateOrderCode() {
-    LocalDateTime now = LocalDateTime.now();
-    String dateStr = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-    String prefix = "MOSI-" + dateStr + "-";
-
-    int todayCount = orderRepository.countByOrderCodeStartingWith(prefix);
-    return String.format("MOSI-%s-%03d", dateStr, todayCount + 1);
-  }
+  private final OrderItemHydrator orderItemHydrator;
+  private final OrderCodeGenerator orderCodeGenerator;
 
   @Override
   @Transactional(readOnly = true)
@@ -73,7 +56,9 @@ public class OrderSVCImpl implements OrderSVC {
       }
 
       // 3. CartItem → OrderItemResponse 변환
-      List<OrderItemResponse> orderItems = convertToOrderItems(cartItems);
+      OrderItemHydrator.Lines lines = orderItemHydrator.hydrate(
+          cartItems, CartItem::getProductId, CartItem::getSellerId);
+      List<OrderItemResponse> orderItems = convertToOrderItems(cartItems, lines);
 
       // 4. 결제 금액 계산 (할인/배송비 없음)
       Long totalPrice = 0L;
@@ -108,8 +93,13 @@ public class OrderSVCImpl implements OrderSVC {
   @Transactional
   public OrderResponse createOrder(Long buyerId, OrderFormRequest request) {
     try {
+      // 장바구니 상품 / 상품 정보는 한 번만 조회해서 재계산·검증에 함께 사용
+      List<CartItem> cartItems = cartItemRepository.findAllById(request.getCartItemIds());
+      OrderItemHydrator.Lines lines = orderItemHydrator.hydrate(
+          cartItems, CartItem::getProductId, CartItem::getSellerId);
+
       // 1. 서버에서 실제 금액 재계산 (보안)
-      Long serverCalculatedAmount = calculateTotalAmount(request.getCartItemIds());
+      Long serverCalculatedAmount = calculateTotalAmount(cartItems, lines);
 
       // 2. 클라이언트 금액과 서버 금액 비교
       if (!serverCalculatedAmount.equals(request.getTotalAmount())) {
@@ -117,11 +107,10 @@ public class OrderSVCImpl implements OrderSVC {
       }
 
       // 3. 장바구니 상품 재검증 (결제 직전 상태 확인)
-      List<CartItem> cartItems = cartItemRepository.findAllById(request.getCartItemIds());
-      validateCartItems(cartItems);
+      validateCartItems(cartItems, lines);
 
       // 5. 주문 생성
-      String orderCode = generateOrderCode();
+      String orderCode = orderCodeGenerator.next();
 
       Order order = new Order();
       order.setOrderCode(orderCode);
@@ -173,7 +162,9 @@ public class OrderSVCImpl implements OrderSVC {
 
       // 주문 상품 목록 조회
       List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
-      List<OrderItemResponse> orderItemResponses = convertOrderItemsToResponse(orderItems);
+      OrderItemHydrator.Lines lines = orderItemHydrator.hydrate(
+          orderItems, OrderItem::getProductId, OrderItem::getSellerId);
+      List<OrderItemResponse> orderItemResponses = convertOrderItemsToResponse(orderItems, lines);
 
       return OrderResponse.createOrderDetailSuccess(
           member.getName(),
@@ -274,10 +265,22 @@ public class OrderSVCImpl implements OrderSVC {
       // Repository에서 Page 객체 반환
       Page<Order> orderPage = orderRepository.findByBuyerId(buyerId, pageable);
 
+      // 페이지 내 모든 주문의 상품을 한 번에 조회 (페이지 크기와 무관하게 쿼리 수 고정)
+      List<Long> orderIds = orderPage.getContent().stream()
+          .map(Order::getOrderId)
+          .collect(Collectors.toList());
+      List<OrderItem> pageItems = orderIds.isEmpty()
+          ? List.of()
+          : orderItemRepository.findByOrderIdIn(orderIds);
+      Map<Long, List<OrderItem>> itemsByOrderId = pageItems.stream()
+          .collect(Collectors.groupingBy(OrderItem::getOrderId));
+      OrderItemHydrator.Lines lines = orderItemHydrator.hydrate(
+          pageItems, OrderItem::getProductId, OrderItem::getSellerId);
+
       List<OrderResponse> orderResponses = orderPage.getContent().stream()
           .map(order -> {
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(order.getOrderId());
-            List<OrderItemResponse> orderItemResponses = convertOrderItemsToResponse(orderItems);
+            List<OrderItem> orderItems = itemsByOrderId.getOrDefault(order.getOrderId(), List.of());
+            List<OrderItemResponse> orderItemResponses = convertOrderItemsToResponse(orderItems, lines);
 
             OrderResponse response = new OrderResponse();
             response.setOrderId(order.getOrderId());
@@ -317,19 +320,19 @@ public class OrderSVCImpl implements OrderSVC {
   }
 
   // CartItem → OrderItemResponse 변환
-  private List<OrderItemResponse> convertToOrderItems(List<CartItem> cartItems) {
+  private List<OrderItemResponse> convertToOrderItems(List<CartItem> cartItems, OrderItemHydrator.Lines lines) {
     List<OrderItemResponse> result = new ArrayList<>();
 
     for (CartItem cartItem : cartItems) {
-      Optional<Product> productOpt = productSVC.getProduct(cartItem.getProductId());
+      Optional<Product> productOpt = lines.product(cartItem.getProductId());
 
       if (productOpt.isPresent()) {
         Product product = productOpt.get();
         Date createDate = product.getCreateDate();
 
-        // 모든 정보를 실시간으로 조회
-        String sellerNickname = getSellerNickname(cartItem.getSellerId());
-        String imageData = getProductImage(product);
+        // 모든 정보를 실시간으로 조회 (일괄 조회 결과 사용)
+        String sellerNickname = lines.sellerNickname(cartItem.getSellerId());
+        String imageData = lines.image(product.getProductId());
 
         // 현재 상품 정보 (PRODUCT 테이블에서 실시간)
         String currentStatus = product.getStatus();
@@ -395,16 +398,16 @@ public class OrderSVCImpl implements OrderSVC {
   /**
    * OrderItem → OrderItemResponse 변환
    */
-  private List<OrderItemResponse> convertOrderItemsToResponse(List<OrderItem> orderItems) {
+  private List<OrderItemResponse> convertOrderItemsToResponse(List<OrderItem> orderItems, OrderItemHydrator.Lines lines) {
     List<OrderItemResponse> result = new ArrayList<>();
 
     for (OrderItem orderItem : orderItems) {
-      Optional<Product> productOpt = productSVC.getProduct(orderItem.getProductId());
+      Optional<Product> productOpt = lines.product(orderItem.getProductId());
 
       if (productOpt.isPresent()) {
         Product product = productOpt.get();
-        String sellerNickname = getSellerNickname(orderItem.getSellerId());
-        String imageData = getProductImage(product);
+        String sellerNickname = lines.sellerNickname(orderItem.getSellerId());
+        String imageData = lines.image(product.getProductId());
         Date createdDate = product.getCreateDate();
 
         result.add(OrderItemResponse.createAvailable(
@@ -431,14 +434,12 @@ public class OrderSVCImpl implements OrderSVC {
   /**
    * 총 금액 계산
    */
-  private Long calculateTotalAmount(List<Long> cartItemIds) {
-    List<CartItem> cartItems = cartItemRepository.findAllById(cartItemIds);
-
+  private Long calculateTotalAmount(List<CartItem> cartItems, OrderItemHydrator.Lines lines) {
     return cartItems.stream()
         .mapToLong(cartItem -> {
           // 업계 표준: 장바구니에 저장된 가격 사용 (UI 일관성)
           // 단, 상품 상태는 실시간 검증
-          Optional<Product> productOpt = productSVC.getProduct(cartItem.getProductId());
+          Optional<Product> productOpt = lines.product(cartItem.getProductId());
           if (productOpt.isPresent() && "판매중".equals(productOpt.get().getStatus())) {
             // CartItem의 salePrice 사용 (할인가)
             return cartItem.getSalePrice() * cartItem.getQuantity();
@@ -452,9 +453,9 @@ public class OrderSVCImpl implements OrderSVC {
   /**
    * 장바구니 상품 검증
    */
-  private void validateCartItems(List<CartItem> cartItems) {
+  private void validateCartItems(List<CartItem> cartItems, OrderItemHydrator.Lines lines) {
     for (CartItem cartItem : cartItems) {
-      Optional<Product> productOpt = productSVC.getProduct(cartItem.getProductId());
+      Optional<Product> productOpt = lines.product(cartItem.getProductId());
 
       if (productOpt.isEmpty()) {
         throw new IllegalArgumentException("상품을 찾을 수 없습니다");
@@ -506,10 +507,12 @@ public class OrderSVCImpl implements OrderSVC {
     // 주문자 정보 조회
     Member buyer = memberDAO.findById(order.getBuyerId())
         .orElse(null);
+    OrderItemHydrator.Lines lines = orderItemHydrator.hydrate(
+        orderItems, OrderItem::getProductId, OrderItem::getSellerId);
     List<OrderItemResponse> orderItemResponses = orderItems.stream()
         .map(orderItem -> {
           // 상품 정보 조회
-          Optional<Product> productOpt = productSVC.getProduct(orderItem.getProductId());
+          Optional<Product> productOpt = lines.product(orderItem.getProductId());
           if (productOpt.isEmpty()) {
             throw new IllegalArgumentException("상품을 찾을 수 없습니다");
           }
@@ -517,22 +520,14 @@ public class OrderSVCImpl implements OrderSVC {
           Date createdDate = product.getCreateDate();
 
           // 판매자 정보 조회
-          String sellerNickname = "판매자";
-          try {
-            Optional<SellerPage> sellerPageOpt = sellerPageSVC.findByMemberId(orderItem.getSellerId());
-            if (sellerPageOpt.isPresent()) {
-              sellerNickname = sellerPageOpt.get().getNickname();
-            }
-          } catch (Exception e) {
-            log.warn("판매자 정보 조회 실패: sellerId={}", orderItem.getSellerId());
-          }
+          String sellerNickname = lines.sellerNickname(orderItem.getSellerId());
 
           // 현재 상품의 정가/할인가 조회
           Long currentOriginalPrice = getCurrentOriginalPrice(product, orderItem.getOptionType());
           Long currentSalePrice = getCurrentPrice(product, orderItem.getOptionType());
 
           // 상품 이미지 조회
-          String imageData = getProductImage(product);
+          String imageData = lines.image(product.getProductId());
 
           return OrderItemResponse.createAvailable(
               orderItem.getProductId(),
@@ -605,30 +600,6 @@ public class OrderSVCImpl implements OrderSVC {
     }
   }
 
-  /**
-   * 판매자 닉네임 조회
-   */
-  private String getSellerNickname(Long sellerId) {
-    return sellerPageSVC.findByMemberId(sellerId)
-        .map(SellerPage::getNickname)
-        .orElse("판매자");
-  }
-
-  /**
-   * 상품 이미지 조회
-   * ProductImageSVC를 사용하여 상품 기본 정보에서 이미지를 가져옴
-   */
-  private String getProductImage(Product product) {
-    List<ProductImage> images = productImageSVC.findByProductId(product.getProductId());
-    log.info(" 주문 상품 이미지 조회: productId={}, 이미지 개수={}", product.getProductId(), images != null ? images.size() : 0);
-    if (images != null && !images.isEmpty()) {
-      String imageData = images.get(0).getBase64ImageData();
-      log.info(" 주문 이미지 데이터 설정 완료: {}", imageData != null ? "성공" : "실패");
-      return imageData;
-    }
-    return null;
-  }
-
   /**
    * 결제 완료 처리
    */
@@ -697,6 +668,14 @@ public class OrderSVCImpl implements OrderSVC {
       Map<Long, Order> orderMap = orders.stream()
           .collect(Collectors.toMap(Order::getOrderId, order -> order));
 
+      // 상품/이미지/판매자 및 구매자 이름 일괄 조회
+      OrderItemHydrator.Lines lines = orderItemHydrator.hydrate(
+          orderItemPage.getContent(), OrderItem::getProductId, OrderItem::getSellerId);
+      Map<Long, String> buyerNames = memberDAO.findNamesByIds(orders.stream()
+          .map(Order::getBuyerId)
+          .distinct()
+          .collect(Collectors.toList()));
+
       List<OrderResponse> orderResponses = orderItemPage.getContent().stream()
           .collect(Collectors.groupingBy(OrderItem::getOrderId))
           .entrySet().stream()
@@ -707,11 +686,10 @@ public class OrderSVCImpl implements OrderSVC {
             
             if (order == null) return null;
 
-            List<OrderItemResponse> orderItemResponses = convertOrderItemsToResponse(orderItems);
+            List<OrderItemResponse> orderItemResponses = convertOrderItemsToResponse(orderItems, lines);
 
             // 구매자 정보 조회
-            Member buyer = memberDAO.findById(order.getBuyerId()).orElse(null);
-            String buyerName = buyer != null ? buyer.getName() : "구매자";
+            String buyerName = buyerNames.getOrDefault(order.getBuyerId(), "구매자");
 
             OrderResponse response = new OrderResponse();
             response.setOrderId(order.getOrderId());
@@ -1,6 +1,9 @@
 package com.KDT.mosi.domain.product.dao;
 
 import com.KDT.mosi.domain.entity.Product;
+import com.KDT.mosi.domain.product.dto.ProductCard;
+
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +17,26 @@ public interface ProductDAO {
   // 상품 삭제
   void delete(Long productId);
 
-  // 상품 개별 조회
+  // 상품 상태 변경
+  int updateStatus(Long productId, String status);
+
+  // 상품 개별 조회 (FILE_DATA / DETAIL 포함 전체 컬럼)
   Optional<Product> findById(Long productId);
 
+  // 첨부파일 정보 조회 (FILE_DATA 제외)
+  Optional<Product> findFileInfoById(Long productId);
+
+  // 첨부파일 스트리밍 전송
+  void streamFileData(Long productId, OutputStream out);
+
+  // ※ 아래 목록 조회는 FILE_DATA / DETAIL 을 조회하지 않는다. (필요하면 findById)
+
+  // 상품 일괄 조회 (IN 절, 순서 보장하지 않음)
+  List<Product> findByIds(List<Long> productIds);
+
+  // 목록 카드 일괄 조회 (대표 이미지 / 첫 코스 지점을 한 번의 쿼리로 함께 조회, IN 절)
+  List<ProductCard> findCardsByIds(List<Long> productIds);
+
   // 멤버별 상품 전체조회(페이징 포함)
   List<Product> findByMemberIdWithPaging(Long memberId, int page, int size);
 
@@ -29,6 +49,9 @@ public interface ProductDAO {
   // 페이징 처리된 상품 리스트 조회 (pageNumber: 1부터 시작, pageSize: 한 페이지에 보여줄 상품 갯수)
   List<Product> findAllByPage(int pageNumber, int pageSize);
 
+  // '판매중' 상품을 상품 ID 순으로 조회 (afterProductId 보다 큰 ID부터, 인덱스 재구축용)
+  List<Product> findOnSaleAfter(long afterProductId, int limit);
+
   // 전체 상품 갯수 조회
   long countAll();
 
@@ -2,15 +2,24 @@ package com.KDT.mosi.domain.product.dao;
 
 import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.entity.Product;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.product.dto.ProductCard;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.*;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -37,8 +46,14 @@ public class ProductDAOImpl implements ProductDAO {
     return jdbcTemplate.getJdbcOperations().queryForObject(sql, Long.class);
   }
 
-  // RowMapper 구현 - 수동 매핑
-  private static final class ProductRowMapper implements RowMapper<Product> {
+  // 목록/인덱싱용 컬럼 (FILE_DATA BLOB, DETAIL CLOB 제외)
+  private static final String SUMMARY_COLUMNS =
+      "product_id, member_id, category, title, guide_yn, normal_price, guide_price, sales_price, sales_guide_price, " +
+      "total_day, total_time, req_money, sleep_info, transport_info, food_info, req_people, target, stucks, " +
+      "description, file_name, file_type, file_size, price_detail, gprice_detail, status, create_date, update_date";
+
+  // RowMapper 구현 - 수동 매핑 (목록용, fileData / detail 은 null)
+  private static class ProductSummaryRowMapper implements RowMapper<Product> {
     @Override
     public Product mapRow(ResultSet rs, int rowNum) throws SQLException {
       Product p = new Product();
@@ -63,11 +78,9 @@ public class ProductDAOImpl implements ProductDAO {
       p.setTarget(rs.getString("target"));
       p.setStucks(rs.getString("stucks"));
       p.setDescription(rs.getString("description"));
-      p.setDetail(rs.getString("detail"));
       p.setFileName(rs.getString("file_name"));
       p.setFileType(rs.getString("file_type"));
       p.setFileSize(rs.getLong("file_size"));
-      p.setFileData(rs.getBytes("file_data"));
       p.setPriceDetail(rs.getString("price_detail"));
       p.setGpriceDetail(rs.getString("gprice_detail"));
       p.setStatus(rs.getString("status"));
@@ -78,6 +91,17 @@ public class ProductDAOImpl implements ProductDAO {
     }
   }
 
+  // RowMapper 구현 - 수동 매핑 (상세/수정용, 전체 컬럼)
+  private static final class ProductRowMapper extends ProductSummaryRowMapper {
+    @Override
+    public Product mapRow(ResultSet rs, int rowNum) throws SQLException {
+      Product p = super.mapRow(rs, rowNum);
+      p.setDetail(rs.getString("detail"));
+      p.setFileData(rs.getBytes("file_data"));
+      return p;
+    }
+  }
+
   // insert
   @Override
   public Product insert(Product product) {
@@ -206,12 +230,70 @@ public class ProductDAOImpl implements ProductDAO {
     return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
   }
 
+  // findByIds - 주문/장바구니 화면에서 여러 상품을 한 번에 조회
+  @Override
+  public List<Product> findByIds(List<Long> productIds) {
+    if (productIds == null || productIds.isEmpty()) {
+      return List.of();
+    }
+
+    StringBuffer sql = new StringBuffer();
+    sql.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM product WHERE product_id IN (:productIds)");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("productIds", productIds);
+
+    return jdbcTemplate.query(sql.toString(), params, new ProductSummaryRowMapper());
+  }
+
+  @Override
+  public List<ProductCard> findCardsByIds(List<Long> productIds) {
+    if (productIds == null || productIds.isEmpty()) {
+      return List.of();
+    }
+
+    StringBuffer sql = new StringBuffer();
+    sql.append("SELECT p.product_id, p.title, p.category, p.status, p.sales_price, p.normal_price, ")
+        .append("       pc.image_id, pc.version AS cover_version, ")
+        .append("       cp.description AS point_description, cp.latitude, cp.longitude ")
+        .append("FROM product p ")
+        .append("LEFT JOIN product_cover pc ON pc.product_id = p.product_id ")
+        .append("LEFT JOIN ( ")
+        .append("  SELECT product_id, description, latitude, longitude, ")
+        .append("         ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY point_order, course_point_id) AS rn ")
+        .append("  FROM product_course_point WHERE product_id IN (:productIds) ")
+        .append(") cp ON cp.product_id = p.product_id AND cp.rn = 1 ")
+        .append("WHERE p.product_id IN (:productIds)");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("productIds", productIds);
+
+    return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> {
+      long imageId = rs.getLong("image_id");
+      Long thumbnailImageId = rs.wasNull() ? null : imageId;
+      double latitude = rs.getDouble("latitude");
+      boolean hasPoint = !rs.wasNull();
+      return ProductCard.builder()
+          .productId(rs.getLong("product_id"))
+          .title(rs.getString("title"))
+          .category(rs.getString("category"))
+          .status(rs.getString("status"))
+          .salesPrice(rs.getInt("sales_price"))
+          .normalPrice(rs.getInt("normal_price"))
+          .thumbnailUrl(ProductCover.urlOf(thumbnailImageId, rs.getLong("cover_version"), ImageVariantSize.CARD))
+          .pointDescription(rs.getString("point_description"))
+          .latitude(hasPoint ? latitude : null)
+          .longitude(hasPoint ? rs.getDouble("longitude") : null)
+          .build();
+    });
+  }
+
   @Override
   public List<Product> findByMemberIdWithPaging(Long memberId, int page, int size) {
     int offset = (page - 1) * size;
 
     StringBuffer sql = new StringBuffer();
-    sql.append("SELECT * FROM product ")
+    sql.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM product ")
         .append("WHERE member_id = :memberId ")
         .append("ORDER BY product_id DESC ")
         .append("OFFSET :offset ROWS FETCH NEXT :size ROWS ONLY");
@@ -222,7 +304,7 @@ public class ProductDAOImpl implements ProductDAO {
     params.put("offset", offset);
     params.put("size", size);
 
-    return jdbcTemplate.query(sql.toString(), params, new ProductRowMapper());
+    return jdbcTemplate.query(sql.toString(), params, new ProductSummaryRowMapper());
   }
 
   // 카테고리별 상품 목록
@@ -231,7 +313,7 @@ public class ProductDAOImpl implements ProductDAO {
     int offset = (page - 1) * size;
 
     StringBuffer sql = new StringBuffer();
-    sql.append("SELECT * FROM product WHERE category = :category AND status = '판매중' ");
+    sql.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM product WHERE category = :category AND status = '판매중' ");
     sql.append("ORDER BY product_id DESC OFFSET :offset ROWS FETCH NEXT :size ROWS ONLY");
 
     Map<String, Object> params = new HashMap<>();
@@ -239,7 +321,7 @@ public class ProductDAOImpl implements ProductDAO {
     params.put("offset", offset);
     params.put("size", size);
 
-    return jdbcTemplate.query(sql.toString(), params, new ProductRowMapper());
+    return jdbcTemplate.query(sql.toString(), params, new ProductSummaryRowMapper());
   }
 
   @Override
@@ -247,7 +329,7 @@ public class ProductDAOImpl implements ProductDAO {
     int offset = (page - 1) * size;
 
     StringBuffer sql = new StringBuffer();
-    sql.append("SELECT * FROM product WHERE member_id = :memberId AND status = :status ");
+    sql.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM product WHERE member_id = :memberId AND status = :status ");
     sql.append("ORDER BY product_id DESC OFFSET :offset ROWS FETCH NEXT :size ROWS ONLY");
 
     Map<String, Object> params = new HashMap<>();
@@ -256,7 +338,7 @@ public class ProductDAOImpl implements ProductDAO {
     params.put("offset", offset);
     params.put("size", size);
 
-    return jdbcTemplate.query(sql.toString(), params, new ProductRowMapper());
+    return jdbcTemplate.query(sql.toString(), params, new ProductSummaryRowMapper());
   }
 
   // findAllByPage (Oracle 기준 페이징 처리)
@@ -265,7 +347,7 @@ public class ProductDAOImpl implements ProductDAO {
     int offset = (pageNumber - 1) * pageSize;
 
     StringBuffer sql = new StringBuffer();
-    sql.append("SELECT * FROM product WHERE status NOT IN '임시저장' ORDER BY product_id DESC OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY");
+    sql.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM product WHERE status NOT IN '임시저장' ORDER BY product_id DESC OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY");
 
     Map<String, Object> params = new HashMap<>();
     params.put("offset", offset);
@@ -274,7 +356,7 @@ public class ProductDAOImpl implements ProductDAO {
     // ✨✨✨ 새로 추가할 로그
     log.info("findAllByPage - SQL 실행: {}, offset: {}, limit: {}", sql.toString(), offset, pageSize);
 
-    List<Product> products = jdbcTemplate.query(sql.toString(), params, new ProductRowMapper());
+    List<Product> products = jdbcTemplate.query(sql.toString(), params, new ProductSummaryRowMapper());
 
     // ✨✨✨ 새로 추가할 로그
     log.info("findAllByPage - 페이지 {}에서 조회된 상품 수: {}", pageNumber, products.size());
@@ -282,6 +364,21 @@ public class ProductDAOImpl implements ProductDAO {
     return products;
   }
 
+  // 검색 인덱스 재구축용 keyset 페이징 (OFFSET 없이 상품 ID 기준)
+  @Override
+  public List<Product> findOnSaleAfter(long afterProductId, int limit) {
+    StringBuffer sql = new StringBuffer();
+    sql.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM product ")
+        .append("WHERE status = '판매중' AND product_id > :afterProductId ")
+        .append("ORDER BY product_id FETCH FIRST :limit ROWS ONLY");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("afterProductId", afterProductId);
+    params.put("limit", limit);
+
+    return jdbcTemplate.query(sql.toString(), params, new ProductSummaryRowMapper());
+  }
+
   // countAll
   @Override
   public long countAll() {
@@ -334,4 +431,67 @@ public class ProductDAOImpl implements ProductDAO {
 
     return jdbcTemplate.queryForObject(sql.toString(), params, Long.class);
   }
-}
\ No newline at end of file
+
+  // 상태만 변경 (BLOB/CLOB 을 읽고 다시 쓰지 않음)
+  @Override
+  public int updateStatus(Long productId, String status) {
+    StringBuffer sql = new StringBuffer();
+    sql.append("UPDATE product SET status = :status, update_date = SYSDATE WHERE product_id = :productId");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("productId", productId);
+    params.put("status", status);
+
+    return jdbcTemplate.update(sql.toString(), params);
+  }
+
+  // 첨부파일 정보 (FILE_DATA 제외, 크기는 실제 BLOB 길이)
+  @Override
+  public Optional<Product> findFileInfoById(Long productId) {
+    StringBuffer sql = new StringBuffer();
+    sql.append("SELECT product_id, file_name, file_type, DBMS_LOB.GETLENGTH(file_data) AS data_length ")
+        .append("FROM product WHERE product_id = :productId");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("productId", productId);
+
+    List<Product> list = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> {
+      Product p = new Product();
+      p.setProductId(rs.getLong("product_id"));
+      p.setFileName(rs.getString("file_name"));
+      p.setFileType(rs.getString("file_type"));
+      p.setFileSize(rs.getLong("data_length"));
+      return p;
+    });
+
+    return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
+  }
+
+  // 첨부파일 BLOB 을 메모리에 올리지 않고 out 으로 전송
+  @Override
+  public void streamFileData(Long productId, OutputStream out) {
+    StringBuffer sql = new StringBuffer();
+    sql.append("SELECT file_data FROM product WHERE product_id = :productId");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("productId", productId);
+
+    jdbcTemplate.query(sql.toString(), params, (ResultSetExtractor<Void>) rs -> {
+      if (!rs.next()) {
+        return null;
+      }
+      Blob blob = rs.getBlob("file_data");
+      if (blob == null) {
+        return null;
+      }
+      try (InputStream in = blob.getBinaryStream()) {
+        in.transferTo(out);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        blob.free();
+      }
+      return null;
+    });
+  }
+}
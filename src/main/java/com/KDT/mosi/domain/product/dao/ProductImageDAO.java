@@ -1,15 +1,29 @@
 package com.KDT.mosi.domain.product.dao;
 
 import com.KDT.mosi.domain.entity.ProductImage;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProductImageDAO {
   List<ProductImage> findByProductId(Long productId);
+
+  // 상품별 대표 이미지 매핑 일괄 조회 (PRODUCT_COVER, BLOB 없음, 이미지 쓰기 시 갱신됨)
+  List<ProductCover> findCoversByProductIds(List<Long> productIds);
   int insert(ProductImage productImage);
   int delete(Long imageId);
   int deleteByProductId(Long productId);
 
   Optional<ProductImage> findById(Long imageId);
+
+  // 이미지 메타데이터 조회 (IMAGE_DATA 제외, FILE_SIZE 는 실제 BLOB 길이)
+  Optional<ProductImage> findMetaById(Long imageId);
+
+  // IMAGE_DATA 만 조회
+  Optional<byte[]> findImageDataById(Long imageId);
+
+  // IMAGE_DATA 의 [offset, offset + length) 구간을 out 으로 스트리밍
+  void streamImageData(Long imageId, long offset, long length, OutputStream out);
 }
\ No newline at end of file
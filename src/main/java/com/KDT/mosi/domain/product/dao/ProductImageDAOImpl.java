@@ -2,6 +2,9 @@ package com.KDT.mosi.domain.product.dao;
 
 import com.KDT.mosi.domain.entity.Product;
 import com.KDT.mosi.domain.entity.ProductImage;
+import com.KDT.mosi.domain.product.dto.ProductCover;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -9,6 +12,13 @@ import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,15 +80,25 @@ public class ProductImageDAOImpl implements ProductImageDAO {
     params.addValue("fileSize", productImage.getFileSize() != null ? productImage.getFileSize() : 0L);
     params.addValue("mimeType", productImage.getMimeType() != null ? productImage.getMimeType() : "");
 
-    return jdbcTemplate.update(sql, params, keyHolder, new String[]{"image_id"});
+    int rows = jdbcTemplate.update(sql, params, keyHolder, new String[]{"image_id"});
+    if (keyHolder.getKey() != null) {
+      productImage.setImageId(keyHolder.getKey().longValue());
+    }
+    refreshCover(productImage.getProduct().getProductId());
+    return rows;
   }
 
   @Override
   public int delete(Long imageId) {
-    String sql = "DELETE FROM PRODUCT_IMAGE WHERE IMAGE_ID = :imageId";
     Map<String, Object> params = new HashMap<>();
     params.put("imageId", imageId);
-    return jdbcTemplate.update(sql, params);
+    List<Long> productIds = jdbcTemplate.queryForList(
+        "SELECT PRODUCT_ID FROM PRODUCT_IMAGE WHERE IMAGE_ID = :imageId", params, Long.class);
+
+    String sql = "DELETE FROM PRODUCT_IMAGE WHERE IMAGE_ID = :imageId";
+    int rows = jdbcTemplate.update(sql, params);
+    productIds.forEach(this::refreshCover);
+    return rows;
   }
 
   @Override
@@ -86,7 +106,56 @@ public class ProductImageDAOImpl implements ProductImageDAO {
     String sql = "DELETE FROM PRODUCT_IMAGE WHERE PRODUCT_ID = :productId";
     Map<String, Object> params = new HashMap<>();
     params.put("productId", productId);
-    return jdbcTemplate.update(sql, params);
+    int rows = jdbcTemplate.update(sql, params);
+    refreshCover(productId);
+    return rows;
+  }
+
+  @Override
+  public List<ProductCover> findCoversByProductIds(List<Long> productIds) {
+    if (productIds == null || productIds.isEmpty()) {
+      return List.of();
+    }
+    String sql = "SELECT PRODUCT_ID, IMAGE_ID, MIME_TYPE, VERSION FROM PRODUCT_COVER WHERE PRODUCT_ID IN (:productIds)";
+    Map<String, Object> params = new HashMap<>();
+    params.put("productIds", productIds);
+    return jdbcTemplate.query(sql, params, (rs, rowNum) -> new ProductCover(
+        rs.getLong("PRODUCT_ID"),
+        rs.getLong("IMAGE_ID"),
+        rs.getString("MIME_TYPE"),
+        rs.getLong("VERSION")
+    ));
+  }
+
+  // 상품의 대표 이미지(IMAGE_ORDER, IMAGE_ID 최솟값)를 PRODUCT_COVER 에 반영 (이미지가 없으면 삭제)
+  // - 같은 상품의 첫 이미지가 동시에 저장되면 둘 다 NOT MATCHED 로 INSERT 해 한쪽이 ORA-00001 을 받는다.
+  //   이때는 상대 행이 커밋된 뒤이므로 MERGE 를 한 번 더 실행하면 MATCHED(UPDATE) 로 반영된다.
+  private void refreshCover(Long productId) {
+    String sql = "MERGE INTO PRODUCT_COVER c " +
+        "USING ( " +
+        "  SELECT p.PRODUCT_ID, i.IMAGE_ID, i.MIME_TYPE " +
+        "    FROM (SELECT :productId AS PRODUCT_ID FROM DUAL) p " +
+        "    LEFT JOIN ( " +
+        "      SELECT PRODUCT_ID, IMAGE_ID, MIME_TYPE FROM PRODUCT_IMAGE " +
+        "       WHERE PRODUCT_ID = :productId ORDER BY IMAGE_ORDER, IMAGE_ID FETCH FIRST 1 ROWS ONLY " +
+        "    ) i ON i.PRODUCT_ID = p.PRODUCT_ID " +
+        ") s ON (c.PRODUCT_ID = s.PRODUCT_ID) " +
+        "WHEN MATCHED THEN UPDATE SET " +
+        "  c.VERSION = CASE WHEN c.IMAGE_ID = s.IMAGE_ID THEN c.VERSION ELSE c.VERSION + 1 END, " +
+        "  c.IMAGE_ID = NVL(s.IMAGE_ID, c.IMAGE_ID), " +
+        "  c.MIME_TYPE = s.MIME_TYPE, " +
+        "  c.UPDATED_AT = SYSTIMESTAMP " +
+        "  DELETE WHERE s.IMAGE_ID IS NULL " +
+        "WHEN NOT MATCHED THEN INSERT (PRODUCT_ID, IMAGE_ID, MIME_TYPE, VERSION, UPDATED_AT) " +
+        "  VALUES (s.PRODUCT_ID, s.IMAGE_ID, s.MIME_TYPE, 1, SYSTIMESTAMP) " +
+        "  WHERE s.IMAGE_ID IS NOT NULL";
+    Map<String, Object> params = new HashMap<>();
+    params.put("productId", productId);
+    try {
+      jdbcTemplate.update(sql, params);
+    } catch (DuplicateKeyException e) {
+      jdbcTemplate.update(sql, params);
+    }
   }
 
   @Override
@@ -98,4 +167,66 @@ public class ProductImageDAOImpl implements ProductImageDAO {
     List<ProductImage> results = jdbcTemplate.query(sql, params, rowMapper);
     return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
   }
-}
\ No newline at end of file
+
+  @Override
+  public Optional<ProductImage> findMetaById(Long imageId) {
+    String sql = "SELECT IMAGE_ID, PRODUCT_ID, IMAGE_ORDER, FILE_NAME, MIME_TYPE, UPLOAD_TIME, " +
+        "DBMS_LOB.GETLENGTH(IMAGE_DATA) AS DATA_LENGTH " +
+        "FROM PRODUCT_IMAGE WHERE IMAGE_ID = :imageId";
+    Map<String, Object> params = new HashMap<>();
+    params.put("imageId", imageId);
+
+    List<ProductImage> results = jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+      ProductImage pi = new ProductImage();
+      pi.setImageId(rs.getLong("IMAGE_ID"));
+      Product product = new Product();
+      product.setProductId(rs.getLong("PRODUCT_ID"));
+      pi.setProduct(product);
+      pi.setImageOrder(rs.getInt("IMAGE_ORDER"));
+      pi.setFileName(rs.getString("FILE_NAME"));
+      pi.setFileSize(rs.getLong("DATA_LENGTH"));
+      pi.setMimeType(rs.getString("MIME_TYPE"));
+      // 시:분:초 까지 보존 (ETag/Last-Modified 용)
+      Timestamp uploadTime = rs.getTimestamp("UPLOAD_TIME");
+      pi.setUploadTime(uploadTime != null ? new Date(uploadTime.getTime()) : null);
+      return pi;
+    });
+    return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+  }
+
+  @Override
+  public Optional<byte[]> findImageDataById(Long imageId) {
+    String sql = "SELECT IMAGE_DATA FROM PRODUCT_IMAGE WHERE IMAGE_ID = :imageId";
+    Map<String, Object> params = new HashMap<>();
+    params.put("imageId", imageId);
+
+    List<byte[]> results = jdbcTemplate.query(sql, params, (rs, rowNum) -> rs.getBytes("IMAGE_DATA"));
+    return results.isEmpty() ? Optional.empty() : Optional.ofNullable(results.get(0));
+  }
+
+  @Override
+  public void streamImageData(Long imageId, long offset, long length, OutputStream out) {
+    String sql = "SELECT IMAGE_DATA FROM PRODUCT_IMAGE WHERE IMAGE_ID = :imageId";
+    Map<String, Object> params = new HashMap<>();
+    params.put("imageId", imageId);
+
+    jdbcTemplate.query(sql, params, (ResultSetExtractor<Void>) rs -> {
+      if (!rs.next()) {
+        return null;
+      }
+      Blob blob = rs.getBlob("IMAGE_DATA");
+      if (blob == null || length <= 0) {
+        return null;
+      }
+      // Blob 위치는 1부터 시작
+      try (InputStream in = blob.getBinaryStream(offset + 1, length)) {
+        in.transferTo(out);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        blob.free();
+      }
+      return null;
+    });
+  }
+}
@@ -0,0 +1,24 @@
+package com.KDT.mosi.domain.product.dao;
+
+import com.KDT.mosi.domain.entity.ProductIndexOutbox;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 변경 기록(outbox) DAO
+ * - 상품 등록/수정/상태변경/삭제 시 같은 트랜잭션에서 변경 기록을 남긴다.
+ * - 인덱서는 남아 있는 기록을 오래된 순으로 읽어 Elasticsearch 에 반영하고, 반영한 기록만 지운다.
+ *   (OUTBOX_ID 는 커밋 순서가 아니므로 "이 번호까지 처리" 같은 위치를 두지 않는다.
+ *    늦게 커밋된 작은 번호도 다음 주기에 그대로 읽힌다.)
+ */
+public interface ProductIndexOutboxDAO {
+
+  // 변경 기록 추가
+  void append(Long productId);
+
+  // 남아 있는 변경 기록 (OUTBOX_ID 오름차순, 최대 limit 건)
+  List<ProductIndexOutbox> findPending(int limit);
+
+  // 반영 완료된 기록 정리 (읽어서 반영한 OUTBOX_ID 만)
+  int deleteByIds(List<Long> outboxIds);
+}
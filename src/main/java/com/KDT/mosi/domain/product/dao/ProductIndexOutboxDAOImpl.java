@@ -0,0 +1,52 @@
+package com.KDT.mosi.domain.product.dao;
+
+import com.KDT.mosi.domain.entity.ProductIndexOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductIndexOutboxDAOImpl implements ProductIndexOutboxDAO {
+
+  // Oracle IN 절 최대 항목 수
+  private static final int IN_CLAUSE_LIMIT = 1000;
+
+  private final NamedParameterJdbcTemplate template;
+
+  @Override
+  public void append(Long productId) {
+    String sql = "INSERT INTO PRODUCT_INDEX_OUTBOX (OUTBOX_ID, PRODUCT_ID, CREATED_AT) " +
+        "VALUES (PRODUCT_INDEX_OUTBOX_SEQ.NEXTVAL, :productId, SYSTIMESTAMP)";
+    template.update(sql, new MapSqlParameterSource("productId", productId));
+  }
+
+  @Override
+  public List<ProductIndexOutbox> findPending(int limit) {
+    String sql = "SELECT OUTBOX_ID, PRODUCT_ID, CREATED_AT FROM PRODUCT_INDEX_OUTBOX " +
+        "ORDER BY OUTBOX_ID FETCH FIRST :limit ROWS ONLY";
+    MapSqlParameterSource param = new MapSqlParameterSource("limit", limit);
+
+    return template.query(sql, param, (rs, rowNum) -> {
+      ProductIndexOutbox outbox = new ProductIndexOutbox();
+      outbox.setOutboxId(rs.getLong("OUTBOX_ID"));
+      outbox.setProductId(rs.getLong("PRODUCT_ID"));
+      outbox.setCreatedAt(rs.getTimestamp("CREATED_AT"));
+      return outbox;
+    });
+  }
+
+  @Override
+  public int deleteByIds(List<Long> outboxIds) {
+    String sql = "DELETE FROM PRODUCT_INDEX_OUTBOX WHERE OUTBOX_ID IN (:ids)";
+    int deleted = 0;
+    for (int i = 0; i < outboxIds.size(); i += IN_CLAUSE_LIMIT) {
+      List<Long> chunk = outboxIds.subList(i, Math.min(i + IN_CLAUSE_LIMIT, outboxIds.size()));
+      deleted += template.update(sql, new MapSqlParameterSource("ids", chunk));
+    }
+    return deleted;
+  }
+}
@@ -8,9 +8,11 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.GeoPointField;
 import org.springframework.data.elasticsearch.annotations.InnerField;
 import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 
 import java.time.LocalDate;
 
@@ -18,7 +20,7 @@ import java.time.LocalDate;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "products")
+@Document(indexName = "products", createIndex = false) // indexName 은 alias (SearchIndexManager 가 버전 인덱스 관리)
 @Setting(shards = 1, replicas = 0, settingPath = "elasticsearch/product-settings.json")
 public class ProductDocument {
 
@@ -126,4 +128,15 @@ public class ProductDocument {
 
   @Field(type = FieldType.Date)
   private LocalDate updateDate;
+
+  // 목록 카드용 대표 이미지 URL (이미지 없음은 빈 문자열, null 이면 이 필드 도입 전에 색인된 문서)
+  @Field(type = FieldType.Keyword, index = false)
+  private String thumbnailUrl;
+
+  // 첫 코스 지점 설명 / 좌표
+  @Field(type = FieldType.Text, index = false)
+  private String pointDescription;
+
+  @GeoPointField
+  private GeoPoint location;
 }
\ No newline at end of file
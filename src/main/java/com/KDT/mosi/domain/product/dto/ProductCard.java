@@ -0,0 +1,54 @@
+package com.KDT.mosi.domain.product.dto;
+
+import com.KDT.mosi.domain.product.document.ProductDocument;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 목록 카드 (검색 결과 렌더링용)
+ * - 제목 / 가격 / 대표 이미지 URL / 첫 코스 지점만 담는다. (BLOB 없음)
+ * - ES 문서에서 바로 만들고, 문서에 없는 값만 DB 에서 일괄 조회해 채운다.
+ */
+@Getter
+@Builder
+public class ProductCard {
+
+  private Long productId;
+  private String title;
+  private String category;
+  private String status;
+  private Integer salesPrice;
+  private Integer normalPrice;
+
+  // 대표 이미지 URL, 이미지가 없으면 null
+  private String thumbnailUrl;
+
+  // 첫 코스 지점 (없으면 null)
+  private String pointDescription;
+  private Double latitude;
+  private Double longitude;
+
+  public boolean hasPoint() {
+    return latitude != null && longitude != null;
+  }
+
+  // 목록 카드 필드가 색인된 문서인지 (필드 도입 전에 색인된 문서는 false)
+  public static boolean isComplete(ProductDocument document) {
+    return document.getThumbnailUrl() != null;
+  }
+
+  public static ProductCard of(ProductDocument document) {
+    return ProductCard.builder()
+        .productId(Long.valueOf(document.getProductId()))
+        .title(document.getTitle())
+        .category(document.getCategory())
+        .status(document.getStatus())
+        .salesPrice(document.getSalesPrice())
+        .normalPrice(document.getNormalPrice())
+        .thumbnailUrl(document.getThumbnailUrl().isEmpty() ? null : document.getThumbnailUrl())
+        .pointDescription(document.getPointDescription())
+        .latitude(document.getLocation() != null ? document.getLocation().getLat() : null)
+        .longitude(document.getLocation() != null ? document.getLocation().getLon() : null)
+        .build();
+  }
+}
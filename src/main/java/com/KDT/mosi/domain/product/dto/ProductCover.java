@@ -0,0 +1,25 @@
+package com.KDT.mosi.domain.product.dto;
+
+import com.KDT.mosi.domain.image.ImageVariantSize;
+
+import java.util.Locale;
+
+/**
+ * 상품 대표 이미지 (PRODUCT_COVER)
+ * - 목록 화면은 이미지 BLOB 대신 이 매핑으로 만든 URL 만 내려준다.
+ * - version 은 대표 이미지가 바뀔 때마다 올라가며 URL 에 붙여 브라우저 캐시를 갱신한다.
+ */
+public record ProductCover(Long productId, Long imageId, String mimeType, long version) {
+
+  public String url(ImageVariantSize size) {
+    return urlOf(imageId, version, size);
+  }
+
+  // 조회 결과의 IMAGE_ID / VERSION 컬럼으로 URL 생성, 대표 이미지가 없으면 null
+  public static String urlOf(Long imageId, long version, ImageVariantSize size) {
+    if (imageId == null) {
+      return null;
+    }
+    return "/product-images/" + imageId + "/data?size=" + size.name().toLowerCase(Locale.ROOT) + "&v=" + version;
+  }
+}
@@ -0,0 +1,202 @@
+package com.KDT.mosi.domain.product.svc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 자동완성 인덱스 (불변, 자모 단위 접두어 검색)
+ * - 짧은 접두어(TRIE_DEPTH 자모 이하)는 노드마다 미리 계산한 상위 k개를 그대로 돌려준다.
+ * - 긴 접두어는 정렬된 키 배열에서 이분 탐색 후 범위만 훑는다. (범위가 작으므로 트라이를 깊게 만들지 않음)
+ * - 용어 번호는 점수 내림차순으로 매기므로 번호가 작을수록 우선순위가 높다.
+ */
+public final class AutocompleteIndex {
+
+  public static final AutocompleteIndex EMPTY = build(Map.of(), 1, false);
+
+  // 트라이로 처리하는 최대 접두어 길이 (자모 수, 한글 약 3글자)
+  static final int TRIE_DEPTH = 9;
+
+  private final String[] terms;
+  private final int topK;
+  private final Node root;
+
+  // 자모 키(정렬) / 키별 용어 번호
+  private final String[] keys;
+  private final int[] keyTerms;
+
+  private AutocompleteIndex(String[] terms, int topK, Node root, String[] keys, int[] keyTerms) {
+    this.terms = terms;
+    this.topK = topK;
+    this.root = root;
+    this.keys = keys;
+    this.keyTerms = keyTerms;
+  }
+
+  /**
+   * 인덱스 생성
+   *
+   * @param scoredTerms   용어 → 점수 (높을수록 먼저)
+   * @param topK          접두어별 보관할 최대 후보 수
+   * @param wordSuffixes  true 면 단어 시작 위치마다 키를 만들어 중간 단어로도 찾을 수 있게 한다
+   */
+  public static AutocompleteIndex build(Map<String, Long> scoredTerms, int topK, boolean wordSuffixes) {
+    String[] terms = scoredTerms.entrySet().stream()
+        .filter(e -> e.getKey() != null && !e.getKey().isBlank())
+        .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()))
+        .map(Map.Entry::getKey)
+        .toArray(String[]::new);
+
+    BuildNode buildRoot = new BuildNode();
+    List<Key> keyList = new ArrayList<>();
+    for (int term = 0; term < terms.length; term++) {
+      for (String key : keysOf(terms[term], wordSuffixes)) {
+        keyList.add(new Key(key, term));
+        buildRoot.offer(term, topK);
+        BuildNode node = buildRoot;
+        for (int i = 0; i < Math.min(key.length(), TRIE_DEPTH); i++) {
+          node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+          node.offer(term, topK);
+        }
+      }
+    }
+
+    keyList.sort(Comparator.comparing(Key::key));
+    String[] keys = new String[keyList.size()];
+    int[] keyTerms = new int[keyList.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keyList.get(i).key();
+      keyTerms[i] = keyList.get(i).term();
+    }
+    return new AutocompleteIndex(terms, topK, buildRoot.freeze(), keys, keyTerms);
+  }
+
+  /**
+   * 접두어로 시작하는 상위 후보
+   *
+   * @param prefix 입력 중인 검색어 (비어 있으면 전체 상위 후보)
+   * @param limit  최대 개수 (topK 이하)
+   */
+  public List<String> suggest(String prefix, int limit) {
+    String query = HangulJamo.decompose(prefix);
+    int max = Math.min(limit, topK);
+
+    int[] found = query.length() <= TRIE_DEPTH ? fromTrie(query) : fromKeys(query);
+
+    List<String> result = new ArrayList<>(Math.min(max, found.length));
+    for (int i = 0; i < found.length && result.size() < max; i++) {
+      result.add(terms[found[i]]);
+    }
+    return result;
+  }
+
+  public int size() {
+    return terms.length;
+  }
+
+  private int[] fromTrie(String query) {
+    Node node = root;
+    for (int i = 0; i < query.length() && node != null; i++) {
+      node = node.child(query.charAt(i));
+    }
+    return node != null ? node.top : new int[0];
+  }
+
+  // 범위 안에서 번호가 가장 작은(점수가 높은) 용어 topK 개
+  private int[] fromKeys(String query) {
+    int from = lowerBound(query);
+    int[] best = new int[topK];
+    int count = 0;
+    for (int i = from; i < keys.length && keys[i].startsWith(query); i++) {
+      int term = keyTerms[i];
+      int pos = Arrays.binarySearch(best, 0, count, term);
+      if (pos >= 0) {
+        continue;
+      }
+      pos = -pos - 1;
+      if (pos >= topK) {
+        continue;
+      }
+      int moved = Math.min(count, topK - 1) - pos;
+      System.arraycopy(best, pos, best, pos + 1, moved);
+      best[pos] = term;
+      count = Math.min(count + 1, topK);
+    }
+    return Arrays.copyOf(best, count);
+  }
+
+  private int lowerBound(String query) {
+    int lo = 0;
+    int hi = keys.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (keys[mid].compareTo(query) < 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  private static List<String> keysOf(String term, boolean wordSuffixes) {
+    String key = HangulJamo.decompose(term);
+    if (!wordSuffixes) {
+      return List.of(key);
+    }
+
+    List<String> keys = new ArrayList<>();
+    keys.add(key);
+    for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+      keys.add(key.substring(i + 1));
+    }
+    return keys;
+  }
+
+  private record Key(String key, int term) {}
+
+  private static final class Node {
+    private final char[] labels;
+    private final Node[] children;
+    private final int[] top;
+
+    private Node(char[] labels, Node[] children, int[] top) {
+      this.labels = labels;
+      this.children = children;
+      this.top = top;
+    }
+
+    private Node child(char c) {
+      int i = Arrays.binarySearch(labels, c);
+      return i >= 0 ? children[i] : null;
+    }
+  }
+
+  private static final class BuildNode {
+    private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+    private final List<Integer> top = new ArrayList<>();
+
+    // 용어는 번호 순으로 들어오므로 앞에서부터 채우면 정렬이 유지된다
+    private void offer(int term, int topK) {
+      if (top.size() < topK && (top.isEmpty() || top.get(top.size() - 1) != term)) {
+        top.add(term);
+      }
+    }
+
+    private Node freeze() {
+      char[] labels = new char[children.size()];
+      Node[] frozen = new Node[children.size()];
+      int i = 0;
+      for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+        labels[i] = entry.getKey();
+        frozen[i] = entry.getValue().freeze();
+        i++;
+      }
+      return new Node(labels, frozen, top.stream().mapToInt(Integer::intValue).toArray());
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.KDT.mosi.domain.product.svc;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.util.NamedValue;
+import com.KDT.mosi.domain.entity.Product;
+import com.KDT.mosi.domain.product.dao.ProductDAO;
+import com.KDT.mosi.domain.product.search.document.SearchTrendDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메모리 자동완성
+ * - 인기 검색어(search_trends 합계)와 판매중 상품 제목으로 주기적으로 인덱스를 새로 만들고 통째로 교체한다.
+ * - 상품 제목은 카탈로그가 바뀌었을 때만(ProductSearchService 가 outbox 반영 / 전체 재구축 후 알림) 다시 읽는다.
+ * - 조회는 ES 를 호출하지 않는다. 갱신에 실패하면 직전 인덱스를 그대로 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+  // 자동완성 키워드 / 상품 제목 최대 길이 (기존 API 와 동일)
+  private static final int MAX_KEYWORD_LENGTH = 20;
+  private static final int MAX_TITLE_LENGTH = 40;
+  private static final int TOP_K = 10;
+
+  private final ElasticsearchClient esClient;
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final ProductDAO productDAO;
+
+  @Value("${search.autocomplete.max-keywords:10000}")
+  private int maxKeywords;
+
+  @Value("${product.search.sync.batch-size:500}")
+  private int batchSize;
+
+  private volatile AutocompleteIndex keywordIndex = AutocompleteIndex.EMPTY;
+  private volatile AutocompleteIndex titleIndex = AutocompleteIndex.EMPTY;
+  // 상품 제목을 다시 읽어야 하는지 (기동 직후 / 카탈로그 변경 후)
+  private final AtomicBoolean titlesStale = new AtomicBoolean(true);
+
+  /**
+   * 인기 검색어 자동완성
+   *
+   * @param prefix 입력 중인 검색어 (비어 있으면 전체 인기 검색어)
+   */
+  public List<String> suggestKeywords(String prefix, int limit) {
+    return keywordIndex.suggest(prefix, limit);
+  }
+
+  /**
+   * 상품 제목 자동완성 (제목 중간 단어로도 매칭)
+   */
+  public List<String> suggestTitles(String prefix, int limit) {
+    return titleIndex.suggest(prefix, limit);
+  }
+
+  /**
+   * 판매중 상품 목록이 바뀌었음을 알림 (다음 갱신 주기에 상품 제목을 다시 읽는다)
+   */
+  public void markTitlesStale() {
+    titlesStale.set(true);
+  }
+
+  @Scheduled(initialDelayString = "${search.autocomplete.initial-delay-ms:5000}",
+      fixedDelayString = "${search.autocomplete.refresh-ms:60000}")
+  public void refresh() {
+    try {
+      keywordIndex = AutocompleteIndex.build(loadTrendCounts(), TOP_K, false);
+    } catch (Exception e) {
+      log.warn("자동완성(인기 검색어) 갱신 실패: {}", e.getMessage());
+    }
+
+    // 읽는 도중 들어온 변경은 다시 stale 로 표시되어 다음 주기에 반영된다
+    if (titlesStale.getAndSet(false)) {
+      try {
+        titleIndex = AutocompleteIndex.build(loadProductTitles(), TOP_K, true);
+      } catch (Exception e) {
+        titlesStale.set(true);
+        log.warn("자동완성(상품 제목) 갱신 실패: {}", e.getMessage());
+      }
+    }
+    log.debug("자동완성 인덱스 갱신: 키워드 {}개, 상품 제목 {}개", keywordIndex.size(), titleIndex.size());
+  }
+
+  // 키워드별 searchCount 합계 (날짜별 문서를 합산)
+  private Map<String, Long> loadTrendCounts() throws Exception {
+    String indexName = elasticsearchOperations.getIndexCoordinatesFor(SearchTrendDocument.class).getIndexName();
+
+    SearchResponse<Void> response = esClient.search(s -> s
+        .index(indexName)
+        .size(0)
+        .aggregations("keywords", a -> a
+            .terms(t -> t.field("keyword.keyword").size(maxKeywords)
+                .order(List.<NamedValue<SortOrder>>of(NamedValue.of("total", SortOrder.Desc))))
+            .aggregations("total", sub -> sub.sum(sum -> sum.field("searchCount")))), Void.class);
+
+    Map<String, Long> counts = new HashMap<>();
+    for (StringTermsBucket bucket : response.aggregations().get("keywords").sterms().buckets().array()) {
+      String keyword = bucket.key().stringValue();
+      if (keyword.length() <= MAX_KEYWORD_LENGTH) {
+        counts.put(keyword, (long) bucket.aggregations().get("total").sum().value());
+      }
+    }
+    return counts;
+  }
+
+  // 판매중 상품 제목 (같은 제목은 하나로)
+  private Map<String, Long> loadProductTitles() {
+    Map<String, Long> titles = new HashMap<>();
+    long lastProductId = 0L;
+    while (true) {
+      List<Product> products = productDAO.findOnSaleAfter(lastProductId, batchSize);
+      if (products.isEmpty()) {
+        break;
+      }
+      for (Product product : products) {
+        String title = product.getTitle();
+        if (title != null && title.length() <= MAX_TITLE_LENGTH) {
+          titles.merge(title, 1L, Long::sum);
+        }
+      }
+      lastProductId = products.get(products.size() - 1).getProductId();
+    }
+    return titles;
+  }
+}
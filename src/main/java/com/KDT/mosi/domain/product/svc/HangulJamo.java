@@ -0,0 +1,85 @@
+package com.KDT.mosi.domain.product.svc;
+
+/**
+ * 한글 음절 → 자모 분해 (자동완성 접두어 비교용)
+ * - "캠" → "ㅋㅐㅁ" 처럼 초성/중성/종성을 호환 자모로 풀어 쓴다.
+ * - 겹받침(ㄳ)과 겹모음(ㅘ)은 입력 순서대로 다시 나눈다. ("닭" → "ㄷㅏㄹㄱ")
+ * - 입력 중인 "캠"이 "캐미"의 접두어로 인식되도록 하기 위함이다.
+ */
+public final class HangulJamo {
+
+  private static final char SYLLABLE_BASE = 0xAC00;
+  private static final char SYLLABLE_LAST = 0xD7A3;
+  private static final char COMPAT_BASE = 0x3131;
+  private static final char COMPAT_LAST = 0x318E;
+
+  private static final String[] CHOSEONG = {
+      "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  private static final String[] JUNGSEONG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+      "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+      "ㅣ"
+  };
+
+  private static final String[] JONGSEONG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+      "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 호환 자모 중 겹자모 (단독 입력된 경우)
+  private static final String[] COMPAT = new String[COMPAT_LAST - COMPAT_BASE + 1];
+
+  static {
+    String[][] compounds = {
+        {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"},
+        {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"},
+        {"ㅄ", "ㅂㅅ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"},
+        {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+    };
+    for (String[] compound : compounds) {
+      COMPAT[compound[0].charAt(0) - COMPAT_BASE] = compound[1];
+    }
+  }
+
+  private HangulJamo() {
+  }
+
+  /**
+   * 비교용 키 생성 (소문자, 공백 정리, 한글 자모 분해)
+   */
+  public static String decompose(String text) {
+    if (text == null) {
+      return "";
+    }
+
+    StringBuilder sb = new StringBuilder(text.length() * 3);
+    boolean pendingSpace = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        pendingSpace = sb.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        sb.append(' ');
+        pendingSpace = false;
+      }
+
+      if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+        int index = c - SYLLABLE_BASE;
+        sb.append(CHOSEONG[index / 588])
+            .append(JUNGSEONG[(index % 588) / 28])
+            .append(JONGSEONG[index % 28]);
+      } else if (c >= COMPAT_BASE && c <= COMPAT_LAST && COMPAT[c - COMPAT_BASE] != null) {
+        sb.append(COMPAT[c - COMPAT_BASE]);
+      } else {
+        sb.append(Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+}
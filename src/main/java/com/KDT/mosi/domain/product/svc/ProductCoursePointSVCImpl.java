@@ -2,6 +2,7 @@ package com.KDT.mosi.domain.product.svc;
 
 import com.KDT.mosi.domain.entity.ProductCoursePoint;
 import com.KDT.mosi.domain.product.dao.ProductCoursePointDAO;
+import com.KDT.mosi.domain.product.dao.ProductIndexOutboxDAO;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ import java.util.List;
 public class ProductCoursePointSVCImpl implements ProductCoursePointSVC {
 
   private final ProductCoursePointDAO productCoursePointDAO;
+  private final ProductIndexOutboxDAO productIndexOutboxDAO;  // 첫 코스 지점이 검색 문서에 색인되므로 변경 기록
 
   @Override
   public void saveAll(List<ProductCoursePoint> points) {
@@ -23,6 +25,10 @@ public class ProductCoursePointSVCImpl implements ProductCoursePointSVC {
       }
       productCoursePointDAO.insert(point);
     }
+    points.stream()
+        .map(point -> point.getProduct().getProductId())
+        .distinct()
+        .forEach(productIndexOutboxDAO::append);
   }
 
   @Override
@@ -33,6 +39,7 @@ public class ProductCoursePointSVCImpl implements ProductCoursePointSVC {
   @Override
   public void deleteByProductId(Long productId) {
     productCoursePointDAO.deleteByProductId(productId);
+    productIndexOutboxDAO.append(productId);
   }
 
   // 필요에 따라 getPointsByProductId 메서드 삭제 가능 (중복)
@@ -46,7 +53,11 @@ public class ProductCoursePointSVCImpl implements ProductCoursePointSVC {
     if (point.getProduct() == null || point.getProduct().getProductId() == null) {
       throw new IllegalArgumentException("Product or productId is null in ProductCoursePoint");
     }
-    return productCoursePointDAO.insert(point) > 0;
+    boolean inserted = productCoursePointDAO.insert(point) > 0;
+    if (inserted) {
+      productIndexOutboxDAO.append(point.getProduct().getProductId());
+    }
+    return inserted;
   }
 
   @Override
@@ -0,0 +1,92 @@
+package com.KDT.mosi.domain.product.svc;
+
+import com.KDT.mosi.domain.entity.ProductImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 자주 조회되는 상품 이미지 캐시 (메타데이터 + 바이트, LRU)
+ * - 전체 용량(maxBytes)을 넘으면 가장 오래 사용하지 않은 이미지부터 제거한다.
+ * - maxEntryBytes 보다 큰 이미지는 캐시하지 않고 매번 DB 에서 스트리밍한다.
+ * - IMAGE_ID 는 수정되지 않으므로(수정 시 삭제 후 재등록) 삭제 시에만 무효화한다.
+ */
+@Component
+public class ProductImageCache {
+
+  private final long maxBytes;
+  private final long maxEntryBytes;
+
+  private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private long totalBytes;
+
+  public ProductImageCache(@Value("${product.image.cache.max-bytes:67108864}") long maxBytes,
+                           @Value("${product.image.cache.max-entry-bytes:1048576}") long maxEntryBytes) {
+    this.maxBytes = maxBytes;
+    this.maxEntryBytes = maxEntryBytes;
+  }
+
+  public boolean isCacheable(long size) {
+    return size > 0 && size <= maxEntryBytes && size <= maxBytes;
+  }
+
+  // 캐시된 메타데이터 (IMAGE_DATA 제외), 없으면 null
+  public synchronized ProductImage getMeta(Long imageId) {
+    Entry entry = entries.get(imageId);
+    return entry != null ? entry.meta : null;
+  }
+
+  // 캐시된 이미지 바이트, 없으면 null
+  public synchronized byte[] getData(Long imageId) {
+    Entry entry = entries.get(imageId);
+    return entry != null ? entry.data : null;
+  }
+
+  public synchronized void put(ProductImage meta, byte[] data) {
+    if (data == null || !isCacheable(data.length)) {
+      return;
+    }
+    Entry previous = entries.put(meta.getImageId(), new Entry(meta, data));
+    if (previous != null) {
+      totalBytes -= previous.data.length;
+    }
+    totalBytes += data.length;
+
+    Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+    while (totalBytes > maxBytes && it.hasNext()) {
+      totalBytes -= it.next().getValue().data.length;
+      it.remove();
+    }
+  }
+
+  public synchronized void evict(Long imageId) {
+    Entry removed = entries.remove(imageId);
+    if (removed != null) {
+      totalBytes -= removed.data.length;
+    }
+  }
+
+  public synchronized void evictByProductId(Long productId) {
+    Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+    while (it.hasNext()) {
+      Entry entry = it.next().getValue();
+      if (entry.meta.getProduct() != null && productId.equals(entry.meta.getProduct().getProductId())) {
+        totalBytes -= entry.data.length;
+        it.remove();
+      }
+    }
+  }
+
+  private static final class Entry {
+    private final ProductImage meta;
+    private final byte[] data;
+
+    private Entry(ProductImage meta, byte[] data) {
+      this.meta = meta;
+      this.data = data;
+    }
+  }
+}
@@ -1,8 +1,11 @@
 package com.KDT.mosi.domain.product.svc;
 
 import com.KDT.mosi.domain.entity.ProductImage;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +15,9 @@ public interface ProductImageSVC {
 
   List<ProductImage> findByProductId(Long productId);  // 추가
 
+  // 상품별 대표 이미지 매핑 일괄 조회 (BLOB 없음, URL 생성용)
+  List<ProductCover> findCoversByProductIds(List<Long> productIds);
+
   void deleteByProductId(Long productId);
 
   // 기존에 있던 컨트롤러 호환용 메서드도 필요하다면 같이 유지
@@ -20,4 +26,10 @@ public interface ProductImageSVC {
   boolean deleteProductImage(Long imageId);
 
   Optional<ProductImage> findById(Long imageId);
+
+  // 이미지 메타데이터 조회 (IMAGE_DATA 제외)
+  Optional<ProductImage> findMetaById(Long imageId);
+
+  // 이미지 바이트의 [offset, offset + length) 구간을 out 으로 전송 (캐시 우선, 없으면 DB 스트리밍)
+  void writeImageData(ProductImage meta, long offset, long length, OutputStream out) throws IOException;
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package com.KDT.mosi.domain.product.svc;
 
 import com.KDT.mosi.domain.entity.ProductImage;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.svc.ImageVariantSVC;
 import com.KDT.mosi.domain.product.dao.ProductImageDAO;
+import com.KDT.mosi.domain.product.dao.ProductIndexOutboxDAO;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +21,9 @@ import java.util.Optional;
 public class ProductImageSVCImpl implements ProductImageSVC {
 
   private final ProductImageDAO productImageDAO;
+  private final ProductImageCache productImageCache;
+  private final ImageVariantSVC imageVariantSVC;
+  private final ProductIndexOutboxDAO productIndexOutboxDAO;  // 대표 이미지가 검색 문서에 색인되므로 변경 기록
 
   @Override
   public void saveAll(List<ProductImage> images) {
@@ -44,6 +53,8 @@ public class ProductImageSVCImpl implements ProductImageSVC {
       }
 
       productImageDAO.insert(image);
+      imageVariantSVC.generate(ImageOwner.PRODUCT, image.getImageId(), image.getImageData());
+      productIndexOutboxDAO.append(image.getProduct().getProductId());
     }
   }
 
@@ -52,9 +63,17 @@ public class ProductImageSVCImpl implements ProductImageSVC {
     return productImageDAO.findByProductId(productId);
   }
 
+  @Override
+  public List<ProductCover> findCoversByProductIds(List<Long> productIds) {
+    return productImageDAO.findCoversByProductIds(productIds);
+  }
+
   @Override
   public void deleteByProductId(Long productId) {
+    imageVariantSVC.deleteByProductId(productId);
     productImageDAO.deleteByProductId(productId);
+    productImageCache.evictByProductId(productId);
+    productIndexOutboxDAO.append(productId);
   }
 
   // getImagesByProductId 와 기능 중복, 필요 시 삭제 가능
@@ -65,11 +84,20 @@ public class ProductImageSVCImpl implements ProductImageSVC {
 
   @Override
   public boolean addProductImage(ProductImage productImage) {
-    return productImageDAO.insert(productImage) > 0;
+    boolean inserted = productImageDAO.insert(productImage) > 0;
+    if (inserted) {
+      imageVariantSVC.generate(ImageOwner.PRODUCT, productImage.getImageId(), productImage.getImageData());
+      productIndexOutboxDAO.append(productImage.getProduct().getProductId());
+    }
+    return inserted;
   }
 
   @Override
   public boolean deleteProductImage(Long imageId) {
+    productImageCache.evict(imageId);
+    imageVariantSVC.delete(ImageOwner.PRODUCT, imageId);
+    productImageDAO.findMetaById(imageId)
+        .ifPresent(meta -> productIndexOutboxDAO.append(meta.getProduct().getProductId()));
     return productImageDAO.delete(imageId) > 0;
   }
 
@@ -77,4 +105,37 @@ public class ProductImageSVCImpl implements ProductImageSVC {
   public Optional<ProductImage> findById(Long imageId) {
     return productImageDAO.findById(imageId);
   }
-}
\ No newline at end of file
+
+  // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 시작하지 않음
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public Optional<ProductImage> findMetaById(Long imageId) {
+    ProductImage cached = productImageCache.getMeta(imageId);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    return productImageDAO.findMetaById(imageId);
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public void writeImageData(ProductImage meta, long offset, long length, OutputStream out) throws IOException {
+    Long imageId = meta.getImageId();
+    byte[] data = productImageCache.getData(imageId);
+
+    if (data == null && productImageCache.isCacheable(meta.getFileSize())) {
+      data = productImageDAO.findImageDataById(imageId).orElse(null);
+      productImageCache.put(meta, data);
+    }
+
+    if (data != null) {
+      if (offset < data.length) {
+        out.write(data, (int) offset, (int) Math.min(length, data.length - offset));
+      }
+      return;
+    }
+
+    // 큰 이미지는 캐시하지 않고 BLOB 스트림을 그대로 전달
+    productImageDAO.streamImageData(imageId, offset, length, out);
+  }
+}
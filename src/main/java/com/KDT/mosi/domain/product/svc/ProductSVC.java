@@ -4,6 +4,8 @@ import com.KDT.mosi.domain.entity.Product;
 import com.KDT.mosi.web.form.product.ProductTempSaveForm; // DTO 임포트
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,15 @@ public interface ProductSVC {
   // 상품 조회
   Optional<Product> getProduct(Long productId);
 
+  // 첨부파일 정보 조회 (FILE_DATA 제외)
+  Optional<Product> getProductFileInfo(Long productId);
+
+  // 첨부파일 스트리밍 전송
+  void writeProductFile(Long productId, OutputStream out) throws IOException;
+
+  // 상품 일괄 조회
+  List<Product> getProductsByIds(List<Long> productIds);
+
   // 사용자별 상품 전체 조회(페이징 포함)
   List<Product> getProductsByMemberIdAndPage(Long memberId, int page, int size);
 
@@ -3,11 +3,14 @@ package com.KDT.mosi.domain.product.svc;
 import com.KDT.mosi.domain.entity.Product;
 import com.KDT.mosi.domain.member.dao.MemberDAO;
 import com.KDT.mosi.domain.product.dao.ProductDAO;
+import com.KDT.mosi.domain.product.dao.ProductIndexOutboxDAO;
 import com.KDT.mosi.web.form.product.ProductTempSaveForm; // DTO 임포트
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.sql.Date;
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +22,12 @@ public class ProductSVCImpl implements ProductSVC {
 
   private final ProductDAO productDAO;
   private final MemberDAO memberDAO;
+  private final ProductIndexOutboxDAO productIndexOutboxDAO;
 
-  public ProductSVCImpl(ProductDAO productDAO, MemberDAO memberDAO) {
+  public ProductSVCImpl(ProductDAO productDAO, MemberDAO memberDAO, ProductIndexOutboxDAO productIndexOutboxDAO) {
     this.productDAO = productDAO;
     this.memberDAO = memberDAO;
+    this.productIndexOutboxDAO = productIndexOutboxDAO;
   }
 
   @Override
@@ -30,7 +35,9 @@ public class ProductSVCImpl implements ProductSVC {
   public Product registerProduct(Product product) {
     Long memberId = extractMemberId(product);
     validateMemberId(memberId);
-    return productDAO.insert(product);
+    Product saved = productDAO.insert(product);
+    productIndexOutboxDAO.append(saved.getProductId());
+    return saved;
   }
 
   @Override
@@ -38,13 +45,16 @@ public class ProductSVCImpl implements ProductSVC {
   public Product updateProduct(Product product) {
     Long memberId = extractMemberId(product);
     validateMemberId(memberId);
-    return productDAO.update(product);
+    Product updated = productDAO.update(product);
+    productIndexOutboxDAO.append(updated.getProductId());
+    return updated;
   }
 
   @Override
   @Transactional
   public void removeProduct(Long productId) {
     productDAO.delete(productId);
+    productIndexOutboxDAO.append(productId);
   }
 
   @Override
@@ -52,6 +62,25 @@ public class ProductSVCImpl implements ProductSVC {
     return productDAO.findById(productId);
   }
 
+  @Override
+  public Optional<Product> getProductFileInfo(Long productId) {
+    return productDAO.findFileInfoById(productId);
+  }
+
+  @Override
+  public void writeProductFile(Long productId, OutputStream out) throws IOException {
+    try {
+      productDAO.streamFileData(productId, out);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Override
+  public List<Product> getProductsByIds(List<Long> productIds) {
+    return productDAO.findByIds(productIds);
+  }
+
   @Override
   public List<Product> getProductsByMemberIdAndPage(Long memberId, int page, int size){
     return productDAO.findByMemberIdWithPaging(memberId, page, size);
@@ -70,15 +99,10 @@ public class ProductSVCImpl implements ProductSVC {
 
   @Transactional
   public void updateProductStatus(Long productId, String status) {
-    Optional<Product> optionalProduct = productDAO.findById(productId);
-    if (optionalProduct.isEmpty()) {
+    if (productDAO.updateStatus(productId, status) == 0) {
       throw new IllegalArgumentException("해당 상품이 존재하지 않습니다.");
     }
-
-    Product product = optionalProduct.get();
-    product.setStatus(status);
-    product.setUpdateDate(new Date(System.currentTimeMillis()));
-    productDAO.update(product);
+    productIndexOutboxDAO.append(productId);
   }
 
   @Override
@@ -2,28 +2,42 @@ package com.KDT.mosi.domain.product.svc;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import com.KDT.mosi.domain.entity.Product;
+import com.KDT.mosi.domain.entity.ProductIndexOutbox;
 import com.KDT.mosi.domain.product.dao.ProductDAO;
+import com.KDT.mosi.domain.product.dao.ProductIndexOutboxDAO;
 import com.KDT.mosi.domain.product.document.ProductDocument;
+import com.KDT.mosi.domain.product.dto.ProductCard;
 import com.KDT.mosi.domain.product.dto.response.ProductSearchResponse;
 import com.KDT.mosi.domain.product.repository.ProductDocumentRepository;
 import com.KDT.mosi.domain.product.repository.SearchTrendDocumentRepository;
+import com.KDT.mosi.domain.search.SearchIndexManager;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,31 +51,50 @@ public class ProductSearchService {
   private final ElasticsearchOperations elasticsearchOperations;
   private final ElasticsearchClient esClient;
   private final SearchTrendDocumentRepository searchTrendDocumentRepository;
+  private final ProductIndexOutboxDAO productIndexOutboxDAO;
+  private final SearchIndexManager searchIndexManager;
+  private final AutocompleteService autocompleteService;
 
+  // Oracle IN 절 최대 항목 수
+  private static final int IN_CLAUSE_LIMIT = 1000;
+
+  @Value("${product.search.sync.batch-size:500}")
+  private int indexBatchSize;
+
+  // 전체 재구축 중에는 변경분 동기화 중지
+  private volatile boolean rebuilding;
+
+  /**
+   * 기동 시 products alias 만 확인하고 바로 반환
+   * - alias 가 처음 만들어진 경우에만 백그라운드로 전체 적재한다. (이후는 outbox 동기화)
+   */
   @PostConstruct
   public void setupIndex() {
-    if (elasticsearchOperations.indexOps(ProductDocument.class).exists()) {
-      log.info("products 인덱스가 이미 존재합니다. 삭제 후 다시 생성합니다.");
-      elasticsearchOperations.indexOps(ProductDocument.class).delete();
+    try {
+      if (searchIndexManager.ensureAlias(ProductDocument.class)) {
+        searchIndexManager.submit("products", this::indexAllProductsFromDB);
+      }
+    } catch (Exception e) {
+      log.error("products 인덱스 확인 실패: {}", e.getMessage(), e);
     }
-
-    log.info("새로운 products 인덱스를 생성하고 한국어(nori) 분석기 매핑을 적용합니다.");
-    elasticsearchOperations.indexOps(ProductDocument.class).create();
-    elasticsearchOperations.indexOps(ProductDocument.class).putMapping();
-
-    indexAllProductsFromDB();
   }
 
   @Transactional
   public void indexProducts(List<Product> products) {
-    List<ProductDocument> productDocuments = products.stream()
-        .map(this::convertToDocument)
-        .collect(Collectors.toList());
+    List<ProductDocument> productDocuments = convertToDocuments(products);
     productDocumentRepository.saveAll(productDocuments);
     log.info("총 " + productDocuments.size() + "개의 도큐먼트가 성공적으로 인덱싱되었습니다.");
   }
 
-  private ProductDocument convertToDocument(Product product) {
+  // 목록 카드 정보(대표 이미지 / 첫 코스 지점)를 한 번에 조회해 문서로 변환
+  private List<ProductDocument> convertToDocuments(List<Product> products) {
+    Map<Long, ProductCard> cards = findCards(products.stream().map(Product::getProductId).toList());
+    return products.stream()
+        .map(product -> convertToDocument(product, cards.get(product.getProductId())))
+        .collect(Collectors.toList());
+  }
+
+  private ProductDocument convertToDocument(Product product, ProductCard card) {
     return ProductDocument.builder()
         .productId(String.valueOf(product.getProductId()))
         .category(product.getCategory())
@@ -92,9 +125,49 @@ public class ProductSearchService {
         .status(product.getStatus())
         .createDate(product.getCreateDate().toLocalDate())
         .updateDate(product.getUpdateDate() != null ? product.getUpdateDate().toLocalDate() : null)
+        .thumbnailUrl(card != null && card.getThumbnailUrl() != null ? card.getThumbnailUrl() : "")
+        .pointDescription(card != null ? card.getPointDescription() : null)
+        .location(card != null && card.hasPoint() ? new GeoPoint(card.getLatitude(), card.getLongitude()) : null)
         .build();
   }
 
+  /**
+   * 검색 결과를 목록 카드로 변환 (검색 순서 유지)
+   * - 카드 필드가 색인된 문서는 DB 조회 없이 변환한다.
+   * - 필드 도입 전에 색인된 문서만 IN 절 한 번으로 조회해 채운다.
+   */
+  public List<ProductCard> toCards(List<ProductDocument> documents) {
+    List<Long> missingIds = documents.stream()
+        .filter(document -> !ProductCard.isComplete(document))
+        .map(document -> Long.valueOf(document.getProductId()))
+        .toList();
+    Map<Long, ProductCard> fallback = findCards(missingIds);
+
+    List<ProductCard> cards = new ArrayList<>();
+    for (ProductDocument document : documents) {
+      if (ProductCard.isComplete(document)) {
+        cards.add(ProductCard.of(document));
+        continue;
+      }
+      ProductCard card = fallback.get(Long.valueOf(document.getProductId()));
+      if (card == null) {
+        log.warn("상품 ID {}를 Oracle DB에서 찾을 수 없습니다. 데이터 동기화 문제를 확인하세요.", document.getProductId());
+        continue;
+      }
+      cards.add(card);
+    }
+    return cards;
+  }
+
+  private Map<Long, ProductCard> findCards(List<Long> productIds) {
+    Map<Long, ProductCard> cards = new HashMap<>();
+    for (int i = 0; i < productIds.size(); i += IN_CLAUSE_LIMIT) {
+      productDAO.findCardsByIds(productIds.subList(i, Math.min(i + IN_CLAUSE_LIMIT, productIds.size())))
+          .forEach(card -> cards.put(card.getProductId(), card));
+    }
+    return cards;
+  }
+
   public ProductSearchResponse searchProducts(String keyword, int page, int size) {
     String normalizedKeyword = keyword.trim().toLowerCase();
 
@@ -127,39 +200,137 @@ public class ProductSearchService {
         .build();
   }
 
-  // ✨✨✨ 수정된 메서드: '판매중' 상품만 인덱싱 ✨✨✨
-  @Scheduled(cron = "0 */5 * * * ?")
+  /**
+   * 전체 재구축 (blue/green): 새 버전 인덱스에 '판매중' 상품을 적재한 뒤 alias 교체
+   * - 재구축 중에는 변경분 동기화를 멈추고, 그동안 쌓인 outbox 는 재구축 후 그대로 반영한다. (현재 DB 상태 기준이라 중복 반영해도 결과 같음)
+   * - 적재를 시작하기 전에 진행 중인 동기화 배치가 끝나기를 기다린다.
+   *   (기존 인덱스에 반영하고 지운 outbox 기록이 교체될 인덱스에서 빠지지 않도록)
+   */
   public void indexAllProductsFromDB() {
-    log.info("DB에서 '판매중' 상태의 상품만 인덱싱합니다.");
-    long totalCount = productDAO.countAll();
-    int pageSize = 100;
-    int totalPages = (int) Math.ceil((double) totalCount / pageSize);
+    // 진행 중인 동기화 루프는 다음 배치 전에 멈추고, 지금 배치는 모니터를 잡아 끝날 때까지 기다린다
+    rebuilding = true;
+    synchronized (this) {
+      log.info("상품 인덱스 재구축 전 변경분 동기화 중지");
+    }
+    try {
+      searchIndexManager.rebuild(ProductDocument.class, this::loadOnSaleProducts);
+      autocompleteService.markTitlesStale();
+    } finally {
+      rebuilding = false;
+    }
+  }
+
+  private void loadOnSaleProducts(IndexCoordinates target) {
+    log.info("DB에서 '판매중' 상태의 상품만 인덱싱합니다. ({})", target.getIndexName());
+
+    long lastProductId = 0L;
+    int total = 0;
+    while (true) {
+      List<Product> products = productDAO.findOnSaleAfter(lastProductId, indexBatchSize);
+      if (products.isEmpty()) {
+        break;
+      }
+
+      List<ProductDocument> documents = convertToDocuments(products);
+      bulk(target.getIndexName(), documents, List.of());
 
-    for (int page = 1; page <= totalPages; page++) {
-      // DB에서 모든 상품을 가져옴
-      List<Product> products = productDAO.findAllByPage(page, pageSize);
+      lastProductId = products.get(products.size() - 1).getProductId();
+      total += documents.size();
+    }
+    log.info("DB의 모든 '판매중' 상품 인덱싱이 완료되었습니다. ({}건)", total);
+  }
 
-      // '판매중' 상태의 상품만 필터링
-      List<ProductDocument> productDocuments = products.stream()
+  /**
+   * 변경분 동기화: outbox 에 남아 있는 기록을 오래된 순으로 반영
+   * - 현재 '판매중'이면 색인, 삭제되었거나 판매 중지면 인덱스에서 제거
+   * - 반영한 기록만 삭제한다. (늦게 커밋된 작은 OUTBOX_ID 도 남아 있다가 다음 주기에 반영)
+   * - bulk 실패 시 기록을 지우지 않고 다음 주기에 재시도
+   */
+  @Scheduled(initialDelayString = "${product.search.sync.initial-delay-ms:30000}",
+      fixedDelayString = "${product.search.sync.delay-ms:5000}")
+  public synchronized void syncChangedProducts() {
+    // 재구축이 시작되면 남은 배치는 재구축 후에 반영 (매 배치 전에 확인)
+    while (!rebuilding) {
+      List<ProductIndexOutbox> changes = productIndexOutboxDAO.findPending(indexBatchSize);
+      if (changes.isEmpty()) {
+        return;
+      }
+
+      List<Long> productIds = changes.stream()
+          .map(ProductIndexOutbox::getProductId)
+          .distinct()
+          .collect(Collectors.toList());
+      Map<Long, Product> onSale = productDAO.findByIds(productIds).stream()
           .filter(p -> "판매중".equals(p.getStatus()))
-          .map(this::convertToDocument)
+          .collect(Collectors.toMap(Product::getProductId, p -> p));
+
+      List<ProductDocument> upserts = convertToDocuments(productIds.stream()
+          .map(onSale::get)
+          .filter(Objects::nonNull)
+          .toList());
+      List<String> deletes = productIds.stream()
+          .filter(productId -> !onSale.containsKey(productId))
+          .map(String::valueOf)
           .collect(Collectors.toList());
 
-      if (!productDocuments.isEmpty()) {
-        productDocumentRepository.saveAll(productDocuments);
-        log.info("Page " + page + "/" + totalPages + " : " + productDocuments.size() + " products indexed.");
-      } else {
-        log.info("Page " + page + "/" + totalPages + " : No '판매중' products to index.");
+      try {
+        bulk(aliasName(), upserts, deletes);
+      } catch (Exception e) {
+        log.warn("상품 인덱스 동기화 실패, 다음 주기에 재시도합니다. (대기 {}건)", changes.size(), e);
+        return;
+      }
+
+      productIndexOutboxDAO.deleteByIds(changes.stream().map(ProductIndexOutbox::getOutboxId).toList());
+      autocompleteService.markTitlesStale();
+      log.info("상품 인덱스 동기화: 색인 {}건, 삭제 {}건, 기록 {}건 정리", upserts.size(), deletes.size(), changes.size());
+
+      if (changes.size() < indexBatchSize) {
+        return;
       }
     }
-    log.info("DB의 모든 '판매중' 상품 인덱싱이 완료되었습니다.");
+  }
+
+  private String aliasName() {
+    return searchIndexManager.aliasOf(ProductDocument.class);
+  }
+
+  // 색인/삭제를 하나의 bulk 요청으로 전송
+  private void bulk(String indexName, List<ProductDocument> upserts, List<String> deleteIds) {
+    if (upserts.isEmpty() && deleteIds.isEmpty()) {
+      return;
+    }
+
+    BulkRequest.Builder request = new BulkRequest.Builder();
+    for (ProductDocument document : upserts) {
+      Document source = elasticsearchOperations.getElasticsearchConverter().mapObject(document);
+      request.operations(op -> op.index(i -> i.index(indexName).id(document.getProductId()).document(source)));
+    }
+    for (String id : deleteIds) {
+      request.operations(op -> op.delete(d -> d.index(indexName).id(id)));
+    }
+
+    BulkResponse response;
+    try {
+      response = esClient.bulk(request.build());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (response.errors()) {
+      String reason = response.items().stream()
+          .filter(item -> item.error() != null)
+          .map(item -> item.id() + ": " + item.error().reason())
+          .findFirst()
+          .orElse("unknown");
+      throw new IllegalStateException("상품 bulk 인덱싱 실패 - " + reason);
+    }
   }
 
   // ✨✨✨ 상품 인덱싱 (추가/수정 시) ✨✨✨
   public void indexProduct(Product product) throws IOException {
     if ("판매중".equals(product.getStatus())) {
-      ProductDocument document = convertToDocument(product);
+      ProductDocument document = convertToDocuments(List.of(product)).get(0);
       productDocumentRepository.save(document);
+      autocompleteService.markTitlesStale();
       log.info("상품 ID {}가 성공적으로 인덱싱되었습니다.", product.getProductId());
     } else {
       // '판매중'이 아니면 인덱스에서 삭제
@@ -170,35 +341,19 @@ public class ProductSearchService {
   // ✨✨✨ 상품 삭제 (삭제 시) ✨✨✨
   public void deleteProduct(Long productId) {
     productDocumentRepository.deleteById(String.valueOf(productId));
+    autocompleteService.markTitlesStale();
     log.info("상품 ID {}가 인덱스에서 삭제되었습니다.", productId);
   }
 
+  // 상품 제목 자동완성 (메모리 인덱스, ES 미사용)
   public List<String> searchAutocomplete(String keyword) {
-    if (keyword == null || keyword.trim().isEmpty() || keyword.length() < 1) {
+    if (keyword == null || keyword.trim().isEmpty()) {
       return Collections.emptyList();
     }
-
-    Query query = Query.of(q -> q
-        .match(m -> m
-            .field("autocomplete_title")
-            .query(keyword)
-        )
-    );
-
-    org.springframework.data.elasticsearch.core.query.Query nativeQuery = new NativeQueryBuilder()
-        .withQuery(query)
-        .withPageable(PageRequest.of(0, 5))
-        .build();
-
-    SearchHits<ProductDocument> searchHits = elasticsearchOperations.search(nativeQuery, ProductDocument.class);
-
-    return searchHits.getSearchHits().stream()
-        .map(SearchHit::getContent)
-        .map(ProductDocument::getTitle)
-        .filter(title -> title.length() <= 40)
-        .collect(Collectors.toList());
+    return autocompleteService.suggestTitles(keyword, 5);
   }
 
+
   /**
    * 오타가 발생했을 경우 유사한 검색어를 제안하는 메서드
    * @param keyword 검색어
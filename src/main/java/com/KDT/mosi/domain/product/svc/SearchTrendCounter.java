@@ -0,0 +1,75 @@
+package com.KDT.mosi.domain.product.svc;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색어 집계 버퍼 (키워드 + 날짜 → LongAdder)
+ * - increment 는 락 없이 카운터만 올린다. (검색 요청 경로)
+ * - drain 은 쌓인 값을 가져가고 0 으로 되돌린다. (주기적 flush 경로)
+ * - 당일 카운터는 맵에 남겨 두어 증가분이 유실되지 않게 하고, 날짜가 지난 카운터만 맵에서 뺀다.
+ *   제거 직전에 참조를 얻은 스레드의 증가분을 놓치지 않도록 다음 drain 까지 한 번 더 합산한 뒤 버린다.
+ */
+@Component
+public class SearchTrendCounter {
+
+  public record TrendKey(String keyword, LocalDate day) {}
+
+  private final ConcurrentHashMap<TrendKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+  // 직전 drain 에서 맵에서 뺀 카운터 (한 주기 유예)
+  private List<Map.Entry<TrendKey, LongAdder>> retired = new ArrayList<>();
+
+  public void increment(String keyword, LocalDate day) {
+    counters.computeIfAbsent(new TrendKey(keyword, day), k -> new LongAdder()).increment();
+  }
+
+  /**
+   * 쌓인 증가분을 가져오고 0 으로 초기화
+   *
+   * @param today 기준일 (이전 날짜의 카운터는 제거)
+   * @return 키별 증가분 (0 인 키는 제외)
+   */
+  public synchronized Map<TrendKey, Long> drain(LocalDate today) {
+    Map<TrendKey, Long> drained = new HashMap<>();
+
+    for (Map.Entry<TrendKey, LongAdder> entry : retired) {
+      add(drained, entry.getKey(), entry.getValue().sumThenReset());
+    }
+
+    List<Map.Entry<TrendKey, LongAdder>> nextRetired = new ArrayList<>();
+    Iterator<Map.Entry<TrendKey, LongAdder>> it = counters.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<TrendKey, LongAdder> entry = it.next();
+      add(drained, entry.getKey(), entry.getValue().sumThenReset());
+      if (entry.getKey().day().isBefore(today) && counters.remove(entry.getKey(), entry.getValue())) {
+        nextRetired.add(Map.entry(entry.getKey(), entry.getValue()));
+      }
+    }
+    retired = nextRetired;
+    return drained;
+  }
+
+  /**
+   * 전송 실패한 증가분을 되돌려 다음 flush 에 다시 포함
+   */
+  public void restore(TrendKey key, long count) {
+    if (count > 0) {
+      counters.computeIfAbsent(key, k -> new LongAdder()).add(count);
+    }
+  }
+
+  private void add(Map<TrendKey, Long> drained, TrendKey key, long count) {
+    if (count > 0) {
+      drained.merge(key, count, Long::sum);
+    }
+  }
+}
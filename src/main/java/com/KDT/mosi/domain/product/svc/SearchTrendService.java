@@ -1,9 +1,14 @@
 package com.KDT.mosi.domain.product.svc;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.json.JsonData;
 import com.KDT.mosi.domain.product.document.ProductDocument;
 import com.KDT.mosi.domain.product.search.document.SearchTrendDocument;
 import com.KDT.mosi.domain.product.repository.SearchTrendDocumentRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -13,12 +18,14 @@ import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,40 +37,86 @@ public class SearchTrendService {
 
   private final SearchTrendDocumentRepository searchTrendDocumentRepository;
   private final ElasticsearchOperations elasticsearchOperations;
+  private final ElasticsearchClient esClient;
+  private final SearchTrendCounter searchTrendCounter;
   // ✅ ProductSearchService에 대한 의존성 제거
 
-  @Transactional
+  private static final int MAX_KEYWORD_LENGTH = 100;
+
+  /**
+   * 검색어 집계 (검색 요청 경로)
+   * - ES 를 호출하지 않고 메모리 카운터만 올린다. 실제 반영은 flushSearchKeywords 에서 일괄 처리한다.
+   */
   public void saveSearchKeyword(String keyword) {
-    if (keyword == null || keyword.trim().isEmpty()) {
+    if (keyword == null || keyword.isBlank()) {
       return;
     }
 
     String normalizedKeyword = keyword.toLowerCase().trim();
-    LocalDate today = LocalDate.now();
-
-    NativeQuery nativeQuery = NativeQuery.builder()
-        .withQuery(q -> q.bool(b -> b
-            .must(m -> m.term(t -> t.field("keyword.keyword").value(normalizedKeyword)))
-            .must(m -> m.term(t -> t.field("searchDate").value(today.toString())))
-        ))
-        .build();
-
-    SearchHits<SearchTrendDocument> searchHits = elasticsearchOperations.search(nativeQuery, SearchTrendDocument.class);
-
-    if (!searchHits.isEmpty()) {
-      SearchTrendDocument existingTrend = searchHits.getSearchHit(0).getContent();
-      existingTrend.incrementSearchCount();
-      searchTrendDocumentRepository.save(existingTrend);
-      log.info("인기 검색어/트렌드 검색 키워드: " + existingTrend.getKeyword() + ", 횟수 증가: " + existingTrend.getSearchCount());
-    } else {
-      SearchTrendDocument newTrend = SearchTrendDocument.builder()
-          .keyword(normalizedKeyword)
-          .searchDate(today)
-          .searchCount(1L)
-          .build();
-      searchTrendDocumentRepository.save(newTrend);
-      log.info("인기 검색어/트렌드 검색 키워드: " + newTrend.getKeyword() + ", 신규 추가");
+    if (normalizedKeyword.length() > MAX_KEYWORD_LENGTH) {
+      normalizedKeyword = normalizedKeyword.substring(0, MAX_KEYWORD_LENGTH);
+    }
+    searchTrendCounter.increment(normalizedKeyword, LocalDate.now());
+  }
+
+  /**
+   * 쌓인 검색 횟수를 하나의 bulk 요청으로 반영
+   * - 문서 ID 를 "날짜_키워드" 로 고정하고 scripted upsert(searchCount += n) 로 더해 동시 증가분이 유실되지 않는다.
+   * - 전송 실패한 항목은 카운터로 되돌려 다음 주기에 다시 보낸다.
+   */
+  @Scheduled(fixedDelayString = "${search.trend.flush-ms:3000}")
+  public void flushSearchKeywords() {
+    Map<SearchTrendCounter.TrendKey, Long> drained = searchTrendCounter.drain(LocalDate.now());
+    if (drained.isEmpty()) {
+      return;
     }
+
+    String indexName = elasticsearchOperations.getIndexCoordinatesFor(SearchTrendDocument.class).getIndexName();
+    Map<String, SearchTrendCounter.TrendKey> keysById = new HashMap<>();
+    BulkRequest.Builder request = new BulkRequest.Builder();
+
+    drained.forEach((key, count) -> {
+      String id = key.day() + "_" + key.keyword();
+      keysById.put(id, key);
+
+      Map<String, Object> upsert = new HashMap<>();
+      upsert.put("keyword", key.keyword());
+      upsert.put("searchDate", key.day().toString());
+      upsert.put("searchCount", count);
+
+      request.operations(op -> op.update(u -> u
+          .index(indexName)
+          .id(id)
+          .retryOnConflict(3)
+          .action(a -> a
+              .script(sc -> sc
+                  .source("ctx._source.searchCount += params.n")
+                  .params("n", JsonData.of(count)))
+              .upsert(upsert))));
+    });
+
+    try {
+      BulkResponse response = esClient.bulk(request.build());
+      if (response.errors()) {
+        response.items().stream()
+            .filter(item -> item.error() != null)
+            .forEach(item -> {
+              SearchTrendCounter.TrendKey key = keysById.get(item.id());
+              searchTrendCounter.restore(key, drained.get(key));
+              log.warn("검색어 집계 반영 실패: {} - {}", item.id(), item.error().reason());
+            });
+      }
+      log.debug("검색어 집계 반영: {}건", drained.size());
+    } catch (Exception e) {
+      drained.forEach(searchTrendCounter::restore);
+      log.warn("검색어 집계 bulk 요청 실패, 다음 주기에 재시도합니다. ({}건)", drained.size(), e);
+    }
+  }
+
+  // 종료 시 남은 집계 반영
+  @PreDestroy
+  public void shutdown() {
+    flushSearchKeywords();
   }
 
   public List<String> getTopSearchKeywords(String keyword) {
@@ -1,5 +1,6 @@
 package com.KDT.mosi.domain.publicdatamanage.facility.document;
 
+import com.KDT.mosi.domain.publicdatamanage.ingest.ContentHashed;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
@@ -16,9 +17,10 @@ import java.util.List;
 
 @Data
 @NoArgsConstructor
-@Document(indexName = "facility_info_processed")
-public class FacilityDocument {
+@Document(indexName = "facility_info_processed", createIndex = false) // indexName 은 alias (SearchIndexManager 가 버전 인덱스 관리)
+public class FacilityDocument implements ContentHashed {
 
+  // 상호명 + 주소로 만든 고정 키 (실행마다 같은 시설은 같은 uid)
   @Id
   @Field(type = FieldType.Long)
   private Long uid;
@@ -81,4 +83,8 @@ public class FacilityDocument {
 
   @Field(type = FieldType.Keyword)
   private String gugun;
+
+  // 원본 항목 내용 해시 (변경분 동기화 비교용, 검색 대상 아님)
+  @Field(type = FieldType.Keyword, index = false)
+  private String contentHash;
 }
\ No newline at end of file
@@ -0,0 +1,506 @@
+package com.KDT.mosi.domain.publicdatamanage.facility.svc;
+
+import org.jsoup.Jsoup;
+import org.jsoup.parser.Parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시설 contents(HTML) 항목 추출기
+ * - 모든 정규식은 클래스 로딩 시 한 번만 컴파일한다. (상태가 없어 여러 스레드에서 같이 써도 된다)
+ * - 태그 제거 : 단순한 태그(p, br, span 등)만 있는 본문은 직접 한 번 훑어 Jsoup 의 text() 와 같은 결과를 만들고,
+ *   주석/표/스크립트/어긋난 태그처럼 HTML 트리 보정이 필요한 본문만 Jsoup 으로 파싱한다.
+ * - 항목 추출 : 정리된 본문을 글자 단위로 한 번 훑어 라벨(주소, 위치, 주메뉴, 테이블 수, 전화번호 …)의 첫 위치를 모두 찾고,
+ *   라벨이 있는 항목만 그 위치부터 정규식을 적용한다. (라벨이 없으면 정규식을 돌리지 않음)
+ * - 추출 결과는 기존 FacilityDataProcessorService 의 정규식 추출과 같다. (golden 테스트로 확인)
+ */
+public class FacilityContentExtractor {
+
+  /**
+   * 본문에서 추출한 항목 (값은 trim 전 원본, 없으면 null)
+   */
+  public record Extracted(
+      String text,
+      String tel,
+      String addr,
+      String location,
+      String mainMenu,
+      String lastUpdated,
+      String tableCount
+  ) {
+  }
+
+  // --- 라벨 종류 (scanLabels 결과 배열 위치) ---
+  private static final int ADDR = 0;
+  private static final int LOC = 1;
+  private static final int MENU = 2;
+  private static final int TABLE = 3;
+  private static final int TEL = 4;
+  private static final int TEL_T = 5;
+  private static final int DATE = 6;
+
+  // --- 항목 정규식 ---
+  // 값 끝 판정 : 앞의 lookahead 는 뒤 lookahead 각 대안의 첫 글자만 모은 것 (결과는 같고, 대부분 위치에서 바로 실패한다)
+  private static final String ADDR_END = "(?=\\s*[0-9위<출홈주테입])(?=\\s*(?:[1-5]\\.\\s*)?위\\s*치\\s*[:;]|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*(?:[1-5]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?테이블\\s*수\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?입점\\s*음식점\\s*[:;])";
+  private static final Pattern ADDR_1 = Pattern.compile("주소\\s*:\\s*(.+?)" + ADDR_END);
+  private static final Pattern ADDR_2 = Pattern.compile("주\\s*소\\s*:\\s*(.+?)" + ADDR_END);
+
+  private static final String LOCATION_END = "(?=\\s*[0-9주<출홈테입])(?=\\s*(?:[1-5]\\.\\s*)?주소\\s*[:;]|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*(?:[1-5]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?테이블\\s*수\\s*(?:\\(.+?\\))?\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?입점\\s*음식점\\s*[:;])";
+  private static final Pattern LOCATION_1 = Pattern.compile("(?:[1-5]\\.\\s*)?위\\s*치\\s*[:;]?\\s*(.+?)" + LOCATION_END);
+  private static final Pattern LOCATION_2 = Pattern.compile("(?:[1-5]\\.\\s*)?위치\\s*[:;]?\\s*(.+?)" + LOCATION_END);
+  private static final Pattern LOCATION_TABLE_1 = Pattern.compile("(?<=\\d{1,5})\\s*[4]\\.\\s*테이블");
+  private static final Pattern LOCATION_TABLE_2 = Pattern.compile("(?<=\\d{1,5}m)\\s*[4]\\.\\s*테이블");
+  private static final Pattern TRAILING_DOT = Pattern.compile("\\.$");
+
+  private static final Pattern MAIN_MENU = Pattern.compile("주메뉴\\s*:\\s*(.+?)(?=\\s*[0-9테입이<출홈※]|$)(?=\\s*(?:[1-9]\\.\\s*)?테이블\\s*수|\\s*(?:[1-9]\\.\\s*)?입점\\s*음식점|\\s*(?:[1-9]\\.\\s*)?이용시간|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*※|$)");
+  private static final Pattern MAIN_MENU_FALLBACK = Pattern.compile("주메뉴\\s*:\\s*(.+)");
+  private static final Pattern NUMBERED_REST = Pattern.compile("\\s*\\d+\\.\\s*.*");
+
+  private static final Pattern TEL_1 = Pattern.compile("전화번호\\s*:\\s*.*?([0-9]{2,3}[- ]?[0-9]{3,4}[- ]?[0-9]{4})");
+  private static final Pattern TEL_2 = Pattern.compile("\\(([0-9]{2,3}[- ]?[0-9]{3,4}[- ]?[0-9]{4})\\)");
+  private static final Pattern TEL_3 = Pattern.compile("T:\\s*([0-9]{2,3}[- ]?[0-9]{3,4}[- ]?[0-9]{4})");
+
+  private static final Pattern LAST_UPDATED_1 = Pattern.compile("<(\\d{4}년 \\d{1,2}월 \\d{1,2}일 기준)>");
+  private static final Pattern LAST_UPDATED_2 = Pattern.compile("(\\d{4}년 \\d{1,2}월 \\d{1,2}일 기준)");
+
+  private static final Pattern TABLE_COUNT = Pattern.compile("테이블\\s*수\\s*:\\s*(.+?)(?=\\s*[0-9<주입])(?=\\s*<|\\s*(?:[1-9]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-9]\\.\\s*)?입점\\s*음식점\\s*[:;])");
+
+  private static final Pattern GUGUN = Pattern.compile("[가-힣]+[구군]");
+
+  // --- 주메뉴 정리 ---
+  private static final Pattern MENU_PAREN_REST = Pattern.compile("\\(.*");
+  private static final Pattern MENU_THOUSANDS = Pattern.compile("(?<=\\d),(?=\\d{3})");
+  private static final Pattern MENU_PRICE = Pattern.compile("\\s*[0-9]+(?:\\s*[-/]?\\s*[0-9]+)*\\s*(?:원|만원|Won)\\s*");
+  private static final Pattern MENU_WON_SIGN = Pattern.compile("(?i)[₩￦][\\s0-9/-]*");
+  private static final Pattern SPACES = Pattern.compile(" +");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  // --- 태그 제거 (직접 처리하는 태그) ---
+  // 앞뒤에 공백이 생기는 블록 태그 (Jsoup 의 block 태그)
+  private static final Set<String> BLOCK_TAGS = Set.of("p", "div", "ul", "ol", "li", "h1", "h2", "h3", "h4", "h5", "h6");
+  private static final Set<String> INLINE_TAGS = Set.of("span", "b", "strong", "i", "em", "u", "font", "a", "small", "sup", "sub");
+
+  /**
+   * contents 본문 전체 추출
+   */
+  public Extracted extract(String html) {
+    String text = cleanText(html);
+    int[] labels = scanLabels(text);
+
+    String mainMenu = extractMainMenu(text, labels[MENU]);
+    return new Extracted(
+        text,
+        extractTel(text, labels[TEL], labels[TEL_T]),
+        extractAddr(text, labels[ADDR]),
+        extractLocation(text, labels[LOC]),
+        mainMenu,
+        labels[DATE] < 0 ? null : extractLastUpdated(text),
+        extractTableCount(text, labels[TABLE]));
+  }
+
+  /**
+   * 주소만 추출 (문서 키 계산용)
+   */
+  public String extractAddr(String html) {
+    String text = cleanText(html);
+    return extractAddr(text, text.indexOf('주'));
+  }
+
+  /**
+   * 태그 제거 + 공백 정리 (Jsoup.parse(html).text() 후 !R!!N! 제거, 공백 하나로)
+   */
+  public String cleanText(String html) {
+    if (html == null || html.trim().isEmpty()) {
+      return "";
+    }
+    String text = simpleText(html);
+    if (text == null) {
+      text = Jsoup.parse(html).text();
+    }
+    // text() 결과는 이미 공백이 하나씩이고 앞뒤가 잘려 있다. (!R!!N! 제거나 수직 탭이 있을 때만 다시 정리)
+    if (!text.contains("!R!!N!") && text.indexOf('\u000b') < 0) {
+      return text;
+    }
+    return WHITESPACE.matcher(text.replace("!R!!N!", "")).replaceAll(" ").trim();
+  }
+
+  /**
+   * 주메뉴 문자열을 메뉴 목록으로 (가격/괄호 설명 제거)
+   */
+  public List<String> splitMainMenu(String mainMenuText) {
+    if (mainMenuText == null || mainMenuText.trim().isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    String tempText = mainMenuText;
+    tempText = MENU_PAREN_REST.matcher(tempText).replaceAll("");
+    tempText = MENU_THOUSANDS.matcher(tempText).replaceAll("");
+    tempText = MENU_PRICE.matcher(tempText).replaceAll("");
+    tempText = MENU_WON_SIGN.matcher(tempText).replaceAll("");
+    tempText = SPACES.matcher(tempText).replaceAll(" ").trim();
+
+    List<String> menus = new ArrayList<>();
+    for (String menu : tempText.split(",")) {
+      String trimmed = menu.trim();
+      if (!trimmed.isEmpty()) {
+        menus.add(trimmed);
+      }
+    }
+    return menus;
+  }
+
+  /**
+   * 주소에서 구/군 추출 (예: "수영구"), 없으면 null
+   */
+  public String extractGugun(String addr) {
+    if (addr == null || addr.trim().isEmpty()) {
+      return null;
+    }
+    Matcher matcher = GUGUN.matcher(addr);
+    return matcher.find() ? matcher.group() : null;
+  }
+
+  // 라벨별 첫 위치 (없으면 -1), 본문을 한 번만 훑는다.
+  // 위치는 그 라벨로 시작하는 정규식이 일치할 수 있는 가장 앞 위치 이하이면 된다. (find 시작점으로만 사용)
+  static int[] scanLabels(String text) {
+    int[] first = {-1, -1, -1, -1, -1, -1, -1};
+    int found = 0;
+    int n = text.length();
+    for (int i = 0; i < n && found < first.length; i++) {
+      int label = -1;
+      switch (text.charAt(i)) {
+        case '주' -> {
+          int j = skipSpaces(text, i + 1);
+          if (j < n && text.charAt(j) == '소') {
+            label = ADDR;           // 주소, 주 소
+          } else if (text.startsWith("메뉴", i + 1)) {
+            label = MENU;           // 주메뉴
+          }
+        }
+        case '위' -> {
+          int j = skipSpaces(text, i + 1);
+          if (j < n && text.charAt(j) == '치') {
+            label = LOC;            // 위치, 위 치 (앞의 "3. " 번호 포함)
+          }
+        }
+        case '테' -> {
+          if (text.startsWith("이블", i + 1)) {
+            int j = skipSpaces(text, i + 3);
+            if (j < n && text.charAt(j) == '수') {
+              label = TABLE;        // 테이블 수, 테이블수
+            }
+          }
+        }
+        case '전' -> {
+          if (text.startsWith("화번호", i + 1)) {
+            label = TEL;
+          }
+        }
+        case 'T' -> {
+          if (i + 1 < n && text.charAt(i + 1) == ':') {
+            label = TEL_T;
+          }
+        }
+        case '기' -> {
+          if (i + 1 < n && text.charAt(i + 1) == '준') {
+            label = DATE;
+          }
+        }
+        default -> {
+        }
+      }
+      if (label >= 0 && first[label] < 0) {
+        first[label] = label == LOC ? numberPrefixStart(text, i) : i;
+        found++;
+      }
+    }
+    return first;
+  }
+
+  // 정규식 \s 와 같은 공백
+  private static int skipSpaces(String text, int from) {
+    int i = from;
+    while (i < text.length() && isRegexSpace(text.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  // "3. 위치" 처럼 앞에 번호([1-5]\.\s*)가 붙어 있으면 번호 위치
+  private static int numberPrefixStart(String text, int labelStart) {
+    int j = labelStart;
+    while (j > 0 && isRegexSpace(text.charAt(j - 1))) {
+      j--;
+    }
+    if (j >= 2 && text.charAt(j - 1) == '.' && text.charAt(j - 2) >= '1' && text.charAt(j - 2) <= '5') {
+      return j - 2;
+    }
+    return labelStart;
+  }
+
+  private static boolean isRegexSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000b' || c == '\f' || c == '\r';
+  }
+
+  // 정규식은 라벨로 시작하므로 라벨의 첫 위치보다 앞에서 일치할 수 없다. → 그 위치부터 찾아도 결과가 같다.
+  private static String find(Pattern pattern, String text, int from) {
+    Matcher matcher = pattern.matcher(text);
+    return matcher.find(from) ? matcher.group(1) : null;
+  }
+
+  private String extractTel(String text, int telLabel, int telTLabel) {
+    String tel = telLabel < 0 ? null : find(TEL_1, text, telLabel);
+    if (tel == null && text.indexOf('(') >= 0) {
+      tel = find(TEL_2, text, 0);
+    }
+    if (tel == null && telTLabel >= 0) {
+      tel = find(TEL_3, text, telTLabel);
+    }
+    return tel;
+  }
+
+  private String extractAddr(String text, int addrLabel) {
+    if (addrLabel < 0) {
+      return null;
+    }
+    String addr = find(ADDR_1, text, addrLabel);
+    if (addr == null) {
+      addr = find(ADDR_2, text, addrLabel);
+    }
+    if (addr != null && addr.endsWith(".")) {
+      addr = addr.substring(0, addr.length() - 1);
+    }
+    return addr;
+  }
+
+  private String extractLocation(String text, int locLabel) {
+    if (locLabel < 0) {
+      return null;
+    }
+    String location = find(LOCATION_1, text, locLabel);
+    if (location == null) {
+      location = find(LOCATION_2, text, locLabel);
+    }
+    if (location != null) {
+      location = LOCATION_TABLE_1.matcher(location).replaceAll("");
+      location = LOCATION_TABLE_2.matcher(location).replaceAll("");
+      location = TRAILING_DOT.matcher(location).replaceAll("");
+      return location.trim();
+    }
+    return null;
+  }
+
+  private String extractMainMenu(String text, int menuLabel) {
+    if (menuLabel < 0) {
+      return null;
+    }
+    String mainMenu = find(MAIN_MENU, text, menuLabel);
+    if (mainMenu != null) {
+      mainMenu = NUMBERED_REST.matcher(mainMenu).replaceAll("");
+      return cutNotes(mainMenu);
+    }
+
+    mainMenu = find(MAIN_MENU_FALLBACK, text, menuLabel);
+    if (mainMenu != null) {
+      return cutNotes(mainMenu);
+    }
+    return null;
+  }
+
+  // ※ / * 뒤 안내 문구 제거 (기존 split(..)[0] 은 값이 "※" 뿐이면 예외가 났다)
+  private static String cutNotes(String mainMenu) {
+    int note = mainMenu.indexOf('※');
+    String menu = (note >= 0 ? mainMenu.substring(0, note) : mainMenu).trim();
+    int star = menu.indexOf('*');
+    return (star >= 0 ? menu.substring(0, star) : menu).trim();
+  }
+
+  private String extractLastUpdated(String text) {
+    String lastUpdated = find(LAST_UPDATED_1, text, 0);
+    if (lastUpdated == null) {
+      lastUpdated = find(LAST_UPDATED_2, text, 0);
+    }
+    return lastUpdated;
+  }
+
+  private String extractTableCount(String text, int tableLabel) {
+    if (tableLabel < 0) {
+      return null;
+    }
+    String tableCount = find(TABLE_COUNT, text, tableLabel);
+    if (tableCount != null) {
+      tableCount = tableCount.trim();
+      if (tableCount.endsWith(".")) {
+        tableCount = tableCount.substring(0, tableCount.length() - 1);
+      }
+      return tableCount.trim();
+    }
+    return null;
+  }
+
+  /**
+   * 단순한 본문의 태그 제거 (Jsoup text() 와 같은 규칙)
+   * - 블록 태그 / br 경계는 공백 하나, 인라인 태그는 경계 없음, 엔티티는 Jsoup 과 같은 방식으로 풀고,
+   *   공백(nbsp 포함)은 하나로, 보이지 않는 문자(zero width space, soft hyphen)는 제거한다.
+   * - HTML 트리 보정이 필요할 수 있는 본문(주석, 모르는 태그, 어긋난 닫는 태그, 인라인 안의 블록 등)이면 null
+   */
+  static String simpleText(String html) {
+    StringBuilder out = new StringBuilder(html.length());
+    List<String> open = new ArrayList<>();
+    int inlineDepth = 0;
+    int textStart = 0;
+    int i = 0;
+    int n = html.length();
+
+    while (i < n) {
+      char c = html.charAt(i);
+      if (c == '\0') {
+        return null;
+      }
+      if (c != '<' || i + 1 >= n) {
+        i++;
+        continue;
+      }
+
+      char next = html.charAt(i + 1);
+      boolean closing = next == '/';
+      int nameStart = closing ? i + 2 : i + 1;
+      if (nameStart >= n || !isAsciiAlpha(html.charAt(nameStart))) {
+        if (closing || next == '!' || next == '?') {
+          return null; // 주석, doctype, 잘못된 닫는 태그
+        }
+        i++; // '<' 뒤가 글자가 아니면 그냥 문자
+        continue;
+      }
+
+      // 태그 이름
+      int nameEnd = nameStart;
+      while (nameEnd < n && isAsciiAlphaNumeric(html.charAt(nameEnd))) {
+        nameEnd++;
+      }
+      String name = html.substring(nameStart, nameEnd).toLowerCase();
+
+      // 속성 (따옴표 값 안의 '>' 는 건너뜀)
+      int end = tagEnd(html, nameEnd);
+      if (end < 0) {
+        return null;
+      }
+      boolean selfClosing = html.charAt(end - 1) == '/' && end - 1 >= nameEnd;
+
+      appendText(out, html, textStart, i);
+
+      if (name.equals("br")) {
+        if (closing && end != nameEnd) {
+          return null;
+        }
+        out.append(' ');
+      } else if (name.equals("img") || name.equals("hr")) {
+        if (closing) {
+          return null;
+        }
+        if (name.equals("hr")) {
+          out.append(' ');
+        }
+      } else if (BLOCK_TAGS.contains(name) || INLINE_TAGS.contains(name)) {
+        boolean block = BLOCK_TAGS.contains(name);
+        if (selfClosing || (block && inlineDepth > 0)) {
+          return null;
+        }
+        if (closing) {
+          if (open.isEmpty() || !open.get(open.size() - 1).equals(name)) {
+            return null;
+          }
+          open.remove(open.size() - 1);
+        } else {
+          open.add(name);
+        }
+        if (block) {
+          out.append(' ');
+        } else {
+          inlineDepth += closing ? -1 : 1;
+        }
+      } else {
+        return null; // 표, 스크립트, html/body 등은 Jsoup 으로
+      }
+
+      i = end + 1;
+      textStart = i;
+    }
+    appendText(out, html, textStart, n);
+    return normalize(out);
+  }
+
+  // 태그를 닫는 '>' 위치 (따옴표 값 고려), 처리할 수 없는 모양이면 -1
+  private static int tagEnd(String html, int from) {
+    int n = html.length();
+    char quote = 0;
+    for (int i = from; i < n; i++) {
+      char c = html.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '>') {
+        return i;
+      } else if (c == '<') {
+        return -1;
+      } else if (c == '"' || c == '\'') {
+        // 값의 따옴표(= 바로 뒤)만 허용
+        int prev = i - 1;
+        while (prev >= from && isHtmlWhitespace(html.charAt(prev))) {
+          prev--;
+        }
+        if (prev < from || html.charAt(prev) != '=') {
+          return -1;
+        }
+        quote = c;
+      } else if (i == from && !isHtmlWhitespace(c) && c != '/') {
+        return -1; // 태그 이름 뒤에 바로 다른 문자
+      }
+    }
+    return -1;
+  }
+
+  private static void appendText(StringBuilder out, String html, int from, int to) {
+    if (from >= to) {
+      return;
+    }
+    String text = html.substring(from, to);
+    out.append(text.indexOf('&') >= 0 ? Parser.unescapeEntities(text, false) : text);
+  }
+
+  // Jsoup 의 공백 정리와 같은 규칙 + String.trim()
+  private static String normalize(StringBuilder raw) {
+    StringBuilder out = new StringBuilder(raw.length());
+    boolean lastWasWhite = false;
+    for (int i = 0; i < raw.length(); i++) {
+      char c = raw.charAt(i);
+      if (c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == '\u00a0') {
+        if (!lastWasWhite) {
+          out.append(' ');
+          lastWasWhite = true;
+        }
+      } else if (c != '\u200b' && c != '\u00ad') {
+        out.append(c);
+        lastWasWhite = false;
+      }
+    }
+    return out.toString().trim();
+  }
+
+  private static boolean isAsciiAlpha(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isAsciiAlphaNumeric(char c) {
+    return isAsciiAlpha(c) || (c >= '0' && c <= '9');
+  }
+
+  private static boolean isHtmlWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+  }
+}
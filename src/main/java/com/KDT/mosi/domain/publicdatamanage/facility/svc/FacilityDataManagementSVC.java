@@ -3,6 +3,7 @@ package com.KDT.mosi.domain.publicdatamanage.facility.svc;
 import com.KDT.mosi.domain.publicdatamanage.facility.document.FacilityDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +18,9 @@ public interface FacilityDataManagementSVC {
 
   List<FacilityDocument> saveAllFacilityDocuments(List<FacilityDocument> documents);
 
+  // 지정한 인덱스(재구축 중인 버전 인덱스)에 저장
+  void saveAllFacilityDocuments(List<FacilityDocument> documents, IndexCoordinates target);
+
   Optional<FacilityDocument> getFacilityDocumentById(Long uid);
 
   long countAllFacilities();
@@ -43,7 +47,8 @@ public interface FacilityDataManagementSVC {
   Page<FacilityDocument> searchFacilities(String searchType, String keyword, Pageable pageable);
 
   /**
-   * Elasticsearch의 facility 인덱스를 삭제합니다.
+   * facility alias 가 없으면 빈 버전 인덱스를 만들어 연결합니다.
+   * @return 전체 적재가 필요하면 true
    */
-  void deleteFacilityIndex();
+  boolean ensureFacilityIndex();
 }
\ No newline at end of file
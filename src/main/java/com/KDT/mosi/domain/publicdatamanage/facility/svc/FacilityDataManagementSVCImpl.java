@@ -2,11 +2,13 @@ package com.KDT.mosi.domain.publicdatamanage.facility.svc;
 
 import com.KDT.mosi.domain.publicdatamanage.facility.document.FacilityDocument;
 import com.KDT.mosi.domain.publicdatamanage.facility.repository.FacilityInfoRepository;
+import com.KDT.mosi.domain.search.SearchIndexManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -20,6 +22,7 @@ public class FacilityDataManagementSVCImpl implements FacilityDataManagementSVC
 
   private final FacilityInfoRepository facilityInfoRepository;
   private final ElasticsearchOperations elasticsearchOperations;
+  private final SearchIndexManager searchIndexManager;
 
   @Override
   public FacilityDocument saveFacilityDocument(FacilityDocument document) {
@@ -37,6 +40,15 @@ public class FacilityDataManagementSVCImpl implements FacilityDataManagementSVC
     return savedDocuments;
   }
 
+  @Override
+  public void saveAllFacilityDocuments(List<FacilityDocument> documents, IndexCoordinates target) {
+    if (documents == null || documents.isEmpty()) {
+      return;
+    }
+    elasticsearchOperations.save(documents, target);
+    log.info("Successfully saved {} documents to {}.", documents.size(), target.getIndexName());
+  }
+
   @Override
   public Optional<FacilityDocument> getFacilityDocumentById(Long uid) {
     return facilityInfoRepository.findById(uid);
@@ -97,17 +109,7 @@ public class FacilityDataManagementSVCImpl implements FacilityDataManagementSVC
   }
 
   @Override
-  public void deleteFacilityIndex() {
-    // ElasticsearchOperations를 이용해 인덱스를 삭제합니다.
-    if (elasticsearchOperations.indexOps(FacilityDocument.class).exists()) {
-      boolean isDeleted = elasticsearchOperations.indexOps(FacilityDocument.class).delete();
-      if (isDeleted) {
-        log.info("기존 Elasticsearch 인덱스 'facility' 삭제 성공.");
-      } else {
-        log.error("기존 Elasticsearch 인덱스 'facility' 삭제 실패.");
-      }
-    } else {
-      log.info("삭제할 Elasticsearch 인덱스 'facility'가 존재하지 않습니다.");
-    }
+  public boolean ensureFacilityIndex() {
+    return searchIndexManager.ensureAlias(FacilityDocument.class);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.KDT.mosi.domain.publicdatamanage.geo;
+
+/**
+ * 지도 검색 범위
+ * - Circle : 한 지점에서 반경 N 미터 이내 (geo_distance)
+ * - Box    : 현재 지도 화면 (geo_bounding_box, 왼쪽 경도가 오른쪽보다 크면 날짜 변경선을 넘는 화면)
+ * - 결과는 항상 중심점(Circle 의 지점, Box 의 화면 중앙)에서 가까운 순으로 정렬한다.
+ */
+public sealed interface GeoArea {
+
+  double centerLat();
+
+  double centerLon();
+
+  static Circle circle(double lat, double lon, int distanceMeters) {
+    checkLat(lat);
+    checkLon(lon);
+    if (distanceMeters <= 0) {
+      throw new IllegalArgumentException("반경은 1m 이상이어야 합니다. distance=" + distanceMeters);
+    }
+    return new Circle(lat, lon, distanceMeters);
+  }
+
+  static Box box(double top, double left, double bottom, double right) {
+    checkLat(top);
+    checkLat(bottom);
+    checkLon(left);
+    checkLon(right);
+    if (top < bottom) {
+      throw new IllegalArgumentException("top 위도가 bottom 보다 작습니다. top=" + top + ", bottom=" + bottom);
+    }
+    return new Box(top, left, bottom, right);
+  }
+
+  private static void checkLat(double lat) {
+    if (!(lat >= -90 && lat <= 90)) {
+      throw new IllegalArgumentException("위도 범위(-90 ~ 90)를 벗어났습니다. lat=" + lat);
+    }
+  }
+
+  private static void checkLon(double lon) {
+    if (!(lon >= -180 && lon <= 180)) {
+      throw new IllegalArgumentException("경도 범위(-180 ~ 180)를 벗어났습니다. lon=" + lon);
+    }
+  }
+
+  record Circle(double lat, double lon, int distanceMeters) implements GeoArea {
+
+    @Override
+    public double centerLat() {
+      return lat;
+    }
+
+    @Override
+    public double centerLon() {
+      return lon;
+    }
+  }
+
+  record Box(double top, double left, double bottom, double right) implements GeoArea {
+
+    @Override
+    public double centerLat() {
+      return (top + bottom) / 2;
+    }
+
+    @Override
+    public double centerLon() {
+      if (left <= right) {
+        return (left + right) / 2;
+      }
+      // 날짜 변경선을 넘는 화면
+      double center = (left + right + 360) / 2;
+      return center > 180 ? center - 360 : center;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.KDT.mosi.domain.publicdatamanage.geo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지도 마커용 장소 (맛집 / 편의시설 공통)
+ * - 지도에 그리는 데 필요한 값만 담는다. (상세 정보는 기존 목록/검색 API 로 조회)
+ */
+@Getter
+@Builder
+public class MapPlace {
+
+  private String id;
+  private String name;
+  private double latitude;
+  private double longitude;
+  private String gugun;
+
+  // 편의시설 구분 (맛집은 null)
+  private List<String> gubun;
+
+  // 대표 메뉴 / 주메뉴
+  private List<String> menu;
+
+  private String thumbnailUrl;
+
+  // 검색 중심점에서의 거리 (m)
+  private long distanceMeters;
+}
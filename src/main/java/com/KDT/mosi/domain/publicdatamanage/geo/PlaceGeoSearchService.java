@@ -0,0 +1,187 @@
+package com.KDT.mosi.domain.publicdatamanage.geo;
+
+import co.elastic.clients.elasticsearch._types.DistanceUnit;
+import co.elastic.clients.elasticsearch._types.GeoLocation;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.KDT.mosi.domain.publicdatamanage.facility.document.FacilityDocument;
+import com.KDT.mosi.domain.publicdatamanage.restaurant.document.FoodDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 지도 화면용 위치 검색 (맛집 / 편의시설)
+ * - 반경(geo_distance) 또는 화면 영역(geo_bounding_box) 안의 문서를 구군/메뉴/구분으로 거른 뒤 가까운 순으로 반환한다.
+ * - 조건은 모두 filter 절(점수 계산 없음)이고, _source 는 마커에 필요한 필드만 받는다. total 도 세지 않는다.
+ * - 지도를 움직일 때마다 전체 목록을 받아 클라이언트에서 거르던 것을 작은 쿼리 한 번으로 바꾼다.
+ */
+@Service
+public class PlaceGeoSearchService {
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final int defaultSize;
+  private final int maxSize;
+  private final int maxDistanceMeters;
+
+  public PlaceGeoSearchService(ElasticsearchOperations elasticsearchOperations,
+                               @Value("${public-data.geo.default-size:100}") int defaultSize,
+                               @Value("${public-data.geo.max-size:300}") int maxSize,
+                               @Value("${public-data.geo.max-distance-meters:20000}") int maxDistanceMeters) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.defaultSize = defaultSize;
+    this.maxSize = maxSize;
+    this.maxDistanceMeters = maxDistanceMeters;
+  }
+
+  /**
+   * 범위 안의 맛집
+   *
+   * @param gugun 구군명 (gugun_nm, 없으면 전체)
+   * @param menu  대표 메뉴 (rprsntv_menu 와 정확히 일치, 없으면 전체)
+   * @param size  최대 건수 (null 이면 기본값)
+   */
+  public List<MapPlace> searchFood(GeoArea area, String gugun, String menu, Integer size) {
+    Map<String, String> terms = new LinkedHashMap<>();
+    terms.put("gugunNm", gugun);
+    terms.put("rprsntvMenu", menu);
+
+    return search(FoodDocument.class, area, terms, size,
+        List.of("ucSeq", "title", "gugunNm", "geoPoint", "rprsntvMenu", "mainImgThumb"),
+        (document, distance) -> MapPlace.builder()
+            .id(String.valueOf(document.getUcSeq()))
+            .name(document.getTitle())
+            .latitude(document.getGeoPoint().getLat())
+            .longitude(document.getGeoPoint().getLon())
+            .gugun(document.getGugunNm())
+            .menu(document.getRprsntvMenu())
+            .thumbnailUrl(document.getMainImgThumb())
+            .distanceMeters(distance)
+            .build());
+  }
+
+  /**
+   * 범위 안의 편의시설
+   *
+   * @param gugun 구군 (없으면 전체)
+   * @param menu  주메뉴 (mainMenu 와 정확히 일치, 없으면 전체)
+   * @param gubun 시설 구분 (없으면 전체)
+   * @param size  최대 건수 (null 이면 기본값)
+   */
+  public List<MapPlace> searchFacilities(GeoArea area, String gugun, String menu, String gubun, Integer size) {
+    Map<String, String> terms = new LinkedHashMap<>();
+    terms.put("gugun", gugun);
+    terms.put("mainMenu", menu);
+    terms.put("gubun", gubun);
+
+    return search(FacilityDocument.class, area, terms, size,
+        List.of("uid", "subject", "gugun", "geoPoint", "gubun", "mainMenu", "imgUrl"),
+        (document, distance) -> MapPlace.builder()
+            .id(String.valueOf(document.getUid()))
+            .name(document.getSubject())
+            .latitude(document.getGeoPoint().getLat())
+            .longitude(document.getGeoPoint().getLon())
+            .gugun(document.getGugun())
+            .gubun(document.getGubun())
+            .menu(document.getMainMenu())
+            .thumbnailUrl(document.getImgUrl())
+            .distanceMeters(distance)
+            .build());
+  }
+
+  @FunctionalInterface
+  private interface PlaceMapper<D> {
+    MapPlace map(D document, long distanceMeters);
+  }
+
+  private <D> List<MapPlace> search(Class<D> documentClass, GeoArea area, Map<String, String> terms, Integer size,
+                                    List<String> sourceProperties, PlaceMapper<D> mapper) {
+    Function<String, String> field = property -> fieldName(documentClass, property);
+    String geoField = field.apply("geoPoint");
+
+    List<Query> filters = new ArrayList<>();
+    filters.add(areaQuery(geoField, area));
+    terms.forEach((property, value) -> {
+      if (StringUtils.hasText(value)) {
+        filters.add(Query.of(q -> q.term(t -> t.field(field.apply(property)).value(value.trim()))));
+      }
+    });
+
+    GeoLocation center = latLon(area.centerLat(), area.centerLon());
+    NativeQuery query = NativeQuery.builder()
+        .withQuery(q -> q.bool(b -> b.filter(filters)))
+        .withSort(SortOptions.of(s -> s.geoDistance(g -> g
+            .field(geoField)
+            .location(center)
+            .unit(DistanceUnit.Meters)
+            .order(SortOrder.Asc))))
+        .withSourceFilter(new FetchSourceFilterBuilder()
+            .withIncludes(sourceProperties.stream().map(field).toArray(String[]::new))
+            .build())
+        .withMaxResults(resolveSize(size))
+        .withTrackTotalHits(false)
+        .build();
+
+    List<MapPlace> places = new ArrayList<>();
+    for (SearchHit<D> hit : elasticsearchOperations.search(query, documentClass)) {
+      places.add(mapper.map(hit.getContent(), distanceOf(hit)));
+    }
+    return places;
+  }
+
+  private Query areaQuery(String geoField, GeoArea area) {
+    if (area instanceof GeoArea.Circle circle) {
+      if (circle.distanceMeters() > maxDistanceMeters) {
+        throw new IllegalArgumentException("반경은 최대 " + maxDistanceMeters + "m 까지 검색할 수 있습니다.");
+      }
+      return Query.of(q -> q.geoDistance(g -> g
+          .field(geoField)
+          .location(latLon(circle.lat(), circle.lon()))
+          .distance(circle.distanceMeters() + "m")));
+    }
+    GeoArea.Box box = (GeoArea.Box) area;
+    return Query.of(q -> q.geoBoundingBox(g -> g
+        .field(geoField)
+        .boundingBox(b -> b.tlbr(t -> t
+            .topLeft(latLon(box.top(), box.left()))
+            .bottomRight(latLon(box.bottom(), box.right()))))));
+  }
+
+  private int resolveSize(Integer size) {
+    if (size == null || size <= 0) {
+      return defaultSize;
+    }
+    return Math.min(size, maxSize);
+  }
+
+  private String fieldName(Class<?> documentClass, String property) {
+    return elasticsearchOperations.getElasticsearchConverter().getMappingContext()
+        .getRequiredPersistentEntity(documentClass)
+        .getRequiredPersistentProperty(property)
+        .getFieldName();
+  }
+
+  private static GeoLocation latLon(double lat, double lon) {
+    return GeoLocation.of(l -> l.latlon(ll -> ll.lat(lat).lon(lon)));
+  }
+
+  // 거리 정렬값 (m, 반올림)
+  private static long distanceOf(SearchHit<?> hit) {
+    List<Object> sortValues = hit.getSortValues();
+    if (sortValues.isEmpty() || !(sortValues.get(0) instanceof Number distance)) {
+      return 0;
+    }
+    return Math.round(distance.doubleValue());
+  }
+}
@@ -0,0 +1,28 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode;
+
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지오코딩 캐시 행 (GEOCODE_CACHE)
+ * - 좌표가 없으면 "찾지 못함" 결과 (checkedAt 기준으로 만료)
+ */
+public record GeocodeCacheEntry(String address, Double lat, Double lon, LocalDateTime checkedAt) {
+
+  public static GeocodeCacheEntry found(String address, GeoPoint point, LocalDateTime checkedAt) {
+    return new GeocodeCacheEntry(address, point.getLat(), point.getLon(), checkedAt);
+  }
+
+  public static GeocodeCacheEntry notFound(String address, LocalDateTime checkedAt) {
+    return new GeocodeCacheEntry(address, null, null, checkedAt);
+  }
+
+  public boolean isFound() {
+    return lat != null && lon != null;
+  }
+
+  public GeoPoint toGeoPoint() {
+    return isFound() ? new GeoPoint(lat, lon) : null;
+  }
+}
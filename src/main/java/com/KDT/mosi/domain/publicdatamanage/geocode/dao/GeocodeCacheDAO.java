@@ -0,0 +1,22 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode.dao;
+
+import com.KDT.mosi.domain.publicdatamanage.geocode.GeocodeCacheEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GeocodeCacheDAO {
+
+  /**
+   * 주소 목록의 캐시 일괄 조회
+   *
+   * @param addresses 정규화한 주소
+   * @return 캐시에 있는 행 (없는 주소는 빠진다)
+   */
+  List<GeocodeCacheEntry> findByAddresses(Collection<String> addresses);
+
+  /**
+   * 캐시 일괄 저장 (있으면 좌표/조회 시각 갱신)
+   */
+  void saveAll(List<GeocodeCacheEntry> entries);
+}
@@ -0,0 +1,73 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode.dao;
+
+import com.KDT.mosi.domain.publicdatamanage.geocode.GeocodeCacheEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지오코딩 캐시 DAO 구현체 (GEOCODE_CACHE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class GeocodeCacheDAOImpl implements GeocodeCacheDAO {
+
+  // Oracle IN 목록 최대 개수
+  private static final int IN_CHUNK = 1000;
+
+  private final NamedParameterJdbcTemplate template;
+
+  private final RowMapper<GeocodeCacheEntry> rowMapper = (rs, rowNum) -> new GeocodeCacheEntry(
+      rs.getString("ADDRESS"),
+      rs.getObject("LAT") != null ? rs.getDouble("LAT") : null,
+      rs.getObject("LON") != null ? rs.getDouble("LON") : null,
+      rs.getTimestamp("CHECKED_AT").toLocalDateTime());
+
+  @Override
+  public List<GeocodeCacheEntry> findByAddresses(Collection<String> addresses) {
+    List<String> keys = new ArrayList<>(addresses);
+    List<GeocodeCacheEntry> result = new ArrayList<>(keys.size());
+    String sql = "SELECT ADDRESS, LAT, LON, CHECKED_AT FROM GEOCODE_CACHE WHERE ADDRESS IN (:addresses)";
+
+    for (int from = 0; from < keys.size(); from += IN_CHUNK) {
+      List<String> chunk = keys.subList(from, Math.min(from + IN_CHUNK, keys.size()));
+      result.addAll(template.query(sql, Map.of("addresses", chunk), rowMapper));
+    }
+    return result;
+  }
+
+  @Override
+  public void saveAll(List<GeocodeCacheEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    String sql = """
+        MERGE INTO GEOCODE_CACHE c
+        USING (SELECT :address AS ADDRESS FROM DUAL) s
+           ON (c.ADDRESS = s.ADDRESS)
+        WHEN MATCHED THEN UPDATE SET
+             c.LAT = :lat, c.LON = :lon, c.CHECKED_AT = :checkedAt
+        WHEN NOT MATCHED THEN INSERT (ADDRESS, LAT, LON, CHECKED_AT)
+             VALUES (:address, :lat, :lon, :checkedAt)
+        """;
+
+    SqlParameterSource[] batch = entries.stream()
+        .map(e -> new MapSqlParameterSource()
+            .addValue("address", e.address())
+            .addValue("lat", e.lat())
+            .addValue("lon", e.lon())
+            .addValue("checkedAt", Timestamp.valueOf(e.checkedAt())))
+        .toArray(SqlParameterSource[]::new);
+
+    template.batchUpdate(sql, batch);
+  }
+}
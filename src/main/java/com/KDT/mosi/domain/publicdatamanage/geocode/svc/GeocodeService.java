@@ -0,0 +1,128 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode.svc;
+
+import com.KDT.mosi.domain.publicdatamanage.geocode.GeocodeCacheEntry;
+import com.KDT.mosi.domain.publicdatamanage.geocode.dao.GeocodeCacheDAO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시를 거치는 지오코딩 (GEOCODE_CACHE → Geocoder)
+ * - 키는 정규화한 주소. 한 번 찾은 좌표는 계속 쓰고, 찾지 못한 주소는 negative-ttl 동안 다시 묻지 않는다.
+ * - 호출 실패(네트워크, 한도 초과 등)는 캐시에 남기지 않아 다음 적재 때 다시 시도한다.
+ * - 데이터가 그대로인 재적재는 외부 호출 없이 캐시만으로 끝난다.
+ */
+@Slf4j
+@Service
+public class GeocodeService {
+
+  private final Geocoder geocoder;
+  private final GeocodeCacheDAO cacheDAO;
+  private final Duration negativeTtl;
+
+  public GeocodeService(Geocoder geocoder,
+                        GeocodeCacheDAO cacheDAO,
+                        @Value("${geocode.cache.negative-ttl-days:7}") long negativeTtlDays) {
+    this.geocoder = geocoder;
+    this.cacheDAO = cacheDAO;
+    this.negativeTtl = Duration.ofDays(negativeTtlDays);
+  }
+
+  /**
+   * 주소 목록 일괄 변환
+   *
+   * @param addresses 원본 주소 (null / 빈 값은 건너뜀)
+   * @return 원본 주소 → 좌표 (찾지 못한 주소는 빠진다)
+   */
+  public Map<String, GeoPoint> geocodeAll(Collection<String> addresses) {
+    Map<String, String> keyOf = new HashMap<>();
+    for (String address : addresses) {
+      String key = normalize(address);
+      if (key != null) {
+        keyOf.put(address, key);
+      }
+    }
+    if (keyOf.isEmpty()) {
+      return Map.of();
+    }
+
+    Set<String> keys = new LinkedHashSet<>(keyOf.values());
+    Set<String> misses = new LinkedHashSet<>(keys);
+    Map<String, GeoPoint> points = new HashMap<>();
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime negativeSince = now.minus(negativeTtl);
+
+    try {
+      for (GeocodeCacheEntry entry : cacheDAO.findByAddresses(misses)) {
+        if (entry.isFound()) {
+          points.put(entry.address(), entry.toGeoPoint());
+          misses.remove(entry.address());
+        } else if (entry.checkedAt().isAfter(negativeSince)) {
+          misses.remove(entry.address());
+        }
+      }
+    } catch (DataAccessException e) {
+      log.warn("지오코딩 캐시 조회 실패, 전체 주소를 다시 조회합니다: {}", e.getMessage());
+    }
+
+    List<GeocodeCacheEntry> fresh = new ArrayList<>(misses.size());
+    for (String key : misses) {
+      try {
+        geocoder.geocode(key).ifPresentOrElse(
+            point -> {
+              points.put(key, point);
+              fresh.add(GeocodeCacheEntry.found(key, point, now));
+            },
+            () -> fresh.add(GeocodeCacheEntry.notFound(key, now)));
+      } catch (RuntimeException e) {
+        log.error("지오코딩 실패 for address '{}': {}", key, e.getMessage());
+      }
+    }
+
+    try {
+      cacheDAO.saveAll(fresh);
+    } catch (DataAccessException e) {
+      log.warn("지오코딩 캐시 저장 실패 ({}건): {}", fresh.size(), e.getMessage());
+    }
+    log.info("지오코딩: 주소 {}건 중 캐시 {}건, 외부 조회 {}건", keys.size(), keys.size() - misses.size(), misses.size());
+
+    Map<String, GeoPoint> result = new HashMap<>();
+    keyOf.forEach((address, key) -> {
+      GeoPoint point = points.get(key);
+      if (point != null) {
+        result.put(address, point);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * 캐시 키용 주소 정규화
+   * - 유니코드 NFC, 쉼표/괄호 제거, 연속 공백 하나로
+   *
+   * @return 정규화한 주소, 비어 있으면 null
+   */
+  public static String normalize(String address) {
+    if (address == null) {
+      return null;
+    }
+    String normalized = Normalizer.normalize(address, Normalizer.Form.NFC)
+        .replaceAll("[,()]", " ")
+        .replaceAll("\\s+", " ")
+        .trim();
+    return normalized.isEmpty() ? null : normalized;
+  }
+}
@@ -0,0 +1,20 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode.svc;
+
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+
+import java.util.Optional;
+
+/**
+ * 주소 → 좌표 변환기
+ * - geocode.provider=kakao(기본) : 카카오 로컬 API
+ * - geocode.provider=stub        : 외부 호출 없는 고정 좌표 (오프라인 개발/테스트)
+ */
+public interface Geocoder {
+
+  /**
+   * @param address 정규화한 주소
+   * @return 좌표, 찾지 못하면 empty
+   * @throws RuntimeException 호출 실패 (캐시에 남기지 않고 다음 적재 때 다시 시도)
+   */
+  Optional<GeoPoint> geocode(String address);
+}
@@ -0,0 +1,63 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode.svc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 카카오 로컬 API 주소 검색 (첫 번째 결과의 좌표 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "geocode.provider", havingValue = "kakao", matchIfMissing = true)
+public class KakaoGeocoder implements Geocoder {
+
+  private final RestTemplate restTemplate;
+  private final String kakaoApiKey;
+  private final String kakaoGeocodeUrl;
+
+  public KakaoGeocoder(RestTemplate restTemplate,
+                       @Value("${kakao.api.key}") String kakaoApiKey,
+                       @Value("${kakao.api.url.geocode}") String kakaoGeocodeUrl) {
+    this.restTemplate = restTemplate;
+    this.kakaoApiKey = kakaoApiKey;
+    this.kakaoGeocodeUrl = kakaoGeocodeUrl;
+  }
+
+  @Override
+  public Optional<GeoPoint> geocode(String address) {
+    URI uri = UriComponentsBuilder.fromUriString(kakaoGeocodeUrl)
+        .queryParam("query", address)
+        .encode(StandardCharsets.UTF_8)
+        .build()
+        .toUri();
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+    HttpEntity<String> entity = new HttpEntity<>(headers);
+
+    ResponseEntity<JsonNode> response = restTemplate.exchange(uri, HttpMethod.GET, entity, JsonNode.class);
+
+    if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+      JsonNode documents = response.getBody().get("documents");
+      if (documents != null && documents.isArray() && documents.size() > 0) {
+        JsonNode firstDocument = documents.get(0);
+        double longitude = firstDocument.get("x").asDouble();
+        double latitude = firstDocument.get("y").asDouble();
+        return Optional.of(new GeoPoint(latitude, longitude));
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,71 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode.svc;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 호출 없는 지오코더 (geocode.provider=stub)
+ * - 등록한 주소는 등록한 좌표 / 찾지 못함 / 호출 실패를 그대로 돌려준다.
+ * - 등록하지 않은 주소는 주소 해시로 부산 범위 안의 고정 좌표를 만든다. (실행할 때마다 같은 값)
+ * - 호출 횟수를 세어 캐시 적중 여부를 확인할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "geocode.provider", havingValue = "stub")
+public class StubGeocoder implements Geocoder {
+
+  // 부산광역시 대략적인 범위
+  private static final double MIN_LAT = 35.05;
+  private static final double MAX_LAT = 35.30;
+  private static final double MIN_LON = 128.95;
+  private static final double MAX_LON = 129.25;
+
+  private final Map<String, Optional<GeoPoint>> fixed = new ConcurrentHashMap<>();
+  private final Set<String> failing = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger calls = new AtomicInteger();
+
+  public StubGeocoder register(String address, GeoPoint point) {
+    fixed.put(address, Optional.of(point));
+    return this;
+  }
+
+  public StubGeocoder registerNotFound(String address) {
+    fixed.put(address, Optional.empty());
+    return this;
+  }
+
+  public StubGeocoder registerFailure(String address) {
+    failing.add(address);
+    return this;
+  }
+
+  public void clearFailures() {
+    failing.clear();
+  }
+
+  public int getCalls() {
+    return calls.get();
+  }
+
+  @Override
+  public Optional<GeoPoint> geocode(String address) {
+    calls.incrementAndGet();
+    if (failing.contains(address)) {
+      throw new IllegalStateException("stub geocode failure: " + address);
+    }
+    Optional<GeoPoint> point = fixed.get(address);
+    if (point != null) {
+      return point;
+    }
+    int h = address.hashCode();
+    double lat = MIN_LAT + (MAX_LAT - MIN_LAT) * ((h & 0xFFFF) / 65535.0);
+    double lon = MIN_LON + (MAX_LON - MIN_LON) * (((h >>> 16) & 0xFFFF) / 65535.0);
+    return Optional.of(new GeoPoint(lat, lon));
+  }
+}
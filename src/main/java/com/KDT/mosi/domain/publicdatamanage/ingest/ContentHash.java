@@ -0,0 +1,52 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 공공데이터 원본 항목의 키 / 내용 해시 (SHA-256)
+ * - 필드 사이에 구분자를 넣고 null 은 빈 문자열과 구분해 ("a","bc" 와 "ab","c" 가 같아지지 않도록) 해시한다.
+ * - 같은 값이면 실행/서버가 달라도 항상 같은 결과가 나온다.
+ */
+public final class ContentHash {
+
+  private static final char SEPARATOR = '\u001f';
+  private static final char NULL_MARK = '\u0000';
+
+  private ContentHash() {
+  }
+
+  /**
+   * 필드 값들의 해시 (16진수 64자)
+   */
+  public static String of(Object... fields) {
+    return HexFormat.of().formatHex(digest(fields));
+  }
+
+  /**
+   * 필드 값들로 만든 양수 long 키 (해시 앞 8바이트)
+   */
+  public static long longKey(Object... fields) {
+    return ByteBuffer.wrap(digest(fields)).getLong() & Long.MAX_VALUE;
+  }
+
+  private static byte[] digest(Object... fields) {
+    StringBuilder sb = new StringBuilder();
+    for (Object field : fields) {
+      if (field == null) {
+        sb.append(NULL_MARK);
+      } else {
+        sb.append(field);
+      }
+      sb.append(SEPARATOR);
+    }
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+/**
+ * 원본 항목의 내용 해시를 함께 저장하는 문서 (변경분 동기화 대상)
+ */
+public interface ContentHashed {
+
+  String getContentHash();
+}
@@ -0,0 +1,43 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+/**
+ * 변경분 동기화 1회 결과
+ *
+ * @param existing  동기화 전 인덱스 문서 수
+ * @param received  API 에서 받은 항목 수 (키 기준 중복 제외)
+ * @param duplicates 같은 키로 다시 나와 건너뛴 항목 수
+ * @param unchanged 내용 해시가 같아 건너뛴 항목 수
+ * @param upserted  새로 쓰거나 덮어쓴 문서 수
+ * @param deleted   API 에서 사라져 삭제한 문서 수
+ * @param deleteSkipped 삭제 대상이 너무 많아 일부(또는 전부) 삭제를 다음 동기화까지 보류했으면 true
+ * @param rebuildReason 변경분으로 맞출 수 없어 재구축이 필요한 이유 (아니면 null, 이때는 아무것도 쓰지 않음)
+ */
+public record DeltaSyncStats(
+    String feed,
+    long existing,
+    long received,
+    long duplicates,
+    long unchanged,
+    long upserted,
+    long deleted,
+    boolean deleteSkipped,
+    String rebuildReason,
+    IngestStats ingest
+) {
+
+  public static DeltaSyncStats rebuildRequired(String feed, long existing, String reason) {
+    return new DeltaSyncStats(feed, existing, 0, 0, 0, 0, 0, false, reason, null);
+  }
+
+  public boolean rebuildRequired() {
+    return rebuildReason != null;
+  }
+
+  public String summary() {
+    if (rebuildRequired()) {
+      return String.format("[%s] existing=%d 재구축 필요 - %s", feed, existing, rebuildReason);
+    }
+    return String.format("[%s] existing=%d received=%d duplicates=%d unchanged=%d upserted=%d deleted=%d%s",
+        feed, existing, received, duplicates, unchanged, upserted, deleted, deleteSkipped ? " (삭제 일부 보류)" : "");
+  }
+}
@@ -0,0 +1,35 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 요청 수 제한 (요청 간격을 일정하게 벌린다)
+ * - 여러 스레드가 acquire 하면 각자 다음 빈 시각을 예약하고 그때까지 기다린다.
+ * - requestsPerSecond <= 0 이면 제한하지 않는다.
+ */
+public class IngestRateLimiter {
+
+  private final long intervalNanos;
+  private long nextFreeNanos = System.nanoTime();
+
+  public IngestRateLimiter(double requestsPerSecond) {
+    this.intervalNanos = requestsPerSecond > 0 ? (long) (1_000_000_000L / requestsPerSecond) : 0L;
+  }
+
+  public void acquire() throws InterruptedException {
+    long waitNanos = reserve();
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  private synchronized long reserve() {
+    if (intervalNanos == 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    long at = Math.max(now, nextFreeNanos);
+    nextFreeNanos = at + intervalNanos;
+    return at - now;
+  }
+}
@@ -0,0 +1,37 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+/**
+ * 적재 1회 단계별 지표
+ * - fetch/parse/write Millis 는 각 단계 작업 시간의 합 (동시 실행분 포함)
+ */
+public record IngestStats(
+    String feed,
+    int pages,
+    long documents,
+    int bulks,
+    int fetchRetries,
+    int writeRetries,
+    long fetchMillis,
+    long parseMillis,
+    long writeMillis,
+    long elapsedMillis
+) {
+
+  public double pagesPerSecond() {
+    return elapsedMillis > 0 ? pages * 1000.0 / elapsedMillis : pages;
+  }
+
+  public double documentsPerSecond() {
+    return elapsedMillis > 0 ? documents * 1000.0 / elapsedMillis : documents;
+  }
+
+  public String summary() {
+    return String.format(
+        "[%s] pages=%d docs=%d bulks=%d elapsed=%dms (%.1f pages/s, %.1f docs/s) "
+            + "fetch=%dms(avg %dms, retries %d) parse=%dms(avg %dms) write=%dms(avg %dms, retries %d)",
+        feed, pages, documents, bulks, elapsedMillis, pagesPerSecond(), documentsPerSecond(),
+        fetchMillis, pages > 0 ? fetchMillis / pages : 0, fetchRetries,
+        parseMillis, pages > 0 ? parseMillis / pages : 0,
+        writeMillis, bulks > 0 ? writeMillis / bulks : 0, writeRetries);
+  }
+}
@@ -0,0 +1,226 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * 공공데이터 페이지 적재 파이프라인 (fetch → parse → bulk write)
+ * - fetch : fetch-concurrency 개 스레드가 초당 requests-per-second 이하로 페이지를 받는다.
+ * - parse : parse-threads 개 스레드가 응답을 문서로 바꾼다. (HTML/정규식 처리)
+ * - write : 호출 스레드가 문서를 bulk-size 단위로 모아 저장한다.
+ * - 실패한 페이지/bulk 는 간격을 늘려 가며 max-attempts 까지 재시도하고,
+ *   그래도 실패하면 예외로 중단한다. (일부만 적재된 인덱스로 alias 를 바꾸지 않도록)
+ * - 동시에 처리 중인 페이지는 max-in-flight 개로 제한한다. (응답을 메모리에 쌓아 두지 않음)
+ */
+@Slf4j
+@Component
+public class PageIngestPipeline {
+
+  private final int fetchConcurrency;
+  private final double requestsPerSecond;
+  private final int parseThreads;
+  private final int bulkSize;
+  private final int maxInFlight;
+  private final int maxAttempts;
+  private final long backoffMs;
+  private final long maxBackoffMs;
+
+  // 피드별 마지막 적재 지표
+  private final Map<String, IngestStats> lastRuns = new ConcurrentHashMap<>();
+
+  public PageIngestPipeline(@Value("${public-data.ingest.fetch-concurrency:4}") int fetchConcurrency,
+                            @Value("${public-data.ingest.requests-per-second:10}") double requestsPerSecond,
+                            @Value("${public-data.ingest.parse-threads:2}") int parseThreads,
+                            @Value("${public-data.ingest.bulk-size:500}") int bulkSize,
+                            @Value("${public-data.ingest.max-in-flight:16}") int maxInFlight,
+                            @Value("${public-data.ingest.max-attempts:4}") int maxAttempts,
+                            @Value("${public-data.ingest.backoff-ms:500}") long backoffMs,
+                            @Value("${public-data.ingest.max-backoff-ms:10000}") long maxBackoffMs) {
+    this.fetchConcurrency = fetchConcurrency;
+    this.requestsPerSecond = requestsPerSecond;
+    this.parseThreads = parseThreads;
+    this.bulkSize = bulkSize;
+    this.maxInFlight = maxInFlight;
+    this.maxAttempts = maxAttempts;
+    this.backoffMs = backoffMs;
+    this.maxBackoffMs = maxBackoffMs;
+  }
+
+  /**
+   * 1 ~ totalPages 페이지 적재
+   *
+   * @param feed       로그/지표 이름
+   * @param totalPages 페이지 수
+   * @param fetcher    페이지 번호 → 응답 (실패 시 예외, 재시도 대상)
+   * @param parser     응답 → 문서
+   * @param writer     문서 묶음 저장 (bulk-size 이하)
+   * @return 단계별 지표
+   */
+  public <P, D> IngestStats run(String feed, int totalPages,
+                                IntFunction<P> fetcher,
+                                Function<P, List<D>> parser,
+                                Consumer<List<D>> writer) {
+    long started = System.currentTimeMillis();
+    IngestRateLimiter rateLimiter = new IngestRateLimiter(requestsPerSecond);
+    ExecutorService fetchPool = Executors.newFixedThreadPool(fetchConcurrency, named(feed + "-fetch"));
+    ExecutorService parsePool = Executors.newFixedThreadPool(parseThreads, named(feed + "-parse"));
+
+    BlockingQueue<List<D>> parsed = new ArrayBlockingQueue<>(maxInFlight);
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    AtomicInteger fetchRetries = new AtomicInteger();
+    AtomicInteger writeRetries = new AtomicInteger();
+    AtomicLong fetchMillis = new AtomicLong();
+    AtomicLong parseMillis = new AtomicLong();
+    long writeMillis = 0;
+    long documents = 0;
+    int bulks = 0;
+
+    try {
+      int nextPage = 1;
+      int donePages = 0;
+      List<D> buffer = new ArrayList<>(bulkSize);
+
+      while (donePages < totalPages) {
+        // 처리 중인 페이지가 max-in-flight 보다 적으면 다음 페이지 요청
+        while (nextPage <= totalPages && inFlight.tryAcquire()) {
+          int pageNo = nextPage++;
+          CompletableFuture
+              .supplyAsync(() -> timed(fetchMillis, () -> withRetry(feed + " page " + pageNo, fetchRetries, () -> {
+                acquire(rateLimiter);
+                return fetcher.apply(pageNo);
+              })), fetchPool)
+              .thenApplyAsync(response -> timed(parseMillis, () -> parser.apply(response)), parsePool)
+              .whenComplete((docs, ex) -> {
+                if (ex != null) {
+                  failure.compareAndSet(null, ex.getCause() != null ? ex.getCause() : ex);
+                } else {
+                  // 대기열 크기 = max-in-flight 이므로 막히지 않는다.
+                  parsed.add(docs != null ? docs : List.of());
+                }
+              });
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+          throw new IllegalStateException("[" + feed + "] 페이지 적재 실패로 중단합니다: " + error.getMessage(), error);
+        }
+
+        List<D> docs = parsed.poll(100, TimeUnit.MILLISECONDS);
+        if (docs == null) {
+          continue;
+        }
+        inFlight.release();
+        donePages++;
+        buffer.addAll(docs);
+
+        while (buffer.size() >= bulkSize || (donePages == totalPages && !buffer.isEmpty())) {
+          List<D> bulk = new ArrayList<>(buffer.subList(0, Math.min(bulkSize, buffer.size())));
+          buffer.subList(0, bulk.size()).clear();
+          long t = System.currentTimeMillis();
+          withRetry(feed + " bulk", writeRetries, () -> {
+            writer.accept(bulk);
+            return null;
+          });
+          writeMillis += System.currentTimeMillis() - t;
+          documents += bulk.size();
+          bulks++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("[" + feed + "] 적재가 중단되었습니다.", e);
+    } finally {
+      fetchPool.shutdownNow();
+      parsePool.shutdownNow();
+    }
+
+    IngestStats stats = new IngestStats(feed, totalPages, documents, bulks,
+        fetchRetries.get(), writeRetries.get(), fetchMillis.get(), parseMillis.get(), writeMillis,
+        System.currentTimeMillis() - started);
+    lastRuns.put(feed, stats);
+    log.info("적재 완료 {}", stats.summary());
+    return stats;
+  }
+
+  /**
+   * 피드의 마지막 적재 지표
+   */
+  public IngestStats getLastRun(String feed) {
+    return lastRuns.get(feed);
+  }
+
+  // 지수 백오프 + 지터 (같은 순간에 실패한 요청이 한꺼번에 다시 몰리지 않도록)
+  private <T> T withRetry(String what, AtomicInteger retries, Supplier<T> action) {
+    long backoff = backoffMs;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return action.get();
+      } catch (RuntimeException e) {
+        if (attempt >= maxAttempts) {
+          throw e;
+        }
+        retries.incrementAndGet();
+        long sleep = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        log.warn("{} 실패 ({}/{}), {}ms 후 재시도: {}", what, attempt, maxAttempts, sleep, e.getMessage());
+        try {
+          Thread.sleep(sleep);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException(what + " 재시도 중 중단", ie);
+        }
+        backoff = Math.min(backoff * 2, maxBackoffMs);
+      }
+    }
+  }
+
+  private static <T> T timed(AtomicLong total, Supplier<T> action) {
+    long t = System.currentTimeMillis();
+    try {
+      return action.get();
+    } finally {
+      total.addAndGet(System.currentTimeMillis() - t);
+    }
+  }
+
+  private static void acquire(IngestRateLimiter rateLimiter) {
+    try {
+      rateLimiter.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("요청 대기 중 중단", e);
+    }
+  }
+
+  private static ThreadFactory named(String prefix) {
+    AtomicInteger seq = new AtomicInteger();
+    return r -> {
+      Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+}
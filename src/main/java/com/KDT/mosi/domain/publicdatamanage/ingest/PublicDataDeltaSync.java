@@ -0,0 +1,233 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.KDT.mosi.domain.search.SearchIndexManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 공공데이터 변경분 동기화 (인덱스를 새로 만들지 않고 현재 alias 에 반영)
+ * - 인덱스의 문서 id → contentHash 를 먼저 읽어 두고, 받은 항목 중 해시가 다른 것만 문서로 바꿔 저장한다.
+ * - 이번에 받지 못한 id 는 API 에서 사라진 것으로 보고 한 번의 bulk 요청으로 삭제한다.
+ * - 삭제 대상이 기존 문서의 max-delete-ratio 를 넘으면 API 응답 이상으로 보고 삭제를 보류한다.
+ *   다음 동기화에서도 같은 문서가 사라져 있으면 확인된 것으로 보고 삭제한다. (보류가 계속 쌓이지 않도록)
+ * - 기존 문서에 contentHash 가 없거나(해시 도입 전 인덱스) 첫 페이지 키가 하나도 인덱스에 없으면(키 방식 변경)
+ *   변경분으로 맞출 수 없으므로 아무것도 쓰지 않고 재구축이 필요하다고 돌려준다. (DeltaSyncStats.rebuildRequired)
+ * - 비용은 데이터 크기가 아니라 변경량에 비례한다. (페이지 요청은 그대로, 변환/지오코딩/쓰기만 줄어듦)
+ */
+@Slf4j
+@Component
+public class PublicDataDeltaSync {
+
+  /**
+   * 원본 항목의 문서 id 와 내용 해시
+   */
+  public record ItemKey(String id, String contentHash) {
+  }
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final ElasticsearchClient esClient;
+  private final SearchIndexManager searchIndexManager;
+  private final PageIngestPipeline ingestPipeline;
+  private final double maxDeleteRatio;
+  private final int scrollSize;
+
+  // 피드별 마지막 동기화 결과
+  private final Map<String, DeltaSyncStats> lastRuns = new ConcurrentHashMap<>();
+
+  // 피드별로 지난 동기화에서 삭제를 보류한 문서 id
+  private final Map<String, Set<String>> heldDeletes = new ConcurrentHashMap<>();
+
+  public PublicDataDeltaSync(ElasticsearchOperations elasticsearchOperations,
+                             ElasticsearchClient esClient,
+                             SearchIndexManager searchIndexManager,
+                             PageIngestPipeline ingestPipeline,
+                             @Value("${public-data.sync.max-delete-ratio:0.3}") double maxDeleteRatio,
+                             @Value("${public-data.sync.scroll-size:1000}") int scrollSize) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.esClient = esClient;
+    this.searchIndexManager = searchIndexManager;
+    this.ingestPipeline = ingestPipeline;
+    this.maxDeleteRatio = maxDeleteRatio;
+    this.scrollSize = scrollSize;
+  }
+
+  /**
+   * 1 ~ totalPages 페이지를 받아 변경분만 반영
+   *
+   * @param feed          로그/지표 이름
+   * @param documentClass 문서 클래스 (alias 대상)
+   * @param totalPages    페이지 수
+   * @param fetcher       페이지 번호 → 응답 (실패 시 예외, 재시도 대상)
+   * @param itemsOf       응답 → 원본 항목
+   * @param keyOf         원본 항목 → 문서 id / 내용 해시
+   * @param converter     바뀐 항목 → 문서 (문서에 같은 id / contentHash 를 넣어야 한다)
+   * @param writer        문서 묶음 저장
+   */
+  public <P, I, D extends ContentHashed> DeltaSyncStats sync(String feed, Class<D> documentClass, int totalPages,
+                                                             IntFunction<P> fetcher,
+                                                             Function<P, List<I>> itemsOf,
+                                                             Function<I, ItemKey> keyOf,
+                                                             Function<List<I>, List<D>> converter,
+                                                             BiConsumer<List<D>, IndexCoordinates> writer) {
+    AtomicReference<DeltaSyncStats> result = new AtomicReference<>();
+    searchIndexManager.update(documentClass, alias -> {
+      Map<String, String> existing = loadHashes(documentClass, alias);
+
+      // 첫 페이지는 재구축 여부 확인에 쓰고 pipeline 에서 다시 받지 않는다
+      P firstPage = fetcher.apply(1);
+      String rebuildReason = rebuildReason(existing, itemsOf.apply(firstPage), keyOf);
+      if (rebuildReason != null) {
+        result.set(DeltaSyncStats.rebuildRequired(feed, existing.size(), rebuildReason));
+        return;
+      }
+      IntFunction<P> pages = pageNo -> pageNo == 1 ? firstPage : fetcher.apply(pageNo);
+
+      Set<String> seen = ConcurrentHashMap.newKeySet();
+      AtomicLong duplicates = new AtomicLong();
+      AtomicLong unchanged = new AtomicLong();
+
+      IngestStats ingest = ingestPipeline.run(feed, totalPages, pages,
+          response -> {
+            List<I> changed = new ArrayList<>();
+            for (I item : itemsOf.apply(response)) {
+              ItemKey key = keyOf.apply(item);
+              if (!seen.add(key.id())) {
+                duplicates.incrementAndGet();
+              } else if (Objects.equals(existing.get(key.id()), key.contentHash())) {
+                unchanged.incrementAndGet();
+              } else {
+                changed.add(item);
+              }
+            }
+            return changed.isEmpty() ? List.of() : converter.apply(changed);
+          },
+          documents -> writer.accept(documents, alias));
+
+      // 모든 페이지를 받은 뒤에만 삭제 (중간에 실패하면 pipeline 이 예외로 중단)
+      List<String> vanished = existing.keySet().stream().filter(id -> !seen.contains(id)).toList();
+      List<String> deletable = vanished;
+      Set<String> held = Set.of();
+      if (!vanished.isEmpty() && vanished.size() > existing.size() * maxDeleteRatio) {
+        // 지난번에도 보류했던 문서만 삭제하고 나머지는 다음 동기화까지 보류
+        Set<String> heldBefore = heldDeletes.getOrDefault(feed, Set.of());
+        deletable = vanished.stream().filter(heldBefore::contains).toList();
+        held = vanished.stream().filter(id -> !heldBefore.contains(id)).collect(Collectors.toSet());
+        log.warn("[{}] 삭제 대상 {}건이 기존 {}건의 {}% 를 넘습니다. 지난 동기화에서 보류한 {}건만 삭제하고 {}건은 보류합니다.",
+            feed, vanished.size(), existing.size(), Math.round(maxDeleteRatio * 100), deletable.size(), held.size());
+      }
+      deleteAll(alias.getIndexName(), deletable);
+      heldDeletes.put(feed, held);
+
+      result.set(new DeltaSyncStats(feed, existing.size(), seen.size(), duplicates.get(), unchanged.get(),
+          ingest.documents(), deletable.size(), !held.isEmpty(), null, ingest));
+    });
+
+    DeltaSyncStats stats = result.get();
+    lastRuns.put(feed, stats);
+    if (stats.rebuildRequired()) {
+      heldDeletes.remove(feed);
+      log.warn("변경분 동기화 불가, 재구축이 필요합니다. {}", stats.summary());
+    } else {
+      log.info("변경분 동기화 완료 {}", stats.summary());
+    }
+    return stats;
+  }
+
+  // 변경분으로 맞출 수 없는 인덱스인지 (null 이면 변경분 동기화 가능)
+  static <I> String rebuildReason(Map<String, String> existing, List<I> firstItems, Function<I, ItemKey> keyOf) {
+    if (existing.isEmpty()) {
+      return null;
+    }
+    if (existing.values().stream().anyMatch(Objects::isNull)) {
+      return "contentHash 가 없는 문서가 있습니다.";
+    }
+    if (!firstItems.isEmpty() && firstItems.stream().map(keyOf).noneMatch(key -> existing.containsKey(key.id()))) {
+      return "첫 페이지 항목의 키가 하나도 인덱스에 없습니다.";
+    }
+    return null;
+  }
+
+  /**
+   * 피드의 마지막 동기화 결과
+   */
+  public DeltaSyncStats getLastRun(String feed) {
+    return lastRuns.get(feed);
+  }
+
+  // 문서 id → contentHash (해시 필드만 scroll 로 조회, 해시가 없는 문서는 null)
+  private <D extends ContentHashed> Map<String, String> loadHashes(Class<D> documentClass, IndexCoordinates alias) {
+    String field = elasticsearchOperations.getElasticsearchConverter().getMappingContext()
+        .getRequiredPersistentEntity(documentClass)
+        .getRequiredPersistentProperty("contentHash")
+        .getFieldName();
+    NativeQuery query = NativeQuery.builder()
+        .withQuery(q -> q.matchAll(m -> m))
+        .withSourceFilter(new FetchSourceFilterBuilder().withIncludes(field).build())
+        .withPageable(PageRequest.of(0, scrollSize))
+        .build();
+
+    Map<String, String> hashes = new HashMap<>();
+    try (SearchHitsIterator<D> hits = elasticsearchOperations.searchForStream(query, documentClass, alias)) {
+      while (hits.hasNext()) {
+        SearchHit<D> hit = hits.next();
+        hashes.put(hit.getId(), hit.getContent().getContentHash());
+      }
+    }
+    return hashes;
+  }
+
+  // 삭제를 하나의 bulk 요청으로 전송
+  private void deleteAll(String indexName, List<String> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    BulkRequest.Builder request = new BulkRequest.Builder();
+    for (String id : ids) {
+      request.operations(op -> op.delete(d -> d.index(indexName).id(id)));
+    }
+
+    BulkResponse response;
+    try {
+      response = esClient.bulk(request.build());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (response.errors()) {
+      String reason = response.items().stream()
+          .filter(item -> item.error() != null)
+          .map(item -> item.id() + ": " + item.error().reason())
+          .findFirst()
+          .orElse("unknown");
+      throw new IllegalStateException("공공데이터 bulk 삭제 실패 - " + reason);
+    }
+    log.info("{} 에서 사라진 문서 {}건 삭제", indexName, ids.size());
+  }
+}
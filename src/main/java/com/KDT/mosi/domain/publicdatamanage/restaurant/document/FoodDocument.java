@@ -1,5 +1,6 @@
 package com.KDT.mosi.domain.publicdatamanage.restaurant.document;
 
+import com.KDT.mosi.domain.publicdatamanage.ingest.ContentHashed;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,8 +20,8 @@ import java.util.List;
 @Builder
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
-@Document(indexName = "food_data")
-public class FoodDocument {
+@Document(indexName = "food_data", createIndex = false) // indexName 은 alias (SearchIndexManager 가 버전 인덱스 관리)
+public class FoodDocument implements ContentHashed {
 
   @Id
   @Field(name = "uc_seq", type = FieldType.Integer)
@@ -69,4 +70,7 @@ public class FoodDocument {
   @Field(type = FieldType.Date, format = {}, pattern = "yyyy-MM-dd")
   private LocalDate timestamp;
 
+  // 원본 항목 내용 해시 (변경분 동기화 비교용, 검색 대상 아님)
+  @Field(name = "content_hash", type = FieldType.Keyword, index = false)
+  private String contentHash;
 }
\ No newline at end of file
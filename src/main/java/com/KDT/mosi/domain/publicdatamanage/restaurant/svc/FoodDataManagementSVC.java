@@ -3,6 +3,7 @@ package com.KDT.mosi.domain.publicdatamanage.restaurant.svc;
 import com.KDT.mosi.domain.publicdatamanage.restaurant.document.FoodDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,6 +12,8 @@ public interface FoodDataManagementSVC {
 
   FoodDocument saveFoodDocument(FoodDocument document);
   List<FoodDocument> saveAllFoodDocuments(List<FoodDocument> documents);
+  // 지정한 인덱스(재구축 중인 버전 인덱스)에 저장
+  void saveAllFoodDocuments(List<FoodDocument> documents, IndexCoordinates target);
   Optional<FoodDocument> findFoodDocumentById(Integer ucSeq);
   long countAllFoodDocuments();
   void deleteAllFoodDocuments();
@@ -23,11 +26,6 @@ public interface FoodDataManagementSVC {
   // 여러 검색 조건을 처리하는 통합 검색 메서드
   Page<FoodDocument> searchFood(String searchType, String keyword, Pageable pageable);
 
-  /**
-   * Elasticsearch의 food_info 인덱스를 삭제합니다.
-   */
-  void deleteFoodInfoIndex();
-
-  // Elasticsearch에 food_data 인덱스가 존재하지 않으면 생성
-  void ensureIndexExists();
+  // food_data alias 가 없으면 빈 버전 인덱스를 만들어 연결, 전체 적재가 필요하면 true
+  boolean ensureIndexExists();
 }
\ No newline at end of file
@@ -1,15 +1,16 @@
 package com.KDT.mosi.domain.publicdatamanage.restaurant.svc;
 
 
-import com.KDT.mosi.domain.publicdatamanage.facility.document.FacilityDocument;
 import com.KDT.mosi.domain.publicdatamanage.restaurant.document.FoodDocument;
 import com.KDT.mosi.domain.publicdatamanage.restaurant.document.FoodDocumentRepository;
+import com.KDT.mosi.domain.search.SearchIndexManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.NoSuchIndexException;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -23,14 +24,11 @@ public class FoodDataManagementSVCImpl implements FoodDataManagementSVC {
   private final FoodDocumentRepository foodDocumentRepository;
   private final ElasticsearchOperations elasticsearchOperations;
   private final FoodDocumentRepository repository;
+  private final SearchIndexManager searchIndexManager;
 
-  public void ensureIndexExists() {
-    boolean isIndexExist = elasticsearchOperations.indexOps(FoodDocument.class).exists();
-    if (!isIndexExist) {
-      elasticsearchOperations.indexOps(FoodDocument.class).create();
-      elasticsearchOperations.indexOps(FoodDocument.class).putMapping();
-      log.info("인덱스 'food_data'가 존재하지 않아 새로 생성했습니다.");
-    }
+  @Override
+  public boolean ensureIndexExists() {
+    return searchIndexManager.ensureAlias(FoodDocument.class);
   }
 
   @Override
@@ -43,6 +41,14 @@ public class FoodDataManagementSVCImpl implements FoodDataManagementSVC {
     return (List<FoodDocument>) foodDocumentRepository.saveAll(documents);
   }
 
+  @Override
+  public void saveAllFoodDocuments(List<FoodDocument> documents, IndexCoordinates target) {
+    if (documents == null || documents.isEmpty()) {
+      return;
+    }
+    elasticsearchOperations.save(documents, target);
+  }
+
   @Override
   public Optional<FoodDocument> findFoodDocumentById(Integer ucSeq) {
     return foodDocumentRepository.findById(ucSeq);
@@ -98,19 +104,4 @@ public class FoodDataManagementSVCImpl implements FoodDataManagementSVC {
         return foodDocumentRepository.findByTitleContaining(keyword, pageable);
     }
   }
-
-  @Override
-  public void deleteFoodInfoIndex() {
-    // ElasticsearchOperations를 이용해 인덱스를 삭제합니다.
-    if (elasticsearchOperations.indexOps(FoodDocument.class).exists()) {
-      boolean isDeleted = elasticsearchOperations.indexOps(FoodDocument.class).delete();
-      if (isDeleted) {
-        log.info("기존 Elasticsearch 인덱스 'food_info' 삭제 성공.");
-      } else {
-        log.error("기존 Elasticsearch 인덱스 'food_info' 삭제 실패.");
-      }
-    } else {
-      log.info("삭제할 Elasticsearch 인덱스 'food_info'가 존재하지 않습니다.");
-    }
-  }
-}
\ No newline at end of file
+}
@@ -1,7 +1,12 @@
 package com.KDT.mosi.domain.publicdatamanage.restaurant.svc;
 
+import com.KDT.mosi.domain.publicdatamanage.ingest.ContentHash;
+import com.KDT.mosi.domain.publicdatamanage.ingest.DeltaSyncStats;
+import com.KDT.mosi.domain.publicdatamanage.ingest.PageIngestPipeline;
+import com.KDT.mosi.domain.publicdatamanage.ingest.PublicDataDeltaSync;
 import com.KDT.mosi.domain.publicdatamanage.restaurant.document.FoodDocument;
 import com.KDT.mosi.domain.publicdatamanage.restaurant.dto.FoodItem;
+import com.KDT.mosi.domain.search.SearchIndexManager;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
@@ -9,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -24,11 +30,9 @@ import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,8 +40,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class FoodDataProcessorService {
 
+  private static final int NUM_OF_ROWS = 100;
+
   private final RestTemplate restTemplate;
   private final FoodDataManagementSVC dataManagementService;
+  private final SearchIndexManager searchIndexManager;
+  private final PageIngestPipeline ingestPipeline;
+  private final PublicDataDeltaSync deltaSync;
 
   @Value("${busan.api.common.serviceKey}")
   private String apiKey;
@@ -51,57 +60,85 @@ public class FoodDataProcessorService {
   @Value("${kakao.api.url.geocode}")
   private String kakaoGeocodeUrl;
 
+  // 적재는 몇 분씩 걸리므로 스케줄러 스레드를 잡지 않도록 인덱스 백그라운드 스레드로 넘긴다
   @Scheduled(cron = "0 0 */6 * * *")
   public void scheduledDataFetch() {
-    log.info("스케줄러 시작: 부산 공공데이터 인덱스 초기화 및 갱신");
-    try {
-      fetchAndProcessAllFoodData();
-    } catch (Exception e) {
-      log.error("스케줄러 실행 중 오류 발생: {}", e.getMessage(), e);
-    }
-    log.info("스케줄러 완료: 부산 공공데이터 인덱스 초기화 및 갱신");
+    searchIndexManager.submit("food-data", () -> {
+      log.info("스케줄러 시작: 부산 공공데이터 인덱스 초기화 및 갱신");
+      try {
+        fetchAndProcessAllFoodData();
+      } catch (Exception e) {
+        log.error("스케줄러 실행 중 오류 발생: {}", e.getMessage(), e);
+      }
+      log.info("스케줄러 완료: 부산 공공데이터 인덱스 초기화 및 갱신");
+    });
   }
 
   public void fetchAndProcessAllFoodData() throws Exception {
     log.info("Starting to fetch and process food data.");
 
-    // 이 시점에서 인덱스가 존재하지 않으면 생성합니다.
-    // dataManagementService.ensureIndexExists() 같은 메소드를 호출하여 인덱스를 미리 생성해주는 로직이 필요합니다.
-    dataManagementService.ensureIndexExists();
+    // food_data alias 가 없으면 빈 버전 인덱스를 만들어 조회 오류를 막는다.
+    boolean needsLoad = dataManagementService.ensureIndexExists();
 
-    Optional<FoodDocument> latestDocument = dataManagementService.findLatestFoodDocument();
     long totalCountFromApi = fetchTotalCount();
-    log.info("Total count from API: {}, Latest document found: {}", totalCountFromApi, latestDocument.isPresent());
+    log.info("Total count from API: {}", totalCountFromApi);
 
-    // 데이터가 최신 상태인지 확인하는 로직
-    if (latestDocument.isPresent() &&
-        ChronoUnit.DAYS.between(latestDocument.get().getTimestamp(), LocalDate.now()) < 1 &&
-        dataManagementService.countAllFoodDocuments() == totalCountFromApi) {
-      log.info("Data is up-to-date. Skipping full data refresh.");
+    if (totalCountFromApi <= 0) {
+      log.warn("API total count is 0 or unavailable. Keeping the current index.");
       return;
     }
 
-    log.info("Data is outdated or incomplete. Deleting all existing documents and reloading.");
+    int totalPages = (int) Math.ceil((double) totalCountFromApi / NUM_OF_ROWS);
 
-    // 데이터가 오래되었거나 불완전할 경우에만 인덱스를 삭제하고 다시 생성합니다.
-    dataManagementService.deleteFoodInfoIndex(); // <-- 여기로 이동
-    dataManagementService.ensureIndexExists(); // 인덱스 삭제 후 다시 생성
-
-    int numOfRows = 100;
-    long totalPages = (long) Math.ceil((double) totalCountFromApi / numOfRows);
-    log.info("Fetching a total of {} pages with {} rows per page.", totalPages, numOfRows);
+    if (needsLoad) {
+      // 새 버전 인덱스에 전부 적재한 뒤 alias 를 교체 (적재 중에도 기존 인덱스로 조회)
+      log.info("Food index is empty or not versioned. Rebuilding food index.");
+      searchIndexManager.rebuild(FoodDocument.class, target -> loadAllFoodData(totalPages, target));
+      return;
+    }
 
-    for (int pageNo = 1; pageNo <= totalPages; pageNo++) {
-      List<FoodItem> items = fetchFoodData(pageNo, numOfRows);
-      if (items != null && !items.isEmpty()) {
-        List<FoodDocument> documents = processFoodData(items);
-        dataManagementService.saveAllFoodDocuments(documents);
-        log.info("Page {} processed and saved. ({} documents)", pageNo, documents.size());
-      }
+    // 현재 인덱스에 바뀐 맛집만 반영하고 사라진 맛집은 삭제
+    log.info("Syncing changed food data ({} pages).", totalPages);
+    DeltaSyncStats stats = deltaSync.sync("food", FoodDocument.class, totalPages,
+        this::fetchFoodPage,
+        items -> items,
+        item -> new PublicDataDeltaSync.ItemKey(String.valueOf(item.getUcSeq()), contentHash(item)),
+        this::processFoodData,
+        dataManagementService::saveAllFoodDocuments);
+
+    // 해시 도입 전 인덱스 / 키 방식이 바뀐 인덱스 → 변경분으로 맞출 수 없으므로 재구축
+    if (stats.rebuildRequired()) {
+      searchIndexManager.rebuild(FoodDocument.class, target -> loadAllFoodData(totalPages, target));
     }
+  }
+
+  private void loadAllFoodData(int totalPages, IndexCoordinates target) {
+    log.info("Fetching a total of {} pages with {} rows per page.", totalPages, NUM_OF_ROWS);
+
+    // 페이지 요청 / 파싱 / 저장을 단계별로 동시에 진행 (실패한 페이지는 재시도, 끝내 실패하면 예외로 중단)
+    ingestPipeline.run("food", totalPages,
+        this::fetchFoodPage,
+        this::processFoodData,
+        documents -> dataManagementService.saveAllFoodDocuments(documents, target));
     log.info("Finished fetching and processing all food data.");
   }
 
+  private List<FoodItem> fetchFoodPage(int pageNo) {
+    List<FoodItem> items = fetchFoodData(pageNo, NUM_OF_ROWS);
+    if (items == null || items.isEmpty()) {
+      throw new IllegalStateException("Failed to fetch food data page " + pageNo);
+    }
+    return items;
+  }
+
+  // 원본 항목 전체 필드의 해시 (하나라도 바뀌면 다시 변환/저장)
+  private String contentHash(FoodItem item) {
+    return ContentHash.of(item.getUcSeq(), item.getGugunNm(), item.getTitle(), item.getSubtitle(),
+        item.getAddr1(), item.getAddr2(), item.getCntctTel(), item.getHomepageUrl(),
+        item.getUsageDayWeekAndTime(), item.getRprsntvMenu(), item.getMainImgNormal(), item.getMainImgThumb(),
+        item.getItemcntnts(), item.getLat(), item.getLng());
+  }
+
   private long fetchTotalCount() {
     try {
       URI uri = UriComponentsBuilder.fromUriString(apiUrl)
@@ -193,6 +230,7 @@ public class FoodDataProcessorService {
               .mainImgThumb(item.getMainImgThumb())
               .itemcntnts(cleanItemContents)
               .timestamp(LocalDate.now())
+              .contentHash(contentHash(item))
               .build();
         })
         .collect(Collectors.toList());
@@ -29,16 +29,10 @@ public class ReviewDAOImpl implements ReviewDAO{
   public Optional<ReviewProduct> summaryFindById(Long orderId) {
 
     StringBuffer sql = new StringBuffer();
-    sql.append("SELECT p.product_id AS product_id,p.category AS category,p.title AS title,p.create_date AS create_date,sp.nickname AS nickname,i.mime_type AS MIME_TYPE,i.image_data AS image_data, oi.option_type as option_type ");
+    sql.append("SELECT p.product_id AS product_id,p.category AS category,p.title AS title,p.create_date AS create_date,sp.nickname AS nickname,pc.image_id AS image_id,pc.version AS image_version, oi.option_type as option_type ");
     sql.append("FROM order_items oi ");
     sql.append("JOIN product p ON p.product_id = oi.product_id ");
-    sql.append("LEFT JOIN product_image i ");
-    sql.append("       ON i.product_id = p.product_id ");
-    sql.append("      AND i.image_order = ( ");
-    sql.append("           SELECT MIN(pi.image_order) ");
-    sql.append("             FROM product_image pi ");
-    sql.append("            WHERE pi.product_id = p.product_id ");
-    sql.append("         ) ");
+    sql.append("LEFT JOIN product_cover pc ON pc.product_id = p.product_id ");
     sql.append("LEFT JOIN seller_page sp ON sp.member_id = p.member_id ");
     sql.append("WHERE oi.order_item_id = :orderId ");
 
@@ -188,7 +182,7 @@ public class ReviewDAOImpl implements ReviewDAO{
     sql.append("p.title AS title,p.create_date AS pcreate,p.update_date AS pupdate, ");
     sql.append("oi.option_type AS option_type, ");
     sql.append("tags.tag_ids,tags.tag_labels, ");
-    sql.append("i.image_id AS product_image_id,i.mime_type AS product_image_mime " );
+    sql.append("pc.image_id AS product_image_id,pc.mime_type AS product_image_mime,pc.version AS product_image_version " );
     sql.append("FROM review r ");
     sql.append("LEFT JOIN product p ");
     sql.append("ON p.product_id = r.product_id ");
@@ -204,12 +198,7 @@ public class ReviewDAOImpl implements ReviewDAO{
     sql.append("GROUP BY rt.review_id ");
     sql.append(") tags ");
     sql.append("ON tags.review_id = r.review_id ");
-    sql.append("LEFT JOIN ( ");
-    sql.append("SELECT product_id, image_id, mime_type ");
-    sql.append("FROM ( ");
-    sql.append("SELECT pi.*, ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY image_order, image_id) rn ");
-    sql.append("FROM product_image pi ");
-    sql.append(") WHERE rn = 1 ) i ON i.product_id = r.product_id ");
+    sql.append("LEFT JOIN product_cover pc ON pc.product_id = r.product_id ");
     sql.append("WHERE r.buyer_id = :buyerId ");
     sql.append("ORDER BY r.create_date DESC ");
     sql.append("OFFSET (:pageNo - 1) * :numOfRows ROWS ");
@@ -232,7 +221,7 @@ public class ReviewDAOImpl implements ReviewDAO{
     sql.append("p.title AS title,p.create_date AS pcreate,p.update_date AS pupdate, ");
     sql.append("oi.option_type AS option_type, ");
     sql.append("tags.tag_ids,tags.tag_labels, ");
-    sql.append("i.image_id AS product_image_id,i.mime_type AS product_image_mime, " );
+    sql.append("pc.image_id AS product_image_id,pc.mime_type AS product_image_mime,pc.version AS product_image_version, " );
     sql.append("m.NICKNAME AS nickname " );
     sql.append("FROM review r ");
     sql.append("LEFT JOIN product p ");
@@ -250,12 +239,7 @@ public class ReviewDAOImpl implements ReviewDAO{
     sql.append("GROUP BY rt.review_id ");
     sql.append(") tags ");
     sql.append("ON tags.review_id = r.review_id ");
-    sql.append("LEFT JOIN ( ");
-    sql.append("SELECT product_id, image_id, mime_type ");
-    sql.append("FROM ( ");
-    sql.append("SELECT pi.*, ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY image_order, image_id) rn ");
-    sql.append("FROM product_image pi ");
-    sql.append(") WHERE rn = 1 ) i ON i.product_id = r.product_id ");
+    sql.append("LEFT JOIN product_cover pc ON pc.product_id = r.product_id ");
     sql.append("WHERE p.member_id = :sellerId ");
     sql.append("ORDER BY r.create_date DESC ");
     sql.append("OFFSET (:pageNo - 1) * :numOfRows ROWS ");
@@ -0,0 +1,233 @@
+package com.KDT.mosi.domain.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 버전 인덱스(blue/green) 관리
+ * - @Document(indexName) 는 조회/쓰기용 alias 로 사용하고, 실제 데이터는 {alias}_v{n} 인덱스에 둔다.
+ * - 재구축은 새 버전 인덱스에 적재 → refresh → alias 를 한 번의 요청으로 교체 → 이전 버전 정리 순서로 진행한다.
+ * - 적재가 실패하면 새 인덱스만 지우고 alias 는 기존 인덱스를 계속 가리킨다.
+ */
+@Slf4j
+@Component
+public class SearchIndexManager {
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final ElasticsearchClient esClient;
+  private final int retainVersions;
+
+  // alias 별 재구축 직렬화
+  private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+  // 기동을 막지 않도록 재구축을 실행하는 백그라운드 스레드
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "search-index-rebuild");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public SearchIndexManager(ElasticsearchOperations elasticsearchOperations,
+                            ElasticsearchClient esClient,
+                            @Value("${search.index.retain-versions:1}") int retainVersions) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.esClient = esClient;
+    this.retainVersions = retainVersions;
+  }
+
+  /**
+   * 새 버전 인덱스에 데이터를 적재하는 작업
+   */
+  @FunctionalInterface
+  public interface IndexLoader {
+    void load(IndexCoordinates target) throws Exception;
+  }
+
+  public String aliasOf(Class<?> documentClass) {
+    return elasticsearchOperations.getIndexCoordinatesFor(documentClass).getIndexName();
+  }
+
+  /**
+   * alias 가 없으면 빈 버전 인덱스를 만들어 연결 (조회가 '인덱스 없음' 오류를 내지 않도록)
+   * - alias 이름의 기존 단일 인덱스가 있으면 재구축이 끝날 때까지 그대로 조회에 사용한다.
+   *
+   * @return 버전 인덱스로의 적재가 필요한 경우 true (빈 인덱스 생성 / 기존 단일 인덱스)
+   */
+  public boolean ensureAlias(Class<?> documentClass) {
+    String alias = aliasOf(documentClass);
+    synchronized (lockOf(alias)) {
+      try {
+        if (esClient.indices().existsAlias(e -> e.name(alias)).value()) {
+          putMapping(documentClass, alias);
+          return false;
+        }
+        if (esClient.indices().exists(e -> e.index(alias)).value()) {
+          log.info("'{}' 는 alias 가 아닌 단일 인덱스입니다. 재구축 후 버전 인덱스로 교체합니다.", alias);
+          return true;
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      String index = createVersion(documentClass, alias);
+      swap(alias, index);
+      log.info("검색 인덱스 alias '{}' 를 빈 인덱스 '{}' 로 생성했습니다.", alias, index);
+      return true;
+    }
+  }
+
+  /**
+   * 새 버전 인덱스를 만들어 적재한 뒤 alias 를 교체
+   */
+  public void rebuild(Class<?> documentClass, IndexLoader loader) {
+    String alias = aliasOf(documentClass);
+    synchronized (lockOf(alias)) {
+      String index = createVersion(documentClass, alias);
+      log.info("검색 인덱스 재구축 시작: {} → {}", alias, index);
+
+      try {
+        loader.load(IndexCoordinates.of(index));
+        elasticsearchOperations.indexOps(IndexCoordinates.of(index)).refresh();
+      } catch (Exception e) {
+        deleteQuietly(index);
+        throw new IllegalStateException("검색 인덱스 적재 실패: " + index, e);
+      }
+
+      swap(alias, index);
+      cleanup(alias, index);
+      log.info("검색 인덱스 재구축 완료: {} → {}", alias, index);
+    }
+  }
+
+  /**
+   * 현재 alias 가 가리키는 인덱스에 변경분만 반영 (재구축과 같은 잠금으로 직렬화)
+   * - 실패해도 이미 반영된 변경분은 남는다. 다음 동기화에서 나머지가 반영된다.
+   */
+  public void update(Class<?> documentClass, IndexLoader loader) {
+    String alias = aliasOf(documentClass);
+    synchronized (lockOf(alias)) {
+      try {
+        loader.load(IndexCoordinates.of(alias));
+        elasticsearchOperations.indexOps(IndexCoordinates.of(alias)).refresh();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException("검색 인덱스 변경분 반영 실패: " + alias, e);
+      }
+    }
+  }
+
+  /**
+   * 인덱스 작업을 백그라운드 스레드에서 실행 (실패는 로그만 남기고 기존 alias 유지)
+   */
+  public CompletableFuture<Void> submit(String name, Runnable task) {
+    return CompletableFuture.runAsync(task, executor)
+        .whenComplete((ok, e) -> {
+          if (e != null) {
+            log.error("검색 인덱스 백그라운드 작업 실패: {}", name, e);
+          }
+        });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  // 문서 클래스에 새로 추가된 필드 매핑을 기존 인덱스에 반영 (기존 필드 변경은 재구축 필요)
+  private void putMapping(Class<?> documentClass, String alias) {
+    try {
+      IndexOperations typed = elasticsearchOperations.indexOps(documentClass);
+      elasticsearchOperations.indexOps(IndexCoordinates.of(alias)).putMapping(typed.createMapping());
+    } catch (Exception e) {
+      log.warn("'{}' 매핑 갱신 실패, 새 필드는 재구축 후 반영됩니다: {}", alias, e.getMessage());
+    }
+  }
+
+  // {alias}_v{n+1} 생성 (문서 클래스의 settings / mapping 적용)
+  private String createVersion(Class<?> documentClass, String alias) {
+    int next = versions(alias).stream()
+        .mapToInt(name -> versionOf(alias, name))
+        .max()
+        .orElse(0) + 1;
+    String index = alias + "_v" + next;
+
+    IndexOperations typed = elasticsearchOperations.indexOps(documentClass);
+    elasticsearchOperations.indexOps(IndexCoordinates.of(index))
+        .create(typed.createSettings(), typed.createMapping());
+    return index;
+  }
+
+  // alias 를 index 로만 향하도록 원자적으로 교체 (alias 이름의 단일 인덱스가 있으면 함께 제거)
+  private void swap(String alias, String index) {
+    try {
+      List<Action> actions = new ArrayList<>();
+      if (esClient.indices().existsAlias(e -> e.name(alias)).value()) {
+        actions.add(Action.of(a -> a.remove(r -> r.index(alias + "_v*").alias(alias))));
+      } else if (esClient.indices().exists(e -> e.index(alias)).value()) {
+        actions.add(Action.of(a -> a.removeIndex(r -> r.index(alias))));
+      }
+      actions.add(Action.of(a -> a.add(ad -> ad.index(index).alias(alias))));
+      esClient.indices().updateAliases(u -> u.actions(actions));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // 현재 버전 + 직전 retainVersions 개만 남기고 삭제
+  private void cleanup(String alias, String current) {
+    List<String> old = versions(alias).stream()
+        .filter(name -> !name.equals(current))
+        .sorted(Comparator.comparingInt((String name) -> versionOf(alias, name)).reversed())
+        .toList();
+    for (int i = retainVersions; i < old.size(); i++) {
+      deleteQuietly(old.get(i));
+    }
+  }
+
+  private List<String> versions(String alias) {
+    try {
+      return new ArrayList<>(esClient.indices().get(g -> g.index(alias + "_v*")).result().keySet());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private int versionOf(String alias, String index) {
+    Matcher matcher = Pattern.compile(Pattern.quote(alias) + "_v(\\d+)").matcher(index);
+    return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+  }
+
+  private void deleteQuietly(String index) {
+    try {
+      elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete();
+      log.info("검색 인덱스 '{}' 삭제", index);
+    } catch (Exception e) {
+      log.warn("검색 인덱스 '{}' 삭제 실패", index, e);
+    }
+  }
+
+  private Object lockOf(String alias) {
+    return locks.computeIfAbsent(alias, k -> new Object());
+  }
+}
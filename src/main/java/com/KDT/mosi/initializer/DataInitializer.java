@@ -2,7 +2,7 @@ package com.KDT.mosi.initializer;
 
 import com.KDT.mosi.domain.publicdatamanage.facility.svc.FacilityDataProcessorService;
 import com.KDT.mosi.domain.publicdatamanage.restaurant.svc.FoodDataProcessorService;
-import com.KDT.mosi.domain.product.svc.ProductSearchService; // ✨✨✨ ProductSearchService 클래스를 임포트합니다.
+import com.KDT.mosi.domain.search.SearchIndexManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -24,18 +24,22 @@ public class DataInitializer implements CommandLineRunner {
   // @RequiredArgsConstructor에 의해 자동으로 의존성 주입됩니다.
   private final FoodDataProcessorService foodDataProcessorService;
   private final FacilityDataProcessorService facilityDataProcessorService;
-  private final ProductSearchService productSearchService; // ✨✨✨ ProductSearchService 필드 추가
+  private final SearchIndexManager searchIndexManager;
 
   /**
    * 애플리케이션 시작 시 실행되는 메서드입니다.
-   * `throws Exception`을 선언하여 호출하는 메서드가 던지는 예외를 처리하도록 합니다.
-   * 이렇게 하면 예외 발생 시 애플리케이션 시작이 중단되고, 스프링이 예외를 적절하게 기록합니다.
+   * 공공데이터 적재는 외부 API 호출이 많아 오래 걸리므로 백그라운드 스레드에서 실행하고 바로 반환합니다.
+   * (적재 중에는 기존 인덱스로 조회되고, 적재가 끝나면 alias 가 새 인덱스로 교체됩니다.)
+   * 상품 인덱스는 ProductSearchService 가 기동 시 alias 를 확인하고 필요할 때만 백그라운드로 적재합니다.
    *
    * @param args 커맨드 라인 인자들
-   * @throws Exception 데이터 처리 중 발생할 수 있는 모든 예외
    */
   @Override
-  public void run(String... args) throws Exception {
+  public void run(String... args) {
+    searchIndexManager.submit("public-data", this::initializePublicData);
+  }
+
+  private void initializePublicData() {
     log.info(">>>>>> 애플리케이션 시작과 함께 공공데이터를 초기화합니다.");
 
     // 맛집 데이터 처리
@@ -59,15 +63,6 @@ public class DataInitializer implements CommandLineRunner {
       // throw e;
     }
 
-    // ✨✨✨ 새로 추가된 코드
-    try {
-      log.info(">>>>>> Oracle DB의 상품 데이터를 Elasticsearch에 인덱싱을 시작합니다.");
-      productSearchService.indexAllProductsFromDB();
-      log.info(">>>>>> Oracle DB 상품 데이터 인덱싱 완료.");
-    } catch (Exception e) {
-      log.error(">>>>>> Oracle DB 상품 데이터 인덱싱 중 오류가 발생했습니다: {}", e.getMessage(), e);
-    }
-
     log.info(">>>>>> 공공데이터 초기화 프로세스 종료.");
   }
 }
\ No newline at end of file
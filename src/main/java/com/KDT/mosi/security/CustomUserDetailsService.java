@@ -39,7 +39,8 @@ public class CustomUserDetailsService implements UserDetailsService {
     // 2. 역할 정보 조회
     List<Role> roles = memberRoleDAO.findRolesByMemberId(member.getMemberId());
 
-    // 3. UserDetails 반환
+    // 3. UserDetails 반환 (SecurityContext 가 세션에 직렬화되므로 프로필 BLOB 은 제외)
+    member.setPic(null);
     return new CustomUserDetails(member, roles);
   }
 }
@@ -1,41 +1,76 @@
 package com.KDT.mosi.web.advice;
 
-import com.KDT.mosi.domain.entity.Member;
-import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
+import com.KDT.mosi.domain.dto.MemberProfile;
+import com.KDT.mosi.domain.member.svc.MemberProfileCache;
+import com.KDT.mosi.web.login.LoginMember;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
 
-import java.util.Base64;
-
+/**
+ * 화면 공통 모델 (헤더/사이드바)
+ * - 로그인 정보, 판매자 프로필 요약(닉네임 + 이미지 URL)을 추가한다.
+ * - 프로필은 MemberProfileCache 에서 읽으므로 캐시가 채워진 뒤에는 DB 조회가 없다.
+ * - @ResponseBody / @RestController 요청은 뷰가 없으므로 건너뛴다.
+ */
 @Slf4j
 @ControllerAdvice
 @RequiredArgsConstructor
 public class GlobalModelAdvice {
 
-  private final SellerPageSVC sellerPageSVC;
+  private final MemberProfileCache memberProfileCache;
 
   @ModelAttribute
-  public void addGlobalAttributes(HttpSession session, Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+  public void addGlobalAttributes(HttpServletRequest request, HttpSession session, Model model) {
+    if (isRestHandler(request)) {
+      return;
+    }
+
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
+    String loginRole = (String) session.getAttribute("loginRole");
+
+    model.addAttribute("loginMember", loginMember);
+    model.addAttribute("loginRole", loginRole);
 
     // 로그인한 경우만 실행
-    if (loginMember != null) {
-      sellerPageSVC.findByMemberId(loginMember.getMemberId()).ifPresent(sellerPage -> {
-        model.addAttribute("sellerPage", sellerPage);
-
-        // 프로필 이미지도 Base64로 변환해서 추가
-        if (sellerPage.getImage() != null && sellerPage.getImage().length > 0) {
-          String base64SellerImage =
-              "data:image/png;base64," + Base64.getEncoder().encodeToString(sellerPage.getImage());
-          model.addAttribute("sellerImage", base64SellerImage);
-        } else {
-          model.addAttribute("sellerImage", null);
-        }
-      });
+    if (loginMember == null) {
+      return;
+    }
+
+    MemberProfile profile = memberProfileCache.get(loginMember.getMemberId());
+    if (profile.hasSellerPage()) {
+      model.addAttribute("sellerPage", profile);
+      model.addAttribute("sellerImage", profile.getImageUrl());
+    }
+
+    // 판매자 사이드바 (SellerPage.image)
+    if ("SELLER".equals(loginRole) && profile.hasSellerPage()) {
+      if (profile.getImageUrl() != null) {
+        model.addAttribute("sidebarImage", profile.getImageUrl());
+      }
+      model.addAttribute("sellerNickname", profile.getNickname());
+    }
+
+    // 구매자 사이드바 (Member.pic)
+    if ("BUYER".equals(loginRole) && loginMember.hasPic()) {
+      model.addAttribute("sidebarImage", loginMember.getPicUrl());
+    }
+  }
+
+  private boolean isRestHandler(HttpServletRequest request) {
+    Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return false;
     }
+    return AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ResponseBody.class)
+        || handlerMethod.hasMethodAnnotation(ResponseBody.class);
   }
 }
@@ -1,18 +1,69 @@
 package com.KDT.mosi.web.config;
 
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 외부 API(부산 공공데이터, 카카오) 호출용 RestTemplate
+ * - 커넥션 풀을 두어 동시 페이지 요청 시 연결을 재사용한다.
+ * - 연결/응답 타임아웃을 두어 응답 없는 요청이 적재 스레드를 붙잡지 않게 한다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+  @Value("${public-data.http.max-total:50}")
+  private int maxTotal;
+  @Value("${public-data.http.max-per-route:20}")
+  private int maxPerRoute;
+  @Value("${public-data.http.connect-timeout-ms:3000}")
+  private long connectTimeoutMs;
+  @Value("${public-data.http.read-timeout-ms:10000}")
+  private long readTimeoutMs;
+  @Value("${public-data.http.idle-evict-seconds:30}")
+  private long idleEvictSeconds;
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient publicDataHttpClient() {
+    PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(maxTotal)
+        .setMaxConnPerRoute(maxPerRoute)
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+            .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+            // 한동안 쉰 연결은 재사용 전에 확인 (서버가 먼저 끊은 연결로 요청하지 않도록)
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build())
+        .build();
+
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+            .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+            .build())
+        .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+        // 재시도는 호출 측(PageIngestPipeline 등)이 간격을 두고 한다.
+        .disableAutomaticRetries()
+        .build();
+  }
+
   @Bean
-  public RestTemplate restTemplate() {
-    RestTemplate restTemplate = new RestTemplate();
+  public RestTemplate restTemplate(CloseableHttpClient publicDataHttpClient) {
+    RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(publicDataHttpClient));
 
     // XML 응답을 처리하기 위한 컨버터 추가
     restTemplate.getMessageConverters().add(new MappingJackson2XmlHttpMessageConverter(new XmlMapper()));
@@ -22,4 +73,4 @@ public class RestTemplateConfig {
 
     return restTemplate;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.KDT.mosi.web.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 전용 스케줄러
+ * - 이 빈이 없으면 @Scheduled 는 STOMP 가 만든 messageBrokerTaskScheduler(하트비트용)를 함께 쓴다.
+ * - 읽음 반영 / 검색어 집계 / 상품 인덱스 동기화처럼 짧은 주기 작업끼리만 이 풀을 나눠 쓰고,
+ *   몇 분씩 걸리는 공공데이터 적재는 SearchIndexManager 의 백그라운드 스레드로 넘긴다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+  @Value("${app.scheduling.pool-size:4}")
+  private int poolSize;
+
+  // 이름이 taskScheduler 인 빈을 @Scheduled 가 사용한다
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduled-");
+    return scheduler;
+  }
+}
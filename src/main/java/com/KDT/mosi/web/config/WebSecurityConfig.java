@@ -58,6 +58,7 @@ public class WebSecurityConfig {
                 "/members/emailCheck", "/members/nicknameCheck",
                 "/find/**", "/css/**", "/js/**", "/img/**",
                 "/api/image-proxy", // 이미지 프록시 URL을 허용하도록 추가
+                "/product-images/*/data", // 상품 이미지 (목록 화면 공개)
                 "/api/food/**", // 혹시 몰라 food API도 추가
                 "/members/goodbye",
                 "/find/**",
@@ -1,14 +1,76 @@
 package com.KDT.mosi.web.config;
 
 // src/main/java/com/mosi/chat/config/WebSocketConfig.java
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.*;
 
+/**
+ * STOMP 설정
+ * - chat.broker.mode=simple : 이 JVM 메모리 안에서 구독/전송 (인스턴스 1대)
+ * - chat.broker.mode=relay  : 외부 STOMP 브로커(RabbitMQ, ActiveMQ Artemis 등)로 중계
+ *   → 어느 노드에서 SimpMessagingTemplate 으로 보내도 모든 노드의 구독자에게 전달된다.
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+  @Value("${chat.broker.mode:simple}")
+  private String mode;
+
+  @Value("${chat.broker.relay.host:localhost}")
+  private String relayHost;
+  @Value("${chat.broker.relay.port:61613}")
+  private int relayPort;
+  @Value("${chat.broker.relay.virtual-host:}")
+  private String virtualHost;
+  @Value("${chat.broker.relay.client-login:guest}")
+  private String clientLogin;
+  @Value("${chat.broker.relay.client-passcode:guest}")
+  private String clientPasscode;
+  @Value("${chat.broker.relay.system-login:guest}")
+  private String systemLogin;
+  @Value("${chat.broker.relay.system-passcode:guest}")
+  private String systemPasscode;
+
+  // 하트비트 (ms, 0 이면 사용 안 함) : 서버 → 클라이언트 / 클라이언트 → 서버
+  @Value("${chat.broker.heartbeat.send-ms:10000}")
+  private long heartbeatSendMs;
+  @Value("${chat.broker.heartbeat.receive-ms:10000}")
+  private long heartbeatReceiveMs;
+
+  // 클라이언트 → 서버 메시지 처리 스레드 풀
+  @Value("${chat.broker.inbound.core-pool-size:4}")
+  private int inboundCorePoolSize;
+  @Value("${chat.broker.inbound.max-pool-size:16}")
+  private int inboundMaxPoolSize;
+  @Value("${chat.broker.inbound.queue-capacity:1000}")
+  private int inboundQueueCapacity;
+
+  // 서버 → 클라이언트 전송 스레드 풀
+  @Value("${chat.broker.outbound.core-pool-size:4}")
+  private int outboundCorePoolSize;
+  @Value("${chat.broker.outbound.max-pool-size:16}")
+  private int outboundMaxPoolSize;
+  @Value("${chat.broker.outbound.queue-capacity:1000}")
+  private int outboundQueueCapacity;
+
+  private TaskScheduler heartbeatScheduler;
+
+  // simple 브로커 하트비트용 (STOMP 설정이 만드는 스케줄러를 그대로 사용)
+  @Autowired
+  public void setHeartbeatScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler) {
+    this.heartbeatScheduler = heartbeatScheduler;
+  }
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     // 브라우저 → 서버 WebSocket 연결 entrypoint
@@ -20,9 +82,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
     // 서버가 내보내는(브로드캐스트) 대상 prefix
-    registry.enableSimpleBroker("/topic");
+    if ("relay".equalsIgnoreCase(mode)) {
+      log.info("STOMP 브로커 릴레이 사용: {}:{}", relayHost, relayPort);
+      var relay = registry.enableStompBrokerRelay("/topic")
+          .setRelayHost(relayHost)
+          .setRelayPort(relayPort)
+          .setClientLogin(clientLogin)
+          .setClientPasscode(clientPasscode)
+          .setSystemLogin(systemLogin)
+          .setSystemPasscode(systemPasscode)
+          .setSystemHeartbeatSendInterval(heartbeatSendMs)
+          .setSystemHeartbeatReceiveInterval(heartbeatReceiveMs);
+      if (!virtualHost.isBlank()) {
+        relay.setVirtualHost(virtualHost);
+      }
+    } else {
+      registry.enableSimpleBroker("/topic")
+          .setHeartbeatValue(new long[]{heartbeatSendMs, heartbeatReceiveMs})
+          .setTaskScheduler(heartbeatScheduler);
+    }
     // 클라이언트가 서버로 보낼 때 prefix
     registry.setApplicationDestinationPrefixes("/app");
   }
-}
 
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor()
+        .corePoolSize(inboundCorePoolSize)
+        .maxPoolSize(inboundMaxPoolSize)
+        .queueCapacity(inboundQueueCapacity);
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor()
+        .corePoolSize(outboundCorePoolSize)
+        .maxPoolSize(outboundMaxPoolSize)
+        .queueCapacity(outboundQueueCapacity);
+  }
+}
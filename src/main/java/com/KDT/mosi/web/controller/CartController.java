@@ -4,10 +4,10 @@ import com.KDT.mosi.domain.cart.dto.CartResponse;
 import com.KDT.mosi.domain.cart.request.CartFormRequest;
 import com.KDT.mosi.domain.cart.svc.CartSVC;
 import com.KDT.mosi.domain.entity.BuyerPage;
-import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.mypage.buyer.svc.BuyerPageSVC;
 import com.KDT.mosi.web.api.ApiResponse;
 import com.KDT.mosi.web.api.ApiResponseCode;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -33,7 +33,7 @@ public class CartController {
    */
   @GetMapping(produces = "text/html")
   public String cartPageHtml(HttpSession session, Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
 
     if (loginMember == null) {
       return "redirect:/login";
@@ -56,7 +56,7 @@ public class CartController {
   @GetMapping(produces = "application/json")
   @ResponseBody
   public ResponseEntity<ApiResponse<CartResponse>> getCartJson(HttpSession session) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -90,7 +90,7 @@ public class CartController {
       @Valid @RequestBody CartFormRequest request,
       HttpSession session) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -124,7 +124,7 @@ public class CartController {
       @Valid @RequestBody CartFormRequest request,
       HttpSession session) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -158,7 +158,7 @@ public class CartController {
       @Valid @RequestBody CartFormRequest request,
       HttpSession session) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -188,7 +188,7 @@ public class CartController {
   @GetMapping("/count")
   @ResponseBody
   public ResponseEntity<ApiResponse<Integer>> getCartItemCount(HttpSession session) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.ok(
           ApiResponse.of(ApiResponseCode.SUCCESS, 0)
@@ -217,7 +217,7 @@ public class CartController {
       @RequestParam("ids") String ids,
       HttpSession session) {
     
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -249,7 +249,7 @@ public class CartController {
   @DeleteMapping("/clear")
   @ResponseBody
   public ResponseEntity<ApiResponse<Void>> clearCart(HttpSession session) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -2,14 +2,21 @@ package com.KDT.mosi.web.controller;
 
 import com.KDT.mosi.domain.publicdatamanage.facility.document.FacilityDocument;
 import com.KDT.mosi.domain.publicdatamanage.facility.svc.FacilityDataManagementSVC;
+import com.KDT.mosi.domain.publicdatamanage.geo.GeoArea;
+import com.KDT.mosi.domain.publicdatamanage.geo.MapPlace;
+import com.KDT.mosi.domain.publicdatamanage.geo.PlaceGeoSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/facility")
@@ -18,6 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class FacilityRestController {
 
   private final FacilityDataManagementSVC facilityDataManagementSVC;
+  private final PlaceGeoSearchService placeGeoSearchService;
 
   @GetMapping
   public Page<FacilityDocument> getAllFacilities(Pageable pageable) {
@@ -35,4 +43,39 @@ public class FacilityRestController {
     // searchFacilities 메서드를 호출하여 검색과 페이지네이션을 함께 처리합니다.
     return facilityDataManagementSVC.searchFacilities(searchType, keyword, pageable);
   }
-}
\ No newline at end of file
+
+  // 지점에서 반경 distance(m) 이내의 시설 (가까운 순, 지도 마커용 필드만)
+  @GetMapping("/nearby")
+  public List<MapPlace> nearbyFacilities(
+      @RequestParam("lat") double lat,
+      @RequestParam("lon") double lon,
+      @RequestParam(value = "distance", defaultValue = "1000") int distance,
+      @RequestParam(value = "gugun", required = false) String gugun,
+      @RequestParam(value = "menu", required = false) String menu,
+      @RequestParam(value = "gubun", required = false) String gubun,
+      @RequestParam(value = "size", required = false) Integer size) {
+    try {
+      return placeGeoSearchService.searchFacilities(GeoArea.circle(lat, lon, distance), gugun, menu, gubun, size);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+    }
+  }
+
+  // 현재 지도 화면(top/left ~ bottom/right) 안의 시설 (화면 중앙에서 가까운 순)
+  @GetMapping("/viewport")
+  public List<MapPlace> facilitiesInViewport(
+      @RequestParam("top") double top,
+      @RequestParam("left") double left,
+      @RequestParam("bottom") double bottom,
+      @RequestParam("right") double right,
+      @RequestParam(value = "gugun", required = false) String gugun,
+      @RequestParam(value = "menu", required = false) String menu,
+      @RequestParam(value = "gubun", required = false) String gubun,
+      @RequestParam(value = "size", required = false) Integer size) {
+    try {
+      return placeGeoSearchService.searchFacilities(GeoArea.box(top, left, bottom, right), gugun, menu, gubun, size);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+    }
+  }
+}
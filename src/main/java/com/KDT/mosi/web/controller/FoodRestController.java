@@ -2,14 +2,21 @@ package com.KDT.mosi.web.controller;
 
 import com.KDT.mosi.domain.publicdatamanage.restaurant.document.FoodDocument;
 import com.KDT.mosi.domain.publicdatamanage.restaurant.svc.FoodDataManagementSVC;
+import com.KDT.mosi.domain.publicdatamanage.geo.GeoArea;
+import com.KDT.mosi.domain.publicdatamanage.geo.MapPlace;
+import com.KDT.mosi.domain.publicdatamanage.geo.PlaceGeoSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/food")
@@ -18,6 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class FoodRestController {
 
   private final FoodDataManagementSVC foodDataManagementSVC;
+  private final PlaceGeoSearchService placeGeoSearchService;
 
   /**
    * 모든 맛집 문서 목록을 페이지네이션하여 JSON 형식으로 반환하는 API입니다.
@@ -44,4 +52,42 @@ public class FoodRestController {
     // FoodDataManagementSVC의 searchFood 메서드를 호출하여 검색 로직을 위임합니다.
     return foodDataManagementSVC.searchFood(searchType, keyword, pageable);
   }
-}
\ No newline at end of file
+
+  /**
+   * 지점에서 반경 distance(m) 이내의 맛집을 가까운 순으로 반환합니다. (지도 마커용 필드만)
+   * @param gugun 구군명 필터 (선택)
+   * @param menu 대표 메뉴 필터 (선택)
+   * @param size 최대 건수 (선택)
+   */
+  @GetMapping("/nearby")
+  public List<MapPlace> nearbyRestaurants(@RequestParam("lat") double lat,
+                                          @RequestParam("lon") double lon,
+                                          @RequestParam(value = "distance", defaultValue = "1000") int distance,
+                                          @RequestParam(value = "gugun", required = false) String gugun,
+                                          @RequestParam(value = "menu", required = false) String menu,
+                                          @RequestParam(value = "size", required = false) Integer size) {
+    try {
+      return placeGeoSearchService.searchFood(GeoArea.circle(lat, lon, distance), gugun, menu, size);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 현재 지도 화면(top/left ~ bottom/right) 안의 맛집을 화면 중앙에서 가까운 순으로 반환합니다.
+   */
+  @GetMapping("/viewport")
+  public List<MapPlace> restaurantsInViewport(@RequestParam("top") double top,
+                                              @RequestParam("left") double left,
+                                              @RequestParam("bottom") double bottom,
+                                              @RequestParam("right") double right,
+                                              @RequestParam(value = "gugun", required = false) String gugun,
+                                              @RequestParam(value = "menu", required = false) String menu,
+                                              @RequestParam(value = "size", required = false) Integer size) {
+    try {
+      return placeGeoSearchService.searchFood(GeoArea.box(top, left, bottom, right), gugun, menu, size);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import com.KDT.mosi.domain.product.svc.ProductImageSVC;
 import com.KDT.mosi.domain.product.svc.ProductSVC;
 import com.KDT.mosi.web.api.ApiResponse;
 import com.KDT.mosi.web.api.ApiResponseCode;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
@@ -44,7 +45,7 @@ public class OrderController {
       @RequestParam(value = "cartItemIds", required = false) List<Long> cartItemIds,
       HttpSession session, Model model) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -84,7 +85,7 @@ public class OrderController {
       @RequestParam("cartItemIds") List<Long> cartItemIds,
       HttpSession session) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -115,7 +116,7 @@ public class OrderController {
       @Valid @RequestBody OrderFormRequest request,
       HttpSession session) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -154,7 +155,7 @@ public class OrderController {
       @RequestParam("orderCode") String orderCode,
       HttpSession session, Model model) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -181,7 +182,7 @@ public class OrderController {
       @RequestParam("orderCode") String orderCode,
       HttpSession session) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -211,7 +212,7 @@ public class OrderController {
                                        @RequestParam(name = "page", defaultValue = "1") int page,
                                        @RequestParam(name = "size", defaultValue = "5") int size ) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new IllegalStateException("로그인한 회원이 아닙니다.");
     }
@@ -259,7 +260,7 @@ public class OrderController {
   @GetMapping("/member-info")
   @ResponseBody
   public ResponseEntity<ApiResponse<Map<String, Object>>> getOrderMemberInfo(HttpSession session) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
 
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
@@ -284,7 +285,7 @@ public class OrderController {
   @GetMapping("/session-state")
   @ResponseBody
   public ResponseEntity<ApiResponse<Map<String, Object>>> getOrderSessionState(HttpSession session) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -313,7 +314,7 @@ public class OrderController {
       @RequestBody Map<String, Object> request,
       HttpSession session) throws InterruptedException {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
           ApiResponse.of(ApiResponseCode.LOGIN_REQUIRED, null)
@@ -360,7 +361,7 @@ public class OrderController {
                                    @RequestParam(name = "page", defaultValue = "1") int page,
                                    @RequestParam(name = "size", defaultValue = "5") int size) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new IllegalStateException("로그인한 회원이 아닙니다.");
     }
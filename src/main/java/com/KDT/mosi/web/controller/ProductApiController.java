@@ -1,6 +1,5 @@
 package com.KDT.mosi.web.controller;
 
-import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.entity.Product;
 import com.KDT.mosi.domain.entity.ProductImage;
 import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
@@ -10,6 +9,7 @@ import com.KDT.mosi.web.form.product.FilteredProductsDTO;
 import com.KDT.mosi.web.form.product.PaginationInfo;
 import com.KDT.mosi.web.form.product.ProductManagingForm;
 import com.KDT.mosi.web.form.product.ProductUpdateForm;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -83,7 +83,7 @@ public class ProductApiController {
       @RequestParam(value = "size", defaultValue = "10") int size,
       HttpSession session
   ) {
-    Member member = (Member) session.getAttribute("loginMember");
+    LoginMember member = (LoginMember) session.getAttribute("loginMember");
     if (member == null) {
       return ResponseEntity.status(401).body(null);
     }
@@ -1,16 +1,20 @@
 package com.KDT.mosi.web.controller;
 
 import com.KDT.mosi.domain.entity.*;
+import com.KDT.mosi.domain.image.ImageVariantSize;
 import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
 import com.KDT.mosi.domain.product.document.ProductDocument;
+import com.KDT.mosi.domain.product.dto.ProductCard;
+import com.KDT.mosi.domain.product.dto.ProductCover;
 import com.KDT.mosi.domain.product.dto.response.ProductSearchResponse;
 import com.KDT.mosi.domain.product.svc.*;
 import com.KDT.mosi.web.form.product.*;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.web.csrf.CsrfToken;
@@ -27,6 +31,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Controller
@@ -93,21 +98,10 @@ public class ProductController {
         }
       }
 
-      for (ProductDocument doc : searchResults) {
-        Long productId = Long.parseLong(doc.getProductId());
-        Optional<Product> optionalProduct = productSVC.getProduct(productId);
-
-        if (optionalProduct.isPresent()) {
-          Product product = optionalProduct.get();
-          if (!"임시저장".equals(product.getStatus()) && !"판매대기".equals(product.getStatus())){
-            ProductListForm form = new ProductListForm();
-            form.setProduct(product);
-            form.setImages(productImageSVC.findByProductId(product.getProductId()));
-            form.setCoursePoints(productCoursePointSVC.findByProductId(product.getProductId()));
-            productList.add(form);
-          }
-        } else {
-          log.warn("상품 ID {}를 Oracle DB에서 찾을 수 없습니다. 데이터 동기화 문제를 확인하세요.", doc.getProductId());
+      // ES 문서로 바로 카드 구성 (카드 필드가 없는 문서만 DB 일괄 조회)
+      for (ProductCard card : productSearchService.toCards(searchResults)) {
+        if (!"임시저장".equals(card.getStatus()) && !"판매대기".equals(card.getStatus())) {
+          productList.add(ProductListForm.of(card));
         }
       }
     } else {
@@ -122,12 +116,21 @@ public class ProductController {
         totalCount = productSVC.countByCategory(category);
       }
 
+      // 대표 이미지는 PRODUCT_COVER 에서 한 번에 조회 (이미지 BLOB 미조회)
+      Map<Long, ProductCover> covers = productImageSVC.findCoversByProductIds(
+              products.stream().map(Product::getProductId).toList()).stream()
+          .collect(Collectors.toMap(ProductCover::productId, cover -> cover));
+
       for (Product product : products) {
         if (!"임시저장".equals(product.getStatus()) && !"판매대기".equals(product.getStatus())){
           ProductListForm form = new ProductListForm();
           form.setProduct(product);
-          form.setImages(productImageSVC.findByProductId(product.getProductId()));
+          form.setImages(List.of());
           form.setCoursePoints(productCoursePointSVC.findByProductId(product.getProductId()));
+          ProductCover cover = covers.get(product.getProductId());
+          if (cover != null) {
+            form.setThumbnailUrl(cover.url(ImageVariantSize.CARD));
+          }
           productList.add(form);
         }
       }
@@ -168,7 +171,7 @@ public class ProductController {
                        @RequestParam(name = "status", required = false, defaultValue = "all") String status) {  // status 필수 파라미터
 
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new IllegalStateException("로그인한 회원이 아닙니다.");
     }
@@ -317,7 +320,7 @@ public class ProductController {
   public String uploadForm(Model model, HttpSession session, RedirectAttributes redirectAttrs,
                            HttpServletRequest request) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
 
     if (loginMember == null) {
       redirectAttrs.addFlashAttribute("redirectAfterLogin", "/product/upload");
@@ -363,7 +366,7 @@ public class ProductController {
   ) {
     log.info("임시저장 요청 접수. 제목: {}", form.getTitle());
     try {
-      Member loginMember = (Member) session.getAttribute("loginMember");
+      LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
       if (loginMember == null) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인 상태가 아닙니다."));
       }
@@ -384,7 +387,7 @@ public class ProductController {
   @PostMapping("/upload")
   public String uploadSubmit(@ModelAttribute ProductUploadForm form, HttpSession session, Model model) throws IOException {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -453,7 +456,7 @@ public class ProductController {
                          HttpSession session,
                          HttpServletRequest request,
                          RedirectAttributes redirectAttrs) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       redirectAttrs.addFlashAttribute("redirectAfterLogin", "/product/edit/" + id);
       return "redirect:/login";
@@ -515,7 +518,7 @@ public class ProductController {
                            Model model,
                            RedirectAttributes redirectAttrs) throws IOException {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       redirectAttrs.addFlashAttribute("redirectAfterLogin", "/product/edit/" + id);
       return "redirect:/login";
@@ -535,7 +538,9 @@ public class ProductController {
     Product product = toEntity(form);
     product.setProductId(id);
     product.setUpdateDate(new Date(System.currentTimeMillis()));
-    product.setMember(loginMember);
+    Member member = new Member();
+    member.setMemberId(loginMember.getMemberId());
+    product.setMember(member);
 
 
     // 새로운 문서 파일이 업로드된 경우에만 파일 정보 업데이트
@@ -605,7 +610,7 @@ public class ProductController {
   public String deleteForm(@PathVariable("id") Long id,
                            HttpSession session,
                            RedirectAttributes redirectAttrs) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -627,7 +632,7 @@ public class ProductController {
   public String deleteSubmit(@PathVariable("id") Long id,
                              HttpSession session,
                              RedirectAttributes redirectAttrs) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -653,7 +658,7 @@ public class ProductController {
                      HttpServletRequest request) {
 
     // 1) 로그인 회원 정보 조회
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       // 필요 시 로그인 페이지로 리다이렉트 또는 예외 처리
       throw new IllegalStateException("로그인한 회원이 아닙니다.");
@@ -825,13 +830,15 @@ public class ProductController {
   }
 
 
-  // 파일 다운로드
+  // 파일 다운로드 (목록 조회에서는 FILE_DATA 를 읽지 않으므로 여기서만 스트리밍)
   @GetMapping("/download/product/{productId}")
-  public ResponseEntity<ByteArrayResource> downloadFile(@PathVariable("productId") Long productId) {
-    // 상품 조회
-    Product product = productSVC.getProduct(productId).orElse(null);
-    if (product == null || product.getFileData() == null) {
-      return ResponseEntity.notFound().build();
+  public void downloadFile(@PathVariable("productId") Long productId,
+                           HttpServletResponse response) throws IOException {
+    // 첨부파일 정보 조회
+    Product product = productSVC.getProductFileInfo(productId).orElse(null);
+    if (product == null || product.getFileSize() == null || product.getFileSize() <= 0) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
     }
 
     // 파일명 설정(없으면 기본값)
@@ -840,9 +847,12 @@ public class ProductController {
         "product_" + productId + "_detail.txt";
 
     // 파일 다운로드(한글로 파일명 인코딩)
-    return ResponseEntity.ok()
-        .header("Content-Disposition", "attachment; filename*=UTF-8''" +
-            URLEncoder.encode(fileName, StandardCharsets.UTF_8))
-        .body(new ByteArrayResource(product.getFileData()));
+    response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" +
+        URLEncoder.encode(fileName, StandardCharsets.UTF_8));
+    response.setContentType(StringUtils.hasText(product.getFileType()) ?
+        product.getFileType() : "application/octet-stream");
+    response.setContentLengthLong(product.getFileSize());
+    productSVC.writeProductFile(productId, response.getOutputStream());
   }
+
 }
\ No newline at end of file
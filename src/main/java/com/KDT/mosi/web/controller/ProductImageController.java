@@ -1,26 +1,46 @@
 package com.KDT.mosi.web.controller;
 
+import com.KDT.mosi.domain.entity.ImageVariant;
 import com.KDT.mosi.domain.entity.ProductImage;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.image.svc.ImageVariantSVC;
 import com.KDT.mosi.domain.product.svc.ProductImageSVC;
 import com.KDT.mosi.domain.product.svc.ProductSVC;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpRange;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/product-images")
 public class ProductImageController {
 
+  private static final String IMAGE_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+  // 리사이즈 이미지가 아직 없어 원본으로 대신 응답할 때 (생성 후 같은 URL 이 리사이즈 이미지로 바뀌도록 매번 재검증)
+  private static final String FALLBACK_CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
   private final ProductSVC productSVC;
   private final ProductImageSVC productImageSVC;
+  private final ImageVariantSVC imageVariantSVC;
 
-  public ProductImageController(ProductImageSVC productImageService, ProductSVC productSVC) {
+  public ProductImageController(ProductImageSVC productImageService, ProductSVC productSVC,
+                                ImageVariantSVC imageVariantSVC) {
     this.productSVC = productSVC;
     this.productImageSVC = productImageService;
+    this.imageVariantSVC = imageVariantSVC;
   }
 
   @GetMapping("/product/{productId}")
@@ -43,15 +63,102 @@ public class ProductImageController {
     else return ResponseEntity.status(500).body("이미지 삭제 실패");
   }
 
+  /**
+   * 상품 이미지 전송
+   * - IMAGE_ID 별로 내용이 바뀌지 않으므로 장기 immutable 캐시 헤더를 붙인다.
+   * - ETag(IMAGE_ID + 업로드 시각) / Last-Modified 조건부 요청이면 304 로 응답한다.
+   * - 단일 구간 Range 요청이면 206 으로 해당 구간만 전송한다.
+   * - size(thumb/card/full) 가 있으면 리사이즈 이미지를, 아직 생성 전이면 원본을 전송한다.
+   *   (원본으로 대신 응답할 때는 장기 캐시하지 않는다)
+   */
   @GetMapping("/{imageId}/data")
-  public ResponseEntity<byte[]> getImageData(@PathVariable("imageId") Long imageId) {
-    return productImageSVC.findById(imageId)
-        .map(img -> {
-          HttpHeaders headers = new HttpHeaders();
-          headers.setContentType(MediaType.parseMediaType(img.getMimeType()));
-          headers.setContentLength(img.getFileSize());
-          return new ResponseEntity<>(img.getImageData(), headers, HttpStatus.OK);
-        })
-        .orElse(ResponseEntity.notFound().build());
+  public void getImageData(@PathVariable("imageId") Long imageId,
+                           @RequestParam(value = "size", required = false) String variantSize,
+                           ServletWebRequest webRequest,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+    Optional<ImageVariantSize> requestedSize = ImageVariantSize.from(variantSize);
+    Optional<ImageVariant> variant = requestedSize
+        .flatMap(s -> imageVariantSVC.find(ImageOwner.PRODUCT, imageId, s));
+    if (variant.isPresent()) {
+      writeVariant(variant.get(), webRequest, response);
+      return;
+    }
+
+    Optional<ProductImage> found = productImageSVC.findMetaById(imageId);
+    if (found.isEmpty()) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    ProductImage meta = found.get();
+    long lastModified = meta.getUploadTime() != null ? meta.getUploadTime().getTime() : -1L;
+    String etag = "\"" + meta.getImageId() + "-" + Math.max(lastModified, 0L) + "\"";
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL,
+        requestedSize.isPresent() ? FALLBACK_CACHE_CONTROL : IMAGE_CACHE_CONTROL);
+    if (webRequest.checkNotModified(etag, lastModified)) {
+      return; // 304
+    }
+
+    long size = meta.getFileSize() != null ? meta.getFileSize() : 0L;
+    long start = 0L;
+    long length = size;
+
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+      List<HttpRange> ranges;
+      try {
+        ranges = HttpRange.parseRanges(rangeHeader);
+      } catch (IllegalArgumentException e) {
+        ranges = List.of();
+      }
+
+      // 다중 구간은 지원하지 않으므로 전체 전송
+      if (ranges.size() == 1) {
+        HttpRange range = ranges.get(0);
+        try {
+          start = range.getRangeStart(size);
+          length = range.getRangeEnd(size) - start + 1;
+        } catch (IllegalArgumentException e) {
+          response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+          response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+          return;
+        }
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE,
+            "bytes " + start + "-" + (start + length - 1) + "/" + size);
+      }
+    }
+
+    response.setContentType(resolveMediaType(meta.getMimeType()));
+    response.setContentLengthLong(length);
+    productImageSVC.writeImageData(meta, start, length, response.getOutputStream());
+  }
+
+  private void writeVariant(ImageVariant variant, ServletWebRequest webRequest,
+                            HttpServletResponse response) throws IOException {
+    String etag = "\"" + variant.getOwnerId() + "-" + variant.getVariant().toLowerCase()
+        + "-" + variant.getSourceHash().substring(0, 16) + "\"";
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL, IMAGE_CACHE_CONTROL);
+    if (webRequest.checkNotModified(etag)) {
+      return; // 304
+    }
+
+    byte[] data = variant.getImageData();
+    response.setContentType(resolveMediaType(variant.getMimeType()));
+    response.setContentLength(data.length);
+    response.getOutputStream().write(data);
+  }
+
+  private String resolveMediaType(String mimeType) {
+    try {
+      return MediaType.parseMediaType(mimeType).toString();
+    } catch (Exception e) {
+      return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
   }
-}
\ No newline at end of file
+}
@@ -5,12 +5,12 @@ import com.KDT.mosi.domain.board.bbsUpload.svc.BbsUploadSVC;
 import com.KDT.mosi.domain.common.CodeId;
 import com.KDT.mosi.domain.common.svc.CodeSVC;
 import com.KDT.mosi.domain.dto.CodeDTO;
-import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.entity.board.Bbs;
 import com.KDT.mosi.web.api.ApiResponse;
 import com.KDT.mosi.web.api.ApiResponseCode;
 import com.KDT.mosi.web.form.board.bbs.SaveApi;
 import com.KDT.mosi.web.form.board.bbs.UpdateApi;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -153,7 +153,7 @@ public class ApiBbsController {
 
     // 2) 로그인 정보 꺼내기
     Long loginMemberId = (Long) session.getAttribute("loginMemberId");
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
     }
@@ -204,7 +204,7 @@ public class ApiBbsController {
 
     // 2) 로그인 정보 꺼내기
     Long loginMemberId = (Long) session.getAttribute("loginMemberId");
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
     }
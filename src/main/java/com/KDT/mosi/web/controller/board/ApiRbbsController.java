@@ -3,12 +3,12 @@ package com.KDT.mosi.web.controller.board;
 import com.KDT.mosi.domain.board.rbbs.svc.RbbsSVC;
 import com.KDT.mosi.domain.board.rbbsLike.svc.RBbsLikeSVC;
 import com.KDT.mosi.domain.board.rbbsReport.svc.RBbsReportSVC;
-import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.entity.board.Rbbs;
 import com.KDT.mosi.web.api.ApiResponse;
 import com.KDT.mosi.web.api.ApiResponseCode;
 import com.KDT.mosi.web.form.board.rbbs.SaveApi;
 import com.KDT.mosi.web.form.board.rbbs.UpdateApi;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -40,7 +40,7 @@ public class ApiRbbsController {
       HttpSession session
   ) {
     // 로그인 체크
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
     }
@@ -73,7 +73,7 @@ public class ApiRbbsController {
       @PathVariable("bbsId") Long bbsId,
       @RequestParam(value="pageNo",   defaultValue="1") int pageNo,
       @RequestParam(value="numOfRows",defaultValue="10") int numOfRows,
-      @SessionAttribute(value="loginMember", required=false) Member loginMember
+      @SessionAttribute(value="loginMember", required=false) LoginMember loginMember
   ) {
     log.info("bbsId={}, pageNo={}, numOfRows={}", bbsId, pageNo, numOfRows);
     List<Rbbs> list      = rbbsSVC.findAll(bbsId, pageNo, numOfRows);
@@ -141,7 +141,7 @@ public class ApiRbbsController {
         .orElseThrow(() -> new NoSuchElementException("댓글을 찾을 수 없습니다. id=" + id));
 
     // 2) 로그인 & 작성자 확인
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
     }
@@ -173,7 +173,7 @@ public class ApiRbbsController {
         .orElseThrow(() -> new NoSuchElementException("댓글을 찾을 수 없습니다. id=" + id));
 
     // 2) 로그인 & 작성자 확인
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
     }
@@ -4,10 +4,10 @@ import com.KDT.mosi.domain.board.bbs.svc.BbsSVC;
 import com.KDT.mosi.domain.board.bbsLike.svc.BbsLikeSVC;
 import com.KDT.mosi.domain.board.bbsReport.svc.BbsReportSVC;
 import com.KDT.mosi.domain.board.rbbs.svc.RbbsSVC;
-import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.entity.Role;
 import com.KDT.mosi.domain.entity.board.Bbs;
 import com.KDT.mosi.domain.member.dao.MemberRoleDAO;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
@@ -32,7 +32,7 @@ public class CsrBbsController {
 
   @GetMapping
   public String bbs(HttpSession session, Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
 
     if (loginMember != null){
       List<Role> roles = memberRoleDAO.findRolesByMemberId(loginMember.getMemberId());
@@ -44,7 +44,7 @@ public class CsrBbsController {
 
   @GetMapping("/community")
   public String community(HttpSession session, Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
 
     if (loginMember != null){
       List<Role> roles = memberRoleDAO.findRolesByMemberId(loginMember.getMemberId());
@@ -65,7 +65,7 @@ public class CsrBbsController {
     Bbs findedBbs = optionalBbs.orElseThrow();  // 찾고자하는 게시글이 없으면 NoSuchElementException 예외발생
     model.addAttribute("bbs", findedBbs);
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
 
     //  헤더 분기용 loginRole 처리
     if (loginMember != null) {
@@ -86,9 +86,8 @@ public class CsrBbsController {
     Long memberId = null;
 
     if (loginMember != null) {
-      if (loginMember.getPic() != null) {
-        String p64 = Base64.getEncoder().encodeToString(loginMember.getPic());
-        profilePic = "data:image/png;base64," + p64;
+      if (loginMember.hasPic()) {
+        profilePic = loginMember.getPicUrl();
       }
       memberId = loginMember.getMemberId();
     }
@@ -120,7 +119,7 @@ public class CsrBbsController {
   public String bbsAdd(
       HttpSession session
       ,Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     model.addAttribute("user", loginMember);
 
     // 헤더 분기용 loginRole 추가
@@ -137,7 +136,7 @@ public class CsrBbsController {
   @GetMapping("/community/add/{id}")
   public String updateForm(@PathVariable("id") Long id, Model model,HttpSession session) {
     model.addAttribute("bbsId", id);
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     model.addAttribute("user", loginMember);
 
     // 헤더 분기용 loginRole 추가
@@ -34,12 +34,8 @@ public class ChatPopupController {
     // roomId로 팝업에 필요한 정보 조회
     var popupInfo = chatRoomService.getPopupInfo(roomId);
 
-    // 상품 이미지 (BLOB → Base64)
-    String productThumbBase64 = null;
-    if (popupInfo.getProductImage() != null) {
-      productThumbBase64 = "data:image/jpeg;base64," +
-          java.util.Base64.getEncoder().encodeToString(popupInfo.getProductImage());
-    }
+    // 상품 이미지 URL (PRODUCT_COVER)
+    String productThumbUrl = popupInfo.getProductImageUrl();
 
     // 상대방 닉네임 (내가 buyer면 partner는 seller, 반대면 buyer)
     String partnerNickname = popupInfo.getBuyerNickname();
@@ -59,7 +55,7 @@ public class ChatPopupController {
     model.addAttribute("partnerNickname", partnerNickname);
     model.addAttribute("productTitle", popupInfo.getProductTitle());
     model.addAttribute("productPrice", popupInfo.getProductPrice());
-    model.addAttribute("productThumbBase64", productThumbBase64);
+    model.addAttribute("productThumbUrl", productThumbUrl);
     model.addAttribute("role", role);
 
     log.info("📩 popup opened: roomId={}, sender={}, partner={}",
@@ -2,15 +2,13 @@ package com.KDT.mosi.web.controller.chat;
 
 
 import com.KDT.mosi.domain.chat.svc.ChatRoomService;
-import com.KDT.mosi.domain.dto.chat.ChatMessageResponse;
+import com.KDT.mosi.domain.dto.chat.ChatHistoryPage;
 import com.KDT.mosi.domain.dto.chat.ChatRoomReqDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -28,19 +26,15 @@ public class ChatRoomController {
     return Map.of("roomId", roomId);
   }
 
-  /** 이전 메시지 불러오기 */
+  /** 이전 메시지 불러오기 (before 가 있으면 그보다 오래된 메시지) */
   @GetMapping("/{roomId}/messages")
-  public ResponseEntity<?> getMessages(
+  public ResponseEntity<ChatHistoryPage> getMessages(
       @PathVariable("roomId") Long roomId,
+      @RequestParam(name = "before", required = false) Long before,
       @RequestParam(name = "limit", defaultValue = "30") int limit
   ) {
-    List<ChatMessageResponse> messages = service.findRecent(roomId);
-    log.info("📨 getMessages 호출됨, roomId={}, limit={}", roomId, limit);
-
-    if (messages == null || messages.isEmpty()) {
-      return ResponseEntity.ok(Collections.emptyList()); // 빈 배열 반환
-    }
-    return ResponseEntity.ok(messages);
+    log.debug("📨 getMessages 호출됨, roomId={}, before={}, limit={}", roomId, before, limit);
+    return ResponseEntity.ok(service.findHistory(roomId, before, limit));
   }
 
   /** 채팅방 닫기 */
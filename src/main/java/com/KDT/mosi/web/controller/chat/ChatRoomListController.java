@@ -76,13 +76,13 @@ public class ChatRoomListController {
 
     // 로그는 필요한 정보만 추려서 찍기
     rooms.forEach(room ->
-        log.info("📋 [판매자:{}] 채팅방ID={}, 상품ID={}, 구매자={}, 마지막메시지={}, 이미지크기={}",
+        log.info("📋 [판매자:{}] 채팅방ID={}, 상품ID={}, 구매자={}, 마지막메시지={}, 이미지={}",
             memberId,
             room.getRoomId(),
             room.getProductId(),
             room.getBuyerId(),
             room.getLastMessage(),
-            room.getProductImage() != null ? room.getProductImage().length : 0)
+            room.getProductImageUrl())
     );
 
     return rooms;
@@ -4,6 +4,7 @@ import com.KDT.mosi.domain.chat.svc.ChatRoomService;
 import com.KDT.mosi.domain.chat.svc.ChatService;
 import com.KDT.mosi.domain.dto.chat.ChatMessageDto;
 import com.KDT.mosi.domain.dto.chat.ChatMessageResponse;
+import com.KDT.mosi.domain.dto.chat.ChatRoomMeta;
 import com.KDT.mosi.domain.dto.chat.ReadEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,36 +33,44 @@ public class ChatWsController {
 
     if ("TEXT".equals(req.getType()) || "IMAGE".equals(req.getType())) {
 
-// ✅ 상태 체크 → CLOSED면 ACTIVE로 바꿔주기
-      if (chatRoomService.isClosed(roomId)) {
-        chatRoomService.reopenRoom(roomId);
+      // 방 정보(참여자/상태/닉네임)는 캐시에서 → 수신 스레드에서는 DB 작업 없음
+      ChatRoomMeta room = chatRoomService.getRoomMeta(roomId);
+      if (room == null) {
+        log.warn("🚫 존재하지 않는 채팅방: roomId={}", roomId);
+        return;
       }
 
-      // (1) DB 저장
-      Long msgId = chatService.saveMessage(
-          roomId,
-          req.getSenderId(),
-          req.getContent(),
-          "client-" + System.currentTimeMillis()
-      );
-
-      // (2) 저장한 메시지 조회
-      ChatMessageResponse res = chatService.findMessageWithMember(msgId);
+      // ✅ 상태 체크 → CLOSED면 ACTIVE로 바꿔주기
+      if (room.isClosed()) {
+        chatRoomService.reopenRoom(roomId);
+      }
 
+      // (1) 서버 번호 발급 + 저장 큐 접수 (DB 저장은 뒤에서 일괄 처리, 재전송이면 처음 메시지 그대로)
+      ChatMessageResponse res;
+      try {
+        res = chatService.send(
+            room,
+            req.getSenderId(),
+            req.getContent(),
+            req.getClientMsgId()
+        );
+      } catch (IllegalArgumentException e) {
+        // 저장할 수 없는 메시지 → 보낸 쪽이 전송 대기에서 지우도록 거부 이벤트만 전송
+        log.warn("🚫 메시지 거부: roomId={}, senderId={}, reason={}", roomId, req.getSenderId(), e.getMessage());
+        messaging.convertAndSend("/topic/chat/rooms/" + roomId, ChatMessageDto.builder()
+            .roomId(roomId)
+            .senderId(req.getSenderId())
+            .type("REJECTED")
+            .content(e.getMessage())
+            .clientMsgId(req.getClientMsgId())
+            .build());
+        return;
+      }
 
-      // (3) 방 참가자에게 전송 (팝업창 열고 있는 경우)
+      // (2) 방 참가자에게 바로 전송 (팝업창 열고 있는 경우)
       messaging.convertAndSend("/topic/chat/rooms/" + roomId, res);
 
-      // (4) 📢 추가: 목록 갱신용 push (판매자/구매자 모두)
-      Long sellerId = chatRoomService.getSellerId(roomId);
-      Long buyerId  = chatRoomService.getBuyerId(roomId);
-
-      if (sellerId != null) {
-        messaging.convertAndSend("/topic/chat/rooms/" + sellerId, res);
-      }
-      if (buyerId != null) {
-        messaging.convertAndSend("/topic/chat/rooms/buyer/" + buyerId, res);
-      }
+      // (3) 목록 갱신용 push 는 저장이 끝난 뒤 ChatMessageWriter 가 보낸다
 
     } else if ("END_REQUEST".equals(req.getType())) {
       // ✅ senderId가 이 방의 판매자인지 확인
@@ -131,30 +140,17 @@ public class ChatWsController {
   /**
    * 읽음 이벤트 수신
    * 클라이언트가 stomp.send("/app/chat/rooms/{roomId}/read", {}, JSON) 호출하면 실행됨
+   * - 여기서는 메모리에 합쳐 두기만 하고, DB 반영과 브로드캐스트는 ChatService.flushReadReceipts 에서 일괄 처리
    */
   @MessageMapping("/chat/rooms/{roomId}/read")
   public void onRead(
       @DestinationVariable("roomId") Long roomId,
       ReadEvent req
   ) {
-    log.info("👀 onRead called, roomId={}, readerId={}, lastReadMessageId={}",
+    log.debug("👀 onRead called, roomId={}, readerId={}, lastReadMessageId={}",
         roomId, req.getReaderId(), req.getLastReadMessageId());
 
-    // 1) DB 반영 (읽음 처리)
-    int updated = chatService.markAsRead(
-        roomId,
-        req.getReaderId(),
-        req.getLastReadMessageId()
-    );
-    log.info("📖 읽음 처리 완료: {}건 업데이트됨", updated);
-
-    // 2) 그대로 브로드캐스트 (상대 클라이언트에게 전달)
-    messaging.convertAndSend(
-        "/topic/chat/rooms/" + roomId + "/read",
-        req
-    );
+    chatService.markAsRead(roomId, req.getReaderId(), req.getLastReadMessageId());
   }
 
-
-
 }
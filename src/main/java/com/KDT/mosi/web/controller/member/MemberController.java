@@ -9,6 +9,8 @@ import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
 import com.KDT.mosi.domain.terms.svc.TermsSVC;
 import com.KDT.mosi.web.form.member.MemberEditForm;
 import com.KDT.mosi.web.form.member.MemberJoinForm;
+import com.KDT.mosi.web.login.LoginMember;
+import com.KDT.mosi.web.login.LoginMemberSession;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -50,6 +52,7 @@ public class MemberController {
   private final BCryptPasswordEncoder passwordEncoder;
   private final BuyerPageSVC buyerPageSVC;
   private final SellerPageSVC sellerPageSVC;
+  private final LoginMemberSession loginMemberSession;
 
   /** 회원가입 폼 화면 */
   @GetMapping("/join")
@@ -198,7 +201,8 @@ public class MemberController {
       @PathVariable("id") Long id,
       @Valid @ModelAttribute("form") MemberEditForm form,
       BindingResult bindingResult,
-      Model model
+      Model model,
+      HttpServletRequest request
   ) {
     Authentication auth = SecurityContextHolder.getContext().getAuthentication();
     String loginEmail = auth.getName();
@@ -244,6 +248,7 @@ public class MemberController {
     }
 
     memberSVC.modify(id, member);
+    loginMemberSession.refresh(request.getSession(false));
 
     // R01 = 구매자
     if (memberSVC.hasRole(id, "R01")) {
@@ -295,7 +300,7 @@ public class MemberController {
 
   /** 현재 로그인한 회원의 ID 반환 */
   private Long getLoginMemberId(HttpServletRequest request) {
-    Member loginMember = (Member) request.getSession().getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) request.getSession().getAttribute("loginMember");
     return loginMember != null ? loginMember.getMemberId() : null;
   }
 
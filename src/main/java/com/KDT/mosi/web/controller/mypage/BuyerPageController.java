@@ -1,15 +1,22 @@
 package com.KDT.mosi.web.controller.mypage;
 
 import com.KDT.mosi.domain.entity.BuyerPage;
+import com.KDT.mosi.domain.entity.ImageVariant;
 import com.KDT.mosi.domain.entity.Member;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.image.svc.ImageVariantSVC;
 import com.KDT.mosi.domain.member.svc.MemberSVC;
 import com.KDT.mosi.domain.mypage.buyer.svc.BuyerPageSVC;
 import com.KDT.mosi.web.form.mypage.buyerpage.BuyerPageUpdateForm;
+import com.KDT.mosi.web.login.LoginMember;
+import com.KDT.mosi.web.login.LoginMemberSession;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -33,6 +40,8 @@ public class  BuyerPageController {
 
   private final BuyerPageSVC buyerPageSVC;
   private final MemberSVC memberSVC;
+  private final ImageVariantSVC imageVariantSVC;
+  private final LoginMemberSession loginMemberSession;
 
   // 🔒 로그인한 회원 ID 가져오기
   private Long getLoginMemberId() {
@@ -79,10 +88,21 @@ public class  BuyerPageController {
   }
 
 
-  // ✅ 프로필 이미지 조회
+  // ✅ 프로필 이미지 조회 (size=thumb/card/full 이면 리사이즈 이미지 우선)
   @GetMapping("/{memberId}/image")
   @ResponseBody
-  public ResponseEntity<byte[]> image(@PathVariable("memberId") Long memberId) {
+  public ResponseEntity<byte[]> image(@PathVariable("memberId") Long memberId,
+                                      @RequestParam(value = "size", required = false) String size) {
+    Optional<ImageVariant> variant = ImageVariantSize.from(size)
+        .flatMap(s -> imageVariantSVC.find(ImageOwner.BUYER, memberId, s));
+    if (variant.isPresent()) {
+      return ResponseEntity.ok()
+          .cacheControl(CacheControl.noCache())
+          .eTag(variant.get().getVariant() + "-" + variant.get().getSourceHash().substring(0, 16))
+          .contentType(MediaType.parseMediaType(variant.get().getMimeType()))
+          .body(variant.get().getImageData());
+    }
+
     Optional<BuyerPage> optional = buyerPageSVC.findByMemberId(memberId);
 
     if (optional.isPresent() && optional.get().getImage() != null) {
@@ -296,15 +316,7 @@ public class  BuyerPageController {
     // ───────────────────────────
     // 6. 세션 정보 동기화
     // ───────────────────────────
-    Member loginMember = (Member) session.getAttribute("loginMember");
-    if (loginMember != null) {
-      loginMember.setNickname(requestedNickname);
-      loginMember.setTel(form.getTel());
-      loginMember.setZonecode(form.getZonecode());
-      loginMember.setAddress(form.getAddress());
-      loginMember.setDetailAddress(form.getDetailAddress());
-      session.setAttribute("loginMember", loginMember);
-    }
+    loginMemberSession.refresh(session);
 
     // ───────────────────────────
     // 7. 리다이렉트
@@ -5,6 +5,7 @@ import com.KDT.mosi.domain.entity.Role;
 import com.KDT.mosi.domain.member.dao.MemberRoleDAO;
 import com.KDT.mosi.domain.mypage.seller.dao.SellerPageDAO;
 import com.KDT.mosi.security.CustomUserDetails;
+import com.KDT.mosi.web.login.LoginMemberSession;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class RoleChangeController {
 
   private final MemberRoleDAO memberRoleDAO;
   private final SellerPageDAO sellerPageDAO;
+  private final LoginMemberSession loginMemberSession;
 
   /**
    * ✅ 구매자 → 판매자 역할 전환
@@ -63,8 +65,7 @@ public class RoleChangeController {
 
     // ✅ 세션에 loginMember 다시 저장
     HttpSession session = request.getSession(true);
-    session.setAttribute("loginMember", loginMember);
-    session.setAttribute("loginMemberId", memberId);  // ✅ ID도 세션에 저장
+    loginMemberSession.reload(session, memberId);  // ✅ ID도 세션에 저장 (역할 목록 갱신)
 
     session.setAttribute("loginRole", "SELLER");
     log.info("✅ 세션에 저장된 loginRole: {}", session.getAttribute("loginRole"));
@@ -115,8 +116,7 @@ public class RoleChangeController {
 
     // ✅ 세션 갱신
     HttpSession session = request.getSession(true);
-    session.setAttribute("loginMember", loginMember);
-    session.setAttribute("loginMemberId", memberId);
+    loginMemberSession.reload(session, memberId);
     session.setAttribute("loginRole", "BUYER");
 
     log.info("✅ SELLER → BUYER 전환 완료, 세션 업데이트");
@@ -1,8 +1,12 @@
 package com.KDT.mosi.web.controller.mypage;
 
+import com.KDT.mosi.domain.entity.ImageVariant;
 import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.entity.Product;
 import com.KDT.mosi.domain.entity.SellerPage;
+import com.KDT.mosi.domain.image.ImageOwner;
+import com.KDT.mosi.domain.image.ImageVariantSize;
+import com.KDT.mosi.domain.image.svc.ImageVariantSVC;
 import com.KDT.mosi.domain.member.svc.MemberSVC;
 import com.KDT.mosi.domain.mypage.seller.dao.SellerPageDAO;
 import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
@@ -14,11 +18,14 @@ import com.KDT.mosi.web.form.mypage.sellerpage.SellerPageUpdateForm;
 import com.KDT.mosi.web.form.product.ProductCoursePointForm;
 import com.KDT.mosi.web.form.product.ProductImageForm;
 import com.KDT.mosi.web.form.product.ProductListDTO;
+import com.KDT.mosi.web.login.LoginMember;
+import com.KDT.mosi.web.login.LoginMemberSession;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -47,6 +54,8 @@ public class SellerPageController {
   private final ProductSVC productSVC;
   private final ProductImageSVC productImageSVC;
   private final ProductCoursePointSVC productCoursePointSVC;
+  private final ImageVariantSVC imageVariantSVC;
+  private final LoginMemberSession loginMemberSession;
 
   @Autowired
   private PasswordEncoder passwordEncoder;
@@ -62,7 +71,7 @@ public class SellerPageController {
    */
   @GetMapping("/home")
   public String sellerMypageHome(HttpSession session, Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -144,7 +153,7 @@ public class SellerPageController {
                                HttpSession session, Model model) {
     log.info("판매자 상세 페이지 진입 확인");
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -167,7 +176,7 @@ public class SellerPageController {
    */
   @GetMapping("/create")
   public String createForm(HttpSession session, Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -194,7 +203,7 @@ public class SellerPageController {
                        RedirectAttributes redirectAttributes) {
 
     // 1) 로그인 체크
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -239,7 +248,7 @@ public class SellerPageController {
    */
   @GetMapping("/{id}/edit")
   public String editForm(@PathVariable("id") Long id, HttpSession session, Model model) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) return "redirect:/login";
 
     if (!id.equals(loginMember.getMemberId())) {
@@ -289,7 +298,7 @@ public class SellerPageController {
                      HttpSession session,
                      RedirectAttributes redirectAttributes) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return "redirect:/login";
     }
@@ -338,7 +347,6 @@ public class SellerPageController {
     // 🛠️ Member 테이블의 전화번호, 비밀번호도 수정
     if (form.getTel() != null && !form.getTel().isBlank()) {
       memberSVC.updateTel(id, form.getTel());
-      loginMember.setTel(form.getTel());
     }
 
     if (form.getPasswd() != null && !form.getPasswd().isBlank()) {
@@ -347,9 +355,8 @@ public class SellerPageController {
       msg.append(" 비밀번호가 수정되었습니다.");
     }
 
-    // 세션 nickname 업데이트
-    loginMember.setNickname(form.getNickname());
-    session.setAttribute("loginMember", loginMember);
+    // 세션 로그인 정보 갱신
+    loginMemberSession.refresh(session);
 
     redirectAttributes.addFlashAttribute("msg", msg.toString());
 
@@ -359,10 +366,22 @@ public class SellerPageController {
 
   /**
    * ✅ 판매자 프로필 이미지 조회
+   * - size(thumb/card/full) 가 있으면 리사이즈 이미지 우선
    */
   @GetMapping("/images/profile/{id}")
   @ResponseBody
-  public ResponseEntity<byte[]> getProfileImage(@PathVariable("id") Long pageId) {
+  public ResponseEntity<byte[]> getProfileImage(@PathVariable("id") Long pageId,
+                                                @RequestParam(value = "size", required = false) String size) {
+    Optional<ImageVariant> variant = ImageVariantSize.from(size)
+        .flatMap(s -> imageVariantSVC.find(ImageOwner.SELLER, pageId, s));
+    if (variant.isPresent()) {
+      return ResponseEntity.ok()
+          .cacheControl(CacheControl.noCache())
+          .eTag(variant.get().getVariant() + "-" + variant.get().getSourceHash().substring(0, 16))
+          .contentType(MediaType.parseMediaType(variant.get().getMimeType()))
+          .body(variant.get().getImageData());
+    }
+
     Optional<SellerPage> optional = sellerPageSVC.findById(pageId);
     if (optional.isPresent() && optional.get().getImage() != null) {
       return ResponseEntity
@@ -4,6 +4,7 @@ import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.member.svc.MemberSVC;
 import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
 import com.KDT.mosi.web.form.member.PasswordForm;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
@@ -63,7 +64,7 @@ public class ChangePasswordController {
                                    HttpServletRequest request,
                                    Model model) {
     // 1) 로그인 체크
-    Member login = (Member) session.getAttribute("loginMember");
+    LoginMember login = (LoginMember) session.getAttribute("loginMember");
     if (login == null) return "redirect:/login";
 
     // 2) 재인증 신선도 판정
@@ -102,7 +103,7 @@ public class ChangePasswordController {
                                HttpServletRequest request,
                                Model model) {
     // 1) 로그인 체크
-    Member login = (Member) session.getAttribute("loginMember");
+    LoginMember login = (LoginMember) session.getAttribute("loginMember");
     if (login == null) return "redirect:/login";
 
     // 2) 최신 멤버 조회
@@ -203,7 +204,7 @@ public class ChangePasswordController {
    * - loginRole: BUYER/SELLER 헤더 분기
    * - member, sellerPage: 항상 존재(없으면 null)
    */
-  private void injectCommonModel(HttpServletRequest request, HttpSession session, Model model, Member login) {
+  private void injectCommonModel(HttpServletRequest request, HttpSession session, Model model, LoginMember login) {
     model.addAttribute("activePath", "/members/password"); // 사이드바 활성 기준
     model.addAttribute("currentPath", request.getRequestURI());
 
@@ -1,7 +1,7 @@
 package com.KDT.mosi.web.controller.password;
 
-import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.member.svc.MemberSVC;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,7 +20,7 @@ public class PasswordVerifyApiController {
   @PostMapping("/password-check")
   public Map<String, Object> passwordCheck(@RequestParam("password") String password,
                                            HttpSession session) {
-    Member login = (Member) session.getAttribute("loginMember");
+    LoginMember login = (LoginMember) session.getAttribute("loginMember");
     boolean ok = (login != null) &&
         memberSVC.findById(login.getMemberId())
             .map(m -> passwordEncoder.matches(password, m.getPasswd()))
@@ -4,6 +4,7 @@ import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.member.svc.MemberSVC;
 import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
 import com.KDT.mosi.web.form.member.PasswordForm;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -42,7 +43,7 @@ public class PasswordVerifyController {
                            HttpSession session,
                            HttpServletRequest request,
                            Model model) {
-    Member login = (Member) session.getAttribute("loginMember");
+    LoginMember login = (LoginMember) session.getAttribute("loginMember");
     if (login == null) return "redirect:/login";
 
     injectCommonModelForVerify(session, request, model, login);
@@ -60,7 +61,7 @@ public class PasswordVerifyController {
                        HttpServletRequest request,
                        HttpServletResponse response,
                        Model model) {
-    Member login = (Member) session.getAttribute("loginMember");
+    LoginMember login = (LoginMember) session.getAttribute("loginMember");
     if (login == null) return "redirect:/login";
 
     Member dbMember = memberSVC.findById(login.getMemberId()).orElseThrow();
@@ -95,17 +96,17 @@ public class PasswordVerifyController {
       @RequestParam("currentPassword") String currentPassword,   // [변경] 파라미터명 통일
       HttpSession session
   ) {
-    Member login = (Member) session.getAttribute("loginMember");
+    LoginMember login = (LoginMember) session.getAttribute("loginMember");
     if (login == null) return Map.of("ok", false);
 
     String raw = currentPassword == null ? "" : currentPassword.trim();
-    boolean ok = !raw.isEmpty() && passwordEncoder.matches(raw, login.getPasswd());
+    boolean ok = !raw.isEmpty() && passwordEncoder.matches(raw, memberSVC.findPasswdById(login.getMemberId()));
 
     return Map.of("ok", ok);
   }
 
   // 공통 주입(verify 화면 전용)
-  private void injectCommonModelForVerify(HttpSession session, HttpServletRequest request, Model model, Member login) {
+  private void injectCommonModelForVerify(HttpSession session, HttpServletRequest request, Model model, LoginMember login) {
     model.addAttribute("member", login);
     model.addAttribute("activePath", "/members/verify-password");
     model.addAttribute("currentPath", request.getRequestURI());
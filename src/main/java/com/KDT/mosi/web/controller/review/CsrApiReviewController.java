@@ -15,7 +15,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.util.Base64;
 import java.util.Optional;
 
 @Slf4j
@@ -41,18 +40,8 @@ public class CsrApiReviewController {
     ReviewProduct reviewProduct = reviewProductOpt.orElse(null);
     model.addAttribute("reviewProduct", reviewProduct);
 
-    // byte[] -> Base64 data URI
-    String imageSrc = null;
-    if (reviewProduct != null) {
-      byte[] data = reviewProduct.getImageData();
-      if (data != null && data.length > 0) {
-        String mime = (reviewProduct.getMimeType() != null && !reviewProduct.getMimeType().isBlank())
-            ? reviewProduct.getMimeType()
-            : "image/jpeg";
-        String base64 = Base64.getEncoder().encodeToString(data);
-        imageSrc = "data:" + mime + ";base64," + base64;
-      }
-    }
+    // 대표 이미지 URL (PRODUCT_COVER)
+    String imageSrc = reviewProduct != null ? reviewProduct.getImageUrl() : null;
     model.addAttribute("imageSrc", imageSrc);
     return "review/review_writeForm";
 //    return "review/write";
@@ -78,18 +67,8 @@ public class CsrApiReviewController {
     model.addAttribute("review", review);
     model.addAttribute("reviewProduct", reviewProduct);
 
-    // 3) 이미지 data URI
-    String imageSrc = null;
-    if (reviewProduct != null) {
-      byte[] data = reviewProduct.getImageData();
-      if (data != null && data.length > 0) {
-        String mime = (reviewProduct.getMimeType() != null && !reviewProduct.getMimeType().isBlank())
-            ? reviewProduct.getMimeType()
-            : "image/jpeg";
-        String base64 = Base64.getEncoder().encodeToString(data);
-        imageSrc = "data:" + mime + ";base64," + base64;
-      }
-    }
+    // 3) 대표 이미지 URL (PRODUCT_COVER)
+    String imageSrc = reviewProduct != null ? reviewProduct.getImageUrl() : null;
     model.addAttribute("imageSrc", imageSrc);
 
     return "review/review_writeForm";
@@ -3,6 +3,7 @@ package com.KDT.mosi.web.form.product;
 import com.KDT.mosi.domain.entity.Product;
 import com.KDT.mosi.domain.entity.ProductCoursePoint;
 import com.KDT.mosi.domain.entity.ProductImage;
+import com.KDT.mosi.domain.product.dto.ProductCard;
 import lombok.Data;
 
 import java.util.List;
@@ -14,4 +15,33 @@ public class ProductListForm {
   private List<ProductCoursePoint> coursePoints;
   private String category;
   private long countProduct;
+  private String thumbnailUrl;  // 대표 이미지 URL (없으면 null)
+
+  // 검색 결과 카드 → 목록 폼 (이미지 BLOB / 전체 코스 없이 대표값만)
+  public static ProductListForm of(ProductCard card) {
+    Product product = new Product();
+    product.setProductId(card.getProductId());
+    product.setTitle(card.getTitle());
+    product.setCategory(card.getCategory());
+    product.setStatus(card.getStatus());
+    product.setSalesPrice(card.getSalesPrice());
+    product.setNormalPrice(card.getNormalPrice());
+
+    ProductListForm form = new ProductListForm();
+    form.setProduct(product);
+    form.setImages(List.of());
+    form.setThumbnailUrl(card.getThumbnailUrl());
+    if (card.hasPoint()) {
+      ProductCoursePoint point = new ProductCoursePoint();
+      point.setProduct(product);
+      point.setPointOrder(1);
+      point.setLatitude(card.getLatitude());
+      point.setLongitude(card.getLongitude());
+      point.setDescription(card.getPointDescription());
+      form.setCoursePoints(List.of(point));
+    } else {
+      form.setCoursePoints(List.of());
+    }
+    return form;
+  }
 }
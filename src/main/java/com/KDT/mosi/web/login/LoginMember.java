@@ -0,0 +1,63 @@
+package com.KDT.mosi.web.login;
+
+import com.KDT.mosi.domain.entity.Member;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 세션에 보관하는 로그인 회원 정보 (불변)
+ * - Member 엔티티 대신 화면/권한 확인에 필요한 값만 담는다. (비밀번호, 프로필 이미지 바이트 제외)
+ * - 프로필 이미지는 picVersion 만 가지고 URL(/members/{id}/pic?v=...)로 내려준다.
+ * - 정보가 바뀌면 LoginMemberSession.refresh 로 새로 만들어 교체한다.
+ */
+@Getter
+@ToString
+public final class LoginMember implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final Long memberId;
+  private final String email;
+  private final String name;
+  private final String nickname;
+  private final String tel;
+  private final List<String> roles;   // 역할 코드 (R01: 구매자, R02: 판매자)
+  private final int picVersion;       // 프로필 이미지 해시 (0: 이미지 없음)
+
+  private LoginMember(Long memberId, String email, String name, String nickname, String tel,
+                      List<String> roles, int picVersion) {
+    this.memberId = memberId;
+    this.email = email;
+    this.name = name;
+    this.nickname = nickname;
+    this.tel = tel;
+    this.roles = roles;
+    this.picVersion = picVersion;
+  }
+
+  public static LoginMember of(Member member, List<String> roles) {
+    byte[] pic = member.getPic();
+    int picVersion = pic == null || pic.length == 0 ? 0 : Arrays.hashCode(pic) | 1;
+    return new LoginMember(member.getMemberId(), member.getEmail(), member.getName(), member.getNickname(),
+        member.getTel(), roles == null ? List.of() : List.copyOf(roles), picVersion);
+  }
+
+  public boolean hasPic() {
+    return picVersion != 0;
+  }
+
+  // 프로필 이미지 URL (이미지가 바뀌면 v 가 달라져 브라우저 캐시를 새로 받는다), 없으면 null
+  public String getPicUrl() {
+    return hasPic() ? "/members/" + memberId + "/pic?v=" + Integer.toHexString(picVersion) : null;
+  }
+
+  public boolean hasRole(String roleId) {
+    return roles.contains(roleId);
+  }
+}
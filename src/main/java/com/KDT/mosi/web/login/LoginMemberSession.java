@@ -0,0 +1,52 @@
+package com.KDT.mosi.web.login;
+
+import com.KDT.mosi.domain.entity.Member;
+import com.KDT.mosi.domain.member.svc.MemberSVC;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션의 loginMember / loginMemberId 관리
+ * - 로그인 시 store, 회원·마이페이지 정보 수정 후 refresh 로 DB 기준 값으로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginMemberSession {
+
+  public static final String ATTRIBUTE = "loginMember";
+  public static final String ID_ATTRIBUTE = "loginMemberId";
+
+  private final MemberSVC memberSVC;
+
+  public LoginMember store(HttpSession session, Member member) {
+    LoginMember loginMember = LoginMember.of(member, memberSVC.findRolesByMemberId(member.getMemberId()));
+    session.setAttribute(ATTRIBUTE, loginMember);
+    session.setAttribute(ID_ATTRIBUTE, loginMember.getMemberId());
+    return loginMember;
+  }
+
+  /**
+   * 세션의 로그인 정보를 DB 기준으로 갱신
+   * - 로그인하지 않은 세션이면 아무것도 하지 않는다.
+   */
+  public void refresh(HttpSession session) {
+    if (session == null || !(session.getAttribute(ATTRIBUTE) instanceof LoginMember current)) {
+      return;
+    }
+    reload(session, current.getMemberId());
+  }
+
+  /**
+   * 회원 ID 기준으로 세션 로그인 정보를 다시 만든다. (역할 전환 등)
+   */
+  public void reload(HttpSession session, Long memberId) {
+    memberSVC.findById(memberId)
+        .ifPresentOrElse(
+            member -> store(session, member),
+            () -> log.warn("세션 갱신 대상 회원 없음: memberId={}", memberId)
+        );
+  }
+}
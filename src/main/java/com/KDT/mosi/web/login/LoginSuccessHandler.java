@@ -25,6 +25,7 @@ import java.util.List;
 public class LoginSuccessHandler implements AuthenticationSuccessHandler {
 
   private final MemberSVC memberSVC;
+  private final LoginMemberSession loginMemberSession;
   private final RedirectStrategy redirectStrategy = new DefaultRedirectStrategy();
 
   @Override
@@ -38,14 +39,12 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
     String email = authentication.getName();
     Member member = memberSVC.findByEmail(email).orElseThrow();
 
-    // 2) 세션 저장
+    // 2) 세션 저장 (BLOB 을 뺀 LoginMember 로 보관)
     HttpSession session = request.getSession(true);
-    session.setAttribute("loginMember", member);
-    session.setAttribute("loginMemberId", member.getMemberId());
+    LoginMember loginMember = loginMemberSession.store(session, member);
 
-    // 3) 보유 역할 조회(예: ["R01","R02"]) → 표시용으로 정규화
-    List<String> roles = memberSVC.findRolesByMemberId(member.getMemberId());
-    List<String> normRoles = roles.stream()
+    // 3) 보유 역할(예: ["R01","R02"]) → 표시용으로 정규화
+    List<String> normRoles = loginMember.getRoles().stream()
         .map(r -> switch (r) {
           case "R01" -> "BUYER";
           case "R02" -> "SELLER";
@@ -0,0 +1,116 @@
+package com.KDT.mosi.web.login;
+
+import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionAttributeListener;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionIdListener;
+import jakarta.servlet.http.HttpSessionListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션 크기 모니터
+ * - 활성 세션 수와 세션 속성의 직렬화 크기(추정)를 집계해 주기적으로 로그로 남긴다.
+ * - 속성은 저장/교체 시점에 한 번만 직렬화해 크기를 잰다.
+ * - 로그인 시 세션 고정 보호(changeSessionId)로 세션 ID 가 바뀌면 집계도 새 ID 로 옮긴다.
+ */
+@Slf4j
+@Component
+public class SessionSizeMonitor implements HttpSessionListener, HttpSessionAttributeListener, HttpSessionIdListener {
+
+  private final AtomicInteger activeSessions = new AtomicInteger();
+  // 세션ID → (속성명 → 직렬화 크기(byte))
+  private final Map<String, Map<String, Integer>> attributeBytes = new ConcurrentHashMap<>();
+
+  @Override
+  public void sessionCreated(HttpSessionEvent se) {
+    activeSessions.incrementAndGet();
+  }
+
+  @Override
+  public void sessionDestroyed(HttpSessionEvent se) {
+    activeSessions.decrementAndGet();
+    attributeBytes.remove(se.getSession().getId());
+  }
+
+  @Override
+  public void sessionIdChanged(HttpSessionEvent event, String oldSessionId) {
+    Map<String, Integer> attributes = attributeBytes.remove(oldSessionId);
+    if (attributes != null) {
+      attributeBytes.merge(event.getSession().getId(), attributes, (current, moved) -> {
+        moved.forEach(current::putIfAbsent);
+        return current;
+      });
+    }
+  }
+
+  @Override
+  public void attributeAdded(HttpSessionBindingEvent event) {
+    attributesOf(event).put(event.getName(), sizeOf(event.getValue()));
+  }
+
+  @Override
+  public void attributeReplaced(HttpSessionBindingEvent event) {
+    // 교체 이벤트의 getValue() 는 이전 값이므로 세션에서 새 값을 다시 읽는다
+    attributesOf(event).put(event.getName(), sizeOf(event.getSession().getAttribute(event.getName())));
+  }
+
+  @Override
+  public void attributeRemoved(HttpSessionBindingEvent event) {
+    Map<String, Integer> attributes = attributeBytes.get(event.getSession().getId());
+    if (attributes != null) {
+      attributes.remove(event.getName());
+    }
+  }
+
+  public int getActiveSessions() {
+    return activeSessions.get();
+  }
+
+  public long getTotalBytes() {
+    return attributeBytes.values().stream()
+        .flatMap(attributes -> attributes.values().stream())
+        .mapToLong(Integer::longValue)
+        .sum();
+  }
+
+  public long getAverageBytesPerSession() {
+    int sessions = activeSessions.get();
+    return sessions > 0 ? getTotalBytes() / sessions : 0;
+  }
+
+  @Scheduled(fixedDelayString = "${session.monitor.log-ms:300000}")
+  public void report() {
+    if (activeSessions.get() > 0) {
+      log.info("세션 현황: active={}, totalBytes={}, avgBytes={}",
+          getActiveSessions(), getTotalBytes(), getAverageBytesPerSession());
+    }
+  }
+
+  private Map<String, Integer> attributesOf(HttpSessionBindingEvent event) {
+    return attributeBytes.computeIfAbsent(event.getSession().getId(), id -> new ConcurrentHashMap<>());
+  }
+
+  private int sizeOf(Object value) {
+    if (!(value instanceof Serializable)) {
+      return 0;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+      oos.writeObject(value);
+    } catch (IOException e) {
+      log.debug("세션 속성 직렬화 실패: {}", value.getClass().getName());
+      return 0;
+    }
+    return out.size();
+  }
+}
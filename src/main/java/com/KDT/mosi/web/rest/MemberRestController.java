@@ -1,7 +1,7 @@
 package com.KDT.mosi.web.rest;
 
-import com.KDT.mosi.domain.entity.Member;
 import com.KDT.mosi.domain.member.svc.MemberSVC;
+import com.KDT.mosi.web.login.LoginMember;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -28,7 +28,7 @@ public class MemberRestController {
    */
   @GetMapping("/passwordCheck")
   public boolean checkCurrentPassword(@RequestParam String passwd, HttpSession session) {
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) return false;
 
     String encodedPw = memberSVC.findPasswdById(loginMember.getMemberId());
@@ -51,7 +51,7 @@ public class MemberRestController {
       @RequestParam String newPasswd,
       HttpSession session) {
 
-    Member loginMember = (Member) session.getAttribute("loginMember");
+    LoginMember loginMember = (LoginMember) session.getAttribute("loginMember");
     if (loginMember == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
     }
@@ -12,9 +12,11 @@ document.addEventListener("DOMContentLoaded", () => {
 
     // 👉 구매자 전용 채널 (새 메시지/새 방 알림)
     stompClient.subscribe(`/topic/chat/rooms/buyer/${buyerId}`, (message) => {
-      const roomDto = JSON.parse(message.body);
-      console.log("📩 구매자 알림:", roomDto);
-      refreshRoomList("active"); // 새 메시지 발생 시 진행중 목록 갱신
+      const body = JSON.parse(message.body);
+      console.log("📩 구매자 알림:", body);
+      // 방 요약 이벤트면 해당 행만 갱신, 목록에 없는 방(새 방)이면 다시 불러오기
+      if (body.type === "ROOM_SUMMARY" && applySummary(body)) return;
+      refreshRoomList("active");
     });
 
     // 초기 로딩
@@ -79,8 +81,8 @@ document.addEventListener("DOMContentLoaded", () => {
         <div class="inquiry-list-product_number">${room.roomId}</div>
         <div class="inquiry-list-product_img">
           ${
-            room.productImage
-              ? `<img src="data:image/jpeg;base64,${room.productImage}" alt="썸네일" width="120"/>`
+            room.productImageUrl
+              ? `<img src="${room.productImageUrl}" alt="썸네일" width="120" loading="lazy"/>`
               : `<span>이미지 없음</span>`
           }
         </div>
@@ -88,14 +90,16 @@ document.addEventListener("DOMContentLoaded", () => {
         <div class="inquiry-list-msgs">
           <div class="inquiry-list-seller_nickname">
             ${room.sellerNickname}
-            ${room.hasNew ? `<span class="new-label">NEW</span>` : ""}
-          </div>
-          <div class="inquiry-list-last_msg">
-            ${room.lastMessage ?? ""}
+            ${newLabel(room.unreadCount)}
           </div>
+          <div class="inquiry-list-last_msg"></div>
         </div>
       `;
 
+      // 미리보기는 사용자 입력이므로 텍스트로만 넣는다
+      row.querySelector(".inquiry-list-last_msg").textContent =
+        room.lastMessage ?? "";
+
       // 클릭 → 채팅 팝업 열기
       const openChat = () => {
         window.open(
@@ -116,6 +120,27 @@ document.addEventListener("DOMContentLoaded", () => {
     });
   }
 
+  // 안 읽은 메시지 수 표시
+  function newLabel(count) {
+    return count > 0 ? `<span class="new-label">NEW ${count}</span>` : "";
+  }
+
+  // 방 요약 이벤트 반영 (마지막 메시지 / 안 읽음 수 갱신 후 맨 위로), 행이 없으면 false
+  function applySummary(summary) {
+    const row = listProgress.querySelector(
+      `.inquiry-row[data-room-id="${summary.roomId}"]`
+    );
+    if (!row) return false;
+
+    row.querySelector(".inquiry-list-last_msg").textContent =
+      summary.lastMessage ?? "";
+    const nickEl = row.querySelector(".inquiry-list-seller_nickname");
+    nickEl.querySelector(".new-label")?.remove();
+    nickEl.insertAdjacentHTML("beforeend", newLabel(summary.unreadCount));
+    listProgress.prepend(row);
+    return true;
+  }
+
   // ===== 탭 메뉴 클릭 =====
   document.querySelectorAll(".tab-button").forEach((btn) => {
     btn.addEventListener("click", () => {
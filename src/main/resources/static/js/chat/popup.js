@@ -24,6 +24,28 @@ if (role !== "SELLER" && endBtn) {
 }
 
 let stomp = null;
+let everConnected = false;
+
+// ====== 전송 대기 메시지 (clientMsgId → payload) ======
+// 서버 에코를 받기 전까지 보관했다가 재연결 시 같은 clientMsgId 로 다시 보낸다 (서버가 중복 제거)
+const outbox = new Map();
+function newClientMsgId() {
+  if (window.crypto?.randomUUID) return crypto.randomUUID();
+  return `${senderId}-${Date.now()}-${Math.random().toString(36).slice(2, 10)}`;
+}
+function sendChat(payload) {
+  outbox.set(payload.clientMsgId, payload);
+  if (stomp && stomp.connected) {
+    stomp.send(`/app/chat/rooms/${roomId}`, {}, JSON.stringify(payload));
+  }
+}
+
+// ====== 이력 페이징 상태 ======
+const PAGE_SIZE = 30;
+let participants = null; // 방 참여자 (첫 페이지에 한 번만 내려옴)
+let oldestMsgId = null; // 다음 요청의 before
+let hasMore = true;
+let loadingHistory = false;
 
 // ====== 유틸 ======
 const pad = (n) => String(n).padStart(2, "0");
@@ -44,28 +66,33 @@ function scrollToBottom() {
 }
 
 // ====== 메시지 렌더링 ======
+// 상대방 프로필/닉네임은 메시지가 아니라 방 참여자 정보에서 가져온다
+function counterpart() {
+  if (!participants) return { nickname: null, imageUrl: null };
+  return role === "BUYER"
+    ? { nickname: participants.sellerNickname, imageUrl: participants.sellerImageUrl }
+    : { nickname: participants.buyerNickname, imageUrl: participants.buyerImageUrl };
+}
+
 function renderMessage(msg) {
-  console.log("🖼️ renderMessage 호출:", msg);
+  // 재전송/재연결로 같은 메시지가 다시 오면 한 번만 그린다
+  if (list.querySelector(`.item[data-id="${msg.msgId}"]`)) return;
+  list.appendChild(buildMessage(msg));
+  scrollToBottom();
+}
+
+function buildMessage(msg) {
   const mine = msg.senderId == senderId;
   const wrap = document.createElement("div");
   wrap.className = `item ${mine ? "me" : "them"}`;
   wrap.dataset.id = msg.msgId;
+  if (msg.clientMsgId) wrap.dataset.clientId = msg.clientMsgId;
 
   if (!mine) {
     const profile = document.createElement("img");
     profile.className = "profile";
-
-    if (role === "BUYER") {
-      // 내가 구매자 → 상대는 판매자
-      profile.src = msg.seller_profileImage
-        ? `data:image/jpeg;base64,${msg.seller_profileImage}`
-        : "/img/default-profile.png";
-    } else if (role === "SELLER") {
-      // 내가 판매자 → 상대는 구매자
-      profile.src = msg.buyer_profileImage
-        ? `data:image/jpeg;base64,${msg.buyer_profileImage}`
-        : "/img/default-profile.png";
-    }
+    profile.loading = "lazy";
+    profile.src = counterpart().imageUrl || "/img/default-profile.png";
 
     wrap.appendChild(profile);
   }
@@ -78,9 +105,9 @@ function renderMessage(msg) {
     nick.className = "nickname";
 
     if (role === "BUYER") {
-      nick.textContent = msg.seller_nickname || "상대방";
+      nick.textContent = counterpart().nickname || msg.seller_nickname || "상대방";
     } else if (role === "SELLER") {
-      nick.textContent = msg.buyer_nickname || "상대방";
+      nick.textContent = counterpart().nickname || msg.buyer_nickname || "상대방";
     }
 
     msgBox.appendChild(nick);
@@ -109,10 +136,118 @@ function renderMessage(msg) {
   msgBox.appendChild(time);
 
   wrap.appendChild(msgBox);
-  list.appendChild(wrap);
-  scrollToBottom();
+  return wrap;
+}
+
+// ====== 이력 불러오기 (keyset 페이징) ======
+async function fetchHistory(before) {
+  const qs = new URLSearchParams({ limit: PAGE_SIZE });
+  if (before != null) qs.set("before", before);
+  const r = await fetch(`/api/chat/rooms/${roomId}/messages?${qs}`);
+  if (!r.ok) throw new Error(`history ${r.status}`);
+  return r.json();
+}
+
+// 첫 페이지: 참여자 정보 저장 + 최신 메시지 렌더링 + 마지막 메시지 읽음 처리
+async function loadLatest() {
+  loadingHistory = true;
+  try {
+    const page = await fetchHistory(null);
+    participants = page.participants || null;
+    hasMore = !!page.hasMore;
+
+    const arr = page.messages || [];
+    if (arr.length) oldestMsgId = arr[0].msgId;
+    const frag = document.createDocumentFragment();
+    arr.forEach((m) => frag.appendChild(buildMessage(m)));
+    list.prepend(frag);
+    scrollToBottom();
+
+    const last = arr[arr.length - 1];
+    if (last && last.senderId != senderId) {
+      console.log("📡 방 입장: 마지막 메시지 읽음 처리", last.msgId);
+      stomp.send(
+        `/app/chat/rooms/${roomId}/read`,
+        {},
+        JSON.stringify({
+          roomId,
+          readerId: senderId,
+          lastReadMessageId: last.msgId,
+        })
+      );
+    }
+  } catch (err) {
+    console.error("❌ 이력 조회 중 오류:", err);
+  } finally {
+    loadingHistory = false;
+  }
+}
+
+// 재연결 시: 끊긴 동안 온 메시지(마지막으로 그린 msgId 이후)를 최신 페이지부터 거슬러 받아 뒤에 붙인다
+async function loadNewer() {
+  const rendered = [...list.querySelectorAll(".item[data-id]")].map((el) => Number(el.dataset.id));
+  if (!rendered.length) return loadLatest();
+  const newest = Math.max(...rendered);
+
+  const missed = [];
+  let before = null;
+  try {
+    while (true) {
+      const page = await fetchHistory(before);
+      const arr = page.messages || [];
+      const newer = arr.filter((m) => m.msgId > newest);
+      missed.unshift(...newer);
+      if (!arr.length || newer.length < arr.length || !page.hasMore) break;
+      before = arr[0].msgId;
+    }
+  } catch (err) {
+    console.error("❌ 재연결 후 메시지 조회 중 오류:", err);
+    return;
+  }
+
+  missed.forEach(renderMessage);
+  const last = missed[missed.length - 1];
+  if (last && last.senderId != senderId) {
+    stomp.send(
+      `/app/chat/rooms/${roomId}/read`,
+      {},
+      JSON.stringify({
+        roomId,
+        readerId: senderId,
+        lastReadMessageId: last.msgId,
+      })
+    );
+  }
+}
+
+// 위로 스크롤 시 더 오래된 페이지를 앞에 붙인다 (보던 위치 유지)
+async function loadOlder() {
+  if (loadingHistory || !hasMore || oldestMsgId == null) return;
+  loadingHistory = true;
+  try {
+    const page = await fetchHistory(oldestMsgId);
+    hasMore = !!page.hasMore;
+
+    const arr = page.messages || [];
+    if (!arr.length) return;
+    oldestMsgId = arr[0].msgId;
+
+    const prevHeight = list.scrollHeight;
+    const frag = document.createDocumentFragment();
+    arr.forEach((m) => frag.appendChild(buildMessage(m)));
+    list.prepend(frag);
+    list.scrollTop += list.scrollHeight - prevHeight;
+  } catch (err) {
+    console.error("❌ 이전 메시지 조회 중 오류:", err);
+  } finally {
+    loadingHistory = false;
+  }
 }
 
+list.addEventListener("scroll", () => {
+  if (list.scrollTop < 80) loadOlder();
+});
+
 // ====== 시스템 메시지 렌더링 ======
 function renderSystemMessage(text) {
   const wrap = document.createElement("div");
@@ -141,6 +276,8 @@ function connect() {
     {},
     () => {
       console.log("✅ STOMP connected");
+      const reconnected = everConnected;
+      everConnected = true;
 
       // 1) 메시지 구독
       stomp.subscribe(`/topic/chat/rooms/${roomId}`, (frame) => {
@@ -183,7 +320,36 @@ function connect() {
             return;
           }
 
-          // 기본 메시지 처리
+          // 👉 서버가 저장할 수 없다고 거부한 메시지 (빈 내용/길이 초과 등) → 다시 보내지 않는다
+          if (body.type === "REJECTED") {
+            if (body.senderId == senderId) {
+              outbox.delete(body.clientMsgId);
+              renderSystemMessage(`메시지를 보내지 못했습니다. (${body.content})`);
+            }
+            return;
+          }
+
+          // 👉 이미 저장된 메시지의 재전송이 새 번호로 먼저 전송된 경우 → 실제 번호의 말풍선 하나만 남긴다
+          if (body.type === "DUPLICATE") {
+            outbox.delete(body.clientMsgId);
+            let kept = list.querySelector(`.item[data-id="${body.msgId}"]`);
+            list.querySelectorAll(".item[data-client-id]").forEach((el) => {
+              if (el.dataset.clientId !== body.clientMsgId || el === kept) return;
+              if (kept) {
+                el.remove();
+              } else {
+                el.dataset.id = body.msgId;
+                kept = el;
+              }
+            });
+            return;
+          }
+
+          // 목록 갱신 이벤트는 팝업에서 무시 (판매자 목록 채널과 방 ID 가 겹치는 경우)
+          if (body.type === "ROOM_SUMMARY") return;
+
+          // 기본 메시지 처리 (내가 보낸 메시지의 에코면 전송 대기에서 제거)
+          if (body.clientMsgId) outbox.delete(body.clientMsgId);
           renderMessage(body);
 
           if (body.senderId != senderId) {
@@ -235,37 +401,23 @@ function connect() {
       });
 
       // 3) 최근 메시지 불러오기 + 방 입장 시 읽음 처리
-      fetch(`/api/chat/rooms/${roomId}/messages?limit=30`)
-        .then((r) => {
-          console.log("📡 fetch 응답 상태:", r.status);
-          return r.ok ? r.json() : [];
-        })
-        .then((arr) => {
-          console.log("📜 fetch로 받은 메시지 배열:", arr);
-          if (Array.isArray(arr)) {
-            arr.forEach(renderMessage);
-
-            const last = arr[arr.length - 1];
-            if (last && last.senderId != senderId) {
-              console.log("📡 방 입장: 마지막 메시지 읽음 처리", last.msgId);
-              stomp.send(
-                `/app/chat/rooms/${roomId}/read`,
-                {},
-                JSON.stringify({
-                  roomId,
-                  readerId: senderId,
-                  lastReadMessageId: last.msgId,
-                })
-              );
-            }
-          }
-        })
-        .catch((err) => {
-          console.error("❌ fetch 중 오류:", err);
-        });
+      //    (재연결이면 끊긴 동안 온 메시지를 받아 붙이고, 못 보낸 메시지를 다시 전송)
+      if (reconnected) {
+        loadNewer();
+        outbox.forEach((payload) =>
+          stomp.send(`/app/chat/rooms/${roomId}`, {}, JSON.stringify(payload))
+        );
+      } else {
+        loadLatest();
+      }
     },
     (err) => {
       console.error("[stomp error]", err);
+      if (everConnected) {
+        // 연결이 끊긴 경우 잠시 후 재연결
+        setTimeout(connect, 3000);
+        return;
+      }
       alert("채팅 서버 연결에 실패했습니다. 잠시 후 다시 시도해주세요.");
     }
   );
@@ -276,9 +428,15 @@ function sendText() {
   const content = input.value.trim();
   if (!content || !stomp || !stomp.connected) return;
 
-  const payload = { roomId, senderId, content, type: "TEXT" };
+  const payload = {
+    roomId,
+    senderId,
+    content,
+    type: "TEXT",
+    clientMsgId: newClientMsgId(),
+  };
   console.log("✉️ 텍스트 전송:", payload);
-  stomp.send(`/app/chat/rooms/${roomId}`, {}, JSON.stringify(payload));
+  sendChat(payload);
   input.value = "";
 }
 
@@ -297,9 +455,15 @@ async function sendImage(file) {
       return;
     }
     const { imageUrl } = await res.json();
-    const payload = { roomId, senderId, content: imageUrl, type: "IMAGE" };
+    const payload = {
+      roomId,
+      senderId,
+      content: imageUrl,
+      type: "IMAGE",
+      clientMsgId: newClientMsgId(),
+    };
     console.log("🖼️ 이미지 전송:", payload);
-    stomp.send(`/app/chat/rooms/${roomId}`, {}, JSON.stringify(payload));
+    sendChat(payload);
   } catch (err) {
     console.error("이미지 전송 실패:", err);
     alert("이미지 전송 중 오류가 발생했습니다.");
@@ -160,9 +160,7 @@ function renderOneItem(item, listNumber) {
   const detailTag = tagsAll.join('  ');
   const content   = item.content ?? '';
   const option    = item.optionType ?? '';
-  const imgUrl = item.productImageId
-    ? `/api/review/product-images/${item.productImageId}`
-    : '/img/no-img.png';
+  const imgUrl = item.productImageUrl ?? '/img/no-img.png';
 
   // 이미지 스킵(빈 이미지 박스만 유지)
   const html = `
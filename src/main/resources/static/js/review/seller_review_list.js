@@ -161,9 +161,7 @@ function renderOneItem(item, listNumber) {
   const detailTag = tagsAll.join('  ');
   const content   = item.content ?? '';
   const option    = item.optionType ?? '';
-  const imgUrl = item.productImageId
-    ? `/api/review/product-images/${item.productImageId}`
-    : '/img/no-img.png';
+  const imgUrl = item.productImageUrl ?? '/img/no-img.png';
   const isNew     = isNewWithinDays(item.rcreate, 3);
   const newMark   = isNew ? '<span class="badge new">NEW</span>' : '';
   const buyerTxt = item.nickname ? `구매자 ${item.nickname}` : '';
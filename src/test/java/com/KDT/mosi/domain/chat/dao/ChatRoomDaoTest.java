@@ -0,0 +1,55 @@
+package com.KDT.mosi.domain.chat.dao;
+
+import com.KDT.mosi.domain.dto.chat.ChatRoomMeta;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+@SpringBootTest
+@Slf4j
+class ChatRoomDaoTest {
+
+  @Autowired
+  ChatRoomDao chatRoomDao;
+
+  @Autowired
+  NamedParameterJdbcTemplate jdbc;
+
+  @Test
+  @DisplayName("채팅방 메타데이터 조회 (SELLER_PAGE.PAGE_ID 로 프로필 URL 생성)")
+  void findMeta() {
+    List<Long> roomIds = jdbc.queryForList(
+        "SELECT room_id FROM chat_room ORDER BY room_id FETCH FIRST 1 ROWS ONLY",
+        new MapSqlParameterSource(), Long.class);
+    assumeFalse(roomIds.isEmpty(), "채팅방 데이터가 없습니다.");
+
+    ChatRoomMeta meta = chatRoomDao.findMeta(roomIds.get(0));
+    log.info("meta={}", meta);
+
+    assertThat(meta).isNotNull();
+    assertThat(meta.roomId()).isEqualTo(roomIds.get(0));
+    assertThat(meta.status()).isIn("ACTIVE", "CLOSED");
+    assertThat(chatRoomDao.findStatus(roomIds.get(0))).isEqualTo(meta.status());
+    if (meta.sellerImageUrl() != null) {
+      Long pageId = jdbc.queryForObject("SELECT page_id FROM seller_page WHERE member_id = :mid",
+          new MapSqlParameterSource("mid", meta.sellerId()), Long.class);
+      assertThat(meta.sellerImageUrl()).isEqualTo("/mypage/seller/images/profile/" + pageId + "?size=thumb");
+    }
+  }
+
+  @Test
+  @DisplayName("없는 채팅방은 null")
+  void findMetaMissing() {
+    assertThat(chatRoomDao.findMeta(-1L)).isNull();
+    assertThat(chatRoomDao.findStatus(-1L)).isNull();
+  }
+}
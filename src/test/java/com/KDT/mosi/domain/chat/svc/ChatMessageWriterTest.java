@@ -0,0 +1,219 @@
+package com.KDT.mosi.domain.chat.svc;
+
+import com.KDT.mosi.domain.chat.dao.ChatMessageDao;
+import com.KDT.mosi.domain.chat.dao.ChatRoomDao;
+import com.KDT.mosi.domain.dto.chat.ChatMessageDto;
+import com.KDT.mosi.domain.dto.chat.ChatMessageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+class ChatMessageWriterTest {
+
+  private ChatMessageDao messageDao;
+  private ChatRoomDao roomDao;
+  private ChatRoomSummaryPublisher summaryPublisher;
+  private SimpMessagingTemplate messaging;
+  private ChatMessageWriter writer;
+
+  // insertBatch 로 넘어온 메시지 (저장된 순서대로)
+  private final List<ChatMessageResponse> inserted = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    messageDao = Mockito.mock(ChatMessageDao.class);
+    roomDao = Mockito.mock(ChatRoomDao.class);
+    summaryPublisher = Mockito.mock(ChatRoomSummaryPublisher.class);
+    messaging = Mockito.mock(SimpMessagingTemplate.class);
+
+    AtomicLong seq = new AtomicLong();
+    given(messageDao.nextIds(anyInt())).willAnswer(inv -> {
+      int cnt = inv.getArgument(0);
+      long from = seq.getAndAdd(cnt) + 1;
+      return LongStream.range(from, from + cnt).boxed().toList();
+    });
+    given(messageDao.insertBatch(anyList())).willAnswer(inv -> {
+      List<ChatMessageResponse> batch = inv.getArgument(0);
+      if (batch.stream().anyMatch(m -> m.content().isEmpty())) {
+        // CONTENT NOT NULL 위반 (Oracle 은 '' 를 NULL 로 저장)
+        throw new DataIntegrityViolationException("ORA-01400");
+      }
+      synchronized (inserted) {
+        inserted.addAll(batch);
+      }
+      int[] counts = new int[batch.size()];
+      Arrays.fill(counts, 1);
+      return counts;
+    });
+
+    writer = new ChatMessageWriter(messageDao, roomDao,
+        new ChatMessageIdAllocator(messageDao, 10, "simple"),
+        summaryPublisher,
+        messaging,
+        new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+        100, 20, 50, 1000);
+  }
+
+  @Test
+  @DisplayName("같은 clientMsgId 로 다시 보내면 처음 발급한 메시지를 돌려주고 한 번만 저장한다")
+  void duplicateSubmitReturnsSameMessage() throws Exception {
+    writer.start();
+
+    ChatMessageResponse first = writer.submit(draft(1L, "c-1"));
+    ChatMessageResponse retry = writer.submit(draft(1L, "c-1"));
+    writer.shutdown();
+
+    assertThat(retry.msgId()).isEqualTo(first.msgId());
+    assertThat(inserted).extracting(ChatMessageResponse::clientMsgId).containsExactly("c-1");
+    assertThat(writer.getDuplicates()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("접수된 메시지는 종료 전에 모두 발급 순서대로 저장되고 방 요약이 push 된다")
+  void flushesEverythingOnShutdown() throws Exception {
+    writer.start();
+
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      ids.add(writer.submit(draft(i % 3 + 1L, "c-" + i)).msgId());
+    }
+    writer.shutdown();
+
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+    assertThat(inserted).extracting(ChatMessageResponse::msgId).containsExactlyElementsOf(ids);
+    assertThat(writer.getWritten()).isEqualTo(250);
+    Mockito.verify(summaryPublisher, Mockito.atLeastOnce()).publish(3L);
+  }
+
+  @Test
+  @DisplayName("저장 스레드가 없으면 호출 스레드에서 바로 저장한다")
+  void writesDirectlyWhenNotRunning() {
+    ChatMessageResponse saved = writer.submit(draft(5L, "c-direct"));
+
+    assertThat(inserted).containsExactly(saved);
+    assertThat(writer.getDirectWrites()).isEqualTo(1);
+    Mockito.verify(roomDao).applyMessages(List.of(saved));
+    Mockito.verify(summaryPublisher).publish(5L);
+  }
+
+  @Test
+  @DisplayName("여러 인스턴스(relay)에서는 번호를 한 개씩 받아 시퀀스 순서대로 발급한다")
+  void relayModeAllocatesOneByOne() {
+    assertThat(new ChatMessageIdAllocator(messageDao, 100, "relay").getBlockSize()).isEqualTo(1);
+    assertThat(new ChatMessageIdAllocator(messageDao, 100, "simple").getBlockSize()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("직접 저장이 실패하면 같은 clientMsgId 재전송을 다시 저장한다")
+  void failedDirectWriteIsNotRemembered() {
+    given(messageDao.insertBatch(anyList()))
+        .willThrow(new DataAccessResourceFailureException("down"))
+        .willReturn(new int[]{1});
+
+    assertThatThrownBy(() -> writer.submit(draft(5L, "c-retry")))
+        .isInstanceOf(DataAccessResourceFailureException.class);
+    ChatMessageResponse resent = writer.submit(draft(5L, "c-retry"));
+
+    assertThat(writer.getDuplicates()).isZero();
+    Mockito.verify(roomDao).applyMessages(List.of(resent));
+  }
+
+  @Test
+  @DisplayName("데이터 오류가 난 배치는 한 건씩 다시 저장해 잘못된 메시지만 버린다")
+  void dropsOnlyBadRows() throws Exception {
+    writer.start();
+
+    ChatMessageResponse good1 = writer.submit(draft(1L, "c-1"));
+    writer.submit(draft(1L, "c-bad", ""));
+    ChatMessageResponse good2 = writer.submit(draft(1L, "c-2"));
+    writer.shutdown();
+
+    assertThat(inserted).containsExactly(good1, good2);
+    assertThat(writer.getDropped()).isEqualTo(1);
+    // 버린 메시지는 중복 확인 목록에서도 빠진다 (재전송이 캐시된 메시지를 받지 않고 다시 저장을 시도)
+    assertThatThrownBy(() -> writer.submit(draft(1L, "c-bad", "")))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  @Test
+  @DisplayName("번호 발급이 실패하면 잡아 둔 clientMsgId 자리를 비워 재전송을 다시 받는다")
+  void failedAllocationReleasesClaim() {
+    given(messageDao.nextIds(anyInt()))
+        .willThrow(new DataAccessResourceFailureException("down"))
+        .willReturn(List.of(1L));
+    given(messageDao.insertBatch(anyList())).willReturn(new int[]{1});
+
+    assertThatThrownBy(() -> writer.submit(draft(5L, "c-seq")))
+        .isInstanceOf(DataAccessResourceFailureException.class);
+
+    assertThat(writer.submit(draft(5L, "c-seq")).msgId()).isEqualTo(1L);
+    assertThat(writer.getDuplicates()).isZero();
+  }
+
+  @Test
+  @DisplayName("DB 에만 남은 중복(UK_CHATMSG_CLIENT)은 저장된 실제 번호로 돌려준다")
+  void directWriteReturnsStoredIdForDbDuplicate() {
+    given(messageDao.insertBatch(anyList())).willReturn(new int[]{0});
+    given(messageDao.findIdsByClientMsgIds(List.of("c-old"))).willReturn(Map.of("c-old", 7L));
+
+    ChatMessageResponse resent = writer.submit(draft(5L, "c-old"));
+
+    assertThat(resent.msgId()).isEqualTo(7L);
+    assertThat(writer.submit(draft(5L, "c-old")).msgId()).isEqualTo(7L);
+    Mockito.verify(roomDao, Mockito.never()).applyMessages(anyList());
+  }
+
+  @Test
+  @DisplayName("이미 브로드캐스트된 중복은 방에 실제 번호를 DUPLICATE 로 알린다")
+  void announcesDbDuplicate() throws Exception {
+    given(messageDao.insertBatch(anyList())).willReturn(new int[]{0});
+    given(messageDao.findIdsByClientMsgIds(List.of("c-old"))).willReturn(Map.of("c-old", 7L));
+    writer.start();
+
+    ChatMessageResponse broadcast = writer.submit(draft(5L, "c-old"));
+    writer.shutdown();
+
+    assertThat(broadcast.msgId()).isNotEqualTo(7L);
+    Mockito.verify(messaging).convertAndSend(eq("/topic/chat/rooms/5"), argThat((Object o) ->
+        o instanceof ChatMessageDto dto && "DUPLICATE".equals(dto.getType())
+            && dto.getMsgId() == 7L && "c-old".equals(dto.getClientMsgId())));
+  }
+
+  @Test
+  @DisplayName("연결 오류는 일시적 오류, 제약 위반은 데이터 오류로 본다")
+  void classifiesFailures() {
+    assertThat(ChatMessageWriter.isTransient(new DataAccessResourceFailureException("down"))).isTrue();
+    assertThat(ChatMessageWriter.isTransient(new DataIntegrityViolationException("ORA-02291"))).isFalse();
+  }
+
+  private static ChatMessageResponse draft(Long roomId, String clientMsgId) {
+    return draft(roomId, clientMsgId, "hi");
+  }
+
+  private static ChatMessageResponse draft(Long roomId, String clientMsgId, String content) {
+    return new ChatMessageResponse(null, roomId, 10L, content, LocalDateTime.now(), false,
+        null, null, clientMsgId);
+  }
+}
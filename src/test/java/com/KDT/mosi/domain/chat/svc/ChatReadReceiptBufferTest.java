@@ -0,0 +1,42 @@
+package com.KDT.mosi.domain.chat.svc;
+
+import com.KDT.mosi.domain.dto.chat.ReadEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatReadReceiptBufferTest {
+
+  private final ChatReadReceiptBuffer buffer = new ChatReadReceiptBuffer();
+
+  @Test
+  @DisplayName("같은 방/읽은 사람의 이벤트는 최댓값 하나로 합쳐진다")
+  void coalescesToMax() {
+    buffer.offer(1L, 10L, 5L);
+    buffer.offer(1L, 10L, 9L);
+    buffer.offer(1L, 10L, 7L);
+    buffer.offer(1L, 20L, 3L);
+
+    List<ReadEvent> drained = buffer.drain();
+
+    assertThat(drained).containsExactlyInAnyOrder(
+        new ReadEvent(1L, 10L, 9L),
+        new ReadEvent(1L, 20L, 3L));
+    assertThat(buffer.drain()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("restore 는 그 사이 들어온 더 큰 값을 덮어쓰지 않는다")
+  void restoreKeepsNewerValue() {
+    buffer.offer(1L, 10L, 5L);
+    List<ReadEvent> drained = buffer.drain();
+
+    buffer.offer(1L, 10L, 8L);
+    drained.forEach(buffer::restore);
+
+    assertThat(buffer.drain()).containsExactly(new ReadEvent(1L, 10L, 8L));
+  }
+}
@@ -0,0 +1,57 @@
+package com.KDT.mosi.domain.image.svc;
+
+import com.KDT.mosi.domain.entity.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageResizerTest {
+
+  private final ImageResizer imageResizer = new ImageResizer();
+
+  @Test
+  @DisplayName("긴 변 기준으로 규격별 축소, 비율 유지")
+  void resizeAll() throws IOException {
+    List<ImageVariant> variants = imageResizer.resizeAll(png(2000, 1000));
+
+    assertThat(variants).extracting(ImageVariant::getVariant)
+        .containsExactly("THUMB", "CARD", "FULL");
+    assertThat(variants).extracting(ImageVariant::getWidth).containsExactly(160, 480, 1280);
+    assertThat(variants).extracting(ImageVariant::getHeight).containsExactly(80, 240, 640);
+
+    BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(variants.get(0).getImageData()));
+    assertThat(decoded.getWidth()).isEqualTo(160);
+    assertThat(variants.get(0).getMimeType()).isEqualTo("image/jpeg");
+  }
+
+  @Test
+  @DisplayName("원본보다 큰 규격은 확대하지 않음")
+  void noUpscale() throws IOException {
+    List<ImageVariant> variants = imageResizer.resizeAll(png(300, 200));
+
+    assertThat(variants).extracting(ImageVariant::getWidth).containsExactly(160, 300, 300);
+  }
+
+  @Test
+  @DisplayName("이미지가 아니면 IOException")
+  void notImage() {
+    assertThatThrownBy(() -> imageResizer.resizeAll("not an image".getBytes()))
+        .isInstanceOf(IOException.class);
+  }
+
+  private byte[] png(int width, int height) throws IOException {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    return out.toByteArray();
+  }
+}
@@ -1,6 +1,7 @@
 package com.KDT.mosi.domain.mypage.buyer.svc;
 
 import com.KDT.mosi.domain.entity.BuyerPage;
+import com.KDT.mosi.domain.image.svc.ImageVariantSVC;
 import com.KDT.mosi.domain.member.dao.MemberDAO;
 import com.KDT.mosi.domain.mypage.buyer.dao.BuyerPageDAO;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +24,7 @@ class BuyerPageSVCImplTest {
   @BeforeEach
   void setup() {
     buyerPageDAO = Mockito.mock(BuyerPageDAO.class);
-    buyerPageSVC = new BuyerPageSVCImpl(buyerPageDAO, memberDAO);
+    buyerPageSVC = new BuyerPageSVCImpl(buyerPageDAO, memberDAO, Mockito.mock(ImageVariantSVC.class));
   }
 
   @Test
@@ -0,0 +1,139 @@
+package com.KDT.mosi.domain.order.svc;
+
+import com.KDT.mosi.domain.cart.repository.CartItemRepository;
+import com.KDT.mosi.domain.entity.Product;
+import com.KDT.mosi.domain.entity.cart.CartItem;
+import com.KDT.mosi.domain.entity.order.Order;
+import com.KDT.mosi.domain.member.dao.MemberDAO;
+import com.KDT.mosi.domain.order.dao.OrderCodeCounterDAO;
+import com.KDT.mosi.domain.order.dto.OrderResponse;
+import com.KDT.mosi.domain.order.repository.OrderItemRepository;
+import com.KDT.mosi.domain.order.repository.OrderRepository;
+import com.KDT.mosi.domain.order.request.OrderFormRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+class OrderSVCImplTest {
+
+  private static final int ORDER_COUNT = 5000;
+
+  private OrderRepository orderRepository;
+  private OrderItemHydrator orderItemHydrator;
+  private OrderSVC orderSVC;
+
+  private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+  private final Queue<String> savedCodes = new ConcurrentLinkedQueue<>();
+
+  @BeforeEach
+  void setup() {
+    orderRepository = Mockito.mock(OrderRepository.class);
+    OrderItemRepository orderItemRepository = Mockito.mock(OrderItemRepository.class);
+    CartItemRepository cartItemRepository = Mockito.mock(CartItemRepository.class);
+    MemberDAO memberDAO = Mockito.mock(MemberDAO.class);
+    orderItemHydrator = Mockito.mock(OrderItemHydrator.class);
+
+    // DB 카운터 대역: 접두어별로 blockSize 만큼 원자적으로 증가
+    OrderCodeCounterDAO counterDAO = (codePrefix, blockSize) ->
+        counters.computeIfAbsent(codePrefix, k -> new AtomicLong()).addAndGet(blockSize);
+    OrderCodeGenerator orderCodeGenerator = new OrderCodeGenerator(counterDAO, 20);
+
+    orderSVC = new OrderSVCImpl(orderRepository, orderItemRepository, cartItemRepository,
+        memberDAO, orderItemHydrator, orderCodeGenerator);
+
+    CartItem cartItem = new CartItem();
+    cartItem.setCartItemId(1L);
+    cartItem.setProductId(100L);
+    cartItem.setSellerId(7L);
+    cartItem.setQuantity(1L);
+    cartItem.setOptionType("기본코스");
+    cartItem.setSalePrice(10000L);
+    cartItem.setOriginalPrice(12000L);
+    given(cartItemRepository.findAllById(List.of(1L))).willReturn(List.of(cartItem));
+
+    Product product = new Product();
+    product.setProductId(100L);
+    product.setTitle("부산 야경 코스");
+    product.setStatus("판매중");
+    product.setSalesPrice(10000);
+    product.setNormalPrice(12000);
+    given(orderItemHydrator.hydrate(anyList(), any(), any())).willReturn(
+        new OrderItemHydrator.Lines(Map.of(100L, product), Map.of(), Map.of()));
+
+    given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
+      Order order = invocation.getArgument(0);
+      order.setOrderId((long) savedCodes.size());
+      savedCodes.add(order.getOrderCode());
+      return order;
+    });
+  }
+
+  @Test
+  @DisplayName("동시 주문 생성 시 주문번호 중복 없음")
+  void createOrderConcurrently() throws Exception {
+    // given
+    OrderFormRequest request = new OrderFormRequest();
+    request.setCartItemIds(List.of(1L));
+    request.setTotalAmount(10000L);
+
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<OrderResponse>> futures = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        return orderSVC.createOrder(1L, request);
+      }));
+    }
+    start.countDown();
+
+    Set<String> responseCodes = new HashSet<>();
+    for (Future<OrderResponse> future : futures) {
+      responseCodes.add(future.get(30, TimeUnit.SECONDS).getOrderCode());
+    }
+    executor.shutdown();
+
+    // then
+    String prefix = "MOSI-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
+    assertThat(responseCodes).hasSize(ORDER_COUNT);
+    assertThat(savedCodes).hasSize(ORDER_COUNT).doesNotHaveDuplicates();
+    assertThat(responseCodes).allMatch(code -> code.matches(prefix.replace("-", "\\-") + "\\d{3,}"));
+  }
+
+  @Test
+  @DisplayName("주문번호는 블록 단위로 예약되고 단조 증가")
+  void orderCodeMonotonic() {
+    // given
+    List<Integer> reservedBlocks = new ArrayList<>();
+    OrderCodeGenerator generator = new OrderCodeGenerator((codePrefix, blockSize) -> {
+      reservedBlocks.add(blockSize);
+      return counters.computeIfAbsent(codePrefix, k -> new AtomicLong(41)).addAndGet(blockSize);
+    }, 5);
+
+    // when
+    List<Long> seqs = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      String code = generator.next();
+      seqs.add(Long.parseLong(code.substring(code.lastIndexOf('-') + 1)));
+    }
+
+    // then
+    assertThat(reservedBlocks).hasSize(3);
+    assertThat(seqs.get(0)).isEqualTo(42L);
+    assertThat(seqs).isSorted().doesNotHaveDuplicates();
+  }
+}
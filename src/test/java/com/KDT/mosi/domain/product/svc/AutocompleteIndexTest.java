@@ -0,0 +1,59 @@
+package com.KDT.mosi.domain.product.svc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+
+  @Test
+  @DisplayName("음절을 자모로 분해, 겹받침/겹모음은 입력 순서대로 분리")
+  void decompose() {
+    assertThat(HangulJamo.decompose("캠핑")).isEqualTo("ㅋㅐㅁㅍㅣㅇ");
+    assertThat(HangulJamo.decompose("닭 과자")).isEqualTo("ㄷㅏㄹㄱ ㄱㅗㅏㅈㅏ");
+    assertThat(HangulJamo.decompose("  Jeju   Trip ")).isEqualTo("jeju trip");
+    assertThat(HangulJamo.decompose("ㄳ")).isEqualTo("ㄱㅅ");
+  }
+
+  @Test
+  @DisplayName("입력 중인 음절(받침이 다음 글자 초성)도 접두어로 매칭")
+  void suggestWhileComposing() {
+    AutocompleteIndex index = AutocompleteIndex.build(Map.of("캐미 여행", 3L, "캠핑", 5L, "카페", 1L), 10, false);
+
+    assertThat(index.suggest("캠", 5)).containsExactly("캠핑", "캐미 여행");
+    assertThat(index.suggest("캐", 5)).containsExactly("캠핑", "캐미 여행");
+    assertThat(index.suggest("ㅋ", 5)).containsExactly("캠핑", "캐미 여행", "카페");
+    assertThat(index.suggest("카", 5)).containsExactly("카페");
+    assertThat(index.suggest("", 2)).containsExactly("캠핑", "캐미 여행");
+    assertThat(index.suggest("부산", 5)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("긴 접두어는 정렬 키 범위에서 점수순 상위 k개")
+  void suggestLongPrefix() {
+    Map<String, Long> counts = new HashMap<>();
+    for (int i = 0; i < 30; i++) {
+      counts.put("제주도 캠핑 " + i, (long) i);
+    }
+    counts.put("제주도 카페", 100L);
+    AutocompleteIndex index = AutocompleteIndex.build(counts, 10, false);
+
+    assertThat(index.suggest("제주도 캠핑", 3)).containsExactly("제주도 캠핑 29", "제주도 캠핑 28", "제주도 캠핑 27");
+    assertThat(index.suggest("제주도 캠핑 1", 20)).containsExactly(
+        "제주도 캠핑 19", "제주도 캠핑 18", "제주도 캠핑 17", "제주도 캠핑 16", "제주도 캠핑 15",
+        "제주도 캠핑 14", "제주도 캠핑 13", "제주도 캠핑 12", "제주도 캠핑 11", "제주도 캠핑 10");
+  }
+
+  @Test
+  @DisplayName("wordSuffixes 면 제목 중간 단어로도 매칭, 같은 제목은 한 번만")
+  void suggestWordSuffixes() {
+    AutocompleteIndex index = AutocompleteIndex.build(Map.of("제주 캠핑 캠프", 1L, "강릉 바다", 1L), 10, true);
+
+    assertThat(index.suggest("캠", 5)).containsExactly("제주 캠핑 캠프");
+    assertThat(index.suggest("바다", 5)).containsExactly("강릉 바다");
+  }
+}
@@ -0,0 +1,91 @@
+package com.KDT.mosi.domain.product.svc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTrendCounterTest {
+
+  private final SearchTrendCounter counter = new SearchTrendCounter();
+  private final LocalDate today = LocalDate.of(2025, 1, 1);
+
+  @Test
+  @DisplayName("drain 은 쌓인 값을 돌려주고 초기화")
+  void drain() {
+    counter.increment("캠핑", today);
+    counter.increment("캠핑", today);
+    counter.increment("제주", today);
+
+    Map<SearchTrendCounter.TrendKey, Long> drained = counter.drain(today);
+
+    assertThat(drained).containsEntry(new SearchTrendCounter.TrendKey("캠핑", today), 2L)
+        .containsEntry(new SearchTrendCounter.TrendKey("제주", today), 1L);
+    assertThat(counter.drain(today)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("날짜가 지난 카운터는 유예 한 주기 뒤 제거, 그 사이 증가분도 합산")
+  void rolloverRetiresPreviousDay() {
+    LocalDate tomorrow = today.plusDays(1);
+    SearchTrendCounter.TrendKey key = new SearchTrendCounter.TrendKey("캠핑", today);
+    counter.increment("캠핑", today);
+
+    assertThat(counter.drain(tomorrow)).containsEntry(key, 1L);
+
+    // 제거된 뒤 들어온 증가분은 새 카운터에 쌓여 다음 drain 에 포함
+    counter.increment("캠핑", today);
+    assertThat(counter.drain(tomorrow)).containsEntry(key, 1L);
+    assertThat(counter.drain(tomorrow)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("restore 한 값은 다음 drain 에 포함")
+  void restore() {
+    SearchTrendCounter.TrendKey key = new SearchTrendCounter.TrendKey("캠핑", today);
+    counter.restore(key, 5L);
+    counter.increment("캠핑", today);
+
+    assertThat(counter.drain(today)).containsEntry(key, 6L);
+  }
+
+  @Test
+  @DisplayName("동시 증가 중 drain 을 반복해도 합계가 정확")
+  void concurrentIncrementAndDrain() throws InterruptedException {
+    int threads = 8;
+    int perThread = 20_000;
+    String[] keywords = {"캠핑", "제주", "부산", "서울"};
+
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      pool.submit(() -> {
+        for (int i = 0; i < perThread; i++) {
+          counter.increment(keywords[i % keywords.length], today);
+        }
+        done.countDown();
+      });
+    }
+
+    long total = 0;
+    AtomicBoolean finished = new AtomicBoolean(false);
+    while (!finished.get()) {
+      finished.set(done.await(1, TimeUnit.MILLISECONDS));
+      total += counter.drain(today).values().stream().mapToLong(Long::longValue).sum();
+    }
+    // 유예 중인 카운터까지 모두 비운다
+    total += counter.drain(today).values().stream().mapToLong(Long::longValue).sum();
+    total += counter.drain(today).values().stream().mapToLong(Long::longValue).sum();
+    pool.shutdown();
+
+    assertThat(total).isEqualTo((long) threads * perThread);
+  }
+}
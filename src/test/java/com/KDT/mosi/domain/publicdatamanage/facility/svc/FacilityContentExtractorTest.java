@@ -0,0 +1,152 @@
+package com.KDT.mosi.domain.publicdatamanage.facility.svc;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 새 추출기와 기존 정규식 추출(LegacyFacilityContentParser)의 결과 비교
+ * - contents-corpus.json : 부산 시설 API contents 형식을 모은 본문 (표/주석/어긋난 태그처럼 Jsoup 으로 넘기는 본문 포함)
+ * - contents-golden.json : 위 본문을 기존 코드로 추출한 결과
+ */
+class FacilityContentExtractorTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final FacilityContentExtractor extractor = new FacilityContentExtractor();
+  private final LegacyFacilityContentParser legacy = new LegacyFacilityContentParser();
+
+  @Test
+  @DisplayName("corpus 추출 결과가 golden 과 같다")
+  void matchesGolden() throws IOException {
+    List<Map<String, String>> corpus = loadCorpus();
+    List<Map<String, Object>> golden = read("/publicdata/facility/contents-golden.json", new TypeReference<>() {});
+
+    assertThat(golden).hasSameSizeAs(corpus);
+    for (int i = 0; i < corpus.size(); i++) {
+      assertThat(fields(extractor, corpus.get(i)))
+          .as(corpus.get(i).get("subject"))
+          .isEqualTo(golden.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("corpus 추출 결과가 기존 정규식 추출과 같다")
+  void matchesLegacyOnCorpus() throws IOException {
+    for (Map<String, String> item : loadCorpus()) {
+      assertThat(fields(extractor, item))
+          .as(item.get("subject"))
+          .isEqualTo(legacyFields(legacy, item));
+    }
+  }
+
+  @Test
+  @DisplayName("임의로 섞은 본문에서도 태그 제거와 항목 추출이 기존과 같다")
+  void matchesLegacyOnGeneratedContents() {
+    String[] pieces = {
+        "<p>", "</p>", "<br>", "<br/>", "<div>", "</div>", "<span>", "</span>", "<b>", "</b>", "<strong>", "</strong>",
+        "<li>", "</li>", "<ul>", "</ul>", "<h3>", "</h3>", "<hr>", "<img src=\"a>b.jpg\">", "<a href='x'>", "</a>",
+        "<td>", "</td>", "<!-- c -->", "<p/>", "</x>", "<font color=red>", "</font>", "< ", "<2", "<", ">",
+        "&amp;", "&lt;", "&gt;", "&nbsp;", "&#51;", "&shy;", "&#8203;", "&copy", "&", "&notin;", "&noti",
+        " ", "  ", "\n", "\t", "\r\n", "!R!!N!", ".", ":", ";", "(", ")", "*", "※",
+        "1. ", "2. ", "3. ", "4. ", "주소", "주 소", "위치", "위 치", "주메뉴", "테이블 수", "테이블수", "입점 음식점",
+        "전화번호", "T:", "출처", "홈페이지", "이용시간", "기준", "2024년 3월 1일 기준", "<2023년 1월 2일 기준>",
+        "부산광역시", "해운대구", "기장군", "중동 1394-65", "051-746-0387", "(051-752-1234)", "051 805 1234",
+        "국밥 9,000원", "₩ 7,000", "(소)", "12개", "50m", ","
+    };
+    Random random = new Random(20240301L);
+    for (int n = 0; n < 20_000; n++) {
+      StringBuilder html = new StringBuilder();
+      int length = 1 + random.nextInt(25);
+      for (int k = 0; k < length; k++) {
+        html.append(pieces[random.nextInt(pieces.length)]);
+      }
+      Map<String, String> item = Map.of("subject", "#" + n, "contents", html.toString());
+      Map<String, Object> expected;
+      try {
+        expected = legacyFields(legacy, item);
+      } catch (ArrayIndexOutOfBoundsException e) {
+        // 기존 코드는 주메뉴 값이 "※" 뿐이면 예외 → 새 추출기는 빈 메뉴로 처리
+        assertThat(fields(extractor, item).get("mainMenu")).as("%s", html).isEqualTo(List.of());
+        continue;
+      }
+      assertThat(fields(extractor, item))
+          .as("%s", html)
+          .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  @DisplayName("단순한 본문은 Jsoup 없이 태그를 제거한다")
+  void simpleContentsSkipJsoup() {
+    assertThat(FacilityContentExtractor.simpleText("<p>1. 주소 : 부산<br>2. 위치 : 역 앞</p>"))
+        .isEqualTo("1. 주소 : 부산 2. 위치 : 역 앞");
+    assertThat(FacilityContentExtractor.simpleText("<table><tr><td>주소</td></tr></table>")).isNull();
+    assertThat(FacilityContentExtractor.simpleText("<span><p>주소</p></span>")).isNull();
+  }
+
+  // --- 비교용 변환 ---
+
+  static Map<String, Object> fields(FacilityContentExtractor extractor, Map<String, String> item) {
+    FacilityContentExtractor.Extracted extracted = extractor.extract(item.get("contents"));
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("text", extracted.text());
+    fields.put("tel", extracted.tel());
+    fields.put("addr", extracted.addr());
+    fields.put("location", extracted.location());
+    fields.put("mainMenu", extractor.splitMainMenu(extracted.mainMenu()));
+    fields.put("lastUpdated", extracted.lastUpdated());
+    fields.put("tableCount", extracted.tableCount());
+    fields.put("gugun", extractor.extractGugun(extracted.addr()));
+    fields.put("keyAddr", extractor.extractAddr(item.get("contents")));
+    return fields;
+  }
+
+  static Map<String, Object> legacyFields(LegacyFacilityContentParser legacy, Map<String, String> item) {
+    String text = legacy.removeHtmlTags(item.get("contents"));
+    String addr = legacy.extractAddr(text);
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("text", text);
+    fields.put("tel", legacy.extractTel(text));
+    fields.put("addr", addr);
+    fields.put("location", legacy.extractLocation(text));
+    fields.put("mainMenu", legacy.splitAndCleanMainMenu(legacy.extractMainMenu(text)));
+    fields.put("lastUpdated", legacy.extractLastUpdated(text));
+    fields.put("tableCount", legacy.extractTableCount(text));
+    fields.put("gugun", legacy.extractGugun(addr));
+    fields.put("keyAddr", addr);
+    return fields;
+  }
+
+  static List<Map<String, String>> loadCorpus() throws IOException {
+    return read("/publicdata/facility/contents-corpus.json", new TypeReference<>() {});
+  }
+
+  private static <T> T read(String path, TypeReference<T> type) throws IOException {
+    try (InputStream in = FacilityContentExtractorTest.class.getResourceAsStream(path)) {
+      assertThat(in).as(path).isNotNull();
+      return MAPPER.readValue(in, type);
+    }
+  }
+
+  // golden 재생성용 (기존 코드 기준) : LegacyFacilityContentParser 결과를 그대로 기록
+  static List<Map<String, Object>> legacyGolden() throws IOException {
+    LegacyFacilityContentParser parser = new LegacyFacilityContentParser();
+    List<Map<String, Object>> golden = new ArrayList<>();
+    for (Map<String, String> item : loadCorpus()) {
+      golden.add(legacyFields(parser, item));
+    }
+    return golden;
+  }
+}
@@ -0,0 +1,172 @@
+package com.KDT.mosi.domain.publicdatamanage.facility.svc;
+
+import org.jsoup.Jsoup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * FacilityContentExtractor 도입 전 FacilityDataProcessorService 의 추출 로직 (비교 기준)
+ * - 호출마다 Pattern.compile / replaceAll / Jsoup.parse 를 하던 원래 코드를 그대로 옮겨 둔 것.
+ * - golden 테스트와 FacilityContentExtractorBenchmark 에서 새 추출기와 결과/속도를 비교한다.
+ */
+public class LegacyFacilityContentParser {
+
+  // 구/군 정보를 추출하는 새로운 메서드
+  /**
+   * 주소(addr)에서 구/군 정보만 추출합니다.
+   * @param addr 원본 주소 문자열
+   * @return 추출된 구/군 문자열 (예: "수영구"), 없으면 null
+   */
+  String extractGugun(String addr) {
+    if (addr == null || addr.trim().isEmpty()) {
+      return null;
+    }
+
+    // '수영구', '해운대군' 등 '구' 또는 '군'으로 끝나는 한글 단어를 찾습니다.
+    Pattern pattern = Pattern.compile("[가-힣]+[구군]");
+    Matcher matcher = pattern.matcher(addr);
+
+    if (matcher.find()) {
+      return matcher.group();
+    }
+
+    return null;
+  }
+
+  List<String> splitAndCleanMainMenu(String mainMenuText) {
+    if (mainMenuText == null || mainMenuText.trim().isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    String tempText = mainMenuText;
+
+    tempText = tempText.replaceAll("\\(.*", "");
+    tempText = tempText.replaceAll("(?<=\\d),(?=\\d{3})", "");
+    tempText = tempText.replaceAll("\\s*[0-9]+(?:\\s*[-/]?\\s*[0-9]+)*\\s*(?:원|만원|Won)\\s*", "");
+    tempText = tempText.replaceAll("(?i)[₩￦][\\s0-9/-]*", "");
+    tempText = tempText.replaceAll(" +", " ").trim();
+
+    return Arrays.stream(tempText.split(","))
+        .map(String::trim)
+        .filter(s -> !s.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  String removeHtmlTags(String htmlString) {
+    if (htmlString == null || htmlString.trim().isEmpty()) {
+      return "";
+    }
+    String noHtmlString = Jsoup.parse(htmlString).text();
+    noHtmlString = noHtmlString.replaceAll("!R!!N!", "").replaceAll("\\s+", " ").trim();
+    return noHtmlString;
+  }
+
+  String extractData(String text, String regex, int group) {
+    Pattern pattern = Pattern.compile(regex);
+    Matcher matcher = pattern.matcher(text);
+    if (matcher.find()) {
+      return matcher.group(group);
+    }
+    return null;
+  }
+
+  String extractTel(String contents) {
+    String tel = extractData(contents, "전화번호\\s*:\\s*.*?([0-9]{2,3}[- ]?[0-9]{3,4}[- ]?[0-9]{4})", 1);
+    if (tel == null) {
+      tel = extractData(contents, "\\(([0-9]{2,3}[- ]?[0-9]{3,4}[- ]?[0-9]{4})\\)", 1);
+    }
+    if (tel == null) {
+      tel = extractData(contents, "T:\\s*([0-9]{2,3}[- ]?[0-9]{3,4}[- ]?[0-9]{4})", 1);
+    }
+    return tel;
+  }
+
+  String extractAddr(String contents) {
+    String regex = "주소\\s*:\\s*(.+?)(?=\\s*(?:[1-5]\\.\\s*)?위\\s*치\\s*[:;]|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*(?:[1-5]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?테이블\\s*수\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?입점\\s*음식점\\s*[:;])";
+    String addr = extractData(contents, regex, 1);
+    if (addr == null) {
+      regex = "주\\s*소\\s*:\\s*(.+?)(?=\\s*(?:[1-5]\\.\\s*)?위\\s*치\\s*[:;]|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*(?:[1-5]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?테이블\\s*수\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?입점\\s*음식점\\s*[:;])";
+      addr = extractData(contents, regex, 1);
+    }
+    if (addr != null && addr.endsWith(".")) {
+      addr = addr.substring(0, addr.length() - 1);
+    }
+    return addr;
+  }
+
+  String extractLocation(String contents) {
+    String regex = "(?:[1-5]\\.\\s*)?위\\s*치\\s*[:;]?\\s*(.+?)(?=\\s*(?:[1-5]\\.\\s*)?주소\\s*[:;]|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*(?:[1-5]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?테이블\\s*수\\s*(?:\\(.+?\\))?\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?입점\\s*음식점\\s*[:;])";
+    String location = extractData(contents, regex, 1);
+    if (location == null) {
+      regex = "(?:[1-5]\\.\\s*)?위치\\s*[:;]?\\s*(.+?)(?=\\s*(?:[1-5]\\.\\s*)?주소\\s*[:;]|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*(?:[1-5]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?테이블\\s*수\\s*(?:\\(.+?\\))?\\s*[:;]|\\s*(?:[1-5]\\.\\s*)?입점\\s*음식점\\s*[:;])";
+      location = extractData(contents, regex, 1);
+    }
+
+    if (location != null) {
+      location = location.replaceAll("(?<=\\d{1,5})\\s*[4]\\.\\s*테이블", "");
+      location = location.replaceAll("(?<=\\d{1,5}m)\\s*[4]\\.\\s*테이블", "");
+      location = location.replaceAll("\\.$", "");
+      return location.trim();
+    }
+    return null;
+  }
+
+  String extractMainMenu(String contents) {
+    if (contents == null) {
+      return null;
+    }
+
+    String regex = "주메뉴\\s*:\\s*(.+?)(?=\\s*(?:[1-9]\\.\\s*)?테이블\\s*수|\\s*(?:[1-9]\\.\\s*)?입점\\s*음식점|\\s*(?:[1-9]\\.\\s*)?이용시간|\\s*<|\\s*\\d{4}년|\\s*출처|\\s*홈페이지|\\s*※|$)";
+
+    String mainMenu = extractData(contents, regex, 1);
+
+    if (mainMenu != null) {
+      mainMenu = mainMenu.replaceAll("\\s*\\d+\\.\\s*.*", "");
+      mainMenu = mainMenu.split("※")[0].trim();
+      mainMenu = mainMenu.split("\\*")[0].trim();
+      return mainMenu;
+    }
+
+    String fallbackRegex = "주메뉴\\s*:\\s*(.+)";
+    mainMenu = extractData(contents, fallbackRegex, 1);
+
+    if (mainMenu != null) {
+      mainMenu = mainMenu.split("※")[0].trim();
+      mainMenu = mainMenu.split("\\*")[0].trim();
+      return mainMenu;
+    }
+
+    return null;
+  }
+
+  String extractLastUpdated(String contents) {
+    String lastUpdated = extractData(contents, "<(\\d{4}년 \\d{1,2}월 \\d{1,2}일 기준)>", 1);
+    if (lastUpdated == null) {
+      lastUpdated = extractData(contents, "(\\d{4}년 \\d{1,2}월 \\d{1,2}일 기준)", 1);
+    }
+    return lastUpdated;
+  }
+
+  String extractTableCount(String contents) {
+    if (contents == null || contents.trim().isEmpty()) {
+      return null;
+    }
+
+    String regex = "테이블\\s*수\\s*:\\s*(.+?)(?=\\s*<|\\s*(?:[1-9]\\.\\s*)?주메뉴\\s*[:;]|\\s*(?:[1-9]\\.\\s*)?입점\\s*음식점\\s*[:;])";
+    String tableCountStr = extractData(contents, regex, 1);
+
+    if (tableCountStr != null) {
+      tableCountStr = tableCountStr.trim();
+      if (tableCountStr.endsWith(".")) {
+        tableCountStr = tableCountStr.substring(0, tableCountStr.length() - 1);
+      }
+      return tableCountStr.trim();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,33 @@
+package com.KDT.mosi.domain.publicdatamanage.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoAreaTest {
+
+  @Test
+  @DisplayName("화면 영역의 중심은 가운데 좌표, 날짜 변경선을 넘으면 반대쪽으로 계산한다")
+  void boxCenter() {
+    GeoArea.Box busan = GeoArea.box(35.2, 129.0, 35.1, 129.2);
+    assertThat(busan.centerLat()).isCloseTo(35.15, within(1e-9));
+    assertThat(busan.centerLon()).isCloseTo(129.1, within(1e-9));
+
+    GeoArea.Box dateLine = GeoArea.box(10, 170, -10, -170);
+    assertThat(dateLine.centerLon()).isCloseTo(180, within(1e-9));
+    assertThat(GeoArea.box(10, 160, -10, -170).centerLon()).isCloseTo(175, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("범위를 벗어난 좌표와 반경은 거부한다")
+  void rejectsInvalidArea() {
+    assertThatThrownBy(() -> GeoArea.circle(91, 129, 1000)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> GeoArea.circle(35, 181, 1000)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> GeoArea.circle(35, 129, 0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> GeoArea.circle(Double.NaN, 129, 10)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> GeoArea.box(35.1, 129.0, 35.2, 129.2)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,105 @@
+package com.KDT.mosi.domain.publicdatamanage.geocode.svc;
+
+import com.KDT.mosi.domain.publicdatamanage.geocode.GeocodeCacheEntry;
+import com.KDT.mosi.domain.publicdatamanage.geocode.dao.GeocodeCacheDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeocodeServiceTest {
+
+  private static final String HAEUNDAE = "부산광역시 해운대구 우동 1411";
+  private static final String NOWHERE = "어딘가 없는 주소";
+
+  private StubGeocoder geocoder;
+  private InMemoryCacheDAO cacheDAO;
+  private GeocodeService service;
+
+  @BeforeEach
+  void setUp() {
+    geocoder = new StubGeocoder()
+        .register(HAEUNDAE, new GeoPoint(35.1631, 129.1636))
+        .registerNotFound(NOWHERE);
+    cacheDAO = new InMemoryCacheDAO();
+    service = new GeocodeService(geocoder, cacheDAO, 7);
+  }
+
+  @Test
+  @DisplayName("같은 주소를 다시 적재하면 외부 조회 없이 캐시로 끝난다")
+  void reingestHitsCacheOnly() {
+    List<String> addresses = List.of(HAEUNDAE, NOWHERE, "부산광역시 수영구 광안동");
+
+    Map<String, GeoPoint> first = service.geocodeAll(addresses);
+    int callsAfterFirst = geocoder.getCalls();
+    Map<String, GeoPoint> second = service.geocodeAll(addresses);
+
+    assertThat(callsAfterFirst).isEqualTo(3);
+    assertThat(geocoder.getCalls()).isEqualTo(callsAfterFirst);
+    assertThat(second).isEqualTo(first);
+    assertThat(second).containsKeys(HAEUNDAE, "부산광역시 수영구 광안동").doesNotContainKey(NOWHERE);
+  }
+
+  @Test
+  @DisplayName("표기만 다른 주소는 같은 키로 한 번만 조회한다")
+  void normalizedAddressesShareOneLookup() {
+    String spaced = "부산광역시  해운대구 (우동) 1411";
+
+    Map<String, GeoPoint> result = service.geocodeAll(List.of(HAEUNDAE, spaced, "부산광역시 해운대구 우동, 1411"));
+
+    assertThat(GeocodeService.normalize(spaced)).isEqualTo("부산광역시 해운대구 우동 1411");
+    assertThat(geocoder.getCalls()).isEqualTo(1);
+    assertThat(result.get(spaced)).isEqualTo(result.get(HAEUNDAE));
+  }
+
+  @Test
+  @DisplayName("찾지 못한 주소는 TTL 이 지나면 다시 조회한다")
+  void negativeResultExpires() {
+    service.geocodeAll(List.of(NOWHERE));
+    service.geocodeAll(List.of(NOWHERE));
+    assertThat(geocoder.getCalls()).isEqualTo(1);
+
+    cacheDAO.rows.put(NOWHERE, GeocodeCacheEntry.notFound(NOWHERE, LocalDateTime.now().minusDays(8)));
+    service.geocodeAll(List.of(NOWHERE));
+
+    assertThat(geocoder.getCalls()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("호출 실패는 캐시에 남기지 않고 다음 적재 때 다시 시도한다")
+  void failuresAreNotCached() {
+    geocoder.registerFailure(HAEUNDAE);
+
+    assertThat(service.geocodeAll(List.of(HAEUNDAE))).isEmpty();
+    assertThat(cacheDAO.rows).doesNotContainKey(HAEUNDAE);
+
+    geocoder.clearFailures();
+    assertThat(service.geocodeAll(List.of(HAEUNDAE))).containsKey(HAEUNDAE);
+    assertThat(geocoder.getCalls()).isEqualTo(2);
+  }
+
+  // GEOCODE_CACHE 대신 메모리 맵
+  static class InMemoryCacheDAO implements GeocodeCacheDAO {
+
+    final Map<String, GeocodeCacheEntry> rows = new ConcurrentHashMap<>();
+
+    @Override
+    public List<GeocodeCacheEntry> findByAddresses(Collection<String> addresses) {
+      return addresses.stream().map(rows::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public void saveAll(List<GeocodeCacheEntry> entries) {
+      entries.forEach(e -> rows.put(e.address(), e));
+    }
+  }
+}
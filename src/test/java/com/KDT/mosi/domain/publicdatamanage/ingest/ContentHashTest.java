@@ -0,0 +1,25 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentHashTest {
+
+  @Test
+  @DisplayName("같은 값이면 항상 같은 해시와 키가 나온다")
+  void stable() {
+    assertThat(ContentHash.of("해운대 맛집", 42, null)).isEqualTo(ContentHash.of("해운대 맛집", 42, null));
+    assertThat(ContentHash.longKey("해운대 맛집", "부산 해운대구")).isEqualTo(ContentHash.longKey("해운대 맛집", "부산 해운대구"));
+    assertThat(ContentHash.longKey("해운대 맛집", "부산 해운대구")).isPositive();
+  }
+
+  @Test
+  @DisplayName("필드 경계와 null 을 구분한다")
+  void distinguishesBoundariesAndNull() {
+    assertThat(ContentHash.of("a", "bc")).isNotEqualTo(ContentHash.of("ab", "c"));
+    assertThat(ContentHash.of("a", null)).isNotEqualTo(ContentHash.of("a", ""));
+    assertThat(ContentHash.of("a", "b")).isNotEqualTo(ContentHash.of("a", "b", null));
+  }
+}
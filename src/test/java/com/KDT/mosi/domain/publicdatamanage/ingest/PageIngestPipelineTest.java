@@ -0,0 +1,106 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import com.KDT.mosi.domain.publicdatamanage.facility.dto.BusanFacilityApiResponse;
+import com.KDT.mosi.domain.publicdatamanage.facility.dto.FacilityItem;
+import com.KDT.mosi.web.config.RestTemplateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageIngestPipelineTest {
+
+  private ReplayHttpServer server;
+  private RestTemplate restTemplate;
+
+  // 저장된 문서 묶음
+  private final List<List<String>> bulks = Collections.synchronizedList(new ArrayList<>());
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = new ReplayHttpServer(20);
+
+    RestTemplateConfig config = new RestTemplateConfig();
+    ReflectionTestUtils.setField(config, "maxTotal", 10);
+    ReflectionTestUtils.setField(config, "maxPerRoute", 10);
+    ReflectionTestUtils.setField(config, "connectTimeoutMs", 1000L);
+    ReflectionTestUtils.setField(config, "readTimeoutMs", 2000L);
+    ReflectionTestUtils.setField(config, "idleEvictSeconds", 30L);
+    restTemplate = config.restTemplate(config.publicDataHttpClient());
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  @DisplayName("저장된 응답을 동시에 받아 파싱하고 bulk 단위로 모두 저장한다")
+  void replaysAllPages() {
+    PageIngestPipeline pipeline = pipeline(0, 3);
+
+    IngestStats stats = pipeline.run("facility", 3, this::fetch, this::parse, bulks::add);
+
+    assertThat(bulks).allSatisfy(bulk -> assertThat(bulk.size()).isLessThanOrEqualTo(3));
+    assertThat(bulks.stream().flatMap(List::stream))
+        .containsExactlyInAnyOrder("해운대 할매국밥", "광안리 회센터", "서면 밀면", "남포동 씨앗호떡", "영도 카페");
+    assertThat(stats.documents()).isEqualTo(5);
+    assertThat(stats.bulks()).isEqualTo(2);
+    assertThat(pipeline.getLastRun("facility")).isEqualTo(stats);
+  }
+
+  @Test
+  @DisplayName("일시적으로 실패한 페이지는 재시도해서 적재한다")
+  void retriesFailedPage() {
+    server.failFirst(2, 2);
+
+    IngestStats stats = pipeline(0, 500).run("facility", 3, this::fetch, this::parse, bulks::add);
+
+    assertThat(stats.documents()).isEqualTo(5);
+    assertThat(stats.fetchRetries()).isEqualTo(2);
+    assertThat(server.getRequests()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("재시도 후에도 실패하면 예외로 중단한다")
+  void abortsWhenRetriesExhausted() {
+    server.failFirst(3, 10);
+
+    assertThatThrownBy(() -> pipeline(0, 500).run("facility", 3, this::fetch, this::parse, bulks::add))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("facility");
+  }
+
+  @Test
+  @DisplayName("초당 요청 수 제한을 지킨다")
+  void respectsRateLimit() {
+    // 초당 10건 → 요청 3건은 최소 200ms 간격으로 나간다
+    long started = System.currentTimeMillis();
+    pipeline(10, 500).run("facility", 3, this::fetch, this::parse, bulks::add);
+
+    assertThat(System.currentTimeMillis() - started).isGreaterThanOrEqualTo(200);
+  }
+
+  private PageIngestPipeline pipeline(double requestsPerSecond, int bulkSize) {
+    return new PageIngestPipeline(4, requestsPerSecond, 2, bulkSize, 8, 3, 10, 50);
+  }
+
+  private BusanFacilityApiResponse fetch(int pageNo) {
+    return restTemplate.getForObject(server.url("facility") + "?pageNo=" + pageNo, BusanFacilityApiResponse.class);
+  }
+
+  private List<String> parse(BusanFacilityApiResponse response) {
+    return response.getResponse().getBody().getItems().getItemList().stream()
+        .map(FacilityItem::getSubject)
+        .toList();
+  }
+}
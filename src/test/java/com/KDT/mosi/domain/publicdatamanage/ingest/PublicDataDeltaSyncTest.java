@@ -0,0 +1,37 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicDataDeltaSyncTest {
+
+  private final Function<String, PublicDataDeltaSync.ItemKey> keyOf =
+      id -> new PublicDataDeltaSync.ItemKey(id, "h-" + id);
+
+  @Test
+  @DisplayName("해시가 있고 키가 겹치는 인덱스는 변경분으로 동기화한다")
+  void syncsMatchingIndex() {
+    assertThat(PublicDataDeltaSync.rebuildReason(Map.of("1", "h-1", "2", "h-2"), List.of("2", "3"), keyOf)).isNull();
+    assertThat(PublicDataDeltaSync.rebuildReason(Map.of(), List.of("1"), keyOf)).isNull();
+  }
+
+  @Test
+  @DisplayName("해시 도입 전 문서가 있거나 키 방식이 바뀌었으면 재구축한다")
+  void rebuildsLegacyIndex() {
+    Map<String, String> legacy = new HashMap<>();
+    legacy.put("1", null);
+    legacy.put("2", null);
+    assertThat(PublicDataDeltaSync.rebuildReason(legacy, List.of("1"), keyOf)).isNotNull();
+
+    // 순번 uid → 해시 uid
+    assertThat(PublicDataDeltaSync.rebuildReason(Map.of("1", "h-1", "2", "h-2"),
+        List.of("7390201", "8812"), keyOf)).isNotNull();
+  }
+}
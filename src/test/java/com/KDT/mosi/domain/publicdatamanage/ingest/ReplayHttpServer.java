@@ -0,0 +1,93 @@
+package com.KDT.mosi.domain.publicdatamanage.ingest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장해 둔 공공데이터 API 응답을 다시 내려주는 로컬 HTTP 서버 (테스트/성능 측정용)
+ * - GET /{feed}?pageNo=n → classpath:publicdata/{feed}/page-{n}.json
+ * - latencyMs 로 응답 지연을, failFirst 로 페이지별 앞쪽 n 번의 503 을 흉내 낸다.
+ */
+class ReplayHttpServer implements AutoCloseable {
+
+  private static final Pattern PAGE_NO = Pattern.compile("(?:^|&)pageNo=(\\d+)");
+
+  private final HttpServer server;
+  private final long latencyMs;
+  private final Map<Integer, AtomicInteger> failuresLeft = new ConcurrentHashMap<>();
+  private final AtomicInteger requests = new AtomicInteger();
+
+  ReplayHttpServer(long latencyMs) throws IOException {
+    this.latencyMs = latencyMs;
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    this.server.createContext("/", this::handle);
+    this.server.setExecutor(Executors.newCachedThreadPool());
+    this.server.start();
+  }
+
+  // pageNo 요청의 앞쪽 times 번은 503 으로 응답
+  ReplayHttpServer failFirst(int pageNo, int times) {
+    failuresLeft.put(pageNo, new AtomicInteger(times));
+    return this;
+  }
+
+  String url(String feed) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/" + feed;
+  }
+
+  int getRequests() {
+    return requests.get();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    try (exchange) {
+      if (latencyMs > 0) {
+        Thread.sleep(latencyMs);
+      }
+      String feed = exchange.getRequestURI().getPath().substring(1);
+      Matcher m = PAGE_NO.matcher(String.valueOf(exchange.getRequestURI().getRawQuery()));
+      int pageNo = m.find() ? Integer.parseInt(m.group(1)) : 1;
+
+      AtomicInteger left = failuresLeft.get(pageNo);
+      if (left != null && left.getAndDecrement() > 0) {
+        respond(exchange, 503, "Service Unavailable".getBytes());
+        return;
+      }
+
+      try (InputStream in = getClass().getResourceAsStream("/publicdata/" + feed + "/page-" + pageNo + ".json")) {
+        if (in == null) {
+          respond(exchange, 404, "Not Found".getBytes());
+          return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        respond(exchange, 200, in.readAllBytes());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+}
@@ -0,0 +1,173 @@
+package com.KDT.mosi.web.config;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * relay 모드 다중 노드 전달 확인
+ * - 내장 Artemis(STOMP) 하나에 앱 노드 두 개를 붙이고,
+ *   한 노드의 SimpMessagingTemplate 으로 보낸 메시지가 양쪽 노드 구독자 모두에게 가는지 본다.
+ */
+class WebSocketBrokerRelayTest {
+
+  private static final String TOPIC = "/topic/chat/rooms/7";
+
+  @TempDir
+  Path brokerDir;
+
+  private EmbeddedActiveMQ broker;
+  private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+  private final List<StompSession> sessions = new ArrayList<>();
+  private WebSocketStompClient stompClient;
+
+  @BeforeEach
+  void startBroker() throws Exception {
+    int stompPort = freePort();
+    ConfigurationImpl config = new ConfigurationImpl();
+    config.setPersistenceEnabled(false);
+    config.setSecurityEnabled(false);
+    config.setJournalDirectory(brokerDir.resolve("journal").toString());
+    config.setBindingsDirectory(brokerDir.resolve("bindings").toString());
+    config.setPagingDirectory(brokerDir.resolve("paging").toString());
+    config.setLargeMessagesDirectory(brokerDir.resolve("large").toString());
+    config.addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + stompPort + "?protocols=STOMP");
+
+    broker = new EmbeddedActiveMQ();
+    broker.setConfiguration(config);
+    broker.start();
+
+    nodes.add(startNode(stompPort));
+    nodes.add(startNode(stompPort));
+
+    stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+    stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+  }
+
+  @AfterEach
+  void stop() throws Exception {
+    sessions.forEach(StompSession::disconnect);
+    nodes.forEach(ConfigurableApplicationContext::close);
+    if (broker != null) {
+      broker.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("한 노드에서 보낸 메시지를 두 노드의 구독자가 모두 받는다")
+  void fanOutAcrossNodes() throws Exception {
+    BlockingQueue<Map<?, ?>> onNode1 = subscribe(nodes.get(0));
+    BlockingQueue<Map<?, ?>> onNode2 = subscribe(nodes.get(1));
+
+    SimpMessagingTemplate sender = nodes.get(1).getBean(SimpMessagingTemplate.class);
+
+    // 구독이 브로커에 등록되기까지 비동기이므로 도착할 때까지 재전송
+    Map<?, ?> first = null;
+    for (int i = 0; i < 20 && first == null; i++) {
+      sender.convertAndSend(TOPIC, Map.of("roomId", 7, "content", "hello"));
+      first = onNode1.poll(500, TimeUnit.MILLISECONDS);
+    }
+    assertThat(first).isNotNull();
+    assertThat(first.get("content")).isEqualTo("hello");
+
+    Map<?, ?> second = onNode2.poll(5, TimeUnit.SECONDS);
+    assertThat(second).isNotNull();
+    assertThat(second.get("content")).isEqualTo("hello");
+  }
+
+  private ConfigurableApplicationContext startNode(int stompPort) throws InterruptedException {
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(RelayNode.class)
+        .web(WebApplicationType.SERVLET)
+        .properties(
+            "spring.config.location=optional:classpath:/none/",
+            "server.port=0",
+            "chat.broker.mode=relay",
+            "chat.broker.relay.host=127.0.0.1",
+            "chat.broker.relay.port=" + stompPort)
+        .run();
+
+    // 시스템 세션이 브로커에 붙을 때까지 대기
+    StompBrokerRelayMessageHandler relay = context.getBean(StompBrokerRelayMessageHandler.class);
+    for (int i = 0; i < 100 && !relay.isBrokerAvailable(); i++) {
+      Thread.sleep(100);
+    }
+    assertThat(relay.isBrokerAvailable()).isTrue();
+    return context;
+  }
+
+  private BlockingQueue<Map<?, ?>> subscribe(ConfigurableApplicationContext node) throws Exception {
+    int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+    StompSession session = stompClient
+        .connectAsync("ws://127.0.0.1:" + port + "/ws/websocket", new StompSessionHandlerAdapter() {})
+        .get(10, TimeUnit.SECONDS);
+    sessions.add(session);
+
+    BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+    session.subscribe(TOPIC, new StompFrameHandler() {
+      @Override
+      public Type getPayloadType(StompHeaders headers) {
+        return Map.class;
+      }
+
+      @Override
+      public void handleFrame(StompHeaders headers, Object payload) {
+        received.add((Map<?, ?>) payload);
+      }
+    });
+    return received;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ImportAutoConfiguration({
+      ServletWebServerFactoryAutoConfiguration.class,
+      DispatcherServletAutoConfiguration.class,
+      WebSocketServletAutoConfiguration.class,
+      JacksonAutoConfiguration.class
+  })
+  @Import(WebSocketConfig.class)
+  static class RelayNode {
+  }
+}
@@ -8,6 +8,7 @@ import com.KDT.mosi.domain.mypage.seller.svc.SellerPageSVC;
 import com.KDT.mosi.domain.terms.svc.TermsSVC;
 import com.KDT.mosi.web.form.member.MemberEditForm;
 import com.KDT.mosi.web.form.member.MemberJoinForm;
+import com.KDT.mosi.web.login.LoginMemberSession;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +40,7 @@ class MemberControllerTest {
   private BCryptPasswordEncoder encoder;
   private BuyerPageSVC buyerPageSVC;
   private SellerPageSVC sellerPageSVC;
+  private LoginMemberSession loginMemberSession;
   private MemberController memberController;
 
   @BeforeEach
@@ -48,9 +50,10 @@ class MemberControllerTest {
     termsSVC = Mockito.mock(TermsSVC.class);
     encoder = Mockito.mock(BCryptPasswordEncoder.class);
     buyerPageSVC = Mockito.mock(BuyerPageSVC.class);
+    loginMemberSession = Mockito.mock(LoginMemberSession.class);
 
     memberController = new MemberController(
-        memberSVC, roleDAO, termsSVC, encoder, buyerPageSVC, sellerPageSVC); // ✅ 생성자에 추가
+        memberSVC, roleDAO, termsSVC, encoder, buyerPageSVC, sellerPageSVC, loginMemberSession); // ✅ 생성자에 추가
 
     // SecurityContext 인증 주입
     String testEmail = "test@mosi.com";
@@ -166,7 +169,8 @@ class MemberControllerTest {
     given(memberSVC.findById(1L)).willReturn(Optional.of(member));
     given(memberSVC.hasRole(1L, "R01")).willReturn(false);
 
-    String view = memberController.edit(1L, form, result, Mockito.mock(Model.class));
+    String view = memberController.edit(1L, form, result, Mockito.mock(Model.class),
+        Mockito.mock(HttpServletRequest.class));
     assertThat(view).isEqualTo("redirect:/members/1");
 
     SecurityContextHolder.clearContext();
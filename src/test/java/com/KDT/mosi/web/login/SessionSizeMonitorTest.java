@@ -0,0 +1,39 @@
+package com.KDT.mosi.web.login;
+
+import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionSizeMonitorTest {
+
+  private final SessionSizeMonitor monitor = new SessionSizeMonitor();
+
+  @Test
+  @DisplayName("로그인으로 세션 ID 가 바뀌어도 이전 속성은 새 ID 로 옮겨지고 세션 종료 시 모두 빠진다")
+  void followsSessionIdChange() {
+    MockHttpSession session = new MockHttpSession();
+    monitor.sessionCreated(new HttpSessionEvent(session));
+    add(session, "loginRole", "BUYER");
+    long beforeLogin = monitor.getTotalBytes();
+    assertThat(beforeLogin).isPositive();
+
+    String oldId = session.getId();
+    session.changeSessionId();
+    monitor.sessionIdChanged(new HttpSessionEvent(session), oldId);
+    add(session, "loginMember", "member-1");
+    assertThat(monitor.getTotalBytes()).isGreaterThan(beforeLogin);
+
+    monitor.sessionDestroyed(new HttpSessionEvent(session));
+    assertThat(monitor.getTotalBytes()).isZero();
+    assertThat(monitor.getActiveSessions()).isZero();
+  }
+
+  private void add(MockHttpSession session, String name, Object value) {
+    session.setAttribute(name, value);
+    monitor.attributeAdded(new HttpSessionBindingEvent(session, name, value));
+  }
+}